@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -70,4 +70,12 @@ public class HierarchyDeserializer implements IRepresentationDeserializer {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Class<? extends IRepresentation>> getRepresentationType(String kind) {
+        if (this.isHierarchyRepresentation(kind)) {
+            return Optional.of(Hierarchy.class);
+        }
+        return Optional.empty();
+    }
+
 }
@@ -100,7 +100,8 @@ public class HierarchyEventProcessor implements IHierarchyEventProcessor {
      *            The change description
      * @return <code>true</code> if the representation should be refreshed, <code>false</code> otherwise
      */
-    private boolean shouldRefresh(ChangeDescription changeDescription) {
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
         return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
     }
 
@@ -18,8 +18,7 @@ import java.util.Objects;
 import org.eclipse.sirius.components.collaborative.forms.services.api.IPropertiesDescriptionRegistry;
 import org.eclipse.sirius.components.collaborative.forms.services.api.IPropertiesDescriptionRegistryConfigurer;
 import org.eclipse.sirius.components.compatibility.services.api.ISiriusConfiguration;
-import org.eclipse.sirius.components.compatibility.services.api.ISiriusDesktopRepresentationDescriptionConverter;
-import org.eclipse.sirius.components.compatibility.services.representations.ODesignReader;
+import org.eclipse.sirius.components.compatibility.services.api.ISiriusDesktopRepresentationDescriptionCache;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
@@ -27,7 +26,6 @@ import org.eclipse.sirius.components.forms.description.FormDescription;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.selection.description.SelectionDescription;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
 
 /**
  * Used to add the default representation descriptions to the registry such as the description of the model explorer and
@@ -41,14 +39,11 @@ public class SiriusDesktopRepresentationDescriptionProvider implements IEditingC
 
     private final List<ISiriusConfiguration> siriusConfigurations;
 
-    private final ODesignReader oDesignReader;
+    private final ISiriusDesktopRepresentationDescriptionCache representationDescriptionCache;
 
-    private final ISiriusDesktopRepresentationDescriptionConverter representationDescriptionConverter;
-
-    public SiriusDesktopRepresentationDescriptionProvider(List<ISiriusConfiguration> siriusConfigurations, ODesignReader oDesignReader, ISiriusDesktopRepresentationDescriptionConverter representationDescriptionConverter) {
+    public SiriusDesktopRepresentationDescriptionProvider(List<ISiriusConfiguration> siriusConfigurations, ISiriusDesktopRepresentationDescriptionCache representationDescriptionCache) {
         this.siriusConfigurations = Objects.requireNonNull(siriusConfigurations);
-        this.oDesignReader = Objects.requireNonNull(oDesignReader);
-        this.representationDescriptionConverter = Objects.requireNonNull(representationDescriptionConverter);
+        this.representationDescriptionCache = Objects.requireNonNull(representationDescriptionCache);
     }
 
     @Override
@@ -59,7 +54,7 @@ public class SiriusDesktopRepresentationDescriptionProvider implements IEditingC
         return this.siriusConfigurations.stream()
                 .map(ISiriusConfiguration::getODesignPaths)
                 .flatMap(List::stream)
-                .map(this::getRepresentationDescriptions)
+                .map(this.representationDescriptionCache::getRepresentationDescriptions)
                 .flatMap(List::stream)
                 .filter(description -> description instanceof DiagramDescription || description instanceof SelectionDescription)
                 .toList();
@@ -70,7 +65,7 @@ public class SiriusDesktopRepresentationDescriptionProvider implements IEditingC
         this.siriusConfigurations.stream()
                 .map(ISiriusConfiguration::getODesignPaths)
                 .flatMap(List::stream)
-                .map(this::getRepresentationDescriptions)
+                .map(this.representationDescriptionCache::getRepresentationDescriptions)
                 .flatMap(List::stream)
                 .filter(FormDescription.class::isInstance)
                 .map(FormDescription.class::cast)
@@ -78,10 +73,4 @@ public class SiriusDesktopRepresentationDescriptionProvider implements IEditingC
                 .flatMap(List::stream)
                 .forEach(registry::add);
     }
-
-    private List<IRepresentationDescription> getRepresentationDescriptions(String odesignPath) {
-        return this.oDesignReader.read(new ClassPathResource(odesignPath))
-                .map(this.representationDescriptionConverter::getRepresentationDescriptions)
-                .orElse(List.of());
-    }
 }
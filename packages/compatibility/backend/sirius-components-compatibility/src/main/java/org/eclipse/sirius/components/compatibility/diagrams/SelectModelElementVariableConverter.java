@@ -21,6 +21,7 @@ import org.eclipse.sirius.components.compatibility.services.selection.api.ISelec
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.interpreter.Result;
+import org.eclipse.sirius.components.interpreter.ThreadConfinedAQLInterpreter;
 import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.selection.description.SelectionDescription;
@@ -51,7 +52,7 @@ public class SelectModelElementVariableConverter implements ISelectModelElementV
 
     @Override
     public SelectionDescription convert(SelectModelElementVariable selectModelElementVariable, org.eclipse.sirius.diagram.description.DiagramDescription diagramDescription) {
-        AQLInterpreter interpreter = this.interpreterFactory.create(diagramDescription);
+        AQLInterpreter interpreter = new AQLInterpreter(new ThreadConfinedAQLInterpreter(() -> this.interpreterFactory.create(diagramDescription)));
         // @formatter:off
         SelectionDescription selectionDescription = SelectionDescription.newSelectionDescription(this.identifierProvider.getIdentifier(selectModelElementVariable))
                 .objectsProvider(variableManager -> {
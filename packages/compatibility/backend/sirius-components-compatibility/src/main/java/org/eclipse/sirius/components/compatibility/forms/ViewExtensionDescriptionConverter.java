@@ -30,6 +30,7 @@ import org.eclipse.sirius.components.forms.description.FormDescription;
 import org.eclipse.sirius.components.forms.description.GroupDescription;
 import org.eclipse.sirius.components.forms.description.PageDescription;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.interpreter.ThreadConfinedAQLInterpreter;
 import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.properties.ViewExtensionDescription;
@@ -68,7 +69,8 @@ public class ViewExtensionDescriptionConverter implements IViewExtensionDescript
 
     @Override
     public FormDescription convert(ViewExtensionDescription viewExtensionDescription) {
-        AQLInterpreter interpreter = this.interpreterFactory.create(viewExtensionDescription);
+        // The form description is cached along with the other descriptions of its odesign file
+        AQLInterpreter interpreter = new AQLInterpreter(new ThreadConfinedAQLInterpreter(() -> this.interpreterFactory.create(viewExtensionDescription)));
         PageDescriptionConverter pageDescriptionConverter = new PageDescriptionConverter(interpreter, this.identifierProvider, this.semanticCandidatesProviderFactory);
         GroupDescriptionConverter groupDescriptionConverter = new GroupDescriptionConverter(interpreter, this.objectService, this.identifierProvider, this.modelOperationHandlerSwitchProvider);
 
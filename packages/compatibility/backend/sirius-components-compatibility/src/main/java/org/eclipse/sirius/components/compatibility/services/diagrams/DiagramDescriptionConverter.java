@@ -26,6 +26,7 @@ import org.eclipse.sirius.components.compatibility.services.diagrams.api.IDiagra
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription.Builder;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.interpreter.ThreadConfinedAQLInterpreter;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.viewpoint.description.DocumentedElement;
 import org.springframework.stereotype.Service;
@@ -58,7 +59,8 @@ public class DiagramDescriptionConverter implements IDiagramDescriptionConverter
 
     @Override
     public DiagramDescription convert(org.eclipse.sirius.diagram.description.DiagramDescription siriusDiagramDescription) {
-        AQLInterpreter interpreter = this.interpreterFactory.create(siriusDiagramDescription);
+        // The converted diagram descriptions are kept for the lifetime of the application and used by every editing context
+        AQLInterpreter interpreter = new AQLInterpreter(new ThreadConfinedAQLInterpreter(() -> this.interpreterFactory.create(siriusDiagramDescription)));
         Function<VariableManager, String> labelProvider = new DiagramLabelProvider(interpreter, siriusDiagramDescription);
         Predicate<VariableManager> canCreatePredicate = this.canCreateDiagramPredicateFactory.getCanCreateDiagramPredicate(siriusDiagramDescription, interpreter);
 
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.compatibility.services.representations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.components.compatibility.services.api.ISiriusConfiguration;
+import org.eclipse.sirius.components.compatibility.services.api.ISiriusDesktopRepresentationDescriptionCache;
+import org.eclipse.sirius.components.compatibility.services.api.ISiriusDesktopRepresentationDescriptionConverter;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the representation descriptions converted from each odesign file.
+ *
+ * <p>
+ * The odesign files cannot change while the application is running, each of them is thus read and converted only once.
+ * The conversion can be performed when the server starts by setting
+ * <code>sirius.components.compatibility.eagerConversion.enabled</code> to <code>true</code> instead of during the first
+ * loading of an editing context.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class SiriusDesktopRepresentationDescriptionCache implements ISiriusDesktopRepresentationDescriptionCache, SmartInitializingSingleton {
+
+    private final Logger logger = LoggerFactory.getLogger(SiriusDesktopRepresentationDescriptionCache.class);
+
+    private final List<ISiriusConfiguration> siriusConfigurations;
+
+    private final ODesignReader oDesignReader;
+
+    private final ISiriusDesktopRepresentationDescriptionConverter representationDescriptionConverter;
+
+    private final boolean eagerConversionEnabled;
+
+    private final Map<String, List<IRepresentationDescription>> representationDescriptions = new ConcurrentHashMap<>();
+
+    public SiriusDesktopRepresentationDescriptionCache(List<ISiriusConfiguration> siriusConfigurations, ODesignReader oDesignReader, ISiriusDesktopRepresentationDescriptionConverter representationDescriptionConverter,
+            @Value("${sirius.components.compatibility.eagerConversion.enabled:false}") boolean eagerConversionEnabled) {
+        this.siriusConfigurations = Objects.requireNonNull(siriusConfigurations);
+        this.oDesignReader = Objects.requireNonNull(oDesignReader);
+        this.representationDescriptionConverter = Objects.requireNonNull(representationDescriptionConverter);
+        this.eagerConversionEnabled = eagerConversionEnabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (this.eagerConversionEnabled) {
+            long start = System.currentTimeMillis();
+
+            this.siriusConfigurations.stream()
+                    .map(ISiriusConfiguration::getODesignPaths)
+                    .flatMap(List::stream)
+                    .forEach(this::getRepresentationDescriptions);
+
+            long end = System.currentTimeMillis();
+            this.logger.info("{} odesign files converted in {}ms", this.representationDescriptions.size(), end - start);
+        }
+    }
+
+    @Override
+    public List<IRepresentationDescription> getRepresentationDescriptions(String odesignPath) {
+        return this.representationDescriptions.computeIfAbsent(odesignPath, this::convert);
+    }
+
+    private List<IRepresentationDescription> convert(String odesignPath) {
+        return this.oDesignReader.read(new ClassPathResource(odesignPath))
+                .map(this.representationDescriptionConverter::getRepresentationDescriptions)
+                .map(List::copyOf)
+                .orElse(List.of());
+    }
+}
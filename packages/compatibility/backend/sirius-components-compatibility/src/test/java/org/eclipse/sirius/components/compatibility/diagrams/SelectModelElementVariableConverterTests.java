@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.compatibility.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.sirius.components.compatibility.api.IAQLInterpreterFactory;
+import org.eclipse.sirius.components.compatibility.api.IIdentifierProvider;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.diagram.description.DescriptionFactory;
+import org.eclipse.sirius.diagram.description.DiagramDescription;
+import org.eclipse.sirius.properties.ViewExtensionDescription;
+import org.eclipse.sirius.viewpoint.description.tool.ToolFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the conversion of the select model element variables.
+ *
+ * @author agent
+ */
+public class SelectModelElementVariableConverterTests {
+
+    private static final int THREAD_COUNT = 4;
+
+    @Test
+    public void testConcurrentEvaluationsOfTheConvertedSelectionDescription() throws InterruptedException, ExecutionException {
+        List<CandidatesServices> services = new CopyOnWriteArrayList<>();
+        var barrier = new CyclicBarrier(THREAD_COUNT);
+        IAQLInterpreterFactory interpreterFactory = new IAQLInterpreterFactory() {
+            @Override
+            public AQLInterpreter create(DiagramDescription diagramDescription) {
+                var candidatesServices = new CandidatesServices(barrier);
+                services.add(candidatesServices);
+                return new AQLInterpreter(List.of(), List.of(candidatesServices), List.of(EcorePackage.eINSTANCE));
+            }
+
+            @Override
+            public AQLInterpreter create(ViewExtensionDescription viewExtensionDescription) {
+                return new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+            }
+        };
+
+        var selectModelElementVariable = ToolFactory.eINSTANCE.createSelectModelElementVariable();
+        selectModelElementVariable.setCandidatesExpression("aql:self.getCandidates()");
+        var converter = new SelectModelElementVariableConverter(new IObjectService.NoOp(), new IIdentifierProvider.NoOp(), interpreterFactory);
+        var selectionDescription = converter.convert(selectModelElementVariable, DescriptionFactory.eINSTANCE.createDiagramDescription());
+
+        var executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<List<?>>> futures = new ArrayList<>();
+            for (int index = 0; index < THREAD_COUNT; index++) {
+                futures.add(executorService.submit(() -> {
+                    VariableManager variableManager = new VariableManager();
+                    variableManager.put(VariableManager.SELF, EcorePackage.eINSTANCE);
+                    return selectionDescription.getObjectsProvider().apply(variableManager);
+                }));
+            }
+
+            for (Future<List<?>> future : futures) {
+                assertThat(future.get()).containsExactly(EcorePackage.eINSTANCE);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(services).hasSize(THREAD_COUNT);
+        assertThat(services).allSatisfy(candidatesServices -> assertThat(candidatesServices.threads).hasSize(1));
+    }
+
+    /**
+     * Java services keeping track of the threads using them.
+     *
+     * @author agent
+     */
+    public static final class CandidatesServices {
+
+        private final CyclicBarrier barrier;
+
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        public CandidatesServices(CyclicBarrier barrier) {
+            this.barrier = barrier;
+        }
+
+        public List<EObject> getCandidates(EObject self) {
+            this.threads.add(Thread.currentThread());
+            try {
+                // All the evaluations are performed at the same time
+                this.barrier.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (BrokenBarrierException | TimeoutException exception) {
+                // The assertions on the threads will fail
+            }
+            return List.of(self);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.compatibility.services.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.eclipse.sirius.components.compatibility.services.api.ISiriusConfiguration;
+import org.eclipse.sirius.components.compatibility.services.api.ISiriusDesktopRepresentationDescriptionConverter;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.viewpoint.description.DescriptionFactory;
+import org.eclipse.sirius.viewpoint.description.Group;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Unit tests of the cache of the representation descriptions converted from the odesign files.
+ *
+ * @author agent
+ */
+public class SiriusDesktopRepresentationDescriptionCacheTests {
+
+    private static final String FIRST_ODESIGN_PATH = "description/first.odesign";
+
+    private static final String SECOND_ODESIGN_PATH = "description/second.odesign";
+
+    private final List<String> readPaths = new ArrayList<>();
+
+    private final ODesignReader oDesignReader = new ODesignReader() {
+        @Override
+        public Optional<Group> read(ClassPathResource classPathResource) {
+            SiriusDesktopRepresentationDescriptionCacheTests.this.readPaths.add(classPathResource.getPath());
+            return Optional.of(DescriptionFactory.eINSTANCE.createGroup());
+        }
+    };
+
+    private final ISiriusDesktopRepresentationDescriptionConverter representationDescriptionConverter = group -> List.of(this.createRepresentationDescription());
+
+    private final ISiriusConfiguration siriusConfiguration = () -> List.of(FIRST_ODESIGN_PATH, SECOND_ODESIGN_PATH);
+
+    @Test
+    public void testRepeatedLookupsReturnTheCachedRepresentationDescriptions() {
+        var cache = new SiriusDesktopRepresentationDescriptionCache(List.of(this.siriusConfiguration), this.oDesignReader, this.representationDescriptionConverter, false);
+
+        var representationDescriptions = cache.getRepresentationDescriptions(FIRST_ODESIGN_PATH);
+        assertThat(representationDescriptions).hasSize(1);
+
+        assertThat(cache.getRepresentationDescriptions(FIRST_ODESIGN_PATH)).isSameAs(representationDescriptions);
+        assertThat(cache.getRepresentationDescriptions(FIRST_ODESIGN_PATH).get(0)).isSameAs(representationDescriptions.get(0));
+        assertThat(this.readPaths).containsExactly(FIRST_ODESIGN_PATH);
+    }
+
+    @Test
+    public void testEachOdesignFileIsConvertedOnItsOwn() {
+        var cache = new SiriusDesktopRepresentationDescriptionCache(List.of(this.siriusConfiguration), this.oDesignReader, this.representationDescriptionConverter, false);
+
+        var firstRepresentationDescriptions = cache.getRepresentationDescriptions(FIRST_ODESIGN_PATH);
+        var secondRepresentationDescriptions = cache.getRepresentationDescriptions(SECOND_ODESIGN_PATH);
+
+        assertThat(firstRepresentationDescriptions.get(0)).isNotSameAs(secondRepresentationDescriptions.get(0));
+        assertThat(this.readPaths).containsExactly(FIRST_ODESIGN_PATH, SECOND_ODESIGN_PATH);
+    }
+
+    @Test
+    public void testWarmUpConvertsAllTheOdesignFilesOnce() {
+        var cache = new SiriusDesktopRepresentationDescriptionCache(List.of(this.siriusConfiguration), this.oDesignReader, this.representationDescriptionConverter, true);
+
+        cache.afterSingletonsInstantiated();
+        assertThat(this.readPaths).containsExactly(FIRST_ODESIGN_PATH, SECOND_ODESIGN_PATH);
+
+        cache.getRepresentationDescriptions(FIRST_ODESIGN_PATH);
+        cache.getRepresentationDescriptions(SECOND_ODESIGN_PATH);
+        assertThat(this.readPaths).containsExactly(FIRST_ODESIGN_PATH, SECOND_ODESIGN_PATH);
+    }
+
+    @Test
+    public void testNoWarmUpWhenTheEagerConversionIsDisabled() {
+        var cache = new SiriusDesktopRepresentationDescriptionCache(List.of(this.siriusConfiguration), this.oDesignReader, this.representationDescriptionConverter, false);
+
+        cache.afterSingletonsInstantiated();
+
+        assertThat(this.readPaths).isEmpty();
+    }
+
+    @Test
+    public void testUnreadableOdesignFileIsOnlyReadOnce() {
+        List<String> paths = new ArrayList<>();
+        ODesignReader failingODesignReader = new ODesignReader() {
+            @Override
+            public Optional<Group> read(ClassPathResource classPathResource) {
+                paths.add(classPathResource.getPath());
+                return Optional.empty();
+            }
+        };
+        var cache = new SiriusDesktopRepresentationDescriptionCache(List.of(this.siriusConfiguration), failingODesignReader, this.representationDescriptionConverter, false);
+
+        assertThat(cache.getRepresentationDescriptions(FIRST_ODESIGN_PATH)).isEmpty();
+        assertThat(cache.getRepresentationDescriptions(FIRST_ODESIGN_PATH)).isEmpty();
+        assertThat(paths).containsExactly(FIRST_ODESIGN_PATH);
+    }
+
+    private IRepresentationDescription createRepresentationDescription() {
+        String id = UUID.randomUUID().toString();
+        return new IRepresentationDescription() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public String getLabel() {
+                return "Representation";
+            }
+
+            @Override
+            public Predicate<VariableManager> getCanCreatePredicate() {
+                return variableManager -> true;
+            }
+        };
+    }
+}
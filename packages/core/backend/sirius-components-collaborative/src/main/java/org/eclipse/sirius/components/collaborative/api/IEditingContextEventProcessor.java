@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.collaborative.api;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -37,6 +38,21 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
 
     Flux<IPayload> getOutputEvents();
 
+    /**
+     * Executes the given operation in the thread of the editing context, once the inputs received before have been
+     * processed, and waits for its result.
+     *
+     * <p>
+     * It should be used to read the content of the editing context from another thread. Since the caller is blocked
+     * until the operation has been executed, it must not be called from the thread of an editing context.
+     * </p>
+     *
+     * @param operation
+     *         The operation to execute
+     * @return The result of the operation or an empty optional if it could not be executed
+     */
+    <T> Optional<T> execute(Supplier<T> operation);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -79,6 +95,11 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
             return Flux.empty();
         }
 
+        @Override
+        public <T> Optional<T> execute(Supplier<T> operation) {
+            return Optional.ofNullable(operation.get());
+        }
+
     }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -30,4 +30,22 @@ public interface IRepresentationDeserializer {
 
     Optional<IRepresentation> handle(ObjectMapper mapper, ObjectNode root);
 
+    /**
+     * Returns the type of the representations of the given kind.
+     *
+     * <p>
+     * When a type is returned, the representation is deserialized directly from the stream of tokens without
+     * materializing its whole JSON tree first. Deserializers which do not override this method are only used with the
+     * JSON tree of the representation.
+     * </p>
+     *
+     * @param kind
+     *         The kind of the representation
+     * @return The type of the representation or an empty optional if it cannot be deserialized from the stream of
+     *         tokens
+     */
+    default Optional<Class<? extends IRepresentation>> getRepresentationType(String kind) {
+        return Optional.empty();
+    }
+
 }
@@ -33,6 +33,21 @@ public interface IRepresentationEventProcessor extends IDisposablePublisher {
 
     void refresh(ChangeDescription changeDescription);
 
+    /**
+     * Indicates if the given change should trigger a refresh of the representation.
+     *
+     * <p>
+     * It is used to select the change to consider when a single refresh is performed for several changes.
+     * </p>
+     *
+     * @param changeDescription
+     *         The description of the change
+     * @return <code>true</code> if the representation should be refreshed, <code>false</code> otherwise
+     */
+    default boolean shouldRefresh(ChangeDescription changeDescription) {
+        return true;
+    }
+
     ISubscriptionManager getSubscriptionManager();
 
     @Override
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Records the semantic elements impacted by the changes performed in an editing context.
+ *
+ * <p>
+ * A recorder is used by a representation event processor to refresh only the parts of its representation which may
+ * have been impacted by the changes performed since its previous refresh.
+ * </p>
+ *
+ * @author agent
+ */
+public interface ISemanticChangeRecorder {
+
+    /**
+     * Returns the semantic elements impacted by the changes recorded since the last call and starts recording again.
+     *
+     * @return The semantic elements impacted or an empty optional if the impacted elements are unknown and if the
+     *         whole representation has to be refreshed
+     */
+    Optional<Set<Object>> consumeAffectedSemanticElements();
+
+    /**
+     * Stops recording the changes.
+     */
+    void dispose();
+
+}
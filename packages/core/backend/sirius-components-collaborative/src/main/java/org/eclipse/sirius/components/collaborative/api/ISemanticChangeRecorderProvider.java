@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to create the recorders of the semantic changes performed in an editing context.
+ *
+ * @author agent
+ */
+public interface ISemanticChangeRecorderProvider {
+
+    /**
+     * Creates a recorder of the semantic changes performed in the given editing context.
+     *
+     * @param editingContext
+     *            The editing context
+     * @return A new recorder or an empty optional if the changes of this editing context cannot be recorded
+     */
+    Optional<ISemanticChangeRecorder> createRecorder(IEditingContext editingContext);
+}
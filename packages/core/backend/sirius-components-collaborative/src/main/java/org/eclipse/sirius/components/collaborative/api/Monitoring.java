@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,8 +24,26 @@ public final class Monitoring {
     public static final String TIMER_REFRESH_REPRESENTATION = "timer_refresh_representation";
     public static final String TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR = "timer_create_representation_event_processor";
     public static final String TIMER_PROCESSING_INPUT = "timer_processing_input";
+    public static final String EDITING_CONTEXT_MAILBOX_SIZE = "siriusweb_editingcontext_mailbox_size";
+    public static final String EDITING_CONTEXT_MAILBOX_WAIT = "siriusweb_editingcontext_mailbox_wait";
+    public static final String EDITING_CONTEXT_MAILBOX_REJECTED = "siriusweb_editingcontext_mailbox_rejected";
+    public static final String EDITING_CONTEXT_REFRESH_COALESCED = "siriusweb_editingcontext_refresh_coalesced";
+    public static final String EDITING_CONTEXT_CACHE = "siriusweb_editingcontext_cache";
+    public static final String EDITING_CONTEXT_CACHE_EVICTIONS = "siriusweb_editingcontext_cache_evictions";
+    public static final String EDITING_CONTEXT_CACHE_SIZE = "siriusweb_editingcontext_cache_size";
+    public static final String EDITING_CONTEXT_LOAD = "siriusweb_editingcontext_load";
 
     public static final String NAME = "name";
+    public static final String INPUT = "input";
+    public static final String REPRESENTATION_KIND = "representationKind";
+    public static final String OUTCOME = "outcome";
+    public static final String PHASE = "phase";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_TIMEOUT = "timeout";
+    public static final String NONE = "none";
 
     private Monitoring() {
         // Prevent instantiation
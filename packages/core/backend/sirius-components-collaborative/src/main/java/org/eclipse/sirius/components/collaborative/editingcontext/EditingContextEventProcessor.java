@@ -20,12 +20,17 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -56,6 +61,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
@@ -72,6 +78,13 @@ import reactor.core.scheduler.Schedulers;
  * Handles all the inputs which concern a particular editing context one at a time, in order of arrival, and in a
  * dedicated thread and emit the output events.
  *
+ * <p>
+ * By default, the caller of {@link #handle(IInput)} is blocked until its input has been processed. When the mailbox is
+ * enabled, the inputs are queued in a bounded mailbox instead and the payload is returned asynchronously once the
+ * input has been processed by the executor. Inputs received while the mailbox is full are rejected with an error
+ * payload. The time spent waiting in the mailbox counts in the timeout of the inputs.
+ * </p>
+ *
  * @author sbegaudeau
  * @author pcdavid
  */
@@ -83,6 +96,19 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     public static final String INPUT = "INPUT";
 
+    /**
+     * Buckets of the latency histograms, used to compute the ratio of the inputs processed within those durations.
+     */
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = {
+        Duration.ofMillis(10),
+        Duration.ofMillis(50),
+        Duration.ofMillis(100),
+        Duration.ofMillis(250),
+        Duration.ofMillis(500),
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(5),
+    };
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessor.class);
 
     private final ICollaborativeMessageService messageService;
@@ -117,6 +143,22 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final MeterRegistry meterRegistry;
 
+    private final boolean mailboxEnabled;
+
+    private final int mailboxCapacity;
+
+    private final Duration inputTimeout;
+
+    private final AtomicInteger mailboxSize = new AtomicInteger();
+
+    private final AtomicInteger totalMailboxSize;
+
+    private final Duration refreshCoalescingWindow;
+
+    private final List<ChangeDescription> coalescedChangeDescriptions = new ArrayList<>();
+
+    private Disposable coalescedRefreshDisposable;
+
     public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
         this.messageService = parameters.messageService();
         this.editingContext = parameters.editingContext();
@@ -130,9 +172,13 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         this.inputPostProcessors = parameters.inputPostProcessors();
         this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
         this.meterRegistry = parameters.meterRegistry();
+        this.mailboxEnabled = parameters.mailboxEnabled();
+        this.mailboxCapacity = parameters.mailboxCapacity();
+        this.inputTimeout = parameters.inputTimeout();
+        this.refreshCoalescingWindow = parameters.refreshCoalescingWindow();
+        this.totalMailboxSize = parameters.totalMailboxSize();
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     private Disposable setupChangeDescriptionSinkConsumer() {
         Consumer<ChangeDescription> consumer = changeDescription -> {
             if (ChangeKind.REPRESENTATION_TO_DELETE.equals(changeDescription.getKind())) {
@@ -154,30 +200,13 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             }
 
             this.publishEvent(changeDescription);
-            this.disposeRepresentationIfNeeded();
-
-            var refreshRepresentationSample = Timer.start(this.meterRegistry);
-
-            RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
-            if (representationEventProcessorEntry != null) {
-                try {
-                    IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
-                    representationEventProcessor.refresh(changeDescription);
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-                } catch (Exception exception) {
-                    this.logger.warn(exception.getMessage(), exception);
-                }
-            }
-            this.refreshOtherRepresentations(changeDescription);
 
-            if (this.shouldPersistTheEditingContext(changeDescription)) {
-                this.editingContextPersistenceService.persist(this.editingContext);
+            if (this.shouldCoalesce(changeDescription)) {
+                this.coalesce(changeDescription);
+            } else {
+                this.refreshCoalescedChangeDescriptions();
+                this.refresh(changeDescription);
             }
-            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(this.editingContext.getId());
-
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
-            refreshRepresentationSample.stop(timer);
         };
 
         Consumer<Throwable> errorConsumer = throwable -> this.logger.warn(throwable.getMessage(), throwable);
@@ -185,6 +214,106 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         return this.changeDescriptionSink.asFlux().subscribe(consumer, errorConsumer);
     }
 
+    private boolean shouldCoalesce(ChangeDescription changeDescription) {
+        return !this.refreshCoalescingWindow.isZero() && ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
+    }
+
+    /**
+     * Delays the refresh triggered by the given semantic change until the end of the coalescing window.
+     *
+     * <p>
+     * All the semantic changes received during the coalescing window will be merged in a single refresh of the
+     * representations which will be performed in the thread of the editing context.
+     * </p>
+     *
+     * @param changeDescription
+     *         The description of the semantic change
+     */
+    private void coalesce(ChangeDescription changeDescription) {
+        this.coalescedChangeDescriptions.add(changeDescription);
+        if (this.coalescedRefreshDisposable == null) {
+            this.coalescedRefreshDisposable = Mono.delay(this.refreshCoalescingWindow)
+                    .publishOn(Schedulers.fromExecutorService(this.executorService))
+                    .subscribe(tick -> this.refreshCoalescedChangeDescriptions(), throwable -> this.logger.warn(throwable.getMessage(), throwable));
+        }
+    }
+
+    /**
+     * Performs a single refresh for all the semantic changes received during the coalescing window.
+     *
+     * <p>
+     * Each representation is refreshed once with the last of those changes which should trigger its refresh according
+     * to its refresh policy.
+     * </p>
+     */
+    private void refreshCoalescedChangeDescriptions() {
+        if (this.coalescedRefreshDisposable != null) {
+            this.coalescedRefreshDisposable.dispose();
+            this.coalescedRefreshDisposable = null;
+        }
+
+        if (!this.coalescedChangeDescriptions.isEmpty()) {
+            List<ChangeDescription> changeDescriptions = List.copyOf(this.coalescedChangeDescriptions);
+            int savedRefreshCount = this.coalescedChangeDescriptions.size() - 1;
+            this.coalescedChangeDescriptions.clear();
+
+            if (savedRefreshCount > 0) {
+                Counter.builder(Monitoring.EDITING_CONTEXT_REFRESH_COALESCED)
+                        .register(this.meterRegistry)
+                        .increment(savedRefreshCount);
+            }
+            this.refresh(changeDescriptions);
+        }
+    }
+
+    private void refresh(ChangeDescription changeDescription) {
+        this.refresh(List.of(changeDescription));
+    }
+
+    /**
+     * Refreshes all the representations once for the given changes, the representation which is the source of the last
+     * change being refreshed first.
+     *
+     * @param changeDescriptions
+     *         The descriptions of the changes, in order of arrival
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void refresh(List<ChangeDescription> changeDescriptions) {
+        ChangeDescription changeDescription = changeDescriptions.get(changeDescriptions.size() - 1);
+        this.disposeRepresentationIfNeeded();
+
+        var refreshRepresentationSample = Timer.start(this.meterRegistry);
+        String representationKind = Monitoring.NONE;
+        String outcome = Monitoring.OUTCOME_SUCCESS;
+
+        RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
+        if (representationEventProcessorEntry != null) {
+            try {
+                IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
+                representationKind = representationEventProcessor.getRepresentation().getKind();
+                representationEventProcessor.refresh(this.getChangeDescriptionToRefresh(representationEventProcessor, changeDescriptions));
+                IRepresentation representation = representationEventProcessor.getRepresentation();
+                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+            } catch (Exception exception) {
+                outcome = Monitoring.OUTCOME_ERROR;
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+        this.refreshOtherRepresentations(changeDescription.getSourceId(), changeDescriptions);
+
+        if (this.shouldPersistTheEditingContext(changeDescription)) {
+            this.editingContextPersistenceService.persist(this.editingContext);
+        }
+        this.danglingRepresentationDeletionService.deleteDanglingRepresentations(this.editingContext.getId());
+
+        var timer = this.createTimer(Monitoring.TIMER_REFRESH_REPRESENTATION)
+                .tag(Monitoring.INPUT, changeDescription.getInput().getClass().getSimpleName())
+                .tag(Monitoring.REPRESENTATION_KIND, representationKind)
+                .tag(Monitoring.OUTCOME, outcome)
+                .register(this.meterRegistry);
+        refreshRepresentationSample.stop(timer);
+    }
+
     private void publishEvent(ChangeDescription changeDescription) {
         if (this.sink.currentSubscriberCount() > 0) {
             IInput input = changeDescription.getInput();
@@ -230,13 +359,16 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         Timer.Sample handleTimer = Timer.start(this.meterRegistry);
         if (this.executorService.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
-            handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName(),
-                    "inputId", input.id().toString()));
+            handleTimer.stop(this.getInputTimer(input, Monitoring.OUTCOME_REJECTED));
             return Mono.empty();
         }
 
         this.logger.trace(input.toString());
 
+        if (this.mailboxEnabled) {
+            return this.enqueue(input, handleTimer);
+        }
+
         One<IPayload> payloadSink = Sinks.one();
         Future<?> future = this.executorService.submit(() -> this.doHandle(payloadSink, input));
         try {
@@ -245,17 +377,110 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         } catch (InterruptedException | ExecutionException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
-        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, "input", input.getClass().getSimpleName(),
-                "inputId", input.id().toString()));
 
+        return this.getPayload(payloadSink.asMono(), input, handleTimer, this.inputTimeout);
+    }
+
+    /**
+     * Queues the given input in the mailbox of the editing context without blocking the caller.
+     *
+     * <p>
+     * The deadline of the input starts when it is queued, an input still waiting in the mailbox when it is reached is
+     * answered with the timeout payload.
+     * </p>
+     *
+     * @param input
+     *         The input event
+     * @param handleTimer
+     *         The sample used to measure the time spent until the payload is available
+     * @return The payload which will be computed once the input has been processed by the executor
+     */
+    private Mono<IPayload> enqueue(IInput input, Timer.Sample handleTimer) {
+        if (this.mailboxSize.incrementAndGet() > this.mailboxCapacity) {
+            this.mailboxSize.decrementAndGet();
+            this.logger.warn("The mailbox of the editing context {} is full, the input {} has been rejected", this.editingContext.getId(), input);
+            Counter.builder(Monitoring.EDITING_CONTEXT_MAILBOX_REJECTED)
+                    .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                    .register(this.meterRegistry)
+                    .increment();
+            handleTimer.stop(this.getInputTimer(input, Monitoring.OUTCOME_REJECTED));
+            return Mono.just(new ErrorPayload(input.id(), this.messageService.editingContextBusy()));
+        }
+
+        this.totalMailboxSize.incrementAndGet();
+
+        One<IPayload> payloadSink = Sinks.one();
+        long enqueuedAt = System.nanoTime();
+        Runnable task = () -> {
+            this.mailboxSize.decrementAndGet();
+            this.totalMailboxSize.decrementAndGet();
+            this.createTimer(Monitoring.EDITING_CONTEXT_MAILBOX_WAIT)
+                    .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                    .register(this.meterRegistry)
+                    .record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+            this.doHandle(payloadSink, input);
+        };
+
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(task, this.executorService);
+        } catch (RejectedExecutionException exception) {
+            this.mailboxSize.decrementAndGet();
+            this.totalMailboxSize.decrementAndGet();
+            this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
+            handleTimer.stop(this.getInputTimer(input, Monitoring.OUTCOME_REJECTED));
+            return Mono.empty();
+        }
+
+        long deadline = enqueuedAt + this.inputTimeout.toNanos();
+        Mono<IPayload> payloadMono = Mono.fromFuture(future, true)
+                .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable))
+                .onErrorComplete()
+                .then(payloadSink.asMono());
+        return Mono.defer(() -> this.getPayload(payloadMono, input, handleTimer, Duration.ofNanos(Math.max(0, deadline - System.nanoTime()))));
+    }
+
+    private Mono<IPayload> getPayload(Mono<IPayload> payloadMono, IInput input, Timer.Sample handleTimer, Duration timeout) {
         var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
-                .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
-        return payloadSink.asMono()
+                .doOnSuccess(payload -> {
+                    this.logger.warn("Timeout fallback for the input {}", input);
+                    handleTimer.stop(this.getInputTimer(input, Monitoring.OUTCOME_TIMEOUT));
+                });
+        return payloadMono
                 .log(this.getClass().getName(), Level.FINEST, SignalType.ON_NEXT, SignalType.ON_ERROR)
-                .timeout(Duration.ofSeconds(5), timeoutFallback)
+                .doOnSuccess(payload -> handleTimer.stop(this.getInputTimer(input, this.getOutcome(payload))))
+                .timeout(timeout, timeoutFallback)
                 .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable));
     }
 
+    private String getOutcome(IPayload payload) {
+        String outcome = Monitoring.OUTCOME_SUCCESS;
+        if (payload == null) {
+            outcome = Monitoring.NONE;
+        } else if (payload instanceof ErrorPayload) {
+            outcome = Monitoring.OUTCOME_ERROR;
+        }
+        return outcome;
+    }
+
+    /**
+     * Returns the timer of the processing of the inputs, only tagged with values from a bounded set in order to keep a
+     * constant number of series over time.
+     */
+    private Timer getInputTimer(IInput input, String outcome) {
+        return this.createTimer(Monitoring.TIMER_PROCESSING_INPUT)
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .tag(Monitoring.OUTCOME, outcome)
+                .register(this.meterRegistry);
+    }
+
+    private Timer.Builder createTimer(String name) {
+        return Timer.builder(name)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES);
+    }
+
     /**
      * Finds the proper event handler to perform the task matching the given input event.
      *
@@ -284,21 +509,39 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     /**
      * Refresh all the representations except the one with the given representationId.
      *
-     * @param changeDescription
-     *         The description of change to consider in order to determine if the representation should be refreshed
+     * @param sourceId
+     *         The identifier of the representation which has already been refreshed
+     * @param changeDescriptions
+     *         The descriptions of changes to consider in order to determine if the representations should be refreshed
      */
-    private void refreshOtherRepresentations(ChangeDescription changeDescription) {
+    private void refreshOtherRepresentations(String sourceId, List<ChangeDescription> changeDescriptions) {
         this.representationEventProcessors.entrySet().stream()
-            .filter(entry -> !Objects.equals(entry.getKey(), changeDescription.getSourceId()))
+            .filter(entry -> !Objects.equals(entry.getKey(), sourceId))
             .map(Entry::getValue)
             .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
             .forEach(representationEventProcessor -> {
-                representationEventProcessor.refresh(changeDescription);
+                representationEventProcessor.refresh(this.getChangeDescriptionToRefresh(representationEventProcessor, changeDescriptions));
                 IRepresentation representation = representationEventProcessor.getRepresentation();
                 this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
             });
     }
 
+    /**
+     * Returns the last of the given changes which should trigger the refresh of the representation or the last change
+     * if none of them should.
+     */
+    private ChangeDescription getChangeDescriptionToRefresh(IRepresentationEventProcessor representationEventProcessor, List<ChangeDescription> changeDescriptions) {
+        ChangeDescription lastChangeDescription = changeDescriptions.get(changeDescriptions.size() - 1);
+        if (changeDescriptions.size() > 1) {
+            for (int i = changeDescriptions.size() - 1; i >= 0; i--) {
+                if (representationEventProcessor.shouldRefresh(changeDescriptions.get(i))) {
+                    return changeDescriptions.get(i);
+                }
+            }
+        }
+        return lastChangeDescription;
+    }
+
     private boolean shouldPersistTheEditingContext(ChangeDescription changeDescription) {
         return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
     }
@@ -385,11 +628,11 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
 
         if (optionalRepresentationEventProcessor.isPresent()) {
-            var representationId = optionalRepresentationEventProcessor.get().getRepresentation().getId();
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
-                    "editingContext", this.editingContext.getId(),
-                    "input", input.getClass().getSimpleName(),
-                    REPRESENTATION_ID, representationId);
+            var representationKind = optionalRepresentationEventProcessor.get().getRepresentation().getKind();
+            var timer = this.createTimer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR)
+                    .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                    .tag(Monitoring.REPRESENTATION_KIND, representationKind)
+                    .register(this.meterRegistry);
             getRepresentationEventProcessorSample.stop(timer);
         }
 
@@ -418,6 +661,60 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
     }
 
+    /**
+     * Performs the refresh of the semantic changes still waiting for the end of the coalescing window in order to make
+     * sure that they are persisted before the editing context is disposed.
+     *
+     * <p>
+     * The refresh is not awaited since the caller may run on a thread shared with the editing context, the remaining of
+     * the disposal should be chained to the future returned instead.
+     * </p>
+     *
+     * @return A future completed once the refresh has been performed, even if it has failed
+     */
+    private CompletableFuture<Void> refreshCoalescedChangeDescriptionsBeforeDisposal() {
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(this::refreshCoalescedChangeDescriptions, this.executorService)
+                    .exceptionally(throwable -> {
+                        this.logger.warn(throwable.getMessage(), throwable);
+                        return null;
+                    });
+        } catch (RejectedExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+            future = CompletableFuture.completedFuture(null);
+        }
+        return future;
+    }
+
+    /**
+     * Writes the changes of the editing context still pending, a failure being only logged in order to always complete
+     * the disposal of the editing context.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void flushBeforeDisposal() {
+        try {
+            this.editingContextPersistenceService.flush(this.editingContext);
+        } catch (Exception exception) {
+            this.logger.warn("An error has occurred while flushing the editing context {} before its disposal", this.editingContext.getId(), exception);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> execute(Supplier<T> operation) {
+        Optional<T> optionalResult = Optional.empty();
+        try {
+            Future<T> future = this.executorService.submit(operation::get);
+            optionalResult = Optional.ofNullable(future.get());
+        } catch (RejectedExecutionException | ExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        } catch (InterruptedException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+            Thread.currentThread().interrupt();
+        }
+        return optionalResult;
+    }
+
     @Override
     public Flux<IPayload> getOutputEvents() {
         return this.sink.asFlux();
@@ -432,6 +729,19 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     public void dispose() {
         this.logger.trace("Disposing the editing context event processor {}", this.editingContext.getId());
 
+        CompletableFuture<Void> coalescedRefresh = CompletableFuture.completedFuture(null);
+        if (!this.refreshCoalescingWindow.isZero()) {
+            coalescedRefresh = this.refreshCoalescedChangeDescriptionsBeforeDisposal();
+        }
+
+        // The tasks already submitted, including the refresh above, will still be executed before the end of the disposal
+        this.executorService.shutdown();
+
+        // The end of the disposal is chained to the refresh instead of waiting for it in order to never block a thread shared with other editing contexts
+        coalescedRefresh.whenComplete((result, throwable) -> this.completeDisposal());
+    }
+
+    private void completeDisposal() {
         EmitResult changeDescriptionEmitResult = this.changeDescriptionSink.tryEmitComplete();
         if (changeDescriptionEmitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}";
@@ -439,11 +749,10 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
         this.changeDescriptionDisposable.dispose();
 
-        this.executorService.shutdown();
-
         this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
         this.representationEventProcessors.clear();
 
+        this.flushBeforeDisposal();
         this.editingContext.dispose();
 
         EmitResult emitResult = this.sink.tryEmitComplete();
@@ -451,6 +760,5 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             String pattern = "An error has occurred while marking the publisher as complete: {}";
             this.logger.warn(pattern, emitResult);
         }
-
     }
 }
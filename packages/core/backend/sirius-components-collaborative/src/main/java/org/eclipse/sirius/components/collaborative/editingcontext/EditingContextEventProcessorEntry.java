@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.collaborative.editingcontext;
 import java.util.Objects;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
 
 import reactor.core.Disposable;
 
@@ -24,15 +25,24 @@ import reactor.core.Disposable;
  * @author sbegaudeau
  */
 public class EditingContextEventProcessorEntry {
+    private final IEditingContext editingContext;
+
     private final IEditingContextEventProcessor editingContextEventProcessor;
 
     private final Disposable disposable;
 
-    public EditingContextEventProcessorEntry(IEditingContextEventProcessor editingContextEventProcessor, Disposable disposable) {
+    private volatile boolean idle;
+
+    public EditingContextEventProcessorEntry(IEditingContext editingContext, IEditingContextEventProcessor editingContextEventProcessor, Disposable disposable) {
+        this.editingContext = Objects.requireNonNull(editingContext);
         this.editingContextEventProcessor = Objects.requireNonNull(editingContextEventProcessor);
         this.disposable = Objects.requireNonNull(disposable);
     }
 
+    public IEditingContext getEditingContext() {
+        return this.editingContext;
+    }
+
     public IEditingContextEventProcessor getEditingContextEventProcessor() {
         return this.editingContextEventProcessor;
     }
@@ -41,6 +51,17 @@ public class EditingContextEventProcessorEntry {
         return this.disposable;
     }
 
+    /**
+     * Indicates if the editing context event processor is retained in the hot tier of the registry while it is not used.
+     */
+    public boolean isIdle() {
+        return this.idle;
+    }
+
+    public void setIdle(boolean idle) {
+        this.idle = idle;
+    }
+
     public void dispose() {
         this.disposable.dispose();
         this.editingContextEventProcessor.dispose();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,12 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
@@ -23,6 +26,7 @@ import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProce
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -58,6 +62,17 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final MeterRegistry meterRegistry;
 
+    private final boolean mailboxEnabled;
+
+    private final int mailboxCapacity;
+
+    private final Duration refreshCoalescingWindow;
+
+    /**
+     * The number of inputs waiting in the mailboxes of all the editing contexts, published as a single gauge.
+     */
+    private final AtomicInteger totalMailboxSize = new AtomicInteger();
+
     public EditingContextEventProcessorFactory(ICollaborativeMessageService messageService, ApplicationEventPublisher applicationEventPublisher,
             IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters) {
         this.messageService = Objects.requireNonNull(messageService);
@@ -70,6 +85,11 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
         this.inputPreProcessors = parameters.getInputPreProcessors();
         this.inputPostProcessors = parameters.getInputPostProcessors();
         this.meterRegistry = parameters.getMeterRegistry();
+        this.mailboxEnabled = parameters.isMailboxEnabled();
+        this.mailboxCapacity = parameters.getMailboxCapacity();
+        this.refreshCoalescingWindow = parameters.getRefreshCoalescingWindow();
+        Gauge.builder(Monitoring.EDITING_CONTEXT_MAILBOX_SIZE, this.totalMailboxSize, AtomicInteger::get)
+                .register(this.meterRegistry);
     }
 
     @Override
@@ -86,6 +106,10 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
                 .inputPreProcessors(this.inputPreProcessors)
                 .inputPostProcessors(this.inputPostProcessors)
                 .meterRegistry(this.meterRegistry)
+                .mailboxEnabled(this.mailboxEnabled)
+                .mailboxCapacity(this.mailboxCapacity)
+                .totalMailboxSize(this.totalMailboxSize)
+                .refreshCoalescingWindow(this.refreshCoalescingWindow)
                 .build();
         return new EditingContextEventProcessor(parameters);
     }
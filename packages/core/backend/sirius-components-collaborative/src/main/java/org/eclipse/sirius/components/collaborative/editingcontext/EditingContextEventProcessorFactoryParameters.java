@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
@@ -22,6 +23,7 @@ import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -46,9 +48,18 @@ public class EditingContextEventProcessorFactoryParameters {
     private final List<IInputPostProcessor> inputPostProcessors;
     private final MeterRegistry meterRegistry;
 
+    private final boolean mailboxEnabled;
+
+    private final int mailboxCapacity;
+
+    private final Duration refreshCoalescingWindow;
+
     public EditingContextEventProcessorFactoryParameters(IEditingContextPersistenceService editingContextPersistenceService, List<IEditingContextEventHandler> editingContextEventHandlers,
             IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory, IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
-            List<IInputPreProcessor> inputPreProcessors, List<IInputPostProcessor> inputPostProcessors, MeterRegistry meterRegistry) {
+            List<IInputPreProcessor> inputPreProcessors, List<IInputPostProcessor> inputPostProcessors, MeterRegistry meterRegistry,
+            @Value("${sirius.components.editingContext.mailbox.enabled:false}") boolean mailboxEnabled,
+            @Value("${sirius.components.editingContext.mailbox.capacity:256}") int mailboxCapacity,
+            @Value("${sirius.components.editingContext.refreshCoalescingWindow:0ms}") Duration refreshCoalescingWindow) {
         this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
         this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
         this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
@@ -56,6 +67,9 @@ public class EditingContextEventProcessorFactoryParameters {
         this.inputPreProcessors = Objects.requireNonNull(inputPreProcessors);
         this.inputPostProcessors = Objects.requireNonNull(inputPostProcessors);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.mailboxEnabled = mailboxEnabled;
+        this.mailboxCapacity = mailboxCapacity;
+        this.refreshCoalescingWindow = Objects.requireNonNull(refreshCoalescingWindow);
     }
 
     public IEditingContextPersistenceService getEditingContextPersistenceService() {
@@ -85,4 +99,16 @@ public class EditingContextEventProcessorFactoryParameters {
     public List<IInputPostProcessor> getInputPostProcessors() {
         return this.inputPostProcessors;
     }
+
+    public boolean isMailboxEnabled() {
+        return this.mailboxEnabled;
+    }
+
+    public int getMailboxCapacity() {
+        return this.mailboxCapacity;
+    }
+
+    public Duration getRefreshCoalescingWindow() {
+        return this.refreshCoalescingWindow;
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.sirius.components.annotations.Builder;
@@ -44,7 +46,12 @@ public record EditingContextEventProcessorParameters(
         IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
         List<IInputPreProcessor> inputPreProcessors,
         List<IInputPostProcessor> inputPostProcessors,
-        MeterRegistry meterRegistry
+        MeterRegistry meterRegistry,
+        boolean mailboxEnabled,
+        int mailboxCapacity,
+        Duration inputTimeout,
+        AtomicInteger totalMailboxSize,
+        Duration refreshCoalescingWindow
 ) {
 
     public EditingContextEventProcessorParameters {
@@ -59,6 +66,12 @@ public record EditingContextEventProcessorParameters(
         Objects.requireNonNull(inputPreProcessors);
         Objects.requireNonNull(inputPostProcessors);
         Objects.requireNonNull(meterRegistry);
+        Objects.requireNonNull(inputTimeout);
+        Objects.requireNonNull(totalMailboxSize);
+        Objects.requireNonNull(refreshCoalescingWindow);
+        if (mailboxEnabled && mailboxCapacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the mailbox must be strictly positive");
+        }
     }
 
     public static EditingContextEventProcessorParametersBuilder newEditingContextEventProcessorParameters() {
@@ -96,6 +109,16 @@ public record EditingContextEventProcessorParameters(
 
         private MeterRegistry meterRegistry;
 
+        private boolean mailboxEnabled;
+
+        private int mailboxCapacity;
+
+        private Duration inputTimeout = Duration.ofSeconds(5);
+
+        private AtomicInteger totalMailboxSize = new AtomicInteger();
+
+        private Duration refreshCoalescingWindow = Duration.ZERO;
+
         private EditingContextEventProcessorParametersBuilder() {
             // Prevent instantiation
         }
@@ -155,6 +178,31 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder mailboxEnabled(boolean mailboxEnabled) {
+            this.mailboxEnabled = mailboxEnabled;
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder mailboxCapacity(int mailboxCapacity) {
+            this.mailboxCapacity = mailboxCapacity;
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder inputTimeout(Duration inputTimeout) {
+            this.inputTimeout = Objects.requireNonNull(inputTimeout);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder totalMailboxSize(AtomicInteger totalMailboxSize) {
+            this.totalMailboxSize = Objects.requireNonNull(totalMailboxSize);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder refreshCoalescingWindow(Duration refreshCoalescingWindow) {
+            this.refreshCoalescingWindow = Objects.requireNonNull(refreshCoalescingWindow);
+            return this;
+        }
+
         public EditingContextEventProcessorParameters build() {
             return new EditingContextEventProcessorParameters(
                     this.messageService,
@@ -167,7 +215,12 @@ public record EditingContextEventProcessorParameters(
                     this.executorServiceProvider,
                     this.inputPreProcessors,
                     this.inputPostProcessors,
-                    this.meterRegistry
+                    this.meterRegistry,
+                    this.mailboxEnabled,
+                    this.mailboxCapacity,
+                    this.inputTimeout,
+                    this.totalMailboxSize,
+                    this.refreshCoalescingWindow
             );
         }
     }
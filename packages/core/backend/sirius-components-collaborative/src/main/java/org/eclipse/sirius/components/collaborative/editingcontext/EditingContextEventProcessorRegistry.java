@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,16 +13,25 @@
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.EditingContextSnapshot;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextSnapshotService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.components.core.api.IInput;
@@ -31,34 +40,97 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Registry of the editing context event processors.
  *
+ * <p>
+ * The editing contexts which are not used anymore can be retained in two tiers. The hot tier keeps the idle editing
+ * context event processors alive while their estimated size fits in its budget, the least recently used ones being
+ * evicted first. The warm tier keeps the evicted editing contexts in a serialized form in order to restore them
+ * without retrieving their content from the persistence layer again, they still have to be parsed. Both tiers are
+ * disabled with a budget of zero.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class EditingContextEventProcessorRegistry implements IEditingContextEventProcessorRegistry {
 
+    private static final String TIER = "tier";
+
+    private static final String HOT_TIER = "hot";
+
+    private static final String WARM_TIER = "warm";
+
+    private static final String RESULT = "result";
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessorRegistry.class);
 
     private final IEditingContextEventProcessorFactory editingContextEventProcessorFactory;
 
     private final IEditingContextSearchService editingContextSearchService;
 
+    private final Optional<IEditingContextSnapshotService> optionalEditingContextSnapshotService;
+
     private final Duration disposeDelay;
 
+    private final long hotTierBudget;
+
+    private final long warmTierBudget;
+
     private final Map<String, EditingContextEventProcessorEntry> editingContextEventProcessors = new ConcurrentHashMap<>();
 
+    private final Map<String, CompletableFuture<Optional<IEditingContextEventProcessor>>> pendingLoads = new ConcurrentHashMap<>();
+
+    private final Object tiersLock = new Object();
+
+    private final Map<String, Long> idleEditingContextSizes = new LinkedHashMap<>();
+
+    private final Map<String, EditingContextSnapshot> snapshots = new LinkedHashMap<>();
+
+    private final AtomicLong hotTierSize = new AtomicLong();
+
+    private final AtomicLong warmTierSize = new AtomicLong();
+
+    private final Counter hotTierHitCounter;
+
+    private final Counter warmTierHitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter hotTierEvictionCounter;
+
+    private final Counter warmTierEvictionCounter;
+
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory, IEditingContextSearchService editingContextSearchService,
-            @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay) {
+            Optional<IEditingContextSnapshotService> optionalEditingContextSnapshotService, MeterRegistry meterRegistry,
+            @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay,
+            @Value("${sirius.components.editingContext.cache.hotTierBudget:0}") DataSize hotTierBudget,
+            @Value("${sirius.components.editingContext.cache.warmTierBudget:0}") DataSize warmTierBudget) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+        this.optionalEditingContextSnapshotService = Objects.requireNonNull(optionalEditingContextSnapshotService);
         this.disposeDelay = disposeDelay;
+        this.hotTierBudget = hotTierBudget.toBytes();
+        this.warmTierBudget = warmTierBudget.toBytes();
+
+        this.hotTierHitCounter = Counter.builder(Monitoring.EDITING_CONTEXT_CACHE).tag(TIER, HOT_TIER).tag(RESULT, "hit").register(meterRegistry);
+        this.warmTierHitCounter = Counter.builder(Monitoring.EDITING_CONTEXT_CACHE).tag(TIER, WARM_TIER).tag(RESULT, "hit").register(meterRegistry);
+        this.missCounter = Counter.builder(Monitoring.EDITING_CONTEXT_CACHE).tag(TIER, Monitoring.NONE).tag(RESULT, "miss").register(meterRegistry);
+        this.hotTierEvictionCounter = Counter.builder(Monitoring.EDITING_CONTEXT_CACHE_EVICTIONS).tag(TIER, HOT_TIER).register(meterRegistry);
+        this.warmTierEvictionCounter = Counter.builder(Monitoring.EDITING_CONTEXT_CACHE_EVICTIONS).tag(TIER, WARM_TIER).register(meterRegistry);
+        Gauge.builder(Monitoring.EDITING_CONTEXT_CACHE_SIZE, this.hotTierSize, AtomicLong::get).tag(TIER, HOT_TIER).baseUnit("bytes").register(meterRegistry);
+        Gauge.builder(Monitoring.EDITING_CONTEXT_CACHE_SIZE, this.warmTierSize, AtomicLong::get).tag(TIER, WARM_TIER).baseUnit("bytes").register(meterRegistry);
     }
 
     @Override
@@ -75,42 +147,215 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
         return this.getOrCreateEditingContextEventProcessor(editingContextId).map(processor -> processor.handle(input)).orElse(Mono.empty());
     }
 
+    /**
+     * Returns the editing context event processor of the given editing context, creating it if necessary.
+     *
+     * <p>
+     * The loading of an editing context is only serialized with the other requests for the very same editing context.
+     * Concurrent requests for an editing context which is being loaded will wait for this load and share its result
+     * while editing contexts of other projects can be loaded at the same time.
+     * </p>
+     */
     @Override
-    public synchronized Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+    public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
         if (this.editingContextSearchService.existsById(editingContextId)) {
-            optionalEditingContextEventProcessor = Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
-                    .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+            optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
             if (optionalEditingContextEventProcessor.isEmpty()) {
-                Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
-                if (optionalEditingContext.isPresent()) {
-                    IEditingContext editingContext = optionalEditingContext.get();
-
-                    var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
-                    Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
-                        // We will wait for the delay before trying to dispose the editing context event processor
-                        // We will check if the editing context event processor is still empty
-                        if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
-                            this.disposeEditingContextEventProcessor(editingContextId);
-                        } else {
-                            this.logger.trace("Stopping the disposal of the editing context");
+                var load = new CompletableFuture<Optional<IEditingContextEventProcessor>>();
+                var pendingLoad = this.pendingLoads.putIfAbsent(editingContextId, load);
+                if (pendingLoad != null) {
+                    optionalEditingContextEventProcessor = this.waitFor(editingContextId, pendingLoad);
+                } else {
+                    try {
+                        // The editing context may have been registered between our first lookup and our registration of the load
+                        optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
+                        if (optionalEditingContextEventProcessor.isEmpty()) {
+                            optionalEditingContextEventProcessor = this.createEditingContextEventProcessor(editingContextId);
                         }
-                    });
+                    } finally {
+                        // Let the waiting requests continue even if the load has failed
+                        load.complete(optionalEditingContextEventProcessor);
+                        this.pendingLoads.remove(editingContextId, load);
+                    }
+                }
+            }
+        }
 
-                    var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
-                    this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
+        return optionalEditingContextEventProcessor;
+    }
 
-                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
+    private Optional<IEditingContextEventProcessor> getEditingContextEventProcessor(String editingContextId) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+        var editingContextEventProcessorEntry = this.editingContextEventProcessors.get(editingContextId);
+        if (editingContextEventProcessorEntry != null && editingContextEventProcessorEntry.isIdle()) {
+            // Only the lookup of an idle editing context event processor needs the lock, it leaves the hot tier
+            synchronized (this.tiersLock) {
+                // The idle editing context event processor may have been evicted from the hot tier since our lookup
+                if (this.editingContextEventProcessors.get(editingContextId) == editingContextEventProcessorEntry) {
+                    Long idleSize = this.idleEditingContextSizes.remove(editingContextId);
+                    if (idleSize != null) {
+                        this.hotTierSize.addAndGet(-idleSize);
+                        this.hotTierHitCounter.increment();
+                    }
+                    editingContextEventProcessorEntry.setIdle(false);
+                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessorEntry.getEditingContextEventProcessor());
                 }
             }
+        } else if (editingContextEventProcessorEntry != null) {
+            optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessorEntry.getEditingContextEventProcessor());
         }
+        return optionalEditingContextEventProcessor;
+    }
 
+    private Optional<IEditingContextEventProcessor> waitFor(String editingContextId, CompletableFuture<Optional<IEditingContextEventProcessor>> pendingLoad) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+        try {
+            optionalEditingContextEventProcessor = pendingLoad.get();
+        } catch (InterruptedException exception) {
+            this.logger.warn("Interrupted while waiting for the loading of the editing context {}", editingContextId);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
         return optionalEditingContextEventProcessor;
     }
 
+    private Optional<IEditingContextEventProcessor> createEditingContextEventProcessor(String editingContextId) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+
+        Optional<IEditingContext> optionalEditingContext = this.restoreSnapshot(editingContextId);
+        if (optionalEditingContext.isPresent()) {
+            this.warmTierHitCounter.increment();
+        } else {
+            this.missCounter.increment();
+            optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
+        }
+
+        if (optionalEditingContext.isPresent()) {
+            IEditingContext editingContext = optionalEditingContext.get();
+
+            var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
+            // The disposal waits for the editing context event processor, it is thus performed outside of the thread of the delay
+            Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).publishOn(Schedulers.boundedElastic()).subscribe(canBeDisposed -> {
+                // We will wait for the delay before trying to dispose the editing context event processor
+                // We will check if the editing context event processor is still empty
+                if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
+                    this.retainOrDispose(editingContextId);
+                } else {
+                    this.logger.trace("Stopping the disposal of the editing context");
+                }
+            });
+
+            var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContext, editingContextEventProcessor, subscription);
+            this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
+
+            optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
+        }
+
+        return optionalEditingContextEventProcessor;
+    }
+
+    private Optional<IEditingContext> restoreSnapshot(String editingContextId) {
+        Optional<EditingContextSnapshot> optionalSnapshot;
+        synchronized (this.tiersLock) {
+            optionalSnapshot = Optional.ofNullable(this.snapshots.remove(editingContextId));
+            optionalSnapshot.ifPresent(snapshot -> this.warmTierSize.addAndGet(-snapshot.size()));
+        }
+
+        return optionalSnapshot.flatMap(snapshot -> this.optionalEditingContextSnapshotService.flatMap(snapshotService -> snapshotService.restoreSnapshot(snapshot)));
+    }
+
+    /**
+     * Moves an idle editing context event processor to the hot tier or disposes it if it does not fit in the budget.
+     */
+    private void retainOrDispose(String editingContextId) {
+        var editingContextEventProcessorEntry = this.editingContextEventProcessors.get(editingContextId);
+        if (editingContextEventProcessorEntry != null && this.hotTierBudget > 0 && this.optionalEditingContextSnapshotService.isPresent()) {
+            var snapshotService = this.optionalEditingContextSnapshotService.get();
+            long size = editingContextEventProcessorEntry.getEditingContextEventProcessor()
+                    .execute(() -> snapshotService.getEstimatedSize(editingContextEventProcessorEntry.getEditingContext()))
+                    .orElse(0L);
+
+            List<EditingContextEventProcessorEntry> evictedEntries = new ArrayList<>();
+            synchronized (this.tiersLock) {
+                if (this.editingContextEventProcessors.get(editingContextId) == editingContextEventProcessorEntry && !this.idleEditingContextSizes.containsKey(editingContextId)) {
+                    this.idleEditingContextSizes.put(editingContextId, size);
+                    this.hotTierSize.addAndGet(size);
+                    editingContextEventProcessorEntry.setIdle(true);
+                }
+
+                var iterator = this.idleEditingContextSizes.entrySet().iterator();
+                while (this.hotTierSize.get() > this.hotTierBudget && iterator.hasNext()) {
+                    var eldestEntry = iterator.next();
+                    iterator.remove();
+                    this.hotTierSize.addAndGet(-eldestEntry.getValue());
+                    Optional.ofNullable(this.editingContextEventProcessors.remove(eldestEntry.getKey())).ifPresent(evictedEntries::add);
+                }
+            }
+
+            this.hotTierEvictionCounter.increment(evictedEntries.size());
+            evictedEntries.forEach(this::createSnapshotAndDispose);
+        } else if (editingContextEventProcessorEntry != null) {
+            synchronized (this.tiersLock) {
+                this.editingContextEventProcessors.remove(editingContextId, editingContextEventProcessorEntry);
+            }
+            this.createSnapshotAndDispose(editingContextEventProcessorEntry);
+        }
+
+        this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size());
+    }
+
+    private void createSnapshotAndDispose(EditingContextEventProcessorEntry editingContextEventProcessorEntry) {
+        // The snapshot is created before the disposal since the content of the editing context may not be available anymore after
+        // and in the thread of the editing context since its content is not thread-safe
+        if (this.warmTierBudget > 0) {
+            var editingContext = editingContextEventProcessorEntry.getEditingContext();
+            this.optionalEditingContextSnapshotService.flatMap(snapshotService -> editingContextEventProcessorEntry.getEditingContextEventProcessor()
+                            .execute(() -> snapshotService.createSnapshot(editingContext))
+                            .flatMap(Function.identity()))
+                    .ifPresent(this::addSnapshot);
+        }
+
+        editingContextEventProcessorEntry.dispose();
+    }
+
+    private void addSnapshot(EditingContextSnapshot snapshot) {
+        int evictedSnapshotCount = 0;
+        synchronized (this.tiersLock) {
+            var previousSnapshot = this.snapshots.put(snapshot.editingContextId(), snapshot);
+            if (previousSnapshot != null) {
+                this.warmTierSize.addAndGet(-previousSnapshot.size());
+            }
+            this.warmTierSize.addAndGet(snapshot.size());
+
+            var iterator = this.snapshots.values().iterator();
+            while (this.warmTierSize.get() > this.warmTierBudget && iterator.hasNext()) {
+                var eldestSnapshot = iterator.next();
+                iterator.remove();
+                this.warmTierSize.addAndGet(-eldestSnapshot.size());
+                evictedSnapshotCount++;
+            }
+        }
+        this.warmTierEvictionCounter.increment(evictedSnapshotCount);
+    }
+
     @Override
     public void disposeEditingContextEventProcessor(String editingContextId) {
-        Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId)).ifPresent(EditingContextEventProcessorEntry::dispose);
+        EditingContextEventProcessorEntry editingContextEventProcessorEntry;
+        synchronized (this.tiersLock) {
+            editingContextEventProcessorEntry = this.editingContextEventProcessors.remove(editingContextId);
+
+            Long idleSize = this.idleEditingContextSizes.remove(editingContextId);
+            if (idleSize != null) {
+                this.hotTierSize.addAndGet(-idleSize);
+            }
+            var snapshot = this.snapshots.remove(editingContextId);
+            if (snapshot != null) {
+                this.warmTierSize.addAndGet(-snapshot.size());
+            }
+        }
+        Optional.ofNullable(editingContextEventProcessorEntry).ifPresent(EditingContextEventProcessorEntry::dispose);
 
         this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size());
     }
@@ -121,5 +366,12 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
         this.editingContextEventProcessors.values().forEach(EditingContextEventProcessorEntry::dispose);
         this.editingContextEventProcessors.clear();
+
+        synchronized (this.tiersLock) {
+            this.idleEditingContextSizes.clear();
+            this.hotTierSize.set(0);
+            this.snapshots.clear();
+            this.warmTierSize.set(0);
+        }
     }
 }
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Provides executor services which share a bounded pool of threads between all the editing contexts.
+ *
+ * <p>
+ * Each editing context still processes its inputs one at a time and in order of arrival but the number of threads
+ * does not grow anymore with the number of editing contexts opened.
+ * </p>
+ *
+ * <p>
+ * The tasks must never block while waiting for other tasks submitted to this provider. Since they all share the same
+ * threads, the pool would deadlock once all its threads are waiting for tasks queued behind them.
+ * </p>
+ *
+ * @author agent
+ */
+public class PooledEditingContextEventProcessorExecutorServiceProvider implements IEditingContextEventProcessorExecutorServiceProvider {
+
+    private final ExecutorService carrier;
+
+    private final UnaryOperator<ExecutorService> executorServiceDecorator;
+
+    public PooledEditingContextEventProcessorExecutorServiceProvider(int poolSize, UnaryOperator<ExecutorService> executorServiceDecorator) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("The size of the pool must be strictly positive");
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Editing context worker " + threadCount.incrementAndGet());
+            return thread;
+        };
+        this.carrier = Executors.newFixedThreadPool(poolSize, threadFactory);
+        this.executorServiceDecorator = Objects.requireNonNull(executorServiceDecorator);
+    }
+
+    @Override
+    public ExecutorService getExecutorService(IEditingContext editingContext) {
+        return this.executorServiceDecorator.apply(new SerialExecutorService(this.carrier));
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.carrier.shutdown();
+    }
+}
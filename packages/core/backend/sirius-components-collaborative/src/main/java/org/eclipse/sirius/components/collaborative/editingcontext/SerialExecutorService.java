@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An executor service which runs its tasks one at a time, in order of submission, on threads borrowed from a shared
+ * executor.
+ *
+ * <p>
+ * It provides the same guarantees as a single thread executor without owning a thread. A thread of the shared
+ * executor is only used while some tasks are waiting to be executed and it is given back after a batch of tasks in
+ * order to let other serial executors make progress.
+ * </p>
+ *
+ * @author agent
+ */
+public class SerialExecutorService extends AbstractExecutorService {
+
+    private static final int BATCH_SIZE = 16;
+
+    private final Logger logger = LoggerFactory.getLogger(SerialExecutorService.class);
+
+    private final Executor carrier;
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private boolean scheduled;
+
+    private boolean shutdown;
+
+    private boolean terminated;
+
+    public SerialExecutorService(Executor carrier) {
+        this.carrier = Objects.requireNonNull(carrier);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        synchronized (this) {
+            if (this.shutdown) {
+                throw new RejectedExecutionException("The executor service has been shutdown");
+            }
+            this.tasks.offer(command);
+            if (this.scheduled) {
+                return;
+            }
+            this.scheduled = true;
+        }
+        this.schedule();
+    }
+
+    private void schedule() {
+        try {
+            this.carrier.execute(this::drain);
+        } catch (RejectedExecutionException exception) {
+            synchronized (this) {
+                this.scheduled = false;
+                this.tasks.clear();
+                this.terminateIfNeeded();
+            }
+            throw exception;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void drain() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Runnable task;
+            synchronized (this) {
+                task = this.tasks.poll();
+            }
+            if (task == null) {
+                break;
+            }
+
+            try {
+                task.run();
+            } catch (RuntimeException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+
+        boolean hasRemainingTasks;
+        synchronized (this) {
+            hasRemainingTasks = !this.tasks.isEmpty();
+            if (!hasRemainingTasks) {
+                this.scheduled = false;
+                this.terminateIfNeeded();
+            }
+        }
+
+        if (hasRemainingTasks) {
+            // Give back the thread to the shared executor to let the other serial executors make progress
+            this.schedule();
+        }
+    }
+
+    private void terminateIfNeeded() {
+        if (this.shutdown && !this.scheduled && this.tasks.isEmpty()) {
+            this.terminated = true;
+            this.notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        this.shutdown = true;
+        this.terminateIfNeeded();
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        List<Runnable> remainingTasks = new ArrayList<>(this.tasks);
+        this.tasks.clear();
+        this.terminateIfNeeded();
+        return remainingTasks;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return this.terminated;
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remainingNanos;
+        while (!this.terminated && remainingNanos > 0) {
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            remainingNanos = deadline - System.nanoTime();
+        }
+        return this.terminated;
+    }
+}
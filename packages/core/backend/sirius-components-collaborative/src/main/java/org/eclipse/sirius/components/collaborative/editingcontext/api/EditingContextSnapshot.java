@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.Objects;
+
+/**
+ * The serialized form of an editing context kept in memory after its disposal.
+ *
+ * @author agent
+ */
+public record EditingContextSnapshot(String editingContextId, byte[] content) {
+    public EditingContextSnapshot {
+        Objects.requireNonNull(editingContextId);
+        Objects.requireNonNull(content);
+    }
+
+    public long size() {
+        return this.content.length;
+    }
+}
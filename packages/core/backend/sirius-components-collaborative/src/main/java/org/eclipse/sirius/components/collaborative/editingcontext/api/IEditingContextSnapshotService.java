@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to keep the editing contexts which are not used anymore in memory.
+ *
+ * <p>
+ * Idle editing contexts are first kept alive as long as their estimated size fits in the memory budget of the
+ * registry. Once evicted, they can be kept in a compact serialized form which can be restored without retrieving their
+ * content from the persistence layer. The content of the snapshot still has to be parsed to restore the editing context.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IEditingContextSnapshotService {
+
+    /**
+     * Returns a rough estimation of the heap used by the given editing context.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The estimated size in bytes
+     */
+    long getEstimatedSize(IEditingContext editingContext);
+
+    /**
+     * Creates a snapshot of an idle editing context which is about to be disposed.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The snapshot or an empty optional if the editing context cannot be restored from a snapshot
+     */
+    Optional<EditingContextSnapshot> createSnapshot(IEditingContext editingContext);
+
+    /**
+     * Restores an editing context from its snapshot.
+     *
+     * @param snapshot
+     *         The snapshot
+     * @return The editing context or an empty optional if the snapshot is not up to date anymore
+     */
+    Optional<IEditingContext> restoreSnapshot(EditingContextSnapshot snapshot);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IEditingContextSnapshotService {
+
+        @Override
+        public long getEstimatedSize(IEditingContext editingContext) {
+            return 0;
+        }
+
+        @Override
+        public Optional<EditingContextSnapshot> createSnapshot(IEditingContext editingContext) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<IEditingContext> restoreSnapshot(EditingContextSnapshot snapshot) {
+            return Optional.empty();
+        }
+    }
+}
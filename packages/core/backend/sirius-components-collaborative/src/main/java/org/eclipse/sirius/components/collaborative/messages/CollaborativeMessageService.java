@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -47,4 +47,9 @@ public class CollaborativeMessageService implements ICollaborativeMessageService
         return this.messageSourceAccessor.getMessage("TIMEOUT");
     }
 
+    @Override
+    public String editingContextBusy() {
+        return this.messageSourceAccessor.getMessage("EDITING_CONTEXT_BUSY");
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,15 +13,19 @@
 package org.eclipse.sirius.components.collaborative.representations;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationDeserializer;
 import org.eclipse.sirius.components.representations.IRepresentation;
@@ -29,12 +33,21 @@ import org.eclipse.sirius.components.representations.IRepresentation;
 /**
  * Custom deserializer to customize the ObjectMapper.
  *
+ * <p>
+ * The fields of the representation are buffered until its kind has been found. If a representation deserializer can
+ * handle this kind from the stream of tokens, the representation is deserialized directly from the buffered tokens
+ * followed by the remaining ones. Since the kind is one of the first fields serialized, almost nothing is buffered.
+ * Otherwise, the JSON tree of the representation is built and given to the representation deserializers.
+ * </p>
+ *
  * @author gcoutable
  */
 public class RepresentationStdDeserializer extends StdDeserializer<IRepresentation> {
 
     private static final long serialVersionUID = -1759653601179599083L;
 
+    private static final String KIND = "kind";
+
     private final List<IRepresentationDeserializer> representationDeserializers;
 
     public RepresentationStdDeserializer(List<IRepresentationDeserializer> representationDeserializers) {
@@ -48,6 +61,61 @@ public class RepresentationStdDeserializer extends StdDeserializer<IRepresentati
 
     @Override
     public IRepresentation deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        TokenBuffer tokenBuffer = context.bufferForInputBuffering(jsonParser);
+        tokenBuffer.writeStartObject();
+
+        String kind = this.bufferUntilKind(jsonParser, tokenBuffer);
+
+        JsonParser representationParser;
+        if (kind != null) {
+            // The parser is still positioned on the value of the kind, the next token will be read after the buffered ones
+            representationParser = JsonParserSequence.createFlattened(false, tokenBuffer.asParser(jsonParser), jsonParser);
+        } else {
+            tokenBuffer.writeEndObject();
+            representationParser = tokenBuffer.asParser(jsonParser);
+        }
+        representationParser.nextToken();
+
+        Optional<Class<? extends IRepresentation>> optionalRepresentationType = Optional.ofNullable(kind).flatMap(this::getRepresentationType);
+        if (optionalRepresentationType.isPresent()) {
+            return context.readValue(representationParser, optionalRepresentationType.get());
+        }
+        return this.deserializeTree(representationParser);
+    }
+
+    private String bufferUntilKind(JsonParser jsonParser, TokenBuffer tokenBuffer) throws IOException {
+        String kind = null;
+
+        JsonToken token = jsonParser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        }
+        while (kind == null && token == JsonToken.FIELD_NAME) {
+            String fieldName = jsonParser.currentName();
+            tokenBuffer.writeFieldName(fieldName);
+
+            token = jsonParser.nextToken();
+            if (KIND.equals(fieldName) && token == JsonToken.VALUE_STRING) {
+                kind = jsonParser.getText();
+            }
+            tokenBuffer.copyCurrentStructure(jsonParser);
+
+            if (kind == null) {
+                token = jsonParser.nextToken();
+            }
+        }
+
+        return kind;
+    }
+
+    private Optional<Class<? extends IRepresentation>> getRepresentationType(String kind) {
+        return this.representationDeserializers.stream()
+                .map(representationDeserializer -> representationDeserializer.getRepresentationType(kind))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    private IRepresentation deserializeTree(JsonParser jsonParser) throws IOException {
         IRepresentation representation = null;
         ObjectCodec objectCodec = jsonParser.getCodec();
         if (objectCodec instanceof ObjectMapper mapper) {
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.EditingContextSnapshot;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextSnapshotService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Unit tests of the editing context event processor registry.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorRegistryTests {
+
+    private static final String SLOW_EDITING_CONTEXT_ID = "slow";
+
+    private static final String FAST_EDITING_CONTEXT_ID = "fast";
+
+    private static final long TIMEOUT = 10;
+
+    private final CountDownLatch slowLoadStarted = new CountDownLatch(1);
+
+    private final CountDownLatch slowLoadReleased = new CountDownLatch(1);
+
+    private final Map<String, AtomicInteger> loadCounts = new ConcurrentHashMap<>();
+
+    private final Map<String, Many<Boolean>> canBeDisposedSinks = new ConcurrentHashMap<>();
+
+    private final Set<String> disposedEditingContextIds = ConcurrentHashMap.newKeySet();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExecutorService executorService;
+
+    private IEditingContextSearchService editingContextSearchService;
+
+    private IEditingContextEventProcessorFactory editingContextEventProcessorFactory;
+
+    private EditingContextEventProcessorRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        this.executorService = Executors.newCachedThreadPool();
+
+        this.editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                EditingContextEventProcessorRegistryTests.this.loadCounts.computeIfAbsent(editingContextId, id -> new AtomicInteger()).incrementAndGet();
+                if (SLOW_EDITING_CONTEXT_ID.equals(editingContextId)) {
+                    EditingContextEventProcessorRegistryTests.this.slowLoadStarted.countDown();
+                    try {
+                        EditingContextEventProcessorRegistryTests.this.slowLoadReleased.await(TIMEOUT, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+        this.editingContextEventProcessorFactory = editingContext -> {
+            Many<Boolean> canBeDisposedSink = Sinks.many().unicast().onBackpressureBuffer();
+            this.canBeDisposedSinks.put(editingContext.getId(), canBeDisposedSink);
+            return new IEditingContextEventProcessor.NoOp() {
+                @Override
+                public Flux<Boolean> canBeDisposed() {
+                    return canBeDisposedSink.asFlux();
+                }
+
+                @Override
+                public String getEditingContextId() {
+                    return editingContext.getId();
+                }
+
+                @Override
+                public void dispose() {
+                    EditingContextEventProcessorRegistryTests.this.disposedEditingContextIds.add(editingContext.getId());
+                }
+            };
+        };
+    }
+
+    private EditingContextEventProcessorRegistry createRegistry(Optional<IEditingContextSnapshotService> optionalSnapshotService, long hotTierBudget, long warmTierBudget) {
+        return new EditingContextEventProcessorRegistry(this.editingContextEventProcessorFactory, this.editingContextSearchService, optionalSnapshotService, this.meterRegistry, Duration.ZERO,
+                DataSize.ofBytes(hotTierBudget), DataSize.ofBytes(warmTierBudget));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.slowLoadReleased.countDown();
+        this.executorService.shutdownNow();
+        this.registry.dispose();
+    }
+
+    @Test
+    public void givenAProjectBeingLoadedWhenAnotherProjectIsRequestedThenItIsLoadedWithoutWaiting() throws Exception {
+        this.registry = this.createRegistry(Optional.empty(), 0, 0);
+        var slowLoad = CompletableFuture.supplyAsync(() -> this.registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), this.executorService);
+        assertThat(this.slowLoadStarted.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+
+        var fastLoad = CompletableFuture.supplyAsync(() -> this.registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID), this.executorService);
+        var optionalFastEditingContextEventProcessor = fastLoad.get(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(optionalFastEditingContextEventProcessor).map(IEditingContextEventProcessor::getEditingContextId).hasValue(FAST_EDITING_CONTEXT_ID);
+        assertThat(slowLoad).isNotDone();
+
+        this.slowLoadReleased.countDown();
+        var optionalSlowEditingContextEventProcessor = slowLoad.get(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(optionalSlowEditingContextEventProcessor).map(IEditingContextEventProcessor::getEditingContextId).hasValue(SLOW_EDITING_CONTEXT_ID);
+        assertThat(this.registry.getEditingContextEventProcessors()).hasSize(2);
+    }
+
+    @Test
+    public void givenAProjectBeingLoadedWhenItIsRequestedConcurrentlyThenTheLoadIsShared() throws Exception {
+        this.registry = this.createRegistry(Optional.empty(), 0, 0);
+        int requestCount = 8;
+        var firstLoad = CompletableFuture.supplyAsync(() -> this.registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), this.executorService);
+        assertThat(this.slowLoadStarted.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+
+        List<CompletableFuture<Optional<IEditingContextEventProcessor>>> otherLoads = IntStream.range(1, requestCount)
+                .mapToObj(index -> CompletableFuture.supplyAsync(() -> this.registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), this.executorService))
+                .toList();
+
+        this.slowLoadReleased.countDown();
+        var editingContextEventProcessor = firstLoad.get(TIMEOUT, TimeUnit.SECONDS).orElseThrow();
+        for (var otherLoad : otherLoads) {
+            assertThat(otherLoad.get(TIMEOUT, TimeUnit.SECONDS)).containsSame(editingContextEventProcessor);
+        }
+        assertThat(this.loadCounts.get(SLOW_EDITING_CONTEXT_ID)).hasValue(1);
+    }
+
+    @Test
+    public void givenNoBudgetWhenAnEditingContextCanBeDisposedThenItIsDisposed() {
+        this.registry = this.createRegistry(Optional.empty(), 0, 0);
+        this.registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+        this.canBeDisposedSinks.get(FAST_EDITING_CONTEXT_ID).tryEmitNext(Boolean.TRUE);
+
+        this.waitUntil(() -> this.disposedEditingContextIds.contains(FAST_EDITING_CONTEXT_ID));
+        assertThat(this.registry.getEditingContextEventProcessors()).isEmpty();
+    }
+
+    @Test
+    public void givenIdleEditingContextsWhenTheHotTierBudgetIsExceededThenTheLeastRecentlyUsedOneIsMovedToTheWarmTier() {
+        this.registry = this.createRegistry(Optional.of(new TestEditingContextSnapshotService(100)), 150, 1000);
+
+        this.registry.getOrCreateEditingContextEventProcessor("first");
+        this.registry.getOrCreateEditingContextEventProcessor("second");
+
+        this.canBeDisposedSinks.get("first").tryEmitNext(Boolean.TRUE);
+        this.waitUntil(() -> this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE_SIZE).tag("tier", "hot").gauge().value() == 100);
+        assertThat(this.disposedEditingContextIds).isEmpty();
+
+        this.canBeDisposedSinks.get("second").tryEmitNext(Boolean.TRUE);
+        this.waitUntil(() -> this.disposedEditingContextIds.contains("first"));
+        assertThat(this.disposedEditingContextIds).containsExactly("first");
+        assertThat(this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE_EVICTIONS).tag("tier", "hot").counter().count()).isEqualTo(1);
+
+        var optionalEditingContextEventProcessor = this.registry.getOrCreateEditingContextEventProcessor("first");
+        assertThat(optionalEditingContextEventProcessor).map(IEditingContextEventProcessor::getEditingContextId).hasValue("first");
+        assertThat(this.loadCounts.get("first")).hasValue(1);
+        assertThat(this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE).tag("tier", "warm").counter().count()).isEqualTo(1);
+
+        this.registry.getOrCreateEditingContextEventProcessor("second");
+        assertThat(this.loadCounts.get("second")).hasValue(1);
+        assertThat(this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE).tag("tier", "hot").counter().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE).tag("result", "miss").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenAnEditingContextInUseWhenItIsRequestedAgainThenNoHotTierHitIsCounted() {
+        this.registry = this.createRegistry(Optional.of(new TestEditingContextSnapshotService(100)), 150, 1000);
+
+        var editingContextEventProcessor = this.registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID).orElseThrow();
+        for (int index = 0; index < 10; index++) {
+            assertThat(this.registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).containsSame(editingContextEventProcessor);
+        }
+        assertThat(this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE).tag("tier", "hot").counter().count()).isZero();
+
+        this.canBeDisposedSinks.get(FAST_EDITING_CONTEXT_ID).tryEmitNext(Boolean.TRUE);
+        this.waitUntil(() -> this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE_SIZE).tag("tier", "hot").gauge().value() == 100);
+
+        assertThat(this.registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).containsSame(editingContextEventProcessor);
+        assertThat(this.registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).containsSame(editingContextEventProcessor);
+        assertThat(this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE).tag("tier", "hot").counter().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get(Monitoring.EDITING_CONTEXT_CACHE_SIZE).tag("tier", "hot").gauge().value()).isZero();
+    }
+
+    private void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Snapshot service used to restore the editing contexts without loading them.
+     *
+     * @author agent
+     */
+    public static final class TestEditingContextSnapshotService implements IEditingContextSnapshotService {
+
+        private final long estimatedSize;
+
+        public TestEditingContextSnapshotService(long estimatedSize) {
+            this.estimatedSize = estimatedSize;
+        }
+
+        @Override
+        public long getEstimatedSize(IEditingContext editingContext) {
+            return this.estimatedSize;
+        }
+
+        @Override
+        public Optional<EditingContextSnapshot> createSnapshot(IEditingContext editingContext) {
+            return Optional.of(new EditingContextSnapshot(editingContext.getId(), editingContext.getId().getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        public Optional<IEditingContext> restoreSnapshot(EditingContextSnapshot snapshot) {
+            String editingContextId = new String(snapshot.content(), StandardCharsets.UTF_8);
+            return Optional.of(() -> editingContextId);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationConfiguration;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Unit tests of the editing context event processor.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Input used by the tests.
+     *
+     * @author agent
+     */
+    private record TestInput(UUID id) implements IInput {
+    }
+
+    @Test
+    public void givenAFullMailboxWhenAnInputIsReceivedThenItIsRejected() throws InterruptedException {
+        CountDownLatch handlerStarted = new CountDownLatch(1);
+        CountDownLatch handlerReleased = new CountDownLatch(1);
+
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                handlerStarted.countDown();
+                try {
+                    handlerReleased.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        var meterRegistry = new SimpleMeterRegistry();
+        AtomicInteger totalMailboxSize = new AtomicInteger();
+        var parameters = this.newParameters(editingContextEventHandler, new IEditingContextPersistenceService.NoOp(), meterRegistry)
+                .mailboxEnabled(true)
+                .mailboxCapacity(1)
+                .totalMailboxSize(totalMailboxSize)
+                .build();
+        var processor = new EditingContextEventProcessor(parameters);
+
+        Mono<IPayload> firstPayload = processor.handle(new TestInput(UUID.randomUUID()));
+        assertThat(handlerStarted.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+
+        Mono<IPayload> secondPayload = processor.handle(new TestInput(UUID.randomUUID()));
+        assertThat(totalMailboxSize.get()).isEqualTo(1);
+
+        IPayload rejectedPayload = processor.handle(new TestInput(UUID.randomUUID())).block(TIMEOUT);
+        assertThat(rejectedPayload).isInstanceOf(ErrorPayload.class);
+        assertThat(meterRegistry.get(Monitoring.EDITING_CONTEXT_MAILBOX_REJECTED).counter().count()).isEqualTo(1.0);
+
+        handlerReleased.countDown();
+
+        assertThat(firstPayload.block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+        assertThat(secondPayload.block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+        assertThat(totalMailboxSize.get()).isZero();
+        assertThat(meterRegistry.get(Monitoring.EDITING_CONTEXT_MAILBOX_WAIT).timer().count()).isEqualTo(2);
+
+        processor.dispose();
+    }
+
+    @Test
+    public void givenAnInputWaitingInTheMailboxWhenItsTimeoutIsReachedThenATimeoutPayloadIsReturned() throws InterruptedException {
+        CountDownLatch handlerStarted = new CountDownLatch(1);
+        CountDownLatch handlerReleased = new CountDownLatch(1);
+
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                handlerStarted.countDown();
+                try {
+                    handlerReleased.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var parameters = this.newParameters(editingContextEventHandler, new IEditingContextPersistenceService.NoOp(), meterRegistry)
+                .mailboxEnabled(true)
+                .mailboxCapacity(2)
+                .inputTimeout(Duration.ofMillis(200))
+                .build();
+        var processor = new EditingContextEventProcessor(parameters);
+
+        Mono<IPayload> firstPayload = processor.handle(new TestInput(UUID.randomUUID()));
+        assertThat(handlerStarted.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        Mono<IPayload> secondPayload = processor.handle(new TestInput(UUID.randomUUID()));
+
+        // The second input is still waiting in the mailbox behind the first one
+        assertThat(secondPayload.block(TIMEOUT)).isInstanceOf(ErrorPayload.class);
+        assertThat(firstPayload.block(TIMEOUT)).isInstanceOf(ErrorPayload.class);
+        assertThat(meterRegistry.get(Monitoring.EDITING_CONTEXT_MAILBOX_WAIT).timer().count()).isEqualTo(1);
+
+        handlerReleased.countDown();
+        processor.dispose();
+    }
+
+    @Test
+    public void givenACoalescingWindowWhenSeveralSemanticChangesAreReceivedThenASingleRefreshIsPerformed() throws InterruptedException {
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+            }
+        };
+
+        CountDownLatch persisted = new CountDownLatch(1);
+        AtomicInteger persistenceCount = new AtomicInteger();
+        IEditingContextPersistenceService editingContextPersistenceService = editingContext -> {
+            persistenceCount.incrementAndGet();
+            persisted.countDown();
+        };
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var parameters = this.newParameters(editingContextEventHandler, editingContextPersistenceService, meterRegistry)
+                .refreshCoalescingWindow(Duration.ofMillis(500))
+                .build();
+        var processor = new EditingContextEventProcessor(parameters);
+
+        for (int i = 0; i < 3; i++) {
+            IPayload payload = processor.handle(new TestInput(UUID.randomUUID())).block(TIMEOUT);
+            assertThat(payload).isInstanceOf(SuccessPayload.class);
+        }
+        assertThat(persistenceCount.get()).isZero();
+
+        assertThat(persisted.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        assertThat(persistenceCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.EDITING_CONTEXT_REFRESH_COALESCED).counter().count()).isEqualTo(2.0);
+
+        processor.dispose();
+    }
+
+    @Test
+    public void givenACoalescingWindowWhenOnlyAnEarlierChangeMatchesTheRefreshPolicyThenTheRepresentationIsRefreshedWithIt() throws InterruptedException {
+        String refreshParameter = "refresh";
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            private int count;
+
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                Map<String, Object> parameters = new HashMap<>();
+                if (this.count == 0) {
+                    parameters.put(refreshParameter, Boolean.TRUE);
+                }
+                this.count++;
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input, parameters));
+            }
+        };
+
+        CountDownLatch refreshed = new CountDownLatch(1);
+        List<ChangeDescription> refreshedChangeDescriptions = new CopyOnWriteArrayList<>();
+        IRepresentationEventProcessor representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public boolean shouldRefresh(ChangeDescription changeDescription) {
+                return changeDescription.getParameters().containsKey(refreshParameter);
+            }
+
+            @Override
+            public void refresh(ChangeDescription changeDescription) {
+                if (this.shouldRefresh(changeDescription)) {
+                    refreshedChangeDescriptions.add(changeDescription);
+                }
+                refreshed.countDown();
+            }
+        };
+        IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                return Optional.of(representationEventProcessor).filter(representationEventProcessorClass::isInstance).map(representationEventProcessorClass::cast);
+            }
+        };
+
+        var parameters = this.newParameters(editingContextEventHandler, new IEditingContextPersistenceService.NoOp(), new SimpleMeterRegistry())
+                .representationEventProcessorComposedFactory(representationEventProcessorComposedFactory)
+                .refreshCoalescingWindow(Duration.ofMillis(500))
+                .build();
+        var processor = new EditingContextEventProcessor(parameters);
+
+        IRepresentationConfiguration configuration = () -> "representation";
+        assertThat(processor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, configuration, new TestInput(UUID.randomUUID()))).isPresent();
+
+        UUID firstInputId = UUID.randomUUID();
+        assertThat(processor.handle(new TestInput(firstInputId)).block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+        assertThat(processor.handle(new TestInput(UUID.randomUUID())).block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+
+        assertThat(refreshed.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        assertThat(refreshedChangeDescriptions).hasSize(1);
+        assertThat(refreshedChangeDescriptions.get(0).getInput().id()).isEqualTo(firstInputId);
+
+        processor.dispose();
+    }
+
+    @Test
+    public void givenACoalescedRefreshWhenTheProcessorIsDisposedFromAThreadOfTheSharedPoolThenTheDisposalIsCompleted() {
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+            }
+        };
+
+        AtomicInteger refreshCount = new AtomicInteger();
+        IRepresentationEventProcessor representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public void refresh(ChangeDescription changeDescription) {
+                refreshCount.incrementAndGet();
+            }
+        };
+        IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                return Optional.of(representationEventProcessor).filter(representationEventProcessorClass::isInstance).map(representationEventProcessorClass::cast);
+            }
+        };
+
+        // A single thread is shared by the editing contexts, it would be blocked forever if the disposal was waiting for the refresh
+        var executorServiceProvider = new PooledEditingContextEventProcessorExecutorServiceProvider(1, executorService -> executorService);
+        var parameters = this.newParameters(editingContextEventHandler, new IEditingContextPersistenceService.NoOp(), new SimpleMeterRegistry())
+                .representationEventProcessorComposedFactory(representationEventProcessorComposedFactory)
+                .executorServiceProvider(executorServiceProvider)
+                .refreshCoalescingWindow(Duration.ofHours(1))
+                .build();
+        var processor = new EditingContextEventProcessor(parameters);
+        Mono<Void> outputEventsCompletion = processor.getOutputEvents().then();
+
+        IRepresentationConfiguration configuration = () -> "representation";
+        assertThat(processor.acquireRepresentationEventProcessor(IRepresentationEventProcessor.class, configuration, new TestInput(UUID.randomUUID()))).isPresent();
+        assertThat(processor.handle(new TestInput(UUID.randomUUID())).block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+        assertThat(refreshCount.get()).isZero();
+
+        IEditingContext otherEditingContext = () -> UUID.randomUUID().toString();
+        executorServiceProvider.getExecutorService(otherEditingContext).execute(processor::dispose);
+
+        outputEventsCompletion.block(TIMEOUT);
+        assertThat(refreshCount.get()).isEqualTo(1);
+
+        executorServiceProvider.dispose();
+    }
+
+    @Test
+    public void givenAFailingFlushWhenTheProcessorIsDisposedThenTheDisposalIsCompleted() {
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        IEditingContextPersistenceService editingContextPersistenceService = new IEditingContextPersistenceService() {
+            @Override
+            public void persist(IEditingContext editingContext) {
+                // Do nothing
+            }
+
+            @Override
+            public void flush(IEditingContext editingContext) {
+                throw new IllegalStateException("The editing context cannot be flushed");
+            }
+        };
+
+        AtomicBoolean disposed = new AtomicBoolean();
+        String editingContextId = UUID.randomUUID().toString();
+        IEditingContext editingContext = new IEditingContext() {
+            @Override
+            public String getId() {
+                return editingContextId;
+            }
+
+            @Override
+            public void dispose() {
+                disposed.set(true);
+            }
+        };
+
+        var parameters = this.newParameters(editingContextEventHandler, editingContextPersistenceService, new SimpleMeterRegistry())
+                .editingContext(editingContext)
+                .build();
+        var processor = new EditingContextEventProcessor(parameters);
+        Mono<Void> outputEventsCompletion = processor.getOutputEvents().then();
+
+        processor.dispose();
+
+        assertThat(disposed.get()).isTrue();
+        outputEventsCompletion.block(TIMEOUT);
+    }
+
+    @Test
+    public void givenManyInputsWhenTheyAreProcessedThenTheirLatencyIsRecordedInASingleSeries() {
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var processor = new EditingContextEventProcessor(this.newParameters(editingContextEventHandler, new IEditingContextPersistenceService.NoOp(), meterRegistry).build());
+
+        int inputCount = 20;
+        for (int i = 0; i < inputCount; i++) {
+            assertThat(processor.handle(new TestInput(UUID.randomUUID())).block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+        }
+
+        var timers = meterRegistry.find(Monitoring.TIMER_PROCESSING_INPUT).timers();
+        assertThat(timers).hasSize(1);
+        var timer = timers.iterator().next();
+        assertThat(timer.getId().getTag(Monitoring.INPUT)).isEqualTo(TestInput.class.getSimpleName());
+        assertThat(timer.getId().getTag(Monitoring.OUTCOME)).isEqualTo(Monitoring.OUTCOME_SUCCESS);
+        assertThat(timer.count()).isEqualTo(inputCount);
+
+        processor.dispose();
+    }
+
+    private EditingContextEventProcessorParameters.EditingContextEventProcessorParametersBuilder newParameters(IEditingContextEventHandler editingContextEventHandler,
+            IEditingContextPersistenceService editingContextPersistenceService, SimpleMeterRegistry meterRegistry) {
+        IEditingContext editingContext = () -> UUID.randomUUID().toString();
+        IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                return Optional.empty();
+            }
+        };
+
+        return EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .messageService(new ICollaborativeMessageService.NoOp())
+                .editingContext(editingContext)
+                .editingContextPersistenceService(editingContextPersistenceService)
+                .applicationEventPublisher(event -> { })
+                .editingContextEventHandlers(List.of(editingContextEventHandler))
+                .representationEventProcessorComposedFactory(representationEventProcessorComposedFactory)
+                .danglingRepresentationDeletionService(new IDanglingRepresentationDeletionService.NoOp())
+                .executorServiceProvider(context -> Executors.newSingleThreadExecutor())
+                .inputPreProcessors(List.of())
+                .inputPostProcessors(List.of())
+                .meterRegistry(meterRegistry);
+    }
+}
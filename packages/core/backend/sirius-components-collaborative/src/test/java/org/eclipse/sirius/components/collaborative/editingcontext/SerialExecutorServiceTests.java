@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.tests.benchmarks.AllocatedBytes;
+import org.eclipse.sirius.components.tests.benchmarks.Benchmark;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the serial executor service and of the pooled executor service provider.
+ *
+ * <p>
+ * The benchmark sends one input to each of 1,000 and then 5,000 editing contexts at once, both with a single thread
+ * executor per editing context, the strategy of the default provider, and with the pooled provider. It compares the
+ * number of threads started, the memory allocated to start the executors and the latency of the inputs.
+ * </p>
+ *
+ * @author agent
+ */
+public class SerialExecutorServiceTests {
+
+    private static final int POOL_SIZE = 4;
+
+    private static final int EDITING_CONTEXT_COUNT = 1000;
+
+    private static final int TASK_COUNT = 20;
+
+    private static final List<Integer> BENCHMARK_EDITING_CONTEXT_COUNTS = List.of(1_000, 5_000);
+
+    private static final int ITERATIONS = 3;
+
+    private static final Duration INPUT_TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    public void givenManyEditingContextsWhenTasksAreSubmittedThenTheyAreExecutedInOrderOnASharedPool() throws InterruptedException {
+        var provider = new PooledEditingContextEventProcessorExecutorServiceProvider(POOL_SIZE, executorService -> executorService);
+
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<ExecutorService> executorServices = new ArrayList<>();
+        List<List<Integer>> executionOrders = new ArrayList<>();
+        for (int i = 0; i < EDITING_CONTEXT_COUNT; i++) {
+            IEditingContext editingContext = () -> UUID.randomUUID().toString();
+            var executorService = provider.getExecutorService(editingContext);
+            List<Integer> executionOrder = new CopyOnWriteArrayList<>();
+            for (int j = 0; j < TASK_COUNT; j++) {
+                int taskIndex = j;
+                executorService.execute(() -> {
+                    threads.add(Thread.currentThread());
+                    executionOrder.add(taskIndex);
+                });
+            }
+            executorServices.add(executorService);
+            executionOrders.add(executionOrder);
+        }
+
+        for (ExecutorService executorService : executorServices) {
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        List<Integer> expectedOrder = IntStream.range(0, TASK_COUNT).boxed().toList();
+        assertThat(executionOrders).allSatisfy(executionOrder -> assertThat(executionOrder).isEqualTo(expectedOrder));
+        assertThat(threads).hasSizeLessThanOrEqualTo(POOL_SIZE);
+
+        provider.dispose();
+    }
+
+    @Test
+    public void givenAShutdownExecutorServiceWhenATaskIsSubmittedThenItIsRejected() {
+        var provider = new PooledEditingContextEventProcessorExecutorServiceProvider(1, executorService -> executorService);
+        IEditingContext editingContext = () -> UUID.randomUUID().toString();
+        var executorService = provider.getExecutorService(editingContext);
+        executorService.shutdown();
+
+        assertThat(executorService.isShutdown()).isTrue();
+        assertThat(executorService.isTerminated()).isTrue();
+        assertThatThrownBy(() -> executorService.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+
+        provider.dispose();
+    }
+
+    @Benchmark
+    public void benchmarkPooledExecutorServicesAgainstSingleThreadExecutorServices() throws Exception {
+        for (int editingContextCount : BENCHMARK_EDITING_CONTEXT_COUNTS) {
+            Function<IEditingContext, ExecutorService> singleThreadExecutorServiceProvider = editingContext -> Executors.newSingleThreadExecutor();
+            var singleThreadInputs = this.sendInputs(editingContextCount, singleThreadExecutorServiceProvider);
+            long singleThreadAllocatedBytes = AllocatedBytes.measure(ITERATIONS, () -> this.sendInputs(editingContextCount, singleThreadExecutorServiceProvider));
+
+            var provider = new PooledEditingContextEventProcessorExecutorServiceProvider(POOL_SIZE, executorService -> executorService);
+            var pooledInputs = this.sendInputs(editingContextCount, provider::getExecutorService);
+            long pooledAllocatedBytes = AllocatedBytes.measure(ITERATIONS, () -> this.sendInputs(editingContextCount, provider::getExecutorService));
+            provider.dispose();
+
+            String description = String.format("%d editing contexts, pooled: %s and %d bytes, single thread: %s and %d bytes", editingContextCount, pooledInputs, pooledAllocatedBytes,
+                    singleThreadInputs, singleThreadAllocatedBytes);
+            assertThat(pooledInputs.threadCount()).as(description).isLessThanOrEqualTo(POOL_SIZE).isLessThan(singleThreadInputs.threadCount());
+            assertThat(pooledAllocatedBytes).as(description).isLessThan(singleThreadAllocatedBytes);
+            assertThat(pooledInputs.latency()).as(description).isLessThan(INPUT_TIMEOUT);
+        }
+    }
+
+    private SentInputs sendInputs(int editingContextCount, Function<IEditingContext, ExecutorService> executorServiceProvider) throws InterruptedException {
+        var threadMXBean = ManagementFactory.getThreadMXBean();
+        int threadCountBefore = threadMXBean.getThreadCount();
+
+        CountDownLatch processedInputs = new CountDownLatch(editingContextCount);
+        long[] latencies = new long[editingContextCount];
+        List<ExecutorService> executorServices = new ArrayList<>(editingContextCount);
+        for (int i = 0; i < editingContextCount; i++) {
+            String editingContextId = UUID.randomUUID().toString();
+            IEditingContext editingContext = () -> editingContextId;
+            var executorService = executorServiceProvider.apply(editingContext);
+
+            int inputIndex = i;
+            long sentAt = System.nanoTime();
+            executorService.execute(() -> {
+                latencies[inputIndex] = System.nanoTime() - sentAt;
+                processedInputs.countDown();
+            });
+            executorServices.add(executorService);
+        }
+        assertThat(processedInputs.await(INPUT_TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+
+        int threadCount = threadMXBean.getThreadCount() - threadCountBefore;
+
+        for (ExecutorService executorService : executorServices) {
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        Arrays.sort(latencies);
+        return new SentInputs(threadCount, Duration.ofNanos(latencies[latencies.length * 99 / 100]));
+    }
+
+    /**
+     * The number of threads started to process one input per editing context and the 99th percentile of the latency of
+     * those inputs.
+     *
+     * @author agent
+     */
+    private record SentInputs(int threadCount, Duration latency) {
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,21 @@ package org.eclipse.sirius.components.core.api;
 public interface IEditingContextPersistenceService {
     void persist(IEditingContext editingContext);
 
+    /**
+     * Writes the changes of the given editing context which may not have been persisted yet.
+     *
+     * <p>
+     * It is called when the editing context is disposed. Implementations which do not defer the persistence of the
+     * editing context have nothing to do.
+     * </p>
+     *
+     * @param editingContext
+     *         The editing context
+     */
+    default void flush(IEditingContext editingContext) {
+        // Do nothing
+    }
+
     /**
      * Empty implementation, used for mocks in unit tests.
      *
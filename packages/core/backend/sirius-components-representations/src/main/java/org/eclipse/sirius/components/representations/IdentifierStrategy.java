@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import java.util.UUID;
+
+/**
+ * The strategies used to compute the deterministic identifiers of the elements of a representation.
+ *
+ * <p>
+ * Both strategies compute a 128-bit identifier, formatted as an UUID, from the concatenation of the given parts. The
+ * name based strategy relies on a MD5 digest and is kept for compatibility with the identifiers of the representations
+ * already persisted. The hash based strategy relies on the non-cryptographic MurmurHash3 algorithm computed directly on
+ * the characters of the parts, without any intermediary string or array of bytes.
+ * </p>
+ *
+ * @author agent
+ */
+public enum IdentifierStrategy {
+    /**
+     * Name based UUID computed with a MD5 digest.
+     */
+    NAME_BASED,
+
+    /**
+     * UUID computed with the 128-bit variant of MurmurHash3.
+     */
+    HASH_BASED;
+
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final int CHARS_PER_BLOCK = 8;
+
+    private static final int CHARS_PER_LONG = 4;
+
+    public String computeId(String... parts) {
+        String id;
+        if (this == NAME_BASED) {
+            id = UUID.nameUUIDFromBytes(String.join("", parts).getBytes()).toString();
+        } else {
+            id = this.computeHashBasedId(parts);
+        }
+        return id;
+    }
+
+    /**
+     * Computes the MurmurHash3 (x64, 128-bit, seed 0) of the UTF-16LE encoding of the concatenation of the parts.
+     */
+    private String computeHashBasedId(String... parts) {
+        long h1 = 0;
+        long h2 = 0;
+        long k1 = 0;
+        long k2 = 0;
+        int position = 0;
+        long length = 0;
+
+        for (String part : parts) {
+            // Same behavior as the concatenation of null values
+            String value = String.valueOf(part);
+            int partLength = value.length();
+            for (int i = 0; i < partLength; i++) {
+                long character = value.charAt(i);
+                if (position < CHARS_PER_LONG) {
+                    k1 |= character << (Character.SIZE * position);
+                } else {
+                    k2 |= character << (Character.SIZE * (position - CHARS_PER_LONG));
+                }
+                position++;
+
+                if (position == CHARS_PER_BLOCK) {
+                    h1 ^= this.mixK1(k1);
+                    h1 = Long.rotateLeft(h1, 27);
+                    h1 += h2;
+                    h1 = h1 * 5 + 0x52dce729;
+
+                    h2 ^= this.mixK2(k2);
+                    h2 = Long.rotateLeft(h2, 31);
+                    h2 += h1;
+                    h2 = h2 * 5 + 0x38495ab5;
+
+                    k1 = 0;
+                    k2 = 0;
+                    position = 0;
+                }
+            }
+            length += partLength;
+        }
+
+        if (position > CHARS_PER_LONG) {
+            h2 ^= this.mixK2(k2);
+        }
+        if (position > 0) {
+            h1 ^= this.mixK1(k1);
+        }
+
+        long byteLength = length * 2;
+        h1 ^= byteLength;
+        h2 ^= byteLength;
+
+        h1 += h2;
+        h2 += h1;
+        h1 = this.finalMix(h1);
+        h2 = this.finalMix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        // Version 8 (custom) and IETF variant in order to keep a valid UUID
+        long mostSignificantBits = (h1 & ~0xF000L) | 0x8000L;
+        long leastSignificantBits = (h2 & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+
+    private long mixK1(long k1) {
+        long k = k1 * C1;
+        k = Long.rotateLeft(k, 31);
+        return k * C2;
+    }
+
+    private long mixK2(long k2) {
+        long k = k2 * C2;
+        k = Long.rotateLeft(k, 33);
+        return k * C1;
+    }
+
+    private long finalMix(long k) {
+        long result = k;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+}
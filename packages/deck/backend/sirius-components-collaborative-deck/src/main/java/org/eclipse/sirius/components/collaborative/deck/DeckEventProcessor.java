@@ -132,7 +132,8 @@ public class DeckEventProcessor implements IDeckEventProcessor {
     /**
      * A deck representation is refreshed if there is a semantic change.
      */
-    private boolean shouldRefresh(ChangeDescription changeDescription) {
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
         String kind = changeDescription.getKind();
         return ChangeKind.SEMANTIC_CHANGE.equals(kind) || DeckChangeKind.DECK_REPRESENTATION_UPDATE.equals(kind);
     }
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
@@ -37,9 +38,11 @@ import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -59,15 +62,19 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final IOperationValidator operationValidator;
 
+    private final IdentifierStrategy identifierStrategy;
+
     private final Timer timer;
 
     private final Logger logger = LoggerFactory.getLogger(DiagramCreationService.class);
 
     public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectService objectService,
-                                  IOperationValidator operationValidator, MeterRegistry meterRegistry) {
+                                  IOperationValidator operationValidator, MeterRegistry meterRegistry,
+                                  @Value("${sirius.components.diagrams.identifierStrategy:HASH_BASED}") IdentifierStrategy identifierStrategy) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.objectService = Objects.requireNonNull(objectService);
         this.operationValidator = Objects.requireNonNull(operationValidator);
+        this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
         // @formatter:off
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram")
@@ -86,11 +93,16 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .toList();
         // @formatter:on
 
-        return this.doRender(label, targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty());
+        return this.doRender(label, targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty(), Optional.empty());
     }
 
     @Override
     public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext) {
+        return this.refresh(editingContext, diagramContext, Optional.empty());
+    }
+
+    @Override
+    public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, Optional<Set<Object>> affectedSemanticElements) {
         Diagram previousDiagram = diagramContext.getDiagram();
 
         var optionalObject = this.objectService.getObject(editingContext, previousDiagram.getTargetObjectId());
@@ -110,13 +122,14 @@ public class DiagramCreationService implements IDiagramCreationService {
         if (optionalObject.isPresent() && optionalDiagramDescription.isPresent()) {
             Object object = optionalObject.get();
             DiagramDescription diagramDescription = optionalDiagramDescription.get();
-            Diagram diagram = this.doRender(previousDiagram.getLabel(), object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext));
+            Diagram diagram = this.doRender(previousDiagram.getLabel(), object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext), affectedSemanticElements);
             return Optional.of(diagram);
         }
         return Optional.empty();
     }
 
-    private Diagram doRender(String label, Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<IDiagramContext> optionalDiagramContext) {
+    private Diagram doRender(String label, Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<IDiagramContext> optionalDiagramContext,
+            Optional<Set<Object>> affectedSemanticElements) {
         long start = System.currentTimeMillis();
 
         VariableManager variableManager = new VariableManager();
@@ -140,7 +153,9 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .viewCreationRequests(viewCreationRequests)
                 .viewDeletionRequests(viewDeletionRequests)
                 .previousDiagram(optionalPreviousDiagram)
-                .diagramEvent(optionalDiagramElementEvent);
+                .diagramEvent(optionalDiagramElementEvent)
+                .affectedSemanticElements(affectedSemanticElements)
+                .identifierStrategy(this.identifierStrategy);
         //@formatter:on
 
         DiagramComponentProps props = builder.build();
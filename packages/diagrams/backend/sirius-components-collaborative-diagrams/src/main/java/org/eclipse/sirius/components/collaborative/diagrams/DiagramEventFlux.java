@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,13 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramPatchService;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatch;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatchEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -31,6 +35,12 @@ import reactor.core.publisher.Sinks.Many;
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ * Each diagram sent is identified by a new revision. The previous revision is kept in order to let the clients which
+ * have enabled patches receive only the changes performed since the last revision they know. Those clients receive a
+ * full snapshot of the diagram when they subscribe with an unknown revision or when the diagram cannot be patched.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
@@ -39,14 +49,29 @@ public class DiagramEventFlux {
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
 
+    private final Many<IPayload> patchSink = Sinks.many().multicast().directBestEffort();
+
+    private final IDiagramPatchService diagramPatchService;
+
     private Diagram currentDiagram;
 
-    public DiagramEventFlux(Diagram currentDiagram) {
+    private UUID currentRevisionId = UUID.randomUUID();
+
+    private Diagram previousDiagram;
+
+    private UUID previousRevisionId;
+
+    public DiagramEventFlux(Diagram currentDiagram, IDiagramPatchService diagramPatchService) {
         this.currentDiagram = Objects.requireNonNull(currentDiagram);
+        this.diagramPatchService = Objects.requireNonNull(diagramPatchService);
     }
 
     public void diagramRefreshed(UUID id, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
+        this.previousDiagram = this.currentDiagram;
+        this.previousRevisionId = this.currentRevisionId;
         this.currentDiagram = newDiagram;
+        this.currentRevisionId = UUID.randomUUID();
+
         if (this.sink.currentSubscriberCount() > 0) {
             EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, referencePosition));
             if (emitResult.isFailure()) {
@@ -54,6 +79,16 @@ public class DiagramEventFlux {
                 this.logger.warn(pattern, emitResult);
             }
         }
+        if (this.patchSink.currentSubscriberCount() > 0) {
+            var payload = this.diagramPatchService.computePatch(this.previousDiagram, this.currentDiagram)
+                    .map(patch -> new DiagramPatchEventPayload(id, this.currentRevisionId, this.previousRevisionId, this.currentDiagram, patch, cause, referencePosition))
+                    .orElseGet(() -> new DiagramPatchEventPayload(id, this.currentRevisionId, null, this.currentDiagram, null, cause, referencePosition));
+            EmitResult emitResult = this.patchSink.tryEmitNext(payload);
+            if (emitResult.isFailure()) {
+                String pattern = "An error has occurred while emitting a DiagramPatchEventPayload: {}";
+                this.logger.warn(pattern, emitResult);
+            }
+        }
     }
 
     public Flux<IPayload> getFlux(UUID id, String cause) {
@@ -61,12 +96,46 @@ public class DiagramEventFlux {
         return Flux.concat(initialRefresh, this.sink.asFlux());
     }
 
+    /**
+     * Returns the flux of the patches of the diagram.
+     *
+     * @param id
+     *         The id of the input which has created the current revision
+     * @param cause
+     *         The cause of the current revision
+     * @param lastRevisionId
+     *         The last revision known by the client or null if the client does not know the diagram yet
+     * @return The patches of the diagram, starting with the changes since the last revision known by the client
+     */
+    public Flux<IPayload> getPatchFlux(UUID id, String cause, UUID lastRevisionId) {
+        var initialRefresh = Mono.fromCallable(() -> this.getInitialPatch(id, cause, lastRevisionId));
+        return Flux.concat(initialRefresh, this.patchSink.asFlux());
+    }
+
+    private DiagramPatchEventPayload getInitialPatch(UUID id, String cause, UUID lastRevisionId) {
+        DiagramPatchEventPayload payload = new DiagramPatchEventPayload(id, this.currentRevisionId, null, this.currentDiagram, null, cause, null);
+        if (this.currentRevisionId.equals(lastRevisionId)) {
+            var emptyPatch = new DiagramPatch(List.of(), List.of(), List.of(), List.of(), null);
+            payload = new DiagramPatchEventPayload(id, this.currentRevisionId, this.currentRevisionId, this.currentDiagram, emptyPatch, cause, null);
+        } else if (this.previousRevisionId != null && this.previousRevisionId.equals(lastRevisionId)) {
+            payload = this.diagramPatchService.computePatch(this.previousDiagram, this.currentDiagram)
+                    .map(patch -> new DiagramPatchEventPayload(id, this.currentRevisionId, this.previousRevisionId, this.currentDiagram, patch, cause, null))
+                    .orElse(payload);
+        }
+        return payload;
+    }
+
     public void dispose() {
         EmitResult emitResult = this.sink.tryEmitComplete();
         if (emitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}";
             this.logger.warn(pattern, emitResult);
         }
+        emitResult = this.patchSink.tryEmitComplete();
+        if (emitResult.isFailure()) {
+            String pattern = "An error has occurred while marking the publisher as complete: {}";
+            this.logger.warn(pattern, emitResult);
+        }
     }
 
 }
@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.collaborative.diagrams;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,6 +24,7 @@ import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicy;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyRegistry;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangeRecorder;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManager;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
@@ -30,6 +32,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeLayoutDataInput;
@@ -85,6 +88,10 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+    private final Optional<ISemanticChangeRecorder> semanticChangeRecorder;
+
+    private Optional<DiagramDescription> renderedDiagramDescription = Optional.empty();
+
     private UUID currentRevisionId = UUID.randomUUID();
 
     private String currentRevisionCause = DiagramRefreshedEventPayload.CAUSE_REFRESH;
@@ -101,13 +108,16 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         this.representationPersistenceService = parameters.representationPersistenceService();
         this.diagramCreationService = parameters.diagramCreationService();
         this.diagramInputReferencePositionProviders = parameters.diagramInputReferencePositionProviders();
+        this.semanticChangeRecorder = parameters.semanticChangeRecorder();
 
         // We automatically refresh the representation before using it since things may have changed since the moment it
-        // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius.
+        // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius. This first
+        // refresh renders the whole diagram, the changes recorded until now are thus irrelevant.
+        this.getAffectedSemanticElements();
         Diagram diagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
         this.representationPersistenceService.save(parameters.editingContext(), diagram);
         this.diagramContext.update(diagram);
-        this.diagramEventFlux = new DiagramEventFlux(diagram);
+        this.diagramEventFlux = new DiagramEventFlux(diagram, parameters.diagramPatchService());
 
         if (diagram != null) {
             this.logger.trace("Diagram refreshed: {})", diagram.getId());
@@ -175,7 +185,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     @Override
     public void refresh(ChangeDescription changeDescription) {
         if (this.shouldRefresh(changeDescription)) {
-            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
+            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext, this.getAffectedSemanticElements()).orElse(null);
             this.representationPersistenceService.save(this.editingContext, refreshedDiagram);
 
             if (refreshedDiagram != null) {
@@ -193,6 +203,26 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         }
     }
 
+    /**
+     * Returns the semantic elements impacted by the changes performed since the previous rendering of the diagram.
+     *
+     * <p>
+     * The whole diagram has to be rendered if the changes have not been recorded or if the description of the diagram
+     * has been modified since the previous rendering.
+     * </p>
+     *
+     * @return The semantic elements impacted or an empty optional to render the whole diagram
+     */
+    private Optional<Set<Object>> getAffectedSemanticElements() {
+        var optionalAffectedSemanticElements = this.semanticChangeRecorder.flatMap(ISemanticChangeRecorder::consumeAffectedSemanticElements);
+
+        var optionalDiagramDescription = this.findDiagramDescription();
+        boolean hasSameDescription = optionalDiagramDescription.isPresent() && optionalDiagramDescription.get() == this.renderedDiagramDescription.orElse(null);
+        this.renderedDiagramDescription = optionalDiagramDescription;
+
+        return optionalAffectedSemanticElements.filter(affectedSemanticElements -> hasSameDescription);
+    }
+
     private ReferencePosition getReferencePosition(IInput diagramInput) {
         return this.diagramInputReferencePositionProviders.stream()
                 .filter(handler -> handler.canHandle(diagramInput))
@@ -209,13 +239,9 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
      *         The change description
      * @return <code>true</code> if the diagram should be refreshed, <code>false</code> otherwise
      */
+    @Override
     public boolean shouldRefresh(ChangeDescription changeDescription) {
-        Diagram diagram = this.diagramContext.getDiagram();
-        // @formatter:off
-        var optionalDiagramDescription = this.representationDescriptionSearchService.findById(this.editingContext, diagram.getDescriptionId())
-                .filter(DiagramDescription.class::isInstance)
-                .map(DiagramDescription.class::cast);
-        // @formatter:on
+        var optionalDiagramDescription = this.findDiagramDescription();
 
         // @formatter:off
         return optionalDiagramDescription.flatMap(this.representationRefreshPolicyRegistry::getRepresentationRefreshPolicy)
@@ -224,6 +250,13 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         // @formatter:on
     }
 
+    private Optional<DiagramDescription> findDiagramDescription() {
+        Diagram diagram = this.diagramContext.getDiagram();
+        return this.representationDescriptionSearchService.findById(this.editingContext, diagram.getDescriptionId())
+                .filter(DiagramDescription.class::isInstance)
+                .map(DiagramDescription.class::cast);
+    }
+
     private IRepresentationRefreshPolicy getDefaultRefreshPolicy() {
         return changeDescription -> {
             boolean shouldRefresh = false;
@@ -239,9 +272,14 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
+        Flux<IPayload> diagramFlux = this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause);
+        if (input instanceof DiagramEventInput diagramEventInput && diagramEventInput.patchesEnabled()) {
+            diagramFlux = this.diagramEventFlux.getPatchFlux(this.currentRevisionId, this.currentRevisionCause, diagramEventInput.lastRevisionId());
+        }
+
         // @formatter:off
         return Flux.merge(
-            this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause),
+            diagramFlux,
             this.subscriptionManager.getFlux(input)
         );
     }
@@ -252,6 +290,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
         this.subscriptionManager.dispose();
         this.diagramEventFlux.dispose();
+        this.semanticChangeRecorder.ifPresent(ISemanticChangeRecorder::dispose);
     }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,8 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProce
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyRegistry;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangeRecorder;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangeRecorderProvider;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
 import org.eclipse.sirius.components.collaborative.api.RepresentationEventProcessorFactoryConfiguration;
 import org.eclipse.sirius.components.collaborative.diagrams.api.DiagramConfiguration;
@@ -29,9 +31,11 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreation
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramPatchService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.diagrams.Diagram;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -58,8 +62,15 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+    private final IDiagramPatchService diagramPatchService;
+
+    private final List<ISemanticChangeRecorderProvider> semanticChangeRecorderProviders;
+
+    private final boolean incrementalRenderingEnabled;
+
     public DiagramEventProcessorFactory(RepresentationEventProcessorFactoryConfiguration configuration, IDiagramCreationService diagramCreationService,
-            List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders) {
+            List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
+            IDiagramPatchService diagramPatchService, List<ISemanticChangeRecorderProvider> semanticChangeRecorderProviders, @Value("${sirius.components.diagrams.incrementalRendering.enabled:false}") boolean incrementalRenderingEnabled) {
         this.representationSearchService = Objects.requireNonNull(configuration.getRepresentationSearchService());
         this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
@@ -68,6 +79,9 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
         this.representationDescriptionSearchService = Objects.requireNonNull(configuration.getRepresentationDescriptionSearchService());
         this.representationRefreshPolicyRegistry = Objects.requireNonNull(configuration.getRepresentationRefreshPolicyRegistry());
         this.diagramInputReferencePositionProviders = Objects.requireNonNull(diagramInputReferencePositionProviders);
+        this.diagramPatchService = Objects.requireNonNull(diagramPatchService);
+        this.semanticChangeRecorderProviders = Objects.requireNonNull(semanticChangeRecorderProviders);
+        this.incrementalRenderingEnabled = incrementalRenderingEnabled;
     }
 
     @Override
@@ -94,6 +108,8 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
                         .representationRefreshPolicyRegistry(this.representationRefreshPolicyRegistry)
                         .representationPersistenceService(this.representationPersistenceService)
                         .diagramInputReferencePositionProviders(this.diagramInputReferencePositionProviders)
+                        .diagramPatchService(this.diagramPatchService)
+                        .semanticChangeRecorder(this.createSemanticChangeRecorder(editingContext))
                         .build();
 
                 IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -105,4 +121,23 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
         }
         return Optional.empty();
     }
+
+    /**
+     * Creates the recorder of the semantic changes used to render the diagram incrementally. Without recorder, the
+     * whole diagram is rendered during each refresh.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The recorder of the semantic changes if the incremental rendering is enabled
+     */
+    private Optional<ISemanticChangeRecorder> createSemanticChangeRecorder(IEditingContext editingContext) {
+        Optional<ISemanticChangeRecorder> optionalSemanticChangeRecorder = Optional.empty();
+        if (this.incrementalRenderingEnabled) {
+            optionalSemanticChangeRecorder = this.semanticChangeRecorderProviders.stream()
+                    .map(provider -> provider.createRecorder(editingContext))
+                    .flatMap(Optional::stream)
+                    .findFirst();
+        }
+        return optionalSemanticChangeRecorder;
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,14 +14,17 @@ package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyRegistry;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangeRecorder;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManager;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramPatchService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 
@@ -39,7 +42,9 @@ public record DiagramEventProcessorParameters(
         IRepresentationDescriptionSearchService representationDescriptionSearchService,
         IRepresentationRefreshPolicyRegistry representationRefreshPolicyRegistry,
         IRepresentationPersistenceService representationPersistenceService,
-        List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders
+        List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
+        IDiagramPatchService diagramPatchService,
+        Optional<ISemanticChangeRecorder> semanticChangeRecorder
 ) {
 
     public DiagramEventProcessorParameters {
@@ -52,6 +57,8 @@ public record DiagramEventProcessorParameters(
         Objects.requireNonNull(representationRefreshPolicyRegistry);
         Objects.requireNonNull(representationPersistenceService);
         Objects.requireNonNull(diagramInputReferencePositionProviders);
+        Objects.requireNonNull(diagramPatchService);
+        Objects.requireNonNull(semanticChangeRecorder);
     }
 
     public static Builder newDiagramEventProcessorParameters() {
@@ -85,6 +92,10 @@ public record DiagramEventProcessorParameters(
 
         private List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+        private IDiagramPatchService diagramPatchService;
+
+        private Optional<ISemanticChangeRecorder> semanticChangeRecorder = Optional.empty();
+
         private Builder() {
             // Prevent instantiation
         }
@@ -134,6 +145,16 @@ public record DiagramEventProcessorParameters(
             return this;
         }
 
+        public Builder diagramPatchService(IDiagramPatchService diagramPatchService) {
+            this.diagramPatchService = Objects.requireNonNull(diagramPatchService);
+            return this;
+        }
+
+        public Builder semanticChangeRecorder(Optional<ISemanticChangeRecorder> semanticChangeRecorder) {
+            this.semanticChangeRecorder = Objects.requireNonNull(semanticChangeRecorder);
+            return this;
+        }
+
         public DiagramEventProcessorParameters build() {
             return new DiagramEventProcessorParameters(
                     this.editingContext,
@@ -144,7 +165,9 @@ public record DiagramEventProcessorParameters(
                     this.representationDescriptionSearchService,
                     this.representationRefreshPolicyRegistry,
                     this.representationPersistenceService,
-                    this.diagramInputReferencePositionProviders
+                    this.diagramInputReferencePositionProviders,
+                    this.diagramPatchService,
+                    this.semanticChangeRecorder
             );
         }
     }
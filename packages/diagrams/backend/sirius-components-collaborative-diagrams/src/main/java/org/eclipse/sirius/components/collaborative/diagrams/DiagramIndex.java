@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * The index of the elements of a revision of a diagram by their id.
+ *
+ * <p>
+ * Since a diagram is immutable, its index is computed only once with a single traversal of the diagram. If several
+ * elements have the same id, the index keeps the first one found, in the same order as a depth first search of the
+ * nodes with their border nodes before their child nodes.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DiagramIndex {
+
+    private final Map<String, Node> nodesById;
+
+    private final Map<String, Node> nodesByLabelId;
+
+    private final Map<String, Edge> edgesById;
+
+    private final Map<String, Edge> edgesByLabelId;
+
+    public DiagramIndex(Diagram diagram) {
+        Map<String, Node> nodes = new HashMap<>();
+        Map<String, Node> nodeLabels = new HashMap<>();
+        this.indexNodes(diagram.getNodes(), nodes, nodeLabels);
+
+        Map<String, Edge> edges = new HashMap<>();
+        Map<String, Edge> edgeLabels = new HashMap<>();
+        for (Edge edge : diagram.getEdges()) {
+            edges.putIfAbsent(edge.getId(), edge);
+            Stream.of(edge.getBeginLabel(), edge.getCenterLabel(), edge.getEndLabel())
+                    .filter(Objects::nonNull)
+                    .forEach(label -> edgeLabels.putIfAbsent(label.getId(), edge));
+        }
+
+        this.nodesById = Collections.unmodifiableMap(nodes);
+        this.nodesByLabelId = Collections.unmodifiableMap(nodeLabels);
+        this.edgesById = Collections.unmodifiableMap(edges);
+        this.edgesByLabelId = Collections.unmodifiableMap(edgeLabels);
+    }
+
+    private void indexNodes(List<Node> nodes, Map<String, Node> nodesById, Map<String, Node> nodesByLabelId) {
+        for (Node node : nodes) {
+            nodesById.putIfAbsent(node.getId(), node);
+            if (node.getInsideLabel() != null) {
+                nodesByLabelId.putIfAbsent(node.getInsideLabel().getId(), node);
+            }
+            this.indexNodes(node.getBorderNodes(), nodesById, nodesByLabelId);
+            this.indexNodes(node.getChildNodes(), nodesById, nodesByLabelId);
+        }
+    }
+
+    public Optional<Node> findNodeById(String nodeId) {
+        return Optional.ofNullable(this.nodesById.get(nodeId));
+    }
+
+    public Optional<Node> findNodeByLabelId(String labelId) {
+        return Optional.ofNullable(this.nodesByLabelId.get(labelId));
+    }
+
+    public Optional<Edge> findEdgeById(String edgeId) {
+        return Optional.ofNullable(this.edgesById.get(edgeId));
+    }
+
+    public Optional<Edge> findEdgeByLabelId(String labelId) {
+        return Optional.ofNullable(this.edgesByLabelId.get(labelId));
+    }
+}
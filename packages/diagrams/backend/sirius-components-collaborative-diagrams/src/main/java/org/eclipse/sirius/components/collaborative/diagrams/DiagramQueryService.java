@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
-import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.WeakHashMap;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramQueryService;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -26,49 +25,52 @@ import org.springframework.stereotype.Service;
 /**
  * Used to perform queries on a diagram.
  *
+ * <p>
+ * The elements are found using the index of the revision of the diagram. This index is computed the first time the
+ * revision is queried and it is released with the revision itself.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class DiagramQueryService implements IDiagramQueryService {
 
+    private final Map<Diagram, DiagramIndex> indexes = new WeakHashMap<>();
+
     @Override
     public Optional<Node> findNodeById(Diagram diagram, String nodeId) {
-        return this.findNode(node -> Objects.equals(node.getId(), nodeId), diagram.getNodes());
+        return this.getIndex(diagram).findNodeById(nodeId);
     }
 
     @Override
     public Optional<Node> findNodeByLabelId(Diagram diagram, String labelId) {
-        return this.findNode(node -> Objects.equals(node.getInsideLabel().getId(), labelId), diagram.getNodes());
-    }
-
-    private Optional<Node> findNode(Predicate<Node> condition, List<Node> candidates) {
-        Optional<Node> result = Optional.empty();
-        for (Node node : candidates) {
-            if (condition.test(node)) {
-                result = Optional.of(node);
-            } else {
-                result = this.findNode(condition, node.getBorderNodes()).or(() -> this.findNode(condition, node.getChildNodes()));
-            }
-            if (result.isPresent()) {
-                break;
-            }
-        }
-        return result;
+        return this.getIndex(diagram).findNodeByLabelId(labelId);
     }
 
     @Override
     public Optional<Edge> findEdgeById(Diagram diagram, String edgeId) {
-        return diagram.getEdges().stream().filter(edge -> Objects.equals(edgeId, edge.getId())).findFirst();
+        return this.getIndex(diagram).findEdgeById(edgeId);
     }
 
     @Override
     public Optional<Edge> findEdgeByLabelId(Diagram diagram, String labelId) {
-        return diagram.getEdges().stream().filter(edge -> {
-            boolean isValid = edge.getBeginLabel() != null && Objects.equals(edge.getBeginLabel().getId(), labelId);
-            isValid = isValid || (edge.getCenterLabel() != null && Objects.equals(edge.getCenterLabel().getId(), labelId));
-            isValid = isValid || (edge.getEndLabel() != null && Objects.equals(edge.getEndLabel().getId(), labelId));
-            return isValid;
-        }).findFirst();
+        return this.getIndex(diagram).findEdgeByLabelId(labelId);
+    }
+
+    private DiagramIndex getIndex(Diagram diagram) {
+        DiagramIndex index = null;
+        synchronized (this.indexes) {
+            index = this.indexes.get(diagram);
+        }
+
+        if (index == null) {
+            // The index is computed outside of the lock of the indexes to let other diagrams be queried meanwhile
+            DiagramIndex newIndex = new DiagramIndex(diagram);
+            synchronized (this.indexes) {
+                index = this.indexes.computeIfAbsent(diagram, key -> newIndex);
+            }
+        }
+        return index;
     }
 
 }
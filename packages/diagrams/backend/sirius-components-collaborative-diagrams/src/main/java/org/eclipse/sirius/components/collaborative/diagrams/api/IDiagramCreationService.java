@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.components.collaborative.diagrams.api;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -57,6 +58,22 @@ public interface IDiagramCreationService {
      */
     Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext);
 
+    /**
+     * Refresh an existing diagram by reusing the elements of the previous diagram whose semantic elements have not been
+     * impacted by the last changes.
+     *
+     * @param editingContext
+     *            The editing context
+     * @param diagramContext
+     *            The diagram context
+     * @param affectedSemanticElements
+     *            The semantic elements impacted by the last changes or an empty optional to render the whole diagram
+     * @return An updated diagram if we have been able to refresh it.
+     */
+    default Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, Optional<Set<Object>> affectedSemanticElements) {
+        return this.refresh(editingContext, diagramContext);
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
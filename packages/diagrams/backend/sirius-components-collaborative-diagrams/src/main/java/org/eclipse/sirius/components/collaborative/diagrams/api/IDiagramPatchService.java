@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.api;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatch;
+import org.eclipse.sirius.components.diagrams.Diagram;
+
+/**
+ * Used to compute the changes between two revisions of a diagram.
+ *
+ * @author agent
+ */
+public interface IDiagramPatchService {
+
+    /**
+     * Computes the patch to apply on the previous diagram to obtain the new one.
+     *
+     * @param previousDiagram
+     *         The diagram already known by the client
+     * @param newDiagram
+     *         The new diagram
+     * @return The patch or an empty optional if the whole diagram has to be sent again
+     */
+    Optional<DiagramPatch> computePatch(Diagram previousDiagram, Diagram newDiagram);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IDiagramPatchService {
+
+        @Override
+        public Optional<DiagramPatch> computePatch(Diagram previousDiagram, Diagram newDiagram) {
+            return Optional.empty();
+        }
+    }
+}
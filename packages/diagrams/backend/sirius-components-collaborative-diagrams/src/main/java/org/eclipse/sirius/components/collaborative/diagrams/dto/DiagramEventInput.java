@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,7 +19,17 @@ import org.eclipse.sirius.components.core.api.IInput;
 /**
  * The input of the diagram event subscription.
  *
+ * <p>
+ * Clients enabling patches receive {@link DiagramPatchEventPayload} instead of {@link DiagramRefreshedEventPayload}.
+ * They can give the last revision of the diagram they know in order to be resynchronized without receiving the whole
+ * diagram again.
+ * </p>
+ *
  * @author sbegaudeau
  */
-public record DiagramEventInput(UUID id, String editingContextId, String diagramId) implements IInput {
+public record DiagramEventInput(UUID id, String editingContextId, String diagramId, boolean patchesEnabled, UUID lastRevisionId) implements IInput {
+
+    public DiagramEventInput(UUID id, String editingContextId, String diagramId) {
+        this(id, editingContextId, diagramId, false, null);
+    }
 }
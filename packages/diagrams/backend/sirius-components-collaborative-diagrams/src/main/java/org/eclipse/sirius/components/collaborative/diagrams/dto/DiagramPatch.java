@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+
+/**
+ * The changes between two revisions of a diagram.
+ *
+ * <p>
+ * The nodes and edges removed have to be removed first. The nodes added, updated or moved have then to be applied in
+ * order, a parent being always placed before its children. The labels of the nodes and edges are sent with their
+ * owner. The layout data is only sent if it has changed.
+ * </p>
+ *
+ * @author agent
+ */
+public record DiagramPatch(
+        List<String> removedNodeIds,
+        List<NodePatch> nodes,
+        List<String> removedEdgeIds,
+        List<Edge> edges,
+        DiagramLayoutData layoutData) {
+
+    public DiagramPatch {
+        Objects.requireNonNull(removedNodeIds);
+        Objects.requireNonNull(nodes);
+        Objects.requireNonNull(removedEdgeIds);
+        Objects.requireNonNull(edges);
+    }
+
+    public boolean isEmpty() {
+        return this.removedNodeIds.isEmpty() && this.nodes.isEmpty() && this.removedEdgeIds.isEmpty() && this.edges.isEmpty() && this.layoutData == null;
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.diagrams.Diagram;
+
+/**
+ * Payload used to send the changes of a diagram to the clients which have subscribed with patches enabled.
+ *
+ * <p>
+ * Without patch, the payload is a full snapshot of the diagram, sent when the client has just subscribed or when the
+ * revision acknowledged by the client is not known anymore. Otherwise, the patch has to be applied on the revision
+ * identified by the previous revision id. A client receiving a patch for another revision than the one it knows has
+ * to subscribe again with its last revision in order to resynchronize.
+ * </p>
+ *
+ * @author agent
+ */
+public record DiagramPatchEventPayload(
+        UUID id,
+        UUID revisionId,
+        UUID previousRevisionId,
+        Diagram diagram,
+        DiagramPatch patch,
+        String cause,
+        ReferencePosition referencePosition) implements IPayload {
+
+    public DiagramPatchEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(revisionId);
+        Objects.requireNonNull(diagram);
+        Objects.requireNonNull(cause);
+    }
+
+    public boolean isSnapshot() {
+        return this.patch == null;
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * A node added, updated or moved in a diagram.
+ *
+ * <p>
+ * The node is sent without its child nodes and border nodes. It has to be placed at the given index among the child
+ * nodes or the border nodes of its parent, the parent being the diagram itself if there is no parent id.
+ * </p>
+ *
+ * @author agent
+ */
+public record NodePatch(String parentId, boolean borderNode, int index, Node node) {
+
+    public NodePatch {
+        Objects.requireNonNull(node);
+    }
+}
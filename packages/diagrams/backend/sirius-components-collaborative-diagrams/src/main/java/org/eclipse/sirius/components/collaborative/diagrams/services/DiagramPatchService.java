@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramPatchService;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatch;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodePatch;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.ILayoutStrategy;
+import org.eclipse.sirius.components.diagrams.INodeStyle;
+import org.eclipse.sirius.components.diagrams.IconLabelNodeStyle;
+import org.eclipse.sirius.components.diagrams.ImageNodeStyle;
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.Label;
+import org.eclipse.sirius.components.diagrams.LabelStyle;
+import org.eclipse.sirius.components.diagrams.ListLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.OutsideLabel;
+import org.eclipse.sirius.components.diagrams.ParametricSVGNodeStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to compute the changes between two revisions of a diagram.
+ *
+ * <p>
+ * The nodes and edges are matched using their id. Since the styles and labels of the diagram elements do not define
+ * their equality, the properties of the elements are compared one by one. Only the node styles contributed by other
+ * modules are compared using their JSON representation, the one used to persist the diagram.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class DiagramPatchService implements IDiagramPatchService {
+
+    private final ObjectMapper objectMapper;
+
+    public DiagramPatchService(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    public Optional<DiagramPatch> computePatch(Diagram previousDiagram, Diagram newDiagram) {
+        Optional<DiagramPatch> optionalDiagramPatch = Optional.empty();
+
+        boolean isPatchable = Objects.equals(previousDiagram.getId(), newDiagram.getId())
+                && Objects.equals(previousDiagram.getTargetObjectId(), newDiagram.getTargetObjectId())
+                && Objects.equals(previousDiagram.getDescriptionId(), newDiagram.getDescriptionId())
+                && Objects.equals(previousDiagram.getLabel(), newDiagram.getLabel())
+                && Objects.equals(previousDiagram.getPosition(), newDiagram.getPosition())
+                && Objects.equals(previousDiagram.getSize(), newDiagram.getSize());
+        if (isPatchable) {
+            Map<String, NodeEntry> previousNodeEntries = new LinkedHashMap<>();
+            Map<Siblings, List<String>> previousSiblingIds = new HashMap<>();
+            this.collectNodeEntries(null, false, previousDiagram.getNodes(), previousNodeEntries, previousSiblingIds);
+            Map<String, NodeEntry> newNodeEntries = new LinkedHashMap<>();
+            this.collectNodeEntries(null, false, newDiagram.getNodes(), newNodeEntries, new HashMap<>());
+
+            List<String> removedNodeIds = previousNodeEntries.keySet().stream()
+                    .filter(nodeId -> !newNodeEntries.containsKey(nodeId))
+                    .toList();
+            List<NodePatch> nodePatches = new ArrayList<>();
+            this.computeNodePatches(new Siblings(null, false), newDiagram.getNodes(), previousNodeEntries, previousSiblingIds, false, nodePatches);
+
+            Map<String, Edge> previousEdges = previousDiagram.getEdges().stream()
+                    .collect(Collectors.toMap(Edge::getId, Function.identity(), (first, second) -> first));
+            Set<String> newEdgeIds = newDiagram.getEdges().stream()
+                    .map(Edge::getId)
+                    .collect(Collectors.toSet());
+            List<String> removedEdgeIds = previousDiagram.getEdges().stream()
+                    .map(Edge::getId)
+                    .filter(edgeId -> !newEdgeIds.contains(edgeId))
+                    .toList();
+            List<Edge> edges = newDiagram.getEdges().stream()
+                    .filter(edge -> !this.isSame(previousEdges.get(edge.getId()), edge))
+                    .toList();
+
+            var layoutData = newDiagram.getLayoutData();
+            if (Objects.equals(previousDiagram.getLayoutData(), layoutData)) {
+                layoutData = null;
+            }
+
+            optionalDiagramPatch = Optional.of(new DiagramPatch(removedNodeIds, nodePatches, removedEdgeIds, edges, layoutData));
+        }
+        return optionalDiagramPatch;
+    }
+
+    private void collectNodeEntries(String parentId, boolean borderNode, List<Node> nodes, Map<String, NodeEntry> nodeEntries, Map<Siblings, List<String>> siblingIds) {
+        siblingIds.put(new Siblings(parentId, borderNode), nodes.stream().map(Node::getId).toList());
+        for (Node node : nodes) {
+            nodeEntries.put(node.getId(), new NodeEntry(new Siblings(parentId, borderNode), node));
+            this.collectNodeEntries(node.getId(), true, node.getBorderNodes(), nodeEntries, siblingIds);
+            this.collectNodeEntries(node.getId(), false, node.getChildNodes(), nodeEntries, siblingIds);
+        }
+    }
+
+    /**
+     * Computes the patches of the given sibling nodes and of their descendants.
+     *
+     * <p>
+     * A node is sent if it is new, if its own properties have changed or if it has been moved. The whole subtree of a
+     * node moved to another parent is sent since its previous parent may have been removed. If the order of the nodes
+     * already known has changed, all the siblings are sent with their new index.
+     * </p>
+     */
+    private void computeNodePatches(Siblings siblings, List<Node> nodes, Map<String, NodeEntry> previousNodeEntries, Map<Siblings, List<String>> previousSiblingIds, boolean forceSubtree,
+            List<NodePatch> nodePatches) {
+        List<String> previousIds = previousSiblingIds.getOrDefault(siblings, List.of());
+        Set<String> newIds = nodes.stream()
+                .map(Node::getId)
+                .collect(Collectors.toSet());
+        Set<String> previousIdsSet = Set.copyOf(previousIds);
+        List<String> previousIdsKept = previousIds.stream()
+                .filter(newIds::contains)
+                .toList();
+        List<String> newIdsKept = nodes.stream()
+                .map(Node::getId)
+                .filter(previousIdsSet::contains)
+                .toList();
+        boolean isReordered = !previousIdsKept.equals(newIdsKept);
+
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            NodeEntry previousEntry = previousNodeEntries.get(node.getId());
+
+            boolean isMoved = previousEntry == null || !previousEntry.siblings().equals(siblings);
+            boolean isSent = forceSubtree || isMoved || isReordered || !this.isSame(previousEntry.node(), node);
+            if (isSent) {
+                Node strippedNode = Node.newNode(node)
+                        .borderNodes(List.of())
+                        .childNodes(List.of())
+                        .build();
+                nodePatches.add(new NodePatch(siblings.parentId(), siblings.borderNode(), i, strippedNode));
+            }
+
+            boolean isSubtreeForced = forceSubtree || isMoved;
+            this.computeNodePatches(new Siblings(node.getId(), true), node.getBorderNodes(), previousNodeEntries, previousSiblingIds, isSubtreeForced, nodePatches);
+            this.computeNodePatches(new Siblings(node.getId(), false), node.getChildNodes(), previousNodeEntries, previousSiblingIds, isSubtreeForced, nodePatches);
+        }
+    }
+
+    /**
+     * Compares the properties of the given nodes without their border nodes and child nodes which are compared on their
+     * own.
+     */
+    private boolean isSame(Node previousNode, Node newNode) {
+        return this.areSame(previousNode, newNode, (previous, next) -> Objects.equals(previous.getId(), next.getId())
+                && Objects.equals(previous.getType(), next.getType())
+                && Objects.equals(previous.getTargetObjectId(), next.getTargetObjectId())
+                && Objects.equals(previous.getTargetObjectKind(), next.getTargetObjectKind())
+                && Objects.equals(previous.getTargetObjectLabel(), next.getTargetObjectLabel())
+                && Objects.equals(previous.getDescriptionId(), next.getDescriptionId())
+                && previous.isBorderNode() == next.isBorderNode()
+                && Objects.equals(previous.getModifiers(), next.getModifiers())
+                && previous.getState() == next.getState()
+                && previous.getCollapsingState() == next.getCollapsingState()
+                && Objects.equals(previous.getPosition(), next.getPosition())
+                && Objects.equals(previous.getSize(), next.getSize())
+                && previous.isUserResizable() == next.isUserResizable()
+                && Objects.equals(previous.getCustomizedProperties(), next.getCustomizedProperties())
+                && Objects.equals(previous.getDefaultWidth(), next.getDefaultWidth())
+                && Objects.equals(previous.getDefaultHeight(), next.getDefaultHeight())
+                && previous.isLabelEditable() == next.isLabelEditable()
+                && previous.isPinned() == next.isPinned()
+                && this.isSame(previous.getInsideLabel(), next.getInsideLabel())
+                && this.areAllSame(previous.getOutsideLabels(), next.getOutsideLabels(), this::isSame)
+                && this.isSame(previous.getStyle(), next.getStyle())
+                && this.isSame(previous.getChildrenLayoutStrategy(), next.getChildrenLayoutStrategy()));
+    }
+
+    private boolean isSame(Edge previousEdge, Edge newEdge) {
+        return this.areSame(previousEdge, newEdge, (previous, next) -> Objects.equals(previous.getId(), next.getId())
+                && Objects.equals(previous.getType(), next.getType())
+                && Objects.equals(previous.getTargetObjectId(), next.getTargetObjectId())
+                && Objects.equals(previous.getTargetObjectKind(), next.getTargetObjectKind())
+                && Objects.equals(previous.getTargetObjectLabel(), next.getTargetObjectLabel())
+                && Objects.equals(previous.getDescriptionId(), next.getDescriptionId())
+                && Objects.equals(previous.getSourceId(), next.getSourceId())
+                && Objects.equals(previous.getTargetId(), next.getTargetId())
+                && Objects.equals(previous.getModifiers(), next.getModifiers())
+                && previous.getState() == next.getState()
+                && Objects.equals(previous.getRoutingPoints(), next.getRoutingPoints())
+                && Objects.equals(previous.getSourceAnchorRelativePosition(), next.getSourceAnchorRelativePosition())
+                && Objects.equals(previous.getTargetAnchorRelativePosition(), next.getTargetAnchorRelativePosition())
+                && previous.isCenterLabelEditable() == next.isCenterLabelEditable()
+                && this.isSame(previous.getBeginLabel(), next.getBeginLabel())
+                && this.isSame(previous.getCenterLabel(), next.getCenterLabel())
+                && this.isSame(previous.getEndLabel(), next.getEndLabel())
+                && this.isSame(previous.getStyle(), next.getStyle()));
+    }
+
+    private boolean isSame(InsideLabel previousLabel, InsideLabel newLabel) {
+        return this.areSame(previousLabel, newLabel, (previous, next) -> Objects.equals(previous.getId(), next.getId())
+                && Objects.equals(previous.getType(), next.getType())
+                && Objects.equals(previous.getText(), next.getText())
+                && previous.getInsideLabelLocation() == next.getInsideLabelLocation()
+                && Objects.equals(previous.getPosition(), next.getPosition())
+                && Objects.equals(previous.getSize(), next.getSize())
+                && Objects.equals(previous.getAlignment(), next.getAlignment())
+                && previous.isIsHeader() == next.isIsHeader()
+                && previous.isDisplayHeaderSeparator() == next.isDisplayHeaderSeparator()
+                && this.isSame(previous.getStyle(), next.getStyle()));
+    }
+
+    private boolean isSame(OutsideLabel previousLabel, OutsideLabel newLabel) {
+        return this.areSame(previousLabel, newLabel, (previous, next) -> Objects.equals(previous.id(), next.id())
+                && Objects.equals(previous.type(), next.type())
+                && Objects.equals(previous.text(), next.text())
+                && previous.outsideLabelLocation() == next.outsideLabelLocation()
+                && this.isSame(previous.style(), next.style()));
+    }
+
+    private boolean isSame(Label previousLabel, Label newLabel) {
+        return this.areSame(previousLabel, newLabel, (previous, next) -> Objects.equals(previous.getId(), next.getId())
+                && Objects.equals(previous.getType(), next.getType())
+                && Objects.equals(previous.getText(), next.getText())
+                && Objects.equals(previous.getPosition(), next.getPosition())
+                && Objects.equals(previous.getSize(), next.getSize())
+                && Objects.equals(previous.getAlignment(), next.getAlignment())
+                && this.isSame(previous.getStyle(), next.getStyle()));
+    }
+
+    private boolean isSame(LabelStyle previousStyle, LabelStyle newStyle) {
+        return this.areSame(previousStyle, newStyle, (previous, next) -> Objects.equals(previous.getColor(), next.getColor())
+                && previous.getFontSize() == next.getFontSize()
+                && previous.isBold() == next.isBold()
+                && previous.isItalic() == next.isItalic()
+                && previous.isUnderline() == next.isUnderline()
+                && previous.isStrikeThrough() == next.isStrikeThrough()
+                && Objects.equals(previous.getIconURL(), next.getIconURL()));
+    }
+
+    private boolean isSame(EdgeStyle previousStyle, EdgeStyle newStyle) {
+        return this.areSame(previousStyle, newStyle, (previous, next) -> previous.getSize() == next.getSize()
+                && previous.getLineStyle() == next.getLineStyle()
+                && previous.getSourceArrow() == next.getSourceArrow()
+                && previous.getTargetArrow() == next.getTargetArrow()
+                && Objects.equals(previous.getColor(), next.getColor()));
+    }
+
+    private boolean isSame(INodeStyle previousStyle, INodeStyle newStyle) {
+        return this.areSame(previousStyle, newStyle, (previous, next) -> {
+            boolean isSame = false;
+            if (previous instanceof RectangularNodeStyle previousRectangular && next instanceof RectangularNodeStyle newRectangular) {
+                isSame = Objects.equals(previousRectangular.getColor(), newRectangular.getColor())
+                        && Objects.equals(previousRectangular.getBorderColor(), newRectangular.getBorderColor())
+                        && previousRectangular.getBorderSize() == newRectangular.getBorderSize()
+                        && previousRectangular.getBorderRadius() == newRectangular.getBorderRadius()
+                        && previousRectangular.getBorderStyle() == newRectangular.getBorderStyle();
+            } else if (previous instanceof ImageNodeStyle previousImage && next instanceof ImageNodeStyle newImage) {
+                isSame = Objects.equals(previousImage.getImageURL(), newImage.getImageURL())
+                        && previousImage.getScalingFactor() == newImage.getScalingFactor()
+                        && Objects.equals(previousImage.getBorderColor(), newImage.getBorderColor())
+                        && previousImage.getBorderSize() == newImage.getBorderSize()
+                        && previousImage.getBorderRadius() == newImage.getBorderRadius()
+                        && previousImage.getBorderStyle() == newImage.getBorderStyle()
+                        && previousImage.isPositionDependentRotation() == newImage.isPositionDependentRotation();
+            } else if (previous instanceof IconLabelNodeStyle previousIconLabel && next instanceof IconLabelNodeStyle newIconLabel) {
+                isSame = Objects.equals(previousIconLabel.getBackgroundColor(), newIconLabel.getBackgroundColor());
+            } else if (previous instanceof ParametricSVGNodeStyle previousParametricSVG && next instanceof ParametricSVGNodeStyle newParametricSVG) {
+                isSame = Objects.equals(previousParametricSVG.getSvgURL(), newParametricSVG.getSvgURL())
+                        && Objects.equals(previousParametricSVG.getBackgroundColor(), newParametricSVG.getBackgroundColor())
+                        && Objects.equals(previousParametricSVG.getBorderColor(), newParametricSVG.getBorderColor())
+                        && previousParametricSVG.getBorderSize() == newParametricSVG.getBorderSize()
+                        && previousParametricSVG.getBorderRadius() == newParametricSVG.getBorderRadius()
+                        && previousParametricSVG.getBorderStyle() == newParametricSVG.getBorderStyle();
+            } else if (previous.getClass() == next.getClass()) {
+                isSame = this.objectMapper.valueToTree(previous).equals(this.objectMapper.valueToTree(next));
+            }
+            return isSame;
+        });
+    }
+
+    private boolean isSame(ILayoutStrategy previousLayoutStrategy, ILayoutStrategy newLayoutStrategy) {
+        return this.areSame(previousLayoutStrategy, newLayoutStrategy, (previous, next) -> {
+            boolean isSame = previous instanceof FreeFormLayoutStrategy && next instanceof FreeFormLayoutStrategy;
+            if (previous instanceof ListLayoutStrategy previousList && next instanceof ListLayoutStrategy newList) {
+                isSame = previousList.isAreChildNodesDraggable() == newList.isAreChildNodesDraggable()
+                        && previousList.getTopGap() == newList.getTopGap()
+                        && previousList.getBottomGap() == newList.getBottomGap()
+                        && Objects.equals(previousList.getGrowableNodeIds(), newList.getGrowableNodeIds());
+            }
+            return isSame;
+        });
+    }
+
+    private <T> boolean areSame(T previous, T next, BiPredicate<T, T> predicate) {
+        return previous == next || (previous != null && next != null && predicate.test(previous, next));
+    }
+
+    private <T> boolean areAllSame(List<T> previous, List<T> next, BiPredicate<T, T> predicate) {
+        boolean areSame = previous == next;
+        if (!areSame && previous != null && next != null && previous.size() == next.size()) {
+            areSame = true;
+            for (int i = 0; i < previous.size() && areSame; i++) {
+                areSame = predicate.test(previous.get(i), next.get(i));
+            }
+        }
+        return areSame;
+    }
+
+    /**
+     * The child nodes or the border nodes of a parent, the diagram itself if there is no parent id.
+     *
+     * @author agent
+     */
+    private record Siblings(String parentId, boolean borderNode) {
+    }
+
+    /**
+     * A node with the siblings containing it.
+     *
+     * @author agent
+     */
+    private record NodeEntry(Siblings siblings, Node node) {
+    }
+}
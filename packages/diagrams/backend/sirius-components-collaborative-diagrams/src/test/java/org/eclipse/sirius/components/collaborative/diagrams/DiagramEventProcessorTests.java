@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,7 +13,9 @@
 package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
@@ -22,7 +24,10 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenc
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyRegistry;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramPatchService;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatch;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatchEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -90,6 +95,7 @@ public class DiagramEventProcessorTests {
                 .representationRefreshPolicyRegistry(new IRepresentationRefreshPolicyRegistry.NoOp())
                 .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
                 .diagramInputReferencePositionProviders(List.of())
+                .diagramPatchService(new IDiagramPatchService.NoOp())
                 .build();
 
         DiagramEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -115,6 +121,7 @@ public class DiagramEventProcessorTests {
                 .representationRefreshPolicyRegistry(new IRepresentationRefreshPolicyRegistry.NoOp())
                 .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
                 .diagramInputReferencePositionProviders(List.of())
+                .diagramPatchService(new IDiagramPatchService.NoOp())
                 .build();
 
         DiagramEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -144,6 +151,7 @@ public class DiagramEventProcessorTests {
                 .representationRefreshPolicyRegistry(new IRepresentationRefreshPolicyRegistry.NoOp())
                 .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
                 .diagramInputReferencePositionProviders(List.of())
+                .diagramPatchService(new IDiagramPatchService.NoOp())
                 .build();
 
         DiagramEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -167,6 +175,66 @@ public class DiagramEventProcessorTests {
         // @formatter:on
     }
 
+    @Test
+    public void testEmitDiagramPatchesOnRefresh() {
+        IDiagramPatchService diagramPatchService = (previousDiagram, newDiagram) -> Optional.of(new DiagramPatch(List.of(), List.of(), List.of(), List.of(), null));
+        var parameters = DiagramEventProcessorParameters.newDiagramEventProcessorParameters()
+                .editingContext(new IEditingContext.NoOp())
+                .diagramContext(this.diagramContext)
+                .diagramEventHandlers(List.of())
+                .subscriptionManager(new SubscriptionManager())
+                .diagramCreationService(this.diagramCreationService)
+                .representationDescriptionSearchService(new IRepresentationDescriptionSearchService.NoOp())
+                .representationRefreshPolicyRegistry(new IRepresentationRefreshPolicyRegistry.NoOp())
+                .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
+                .diagramInputReferencePositionProviders(List.of())
+                .diagramPatchService(diagramPatchService)
+                .build();
+
+        DiagramEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
+
+        DiagramEventInput input = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString(), true, UUID.randomUUID());
+        Runnable performRefresh = () -> diagramEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, input.diagramId(), input));
+
+        AtomicReference<UUID> firstRevisionId = new AtomicReference<>();
+        AtomicReference<UUID> secondRevisionId = new AtomicReference<>();
+        Predicate<IPayload> isSnapshot = payload -> {
+            if (payload instanceof DiagramPatchEventPayload diagramPatchEventPayload && diagramPatchEventPayload.isSnapshot()) {
+                firstRevisionId.set(diagramPatchEventPayload.revisionId());
+                return diagramPatchEventPayload.previousRevisionId() == null;
+            }
+            return false;
+        };
+        Predicate<IPayload> isPatchOfFirstRevision = payload -> {
+            if (payload instanceof DiagramPatchEventPayload diagramPatchEventPayload && !diagramPatchEventPayload.isSnapshot()) {
+                secondRevisionId.set(diagramPatchEventPayload.revisionId());
+                return firstRevisionId.get().equals(diagramPatchEventPayload.previousRevisionId());
+            }
+            return false;
+        };
+
+        // @formatter:off
+        StepVerifier.create(diagramEventProcessor.getOutputEvents(input))
+                .expectNextMatches(isSnapshot)
+                .then(performRefresh)
+                .expectNextMatches(isPatchOfFirstRevision)
+                .thenCancel()
+                .verify();
+        // @formatter:on
+
+        DiagramEventInput resynchronizationInput = new DiagramEventInput(UUID.randomUUID(), input.editingContextId(), input.diagramId(), true, firstRevisionId.get());
+        Predicate<IPayload> isPatchOfLastRevision = payload -> payload instanceof DiagramPatchEventPayload diagramPatchEventPayload
+                && diagramPatchEventPayload.revisionId().equals(secondRevisionId.get())
+                && firstRevisionId.get().equals(diagramPatchEventPayload.previousRevisionId());
+
+        // @formatter:off
+        StepVerifier.create(diagramEventProcessor.getOutputEvents(resynchronizationInput))
+                .expectNextMatches(isPatchOfLastRevision)
+                .thenCancel()
+                .verify();
+        // @formatter:on
+    }
+
     @Test
     public void testCompleteOnDispose() {
         DiagramEventInput input = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
@@ -180,6 +248,7 @@ public class DiagramEventProcessorTests {
                 .representationRefreshPolicyRegistry(new IRepresentationRefreshPolicyRegistry.NoOp())
                 .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
                 .diagramInputReferencePositionProviders(List.of())
+                .diagramPatchService(new IDiagramPatchService.NoOp())
                 .build();
 
         DiagramEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Label;
+import org.eclipse.sirius.components.diagrams.LabelStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.Position;
+import org.eclipse.sirius.components.diagrams.Size;
+import org.eclipse.sirius.components.diagrams.tests.TestDiagramBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the queries performed on a diagram.
+ *
+ * @author agent
+ */
+public class DiagramQueryServiceTests {
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    @Test
+    public void testFindElementsOfNestedNodes() {
+        Node borderNode = this.testDiagramBuilder.getNode("borderNode", true);
+        Node childNode = this.testDiagramBuilder.getNode("childNode", true);
+        Node parentNode = Node.newNode(this.testDiagramBuilder.getNode("parentNode", true))
+                .borderNodes(List.of(borderNode))
+                .childNodes(List.of(childNode))
+                .build();
+        Edge edge = Edge.newEdge(this.testDiagramBuilder.getEdge("edge", "borderNode", "childNode"))
+                .centerLabel(this.getLabel("edgeCenterLabel"))
+                .build();
+        Diagram diagram = Diagram.newDiagram(this.testDiagramBuilder.getDiagram("diagram"))
+                .nodes(List.of(parentNode))
+                .edges(List.of(edge))
+                .build();
+
+        var diagramQueryService = new DiagramQueryService();
+        assertThat(diagramQueryService.findNodeById(diagram, "parentNode")).containsSame(parentNode);
+        assertThat(diagramQueryService.findNodeById(diagram, "borderNode")).containsSame(borderNode);
+        assertThat(diagramQueryService.findNodeById(diagram, "childNode")).containsSame(childNode);
+        assertThat(diagramQueryService.findNodeById(diagram, "edge")).isEmpty();
+        assertThat(diagramQueryService.findNodeByLabelId(diagram, childNode.getInsideLabel().getId())).containsSame(childNode);
+
+        assertThat(diagramQueryService.findEdgeById(diagram, "edge")).containsSame(edge);
+        assertThat(diagramQueryService.findEdgeById(diagram, "parentNode")).isEmpty();
+        assertThat(diagramQueryService.findEdgeByLabelId(diagram, "edgeCenterLabel")).containsSame(edge);
+        assertThat(diagramQueryService.findEdgeByLabelId(diagram, childNode.getInsideLabel().getId())).isEmpty();
+    }
+
+    @Test
+    public void testFindElementsOfEachRevision() {
+        Node node = this.testDiagramBuilder.getNode("node", true);
+        Diagram previousDiagram = Diagram.newDiagram(this.testDiagramBuilder.getDiagram("diagram"))
+                .nodes(List.of(node))
+                .build();
+
+        var diagramQueryService = new DiagramQueryService();
+        assertThat(diagramQueryService.findNodeById(previousDiagram, "node")).containsSame(node);
+
+        Node renamedNode = Node.newNode(node).targetObjectLabel("renamed").build();
+        Diagram newDiagram = Diagram.newDiagram(previousDiagram)
+                .nodes(List.of(renamedNode))
+                .build();
+        assertThat(diagramQueryService.findNodeById(newDiagram, "node")).containsSame(renamedNode);
+        assertThat(diagramQueryService.findNodeById(previousDiagram, "node")).containsSame(node);
+    }
+
+    private Label getLabel(String id) {
+        LabelStyle labelStyle = LabelStyle.newLabelStyle()
+                .color("#000000")
+                .fontSize(16)
+                .iconURL(List.of())
+                .build();
+        return Label.newLabel(id)
+                .type("labelType")
+                .text("text")
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .alignment(Position.UNDEFINED)
+                .style(labelStyle)
+                .build();
+    }
+}
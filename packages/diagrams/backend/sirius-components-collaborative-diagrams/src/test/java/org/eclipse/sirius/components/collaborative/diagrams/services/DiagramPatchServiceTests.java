@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatch;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodePatch;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.tests.TestDiagramBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the computation of the changes between two revisions of a diagram.
+ *
+ * @author agent
+ */
+public class DiagramPatchServiceTests {
+
+    private static final int NODE_COUNT = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DiagramPatchService diagramPatchService = new DiagramPatchService(this.objectMapper);
+
+    @Test
+    public void testPatchOfLabelChangeInLargeDiagram() throws Exception {
+        Diagram previousDiagram = this.getLargeDiagram();
+
+        List<Node> nodes = new ArrayList<>(previousDiagram.getNodes());
+        Node node = nodes.get(NODE_COUNT / 2);
+        InsideLabel insideLabel = InsideLabel.newInsideLabel(node.getInsideLabel())
+                .text("renamed")
+                .build();
+        nodes.set(NODE_COUNT / 2, Node.newNode(node).insideLabel(insideLabel).build());
+        Diagram newDiagram = Diagram.newDiagram(previousDiagram)
+                .nodes(nodes)
+                .build();
+
+        var optionalDiagramPatch = this.diagramPatchService.computePatch(previousDiagram, newDiagram);
+        assertThat(optionalDiagramPatch).isPresent();
+        DiagramPatch diagramPatch = optionalDiagramPatch.get();
+        assertThat(diagramPatch.removedNodeIds()).isEmpty();
+        assertThat(diagramPatch.removedEdgeIds()).isEmpty();
+        assertThat(diagramPatch.edges()).isEmpty();
+        assertThat(diagramPatch.layoutData()).isNull();
+        assertThat(diagramPatch.nodes()).hasSize(1);
+        assertThat(diagramPatch.nodes().get(0).node().getInsideLabel().getText()).isEqualTo("renamed");
+        assertThat(diagramPatch.nodes().get(0).index()).isEqualTo(NODE_COUNT / 2);
+
+        int patchSize = this.objectMapper.writeValueAsBytes(diagramPatch).length;
+        int diagramSize = this.objectMapper.writeValueAsBytes(newDiagram).length;
+        assertThat(patchSize * 100).isLessThan(diagramSize);
+    }
+
+    @Test
+    public void testPatchOfStructuralChanges() {
+        TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+        Node child = testDiagramBuilder.getNode("child", true);
+        Node firstParent = Node.newNode(testDiagramBuilder.getNode("firstParent", true))
+                .childNodes(List.of(child))
+                .build();
+        Node secondParent = testDiagramBuilder.getNode("secondParent", true);
+        Node removed = testDiagramBuilder.getNode("removed", true);
+        Edge edge = testDiagramBuilder.getEdge("edge", "firstParent", "removed");
+
+        Diagram previousDiagram = Diagram.newDiagram(testDiagramBuilder.getDiagram("diagram"))
+                .nodes(List.of(firstParent, secondParent, removed))
+                .edges(List.of(edge))
+                .build();
+
+        Node added = testDiagramBuilder.getNode("added", true);
+        Diagram newDiagram = Diagram.newDiagram(previousDiagram)
+                .nodes(List.of(
+                        Node.newNode(firstParent).childNodes(List.of()).build(),
+                        added,
+                        Node.newNode(secondParent).childNodes(List.of(child)).build()
+                ))
+                .edges(List.of())
+                .build();
+
+        var optionalDiagramPatch = this.diagramPatchService.computePatch(previousDiagram, newDiagram);
+        assertThat(optionalDiagramPatch).isPresent();
+        DiagramPatch diagramPatch = optionalDiagramPatch.get();
+        assertThat(diagramPatch.removedNodeIds()).containsExactly("removed");
+        assertThat(diagramPatch.removedEdgeIds()).containsExactly("edge");
+        assertThat(diagramPatch.nodes())
+                .extracting(nodePatch -> nodePatch.node().getId())
+                .containsExactly("added", "child");
+
+        NodePatch childPatch = diagramPatch.nodes().get(1);
+        assertThat(childPatch.parentId()).isEqualTo("secondParent");
+        assertThat(childPatch.borderNode()).isFalse();
+        assertThat(childPatch.index()).isZero();
+    }
+
+    @Test
+    public void testPatchOfStyleChanges() {
+        TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+        Diagram previousDiagram = this.getLargeDiagram();
+
+        List<Node> nodes = new ArrayList<>();
+        for (Node node : previousDiagram.getNodes()) {
+            RectangularNodeStyle style = testDiagramBuilder.getRectangularNodeStyle();
+            if (node.getId().equals("node1")) {
+                style = RectangularNodeStyle.newRectangularNodeStyle()
+                        .borderColor(style.getBorderColor())
+                        .borderSize(style.getBorderSize())
+                        .borderStyle(style.getBorderStyle())
+                        .color("#FF0000")
+                        .build();
+            }
+            nodes.add(Node.newNode(node).style(style).build());
+        }
+        List<Edge> edges = new ArrayList<>();
+        for (Edge edge : previousDiagram.getEdges()) {
+            EdgeStyle style = edge.getStyle();
+            String color = style.getColor();
+            if (edge.getId().equals("edge1")) {
+                color = "#FF0000";
+            }
+            EdgeStyle newStyle = EdgeStyle.newEdgeStyle()
+                    .size(style.getSize())
+                    .lineStyle(style.getLineStyle())
+                    .sourceArrow(style.getSourceArrow())
+                    .targetArrow(style.getTargetArrow())
+                    .color(color)
+                    .build();
+            edges.add(Edge.newEdge(edge).style(newStyle).build());
+        }
+        Diagram newDiagram = Diagram.newDiagram(previousDiagram)
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+
+        var optionalDiagramPatch = this.diagramPatchService.computePatch(previousDiagram, newDiagram);
+        assertThat(optionalDiagramPatch).isPresent();
+        DiagramPatch diagramPatch = optionalDiagramPatch.get();
+        assertThat(diagramPatch.nodes())
+                .extracting(nodePatch -> nodePatch.node().getId())
+                .containsExactly("node1");
+        assertThat(diagramPatch.edges())
+                .extracting(Edge::getId)
+                .containsExactly("edge1");
+    }
+
+    @Test
+    public void testNoPatchWhenTheDiagramItselfHasChanged() {
+        Diagram previousDiagram = new TestDiagramBuilder().getDiagram("diagram");
+        Diagram newDiagram = Diagram.newDiagram(previousDiagram)
+                .label("renamed")
+                .build();
+
+        assertThat(this.diagramPatchService.computePatch(previousDiagram, newDiagram)).isEmpty();
+    }
+
+    private Diagram getLargeDiagram() {
+        TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+        List<Node> nodes = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add(testDiagramBuilder.getNode("node" + i, true));
+            if (i > 0) {
+                edges.add(testDiagramBuilder.getEdge("edge" + i, "node" + (i - 1), "node" + i));
+            }
+        }
+
+        return Diagram.newDiagram(testDiagramBuilder.getDiagram("diagram"))
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.graphql.datafetchers.diagram;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramLayoutDataPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatch;
+import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Used to retrieve the layout data from a diagram patch if it has changed.
+ *
+ * @author agent
+ */
+@QueryDataFetcher(type = "DiagramPatch", field = "layoutData")
+public class DiagramPatchLayoutDataDataFetcher implements IDataFetcherWithFieldCoordinates<DiagramLayoutDataPayload> {
+    @Override
+    public DiagramLayoutDataPayload get(DataFetchingEnvironment environment) throws Exception {
+        DiagramPatch diagramPatch = environment.getSource();
+        return Optional.ofNullable(diagramPatch.layoutData())
+                .map(layoutData -> new DiagramLayoutDataPayload(layoutData.nodeLayoutData().values().stream().toList()))
+                .orElse(null);
+    }
+}
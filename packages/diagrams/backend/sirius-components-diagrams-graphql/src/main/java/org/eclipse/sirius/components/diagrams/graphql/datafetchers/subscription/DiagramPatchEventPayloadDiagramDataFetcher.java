@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.graphql.datafetchers.subscription;
+
+import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatchEventPayload;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Used to retrieve the whole diagram from a patch payload, only sent if the payload is a full snapshot.
+ *
+ * @author agent
+ */
+@QueryDataFetcher(type = "DiagramPatchEventPayload", field = "diagram")
+public class DiagramPatchEventPayloadDiagramDataFetcher implements IDataFetcherWithFieldCoordinates<DataFetcherResult<Diagram>> {
+    @Override
+    public DataFetcherResult<Diagram> get(DataFetchingEnvironment environment) throws Exception {
+        DiagramPatchEventPayload payload = environment.getSource();
+        Diagram diagram = null;
+        if (payload.isSnapshot()) {
+            diagram = payload.diagram();
+        }
+        return DataFetcherResult.<Diagram>newResult()
+                .data(diagram)
+                .localContext(environment.getLocalContext())
+                .build();
+    }
+}
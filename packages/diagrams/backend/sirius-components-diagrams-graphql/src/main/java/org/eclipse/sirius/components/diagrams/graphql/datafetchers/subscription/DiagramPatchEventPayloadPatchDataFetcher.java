@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.graphql.datafetchers.subscription;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatch;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramPatchEventPayload;
+import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Used to retrieve the patch of a diagram with the new revision of the diagram in the local context of its elements.
+ *
+ * @author agent
+ */
+@QueryDataFetcher(type = "DiagramPatchEventPayload", field = "patch")
+public class DiagramPatchEventPayloadPatchDataFetcher implements IDataFetcherWithFieldCoordinates<DataFetcherResult<DiagramPatch>> {
+    @Override
+    public DataFetcherResult<DiagramPatch> get(DataFetchingEnvironment environment) throws Exception {
+        DiagramPatchEventPayload payload = environment.getSource();
+
+        Map<String, Object> localContext = new HashMap<>();
+        localContext.put("diagram", payload.diagram());
+
+        return DataFetcherResult.<DiagramPatch>newResult()
+                .data(payload.patch())
+                .localContext(localContext)
+                .build();
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import org.eclipse.sirius.components.annotations.Immutable;
 import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.components.representations.ISemanticRepresentation;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 
 /**
  * Root concept of the diagram representation.
@@ -51,6 +52,12 @@ public final class Diagram implements IRepresentation, ISemanticRepresentation {
 
     private DiagramLayoutData layoutData;
 
+    /**
+     * The diagrams persisted before the introduction of the identifier strategies do not specify it and thus keep the
+     * name based one.
+     */
+    private IdentifierStrategy identifierStrategy = IdentifierStrategy.NAME_BASED;
+
     private Diagram() {
         // Prevent instantiation
     }
@@ -100,6 +107,10 @@ public final class Diagram implements IRepresentation, ISemanticRepresentation {
         return this.layoutData;
     }
 
+    public IdentifierStrategy getIdentifierStrategy() {
+        return this.identifierStrategy;
+    }
+
     public static Builder newDiagram(String id) {
         return new Builder(id);
     }
@@ -141,6 +152,8 @@ public final class Diagram implements IRepresentation, ISemanticRepresentation {
 
         private DiagramLayoutData layoutData = new DiagramLayoutData(Map.of(), Map.of(), Map.of());
 
+        private IdentifierStrategy identifierStrategy = IdentifierStrategy.NAME_BASED;
+
         private Builder(String id) {
             this.id = Objects.requireNonNull(id);
         }
@@ -155,6 +168,7 @@ public final class Diagram implements IRepresentation, ISemanticRepresentation {
             this.nodes = diagram.getNodes();
             this.edges = diagram.getEdges();
             this.layoutData = diagram.getLayoutData();
+            this.identifierStrategy = diagram.getIdentifierStrategy();
         }
 
         public Builder targetObjectId(String targetObjectId) {
@@ -197,6 +211,11 @@ public final class Diagram implements IRepresentation, ISemanticRepresentation {
             return this;
         }
 
+        public Builder identifierStrategy(IdentifierStrategy identifierStrategy) {
+            this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
+            return this;
+        }
+
         public Diagram build() {
             Diagram diagram = new Diagram();
             diagram.id = Objects.requireNonNull(this.id);
@@ -209,6 +228,7 @@ public final class Diagram implements IRepresentation, ISemanticRepresentation {
             diagram.nodes = Objects.requireNonNull(this.nodes);
             diagram.edges = Objects.requireNonNull(this.edges);
             diagram.layoutData = Objects.requireNonNull(this.layoutData);
+            diagram.identifierStrategy = Objects.requireNonNull(this.identifierStrategy);
             return diagram;
         }
     }
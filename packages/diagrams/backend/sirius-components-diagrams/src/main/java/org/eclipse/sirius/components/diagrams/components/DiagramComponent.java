@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo and others.
+ * Copyright (c) 2019, 2024 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -26,6 +26,7 @@ import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.IComponent;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
@@ -51,6 +52,8 @@ public class DiagramComponent implements IComponent {
         variableManager.put(DiagramComponentProps.PREVIOUS_DIAGRAM, optionalPreviousDiagram.orElse(null));
         variableManager.put(IDiagramEvent.DIAGRAM_EVENT, this.props.getDiagramEvent().orElse(null));
 
+        IdentifierStrategy identifierStrategy = optionalPreviousDiagram.map(Diagram::getIdentifierStrategy).orElse(this.props.getIdentifierStrategy());
+
         String label = diagramDescription.getLabelProvider().apply(variableManager);
 
         String diagramId = optionalPreviousDiagram.map(Diagram::getId).orElseGet(() -> UUID.randomUUID().toString());
@@ -72,6 +75,7 @@ public class DiagramComponent implements IComponent {
                             .nodeDescription(nodeDescription)
                             .nodesRequestor(nodesRequestor)
                             .nodeDescriptionRequestor(nodeDescriptionRequestor)
+                            .diagramElementRequestor(diagramElementRequestor)
                             .containmentKind(NodeContainmentKind.CHILD_NODE)
                             .cache(cache)
                             .viewCreationRequests(this.props.getViewCreationRequests())
@@ -81,6 +85,8 @@ public class DiagramComponent implements IComponent {
                             .diagramEvent(this.props.getDiagramEvent().orElse(null))
                             .parentElementState(ViewModifier.Normal)
                             .operationValidator(this.props.getOperationValidator())
+                            .affectedSemanticElements(this.props.getAffectedSemanticElements())
+                            .identifierStrategy(identifierStrategy)
                             .build();
                     return new Element(NodeComponent.class, nodeComponentProps);
                 }).toList();
@@ -90,7 +96,8 @@ public class DiagramComponent implements IComponent {
                     var previousEdges = optionalPreviousDiagram.map(previousDiagram -> diagramElementRequestor.getEdges(previousDiagram, edgeDescription))
                             .orElse(List.of());
                     IEdgesRequestor edgesRequestor = new EdgesRequestor(previousEdges);
-                    var edgeComponentProps = new EdgeComponentProps(variableManager, edgeDescription, edgesRequestor, cache, this.props.getOperationValidator(), this.props.getDiagramEvent());
+                    var edgeComponentProps = new EdgeComponentProps(variableManager, edgeDescription, edgesRequestor, cache, this.props.getOperationValidator(), this.props.getDiagramEvent(),
+                            this.props.getAffectedSemanticElements(), identifierStrategy);
                     return new Element(EdgeComponent.class, edgeComponentProps);
                 })
                 .toList();
@@ -114,6 +121,7 @@ public class DiagramComponent implements IComponent {
                 .label(label)
                 .position(position)
                 .size(size)
+                .identifierStrategy(identifierStrategy)
                 .children(children)
                 .build();
         // @formatter:on
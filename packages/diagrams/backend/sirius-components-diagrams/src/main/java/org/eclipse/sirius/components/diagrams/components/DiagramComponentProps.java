@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo and others.
+ * Copyright (c) 2019, 2024 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.diagrams.components;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.components.annotations.Immutable;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -24,6 +25,7 @@ import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.IProps;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
@@ -52,6 +54,10 @@ public final class DiagramComponentProps implements IProps {
 
     private Optional<IDiagramEvent> diagramEvent;
 
+    private Optional<Set<Object>> affectedSemanticElements;
+
+    private IdentifierStrategy identifierStrategy;
+
     private DiagramComponentProps() {
         // Prevent instantiation
     }
@@ -88,6 +94,32 @@ public final class DiagramComponentProps implements IProps {
         return this.diagramEvent;
     }
 
+    /**
+     * Returns the semantic elements which may have been impacted by the changes performed since the rendering of the
+     * previous diagram.
+     *
+     * <p>
+     * The nodes and edges of the previous diagram whose semantic elements are not part of this set will reuse their
+     * previous values instead of evaluating their description once again. An empty optional means that the changes
+     * are unknown and that the whole diagram has to be rendered.
+     * </p>
+     *
+     * @return The semantic elements impacted by the last changes
+     */
+    public Optional<Set<Object>> getAffectedSemanticElements() {
+        return this.affectedSemanticElements;
+    }
+
+    /**
+     * Returns the strategy used to compute the identifiers of the elements of a new diagram. Existing diagrams keep the
+     * strategy with which they have been created.
+     *
+     * @return The identifier strategy of new diagrams
+     */
+    public IdentifierStrategy getIdentifierStrategy() {
+        return this.identifierStrategy;
+    }
+
     public static Builder newDiagramComponentProps() {
         return new Builder();
     }
@@ -115,6 +147,10 @@ public final class DiagramComponentProps implements IProps {
 
         private Optional<IDiagramEvent> diagramEvent;
 
+        private Optional<Set<Object>> affectedSemanticElements = Optional.empty();
+
+        private IdentifierStrategy identifierStrategy = IdentifierStrategy.NAME_BASED;
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -155,6 +191,16 @@ public final class DiagramComponentProps implements IProps {
             return this;
         }
 
+        public Builder affectedSemanticElements(Optional<Set<Object>> affectedSemanticElements) {
+            this.affectedSemanticElements = Objects.requireNonNull(affectedSemanticElements);
+            return this;
+        }
+
+        public Builder identifierStrategy(IdentifierStrategy identifierStrategy) {
+            this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
+            return this;
+        }
+
         public DiagramComponentProps build() {
             DiagramComponentProps diagramComponentProps = new DiagramComponentProps();
             diagramComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -165,6 +211,8 @@ public final class DiagramComponentProps implements IProps {
             diagramComponentProps.viewCreationRequests = List.copyOf(Objects.requireNonNull(this.viewCreationRequests));
             diagramComponentProps.viewDeletionRequests = List.copyOf(Objects.requireNonNull(this.viewDeletionRequests));
             diagramComponentProps.diagramEvent = Objects.requireNonNull(this.diagramEvent);
+            diagramComponentProps.affectedSemanticElements = Objects.requireNonNull(this.affectedSemanticElements);
+            diagramComponentProps.identifierStrategy = Objects.requireNonNull(this.identifierStrategy);
             return diagramComponentProps;
         }
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,13 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.diagrams.components;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.function.Supplier;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.Edge;
@@ -25,40 +29,55 @@ import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 /**
  * Used to retrieve some elements in the previous diagrams.
  *
+ * <p>
+ * The elements of a diagram or of a node are indexed by their description id the first time they are requested. A
+ * single requestor should thus be used during the whole rendering of a diagram in order to find the previous elements
+ * of each description without scanning all the elements of their container for each description.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramElementRequestor implements IDiagramElementRequestor {
 
+    private final Map<Diagram, Map<String, List<Node>>> rootNodesIndexes = new IdentityHashMap<>();
+
+    private final Map<Node, Map<String, List<Node>>> borderNodesIndexes = new IdentityHashMap<>();
+
+    private final Map<Node, Map<String, List<Node>>> childNodesIndexes = new IdentityHashMap<>();
+
+    private final Map<Diagram, Map<String, List<Edge>>> edgesIndexes = new IdentityHashMap<>();
+
     @Override
     public List<Node> getRootNodes(Diagram diagram, NodeDescription nodeDescription) {
-        return this.findNodes(diagram::getNodes, nodeDescription);
+        return this.rootNodesIndexes.computeIfAbsent(diagram, key -> this.indexByDescriptionId(key.getNodes(), Node::getDescriptionId))
+                .getOrDefault(nodeDescription.getId(), List.of());
     }
 
     @Override
     public List<Node> getBorderNodes(Node node, NodeDescription nodeDescription) {
-        return this.findNodes(node::getBorderNodes, nodeDescription);
+        return this.borderNodesIndexes.computeIfAbsent(node, key -> this.indexByDescriptionId(key.getBorderNodes(), Node::getDescriptionId))
+                .getOrDefault(nodeDescription.getId(), List.of());
     }
 
     @Override
     public List<Node> getChildNodes(Node node, NodeDescription nodeDescription) {
-        return this.findNodes(node::getChildNodes, nodeDescription);
-    }
-
-    private List<Node> findNodes(Supplier<List<Node>> nodeSupplier, NodeDescription nodeDescription) {
-        // @formatter:off
-        return nodeSupplier.get().stream()
-                .filter(node -> Objects.equals(node.getDescriptionId(), nodeDescription.getId()))
-                .toList();
-        // @formatter:on
+        return this.childNodesIndexes.computeIfAbsent(node, key -> this.indexByDescriptionId(key.getChildNodes(), Node::getDescriptionId))
+                .getOrDefault(nodeDescription.getId(), List.of());
     }
 
     @Override
     public List<Edge> getEdges(Diagram diagram, EdgeDescription edgeDescription) {
-        // @formatter:off
-        return diagram.getEdges().stream()
-                .filter(edge -> Objects.equals(edge.getDescriptionId(), edgeDescription.getId()))
-                .toList();
-        // @formatter:on
+        return this.edgesIndexes.computeIfAbsent(diagram, key -> this.indexByDescriptionId(key.getEdges(), Edge::getDescriptionId))
+                .getOrDefault(edgeDescription.getId(), List.of());
+    }
+
+    private <T> Map<String, List<T>> indexByDescriptionId(List<T> elements, Function<T, String> descriptionIdProvider) {
+        Map<String, List<T>> elementsByDescriptionId = new HashMap<>();
+        for (T element : elements) {
+            elementsByDescriptionId.computeIfAbsent(descriptionIdProvider.apply(element), key -> new ArrayList<>()).add(element);
+        }
+        elementsByDescriptionId.replaceAll((descriptionId, elementsOfDescription) -> Collections.unmodifiableList(elementsOfDescription));
+        return elementsByDescriptionId;
     }
 
 }
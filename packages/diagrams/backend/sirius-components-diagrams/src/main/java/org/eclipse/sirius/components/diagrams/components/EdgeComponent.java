@@ -23,6 +23,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.EdgeStyle;
@@ -138,8 +139,6 @@ public class EdgeComponent implements IComponent {
     private Optional<Element> doRenderEdge(VariableManager edgeVariableManager, EdgeDescription edgeDescription, Element sourceNode, Element targetNode, Optional<IDiagramEvent> optionalDiagramEvent,
             Map<String, Integer> edgeIdPrefixToCount, List<String> lastPreviousRenderedEdgeIds) {
         String targetObjectId = edgeDescription.getTargetObjectIdProvider().apply(edgeVariableManager);
-        String targetObjectKind = edgeDescription.getTargetObjectKindProvider().apply(edgeVariableManager);
-        String targetObjectLabel = edgeDescription.getTargetObjectLabelProvider().apply(edgeVariableManager);
 
         String edgeIdPrefix = this.computeEdgeIdPrefix(edgeDescription, sourceNode, targetNode);
         int count = edgeIdPrefixToCount.getOrDefault(edgeIdPrefix, 0);
@@ -152,6 +151,10 @@ public class EdgeComponent implements IComponent {
         Optional<Edge> optionalPreviousEdge = this.props.getEdgesRequestor().getById(id);
         Builder edgeElementPropsBuilder = EdgeElementProps.newEdgeElementProps(id);
 
+        // The previous edge may be another one when edges are removed or reconnected
+        boolean isEdgeModifiedByEvent = optionalDiagramEvent.filter(diagramEvent -> diagramEvent instanceof RemoveEdgeEvent || diagramEvent instanceof ReconnectEdgeEvent).isPresent();
+        boolean isPreviousEdgeReusable = !isEdgeModifiedByEvent && this.isPreviousEdgeReusable(edgeVariableManager, optionalPreviousEdge);
+
         Set<ViewModifier> modifiers = this.computeModifiers(optionalDiagramEvent, optionalPreviousEdge, id);
         edgeElementPropsBuilder.modifiers(modifiers);
         ViewModifier state = this.computeState(optionalDiagramEvent, sourceNode, sourceId, targetNode, targetId, modifiers);
@@ -176,14 +179,18 @@ public class EdgeComponent implements IComponent {
         boolean shouldRender = synchronizationPolicy == SynchronizationPolicy.SYNCHRONIZED || (synchronizationPolicy == SynchronizationPolicy.UNSYNCHRONIZED && optionalPreviousEdge.isPresent());
 
         if (shouldRender) {
-            EdgeStyle style = edgeDescription.getStyleProvider().apply(edgeVariableManager);
+            Optional<Edge> optionalReusableEdge = optionalPreviousEdge.filter(previousEdge -> isPreviousEdgeReusable);
+
+            String targetObjectKind = optionalReusableEdge.map(Edge::getTargetObjectKind).orElseGet(() -> edgeDescription.getTargetObjectKindProvider().apply(edgeVariableManager));
+            String targetObjectLabel = optionalReusableEdge.map(Edge::getTargetObjectLabel).orElseGet(() -> edgeDescription.getTargetObjectLabelProvider().apply(edgeVariableManager));
+            EdgeStyle style = optionalReusableEdge.map(Edge::getStyle).orElseGet(() -> edgeDescription.getStyleProvider().apply(edgeVariableManager));
 
             String edgeType = optionalPreviousEdge
                     .map(Edge::getType)
                     .orElse("edge:straight");
 
             List<Position> routingPoints = optionalPreviousEdge.map(Edge::getRoutingPoints).orElse(List.of());
-            List<Element> labelChildren = this.getLabelsChildren(edgeDescription, edgeVariableManager, optionalPreviousEdge, id, routingPoints);
+            List<Element> labelChildren = this.getLabelsChildren(edgeDescription, edgeVariableManager, optionalPreviousEdge, optionalReusableEdge.isPresent(), id);
             EdgeElementProps edgeElementProps = edgeElementPropsBuilder
                     .type(edgeType)
                     .descriptionId(edgeDescription.getId())
@@ -210,6 +217,26 @@ public class EdgeComponent implements IComponent {
         return Optional.empty();
     }
 
+    /**
+     * Indicates if the values computed for the previous edge can be reused instead of evaluating the description once
+     * again. It is only the case when neither the semantic element of the edge nor the semantic elements of its source
+     * and target have been impacted by the last changes.
+     *
+     * @param edgeVariableManager
+     *         The variable manager of the edge
+     * @param optionalPreviousEdge
+     *         The previous edge if this edge existed during a previous rendering
+     * @return <code>true</code> if the values of the previous edge can be reused
+     */
+    private boolean isPreviousEdgeReusable(VariableManager edgeVariableManager, Optional<Edge> optionalPreviousEdge) {
+        return optionalPreviousEdge.isPresent() && this.props.getAffectedSemanticElements()
+                .map(affectedSemanticElements -> Stream.of(VariableManager.SELF, EdgeDescription.SEMANTIC_EDGE_SOURCE, EdgeDescription.SEMANTIC_EDGE_TARGET)
+                        .map(name -> edgeVariableManager.get(name, Object.class))
+                        .flatMap(Optional::stream)
+                        .noneMatch(affectedSemanticElements::contains))
+                .orElse(false);
+    }
+
     /**
      * Compute the modifiers set applied on the new edge. The set is by default the set of the previous edge or is empty
      * if it does not exist.
@@ -413,7 +440,7 @@ public class EdgeComponent implements IComponent {
         return this.props.getEdgesRequestor().getById(potentialPreviousEdgeId);
     }
 
-    private List<Element> getLabelsChildren(EdgeDescription edgeDescription, VariableManager edgeVariableManager, Optional<Edge> optionalPreviousEdge, String edgeId, List<Position> routingPoints) {
+    private List<Element> getLabelsChildren(EdgeDescription edgeDescription, VariableManager edgeVariableManager, Optional<Edge> optionalPreviousEdge, boolean isPreviousLabelReusable, String edgeId) {
         List<Element> edgeChildren = new ArrayList<>();
 
         VariableManager labelVariableManager = edgeVariableManager.createChild();
@@ -421,19 +448,22 @@ public class EdgeComponent implements IComponent {
 
         Optional.ofNullable(edgeDescription.getBeginLabelDescription()).map(labelDescription -> {
             Optional<Label> optionalPreviousLabel = optionalPreviousEdge.map(Edge::getBeginLabel);
-            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, optionalPreviousLabel, LabelType.EDGE_BEGIN.getValue());
+            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, optionalPreviousLabel, LabelType.EDGE_BEGIN.getValue(), isPreviousLabelReusable,
+                    this.props.getIdentifierStrategy());
             return new Element(LabelComponent.class, labelComponentProps);
         }).ifPresent(edgeChildren::add);
 
         Optional.ofNullable(edgeDescription.getCenterLabelDescription()).map(labelDescription -> {
             Optional<Label> optionalPreviousLabel = optionalPreviousEdge.map(Edge::getCenterLabel);
-            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, optionalPreviousLabel, LabelType.EDGE_CENTER.getValue());
+            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, optionalPreviousLabel, LabelType.EDGE_CENTER.getValue(), isPreviousLabelReusable,
+                    this.props.getIdentifierStrategy());
             return new Element(LabelComponent.class, labelComponentProps);
         }).ifPresent(edgeChildren::add);
 
         Optional.ofNullable(edgeDescription.getEndLabelDescription()).map(labelDescription -> {
             Optional<Label> optionalPreviousLabel = optionalPreviousEdge.map(Edge::getEndLabel);
-            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, optionalPreviousLabel, LabelType.EDGE_END.getValue());
+            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, optionalPreviousLabel, LabelType.EDGE_END.getValue(), isPreviousLabelReusable,
+                    this.props.getIdentifierStrategy());
             return new Element(LabelComponent.class, labelComponentProps);
         }).ifPresent(edgeChildren::add);
 
@@ -459,8 +489,7 @@ public class EdgeComponent implements IComponent {
     }
 
     private String computeEdgeId(String edgeDescriptionId, String sourceId, String targetId, int count) {
-        String rawIdentifier = edgeDescriptionId + ": " + sourceId + " --> " + targetId + " - " + count;
-        return UUID.nameUUIDFromBytes(rawIdentifier.getBytes()).toString();
+        return this.props.getIdentifierStrategy().computeId(edgeDescriptionId, ": ", sourceId, " --> ", targetId, " - ", String.valueOf(count));
     }
 
     private String computeEdgeIdPrefix(EdgeDescription edgeDescription, Element sourceNode, Element targetNode) {
@@ -478,8 +507,7 @@ public class EdgeComponent implements IComponent {
                 .map(NodeElementProps::getId)
                 .orElse(INVALID_NODE_ID);
         // @formatter:on
-        String rawPrefix = descriptionId + sourceId + targetId;
-        return UUID.nameUUIDFromBytes(rawPrefix.getBytes()).toString();
+        return this.props.getIdentifierStrategy().computeId(descriptionId, sourceId, targetId);
     }
 
     private boolean hasNodeCandidates(List<NodeDescription> nodeDescriptions, DiagramRenderingCache cache) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo and others.
+ * Copyright (c) 2019, 2024 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,12 +14,14 @@ package org.eclipse.sirius.components.diagrams.components;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.IProps;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
@@ -41,13 +43,20 @@ public class EdgeComponentProps implements IProps {
 
     private final Optional<IDiagramEvent> diagramEvent;
 
-    public EdgeComponentProps(VariableManager variableManager, EdgeDescription edgeDescription, IEdgesRequestor edgesRequestor, DiagramRenderingCache cache, IOperationValidator operationValidator, Optional<IDiagramEvent> diagramEvent) {
+    private final Optional<Set<Object>> affectedSemanticElements;
+
+    private final IdentifierStrategy identifierStrategy;
+
+    public EdgeComponentProps(VariableManager variableManager, EdgeDescription edgeDescription, IEdgesRequestor edgesRequestor, DiagramRenderingCache cache, IOperationValidator operationValidator, Optional<IDiagramEvent> diagramEvent,
+            Optional<Set<Object>> affectedSemanticElements, IdentifierStrategy identifierStrategy) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.edgeDescription = Objects.requireNonNull(edgeDescription);
         this.edgesRequestor = Objects.requireNonNull(edgesRequestor);
         this.cache = Objects.requireNonNull(cache);
         this.operationValidator = Objects.requireNonNull(operationValidator);
         this.diagramEvent = Objects.requireNonNull(diagramEvent);
+        this.affectedSemanticElements = Objects.requireNonNull(affectedSemanticElements);
+        this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
     }
 
     public VariableManager getVariableManager() {
@@ -73,4 +82,12 @@ public class EdgeComponentProps implements IProps {
     public Optional<IDiagramEvent> getDiagramEvent() {
         return this.diagramEvent;
     }
+
+    public Optional<Set<Object>> getAffectedSemanticElements() {
+        return this.affectedSemanticElements;
+    }
+
+    public IdentifierStrategy getIdentifierStrategy() {
+        return this.identifierStrategy;
+    }
 }
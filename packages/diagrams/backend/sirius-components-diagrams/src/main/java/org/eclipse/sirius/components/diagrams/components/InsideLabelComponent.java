@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo and others.
+ * Copyright (c) 2023, 2024 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,7 +15,6 @@ package org.eclipse.sirius.components.diagrams.components;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.eclipse.sirius.components.diagrams.InsideLabel;
 import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
@@ -47,9 +46,13 @@ public class InsideLabelComponent implements IComponent {
         VariableManager variableManager = this.props.getVariableManager();
         InsideLabelDescription insideLabelDescription = this.props.getInsideLabelDescription();
         Optional<InsideLabel> optionalPreviousInsideLabel = this.props.getPreviousInsideLabel();
+        if (this.props.isPreviousLabelReusable() && optionalPreviousInsideLabel.isPresent()) {
+            return this.reuse(optionalPreviousInsideLabel.get());
+        }
+
         String type = this.props.getType();
         String idFromProvider = insideLabelDescription.getIdProvider().apply(variableManager);
-        String id = UUID.nameUUIDFromBytes(idFromProvider.getBytes()).toString();
+        String id = this.props.getIdentifierStrategy().computeId(idFromProvider);
         String text = insideLabelDescription.getTextProvider().apply(variableManager);
 
         boolean isHeader = insideLabelDescription.getIsHeaderProvider().apply(variableManager);
@@ -97,4 +100,19 @@ public class InsideLabelComponent implements IComponent {
                 .build();
         return new Element(InsideLabelElementProps.TYPE, insideLabelElementProps);
     }
+
+    private Element reuse(InsideLabel previousInsideLabel) {
+        InsideLabelElementProps insideLabelElementProps = InsideLabelElementProps.newInsideLabelElementProps(previousInsideLabel.getId())
+                .type(previousInsideLabel.getType())
+                .text(previousInsideLabel.getText())
+                .insideLabelLocation(previousInsideLabel.getInsideLabelLocation())
+                .position(previousInsideLabel.getPosition())
+                .size(previousInsideLabel.getSize())
+                .alignment(previousInsideLabel.getAlignment())
+                .style(previousInsideLabel.getStyle())
+                .isHeader(previousInsideLabel.isIsHeader())
+                .displayHeaderSeparator(previousInsideLabel.isDisplayHeaderSeparator())
+                .build();
+        return new Element(InsideLabelElementProps.TYPE, insideLabelElementProps);
+    }
 }
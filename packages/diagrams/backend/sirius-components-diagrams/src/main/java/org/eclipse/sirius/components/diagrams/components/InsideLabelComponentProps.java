@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.Optional;
 import org.eclipse.sirius.components.diagrams.InsideLabel;
 import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
 import org.eclipse.sirius.components.representations.IProps;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
@@ -35,11 +36,18 @@ public class InsideLabelComponentProps implements IProps {
 
     private final String type;
 
-    public InsideLabelComponentProps(VariableManager variableManager, InsideLabelDescription labelDescription, Optional<InsideLabel> optionalPreviousInsideLabel, String type) {
+    private final boolean previousLabelReusable;
+
+    private final IdentifierStrategy identifierStrategy;
+
+    public InsideLabelComponentProps(VariableManager variableManager, InsideLabelDescription labelDescription, Optional<InsideLabel> optionalPreviousInsideLabel, String type, boolean previousLabelReusable,
+            IdentifierStrategy identifierStrategy) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.insideLabelDescription = Objects.requireNonNull(labelDescription);
         this.optionalPreviousInsideLabel = Objects.requireNonNull(optionalPreviousInsideLabel);
         this.type = Objects.requireNonNull(type);
+        this.previousLabelReusable = previousLabelReusable;
+        this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
     }
 
     public VariableManager getVariableManager() {
@@ -58,4 +66,12 @@ public class InsideLabelComponentProps implements IProps {
         return this.type;
     }
 
+    public boolean isPreviousLabelReusable() {
+        return this.previousLabelReusable;
+    }
+
+    public IdentifierStrategy getIdentifierStrategy() {
+        return this.identifierStrategy;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo and others.
+ * Copyright (c) 2019, 2024 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,7 +15,6 @@ package org.eclipse.sirius.components.diagrams.components;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.eclipse.sirius.components.diagrams.Label;
 import org.eclipse.sirius.components.diagrams.LabelStyle;
@@ -47,8 +46,12 @@ public class LabelComponent implements IComponent {
         LabelDescription labelDescription = this.props.getLabelDescription();
         Optional<Label> optionalPreviousLabel = this.props.getPreviousLabel();
         String type = this.props.getType();
+        if (this.props.isPreviousLabelReusable() && optionalPreviousLabel.isPresent()) {
+            return this.reuse(optionalPreviousLabel.get(), type);
+        }
+
         String idFromProvider = labelDescription.getIdProvider().apply(variableManager);
-        String id = UUID.nameUUIDFromBytes(idFromProvider.getBytes()).toString();
+        String id = this.props.getIdentifierStrategy().computeId(idFromProvider);
         String text = labelDescription.getTextProvider().apply(variableManager);
 
         LabelStyleDescription labelStyleDescription = labelDescription.getStyleDescriptionProvider().apply(variableManager);
@@ -87,4 +90,16 @@ public class LabelComponent implements IComponent {
         // @formatter:on
         return new Element(LabelElementProps.TYPE, labelElementProps);
     }
+
+    private Element reuse(Label previousLabel, String type) {
+        LabelElementProps labelElementProps = LabelElementProps.newLabelElementProps(previousLabel.getId())
+                .type(type)
+                .text(previousLabel.getText())
+                .position(previousLabel.getPosition())
+                .size(previousLabel.getSize())
+                .alignment(previousLabel.getAlignment())
+                .style(previousLabel.getStyle())
+                .build();
+        return new Element(LabelElementProps.TYPE, labelElementProps);
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.Optional;
 import org.eclipse.sirius.components.diagrams.Label;
 import org.eclipse.sirius.components.diagrams.description.LabelDescription;
 import org.eclipse.sirius.components.representations.IProps;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
@@ -35,11 +36,18 @@ public class LabelComponentProps implements IProps {
 
     private final String type;
 
-    public LabelComponentProps(VariableManager variableManager, LabelDescription labelDescription, Optional<Label> optionalPreviousLabel, String type) {
+    private final boolean previousLabelReusable;
+
+    private final IdentifierStrategy identifierStrategy;
+
+    public LabelComponentProps(VariableManager variableManager, LabelDescription labelDescription, Optional<Label> optionalPreviousLabel, String type, boolean previousLabelReusable,
+            IdentifierStrategy identifierStrategy) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.labelDescription = Objects.requireNonNull(labelDescription);
         this.optionalPreviousLabel = Objects.requireNonNull(optionalPreviousLabel);
         this.type = Objects.requireNonNull(type);
+        this.previousLabelReusable = previousLabelReusable;
+        this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
     }
 
     public VariableManager getVariableManager() {
@@ -58,4 +66,12 @@ public class LabelComponentProps implements IProps {
         return this.type;
     }
 
+    public boolean isPreviousLabelReusable() {
+        return this.previousLabelReusable;
+    }
+
+    public IdentifierStrategy getIdentifierStrategy() {
+        return this.identifierStrategy;
+    }
+
 }
@@ -102,7 +102,8 @@ public class NodeComponent implements IComponent {
             var optionalPreviousNode = nodesRequestor.getByTargetObjectId(targetObjectId);
 
             if (this.shouldRender(targetObjectId, optionalPreviousNode, nodeVariableManager)) {
-                Element nodeElement = this.doRender(nodeVariableManager, targetObjectId, optionalPreviousNode, optionalDiagramEvent);
+                boolean isPreviousNodeReusable = this.isPreviousNodeReusable(semanticElement, optionalPreviousNode);
+                Element nodeElement = this.doRender(nodeVariableManager, targetObjectId, optionalPreviousNode, isPreviousNodeReusable, optionalDiagramEvent);
                 children.add(nodeElement);
 
                 cache.put(nodeDescription.getId(), nodeElement);
@@ -134,6 +135,24 @@ public class NodeComponent implements IComponent {
         return shouldRender && nodeDescription.getShouldRenderPredicate().test(variableManager);
     }
 
+    /**
+     * Indicates if the values computed for the previous node can be reused instead of evaluating the description once
+     * again. It is only the case when the semantic element of the node has not been impacted by the last changes. The
+     * impacted semantic elements have to include the descendants of the modified elements since the label and the style
+     * of a node can be computed from the containers of its semantic element.
+     *
+     * @param semanticElement
+     *         The semantic element of the node
+     * @param optionalPreviousNode
+     *         The previous node if this node existed during a previous rendering
+     * @return <code>true</code> if the values of the previous node can be reused
+     */
+    private boolean isPreviousNodeReusable(Object semanticElement, Optional<Node> optionalPreviousNode) {
+        return optionalPreviousNode.isPresent() && this.props.getAffectedSemanticElements()
+                .map(affectedSemanticElements -> !affectedSemanticElements.contains(semanticElement))
+                .orElse(false);
+    }
+
     private boolean existsViewCreationRequested(String targetObjectId) {
         String parentElementId = this.props.getParentElementId();
         String nodeDescriptionId = this.props.getNodeDescription().getId();
@@ -150,7 +169,7 @@ public class NodeComponent implements IComponent {
                 .anyMatch(viewDeletionRequest -> Objects.equals(viewDeletionRequest.getElementId(), elementId));
     }
 
-    private Element doRender(VariableManager nodeVariableManager, String targetObjectId, Optional<Node> optionalPreviousNode, Optional<IDiagramEvent> optionalDiagramEvent) {
+    private Element doRender(VariableManager nodeVariableManager, String targetObjectId, Optional<Node> optionalPreviousNode, boolean isPreviousNodeReusable, Optional<IDiagramEvent> optionalDiagramEvent) {
         NodeDescription nodeDescription = this.props.getNodeDescription();
         NodeContainmentKind containmentKind = this.props.getContainmentKind();
         boolean isBorderNode = containmentKind == NodeContainmentKind.BORDER_NODE;
@@ -166,14 +185,16 @@ public class NodeComponent implements IComponent {
         nodeVariableManager.put(NodeComponent.COLLAPSING_STATE, collapsingState);
         nodeVariableManager.put(NodeComponent.IS_BORDER_NODE, isBorderNode);
 
-        String type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
-        String targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
-        String targetObjectLabel = nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager);
+        // The values of the previous node can only be reused if the variables used to compute them are the same
+        Optional<Node> optionalReusableNode = optionalPreviousNode.filter(previousNode -> isPreviousNodeReusable && previousNode.getCollapsingState() == collapsingState);
 
-        INodeStyle style = nodeDescription.getStyleProvider().apply(nodeVariableManager);
+        String type = optionalReusableNode.map(Node::getType).orElseGet(() -> nodeDescription.getTypeProvider().apply(nodeVariableManager));
+        String targetObjectKind = optionalReusableNode.map(Node::getTargetObjectKind).orElseGet(() -> nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager));
+        String targetObjectLabel = optionalReusableNode.map(Node::getTargetObjectLabel).orElseGet(() -> nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager));
 
-        ILayoutStrategy layoutStrategy = nodeDescription.getChildrenLayoutStrategyProvider().apply(nodeVariableManager);
+        INodeStyle style = optionalReusableNode.map(Node::getStyle).orElseGet(() -> nodeDescription.getStyleProvider().apply(nodeVariableManager));
 
+        ILayoutStrategy layoutStrategy = optionalReusableNode.map(Node::getChildrenLayoutStrategy).orElseGet(() -> nodeDescription.getChildrenLayoutStrategyProvider().apply(nodeVariableManager));
 
         var parentState = state;
         if (collapsingState == CollapsingState.COLLAPSED) {
@@ -182,7 +203,7 @@ public class NodeComponent implements IComponent {
 
         List<Element> nodeChildren = new ArrayList<>();
 
-        nodeChildren.addAll(this.getInsideLabel(nodeVariableManager, optionalPreviousNode, nodeDescription, nodeId, containmentKind, type, style));
+        nodeChildren.addAll(this.getInsideLabel(nodeVariableManager, optionalPreviousNode, optionalReusableNode.isPresent(), nodeDescription, nodeId, containmentKind, type, style));
         nodeChildren.addAll(this.getBorderNodes(optionalPreviousNode, nodeVariableManager, nodeId, state, nodeDescriptionRequestor));
         nodeChildren.addAll(this.getChildNodes(optionalPreviousNode, nodeVariableManager, nodeId, parentState, nodeDescriptionRequestor));
 
@@ -191,7 +212,7 @@ public class NodeComponent implements IComponent {
 
         Set<CustomizableProperties> customizableProperties = Set.of();
 
-        Size size = this.getSize(optionalPreviousNode, nodeDescription, nodeVariableManager);
+        Size size = optionalReusableNode.map(Node::getSize).orElseGet(() -> this.getSize(optionalPreviousNode, nodeDescription, nodeVariableManager));
         Optional<Size> newSize = this.getNodeSizeFromEvent(this.props.getDiagramEvent(), nodeId);
         if (newSize.isPresent()) {
             size = newSize.get();
@@ -207,8 +228,8 @@ public class NodeComponent implements IComponent {
             customizableProperties = newProperties;
         }
 
-        Integer defaultWidth = nodeDescription.getDefaultWidthProvider().apply(nodeVariableManager);
-        Integer defaultHeight = nodeDescription.getDefaultHeightProvider().apply(nodeVariableManager);
+        Integer defaultWidth = optionalReusableNode.map(Node::getDefaultWidth).orElseGet(() -> nodeDescription.getDefaultWidthProvider().apply(nodeVariableManager));
+        Integer defaultHeight = optionalReusableNode.map(Node::getDefaultHeight).orElseGet(() -> nodeDescription.getDefaultHeightProvider().apply(nodeVariableManager));
 
         Builder nodeElementPropsBuilder = NodeElementProps.newNodeElementProps(nodeId)
                 .type(type)
@@ -370,8 +391,8 @@ public class NodeComponent implements IComponent {
         return size;
     }
 
-    private List<Element> getInsideLabel(VariableManager nodeVariableManager, Optional<Node> optionalPreviousNode, NodeDescription nodeDescription, String nodeId,
-            NodeContainmentKind containmentKind, String type, INodeStyle style) {
+    private List<Element> getInsideLabel(VariableManager nodeVariableManager, Optional<Node> optionalPreviousNode, boolean isPreviousInsideLabelReusable, NodeDescription nodeDescription,
+            String nodeId, NodeContainmentKind containmentKind, String type, INodeStyle style) {
         List<Element> nodeChildren = new ArrayList<>();
         InsideLabelDescription labelDescription = nodeDescription.getInsideLabelDescription();
         if (labelDescription != null) {
@@ -382,7 +403,8 @@ public class NodeComponent implements IComponent {
             LabelType dummyLabelType = this.getLabelType(containmentKind, type, style);
 
             Optional<InsideLabel> optionalPreviousInsideLabel = optionalPreviousNode.map(Node::getInsideLabel);
-            InsideLabelComponentProps insideLabelComponentProps = new InsideLabelComponentProps(nodeVariableManager, labelDescription, optionalPreviousInsideLabel, dummyLabelType.getValue());
+            InsideLabelComponentProps insideLabelComponentProps = new InsideLabelComponentProps(nodeVariableManager, labelDescription, optionalPreviousInsideLabel, dummyLabelType.getValue(),
+                    isPreviousInsideLabelReusable, this.props.getIdentifierStrategy());
             Element insideLabelElement = new Element(InsideLabelComponent.class, insideLabelComponentProps);
             nodeChildren.add(insideLabelElement);
         }
@@ -401,7 +423,7 @@ public class NodeComponent implements IComponent {
                 .forEach(borderNodeDescriptions::add);
 
         return borderNodeDescriptions.stream().map(borderNodeDescription -> {
-            List<Node> previousBorderNodes = optionalPreviousNode.map(previousNode -> new DiagramElementRequestor().getBorderNodes(previousNode, borderNodeDescription))
+            List<Node> previousBorderNodes = optionalPreviousNode.map(previousNode -> this.props.getDiagramElementRequestor().getBorderNodes(previousNode, borderNodeDescription))
                     .orElse(List.of());
             List<String> previousBorderNodesTargetObjectIds = previousBorderNodes.stream().map(node -> node.getTargetObjectId()).toList();
             INodesRequestor borderNodesRequestor = new NodesRequestor(previousBorderNodes);
@@ -410,6 +432,7 @@ public class NodeComponent implements IComponent {
                     .nodeDescription(borderNodeDescription)
                     .nodesRequestor(borderNodesRequestor)
                     .nodeDescriptionRequestor(nodeDescriptionRequestor)
+                    .diagramElementRequestor(this.props.getDiagramElementRequestor())
                     .containmentKind(NodeContainmentKind.BORDER_NODE)
                     .cache(cache)
                     .viewCreationRequests(this.props.getViewCreationRequests())
@@ -419,6 +442,8 @@ public class NodeComponent implements IComponent {
                     .diagramEvent(this.props.getDiagramEvent().orElse(null))
                     .parentElementState(state)
                     .operationValidator(this.props.getOperationValidator())
+                    .affectedSemanticElements(this.props.getAffectedSemanticElements())
+                    .identifierStrategy(this.props.getIdentifierStrategy())
                     .build();
             return new Element(NodeComponent.class, nodeComponentProps);
         }).toList();
@@ -436,7 +461,7 @@ public class NodeComponent implements IComponent {
                 .forEach(childNodeDescriptions::add);
 
         return childNodeDescriptions.stream().map(childNodeDescription -> {
-            List<Node> previousChildNodes = optionalPreviousNode.map(previousNode -> new DiagramElementRequestor().getChildNodes(previousNode, childNodeDescription))
+            List<Node> previousChildNodes = optionalPreviousNode.map(previousNode -> this.props.getDiagramElementRequestor().getChildNodes(previousNode, childNodeDescription))
                     .orElse(List.of());
             List<String> previousChildNodesTargetObjectIds = previousChildNodes.stream().map(node -> node.getTargetObjectId()).toList();
             INodesRequestor childNodesRequestor = new NodesRequestor(previousChildNodes);
@@ -445,6 +470,7 @@ public class NodeComponent implements IComponent {
                     .nodeDescription(childNodeDescription)
                     .nodesRequestor(childNodesRequestor)
                     .nodeDescriptionRequestor(nodeDescriptionRequestor)
+                    .diagramElementRequestor(this.props.getDiagramElementRequestor())
                     .containmentKind(NodeContainmentKind.CHILD_NODE)
                     .cache(cache)
                     .viewCreationRequests(this.props.getViewCreationRequests())
@@ -454,6 +480,8 @@ public class NodeComponent implements IComponent {
                     .diagramEvent(this.props.getDiagramEvent().orElse(null))
                     .parentElementState(state)
                     .operationValidator(this.props.getOperationValidator())
+                    .affectedSemanticElements(this.props.getAffectedSemanticElements())
+                    .identifierStrategy(this.props.getIdentifierStrategy())
                     .build();
 
             return new Element(NodeComponent.class, nodeComponentProps);
@@ -464,7 +492,7 @@ public class NodeComponent implements IComponent {
         String parentElementId = this.props.getParentElementId();
         NodeDescription nodeDescription = this.props.getNodeDescription();
         NodeContainmentKind containmentKind = this.props.getContainmentKind();
-        return new NodeIdProvider().getNodeId(parentElementId, nodeDescription.getId(), containmentKind, targetObjectId);
+        return new NodeIdProvider(this.props.getIdentifierStrategy()).getNodeId(parentElementId, nodeDescription.getId(), containmentKind, targetObjectId);
     }
 
 }
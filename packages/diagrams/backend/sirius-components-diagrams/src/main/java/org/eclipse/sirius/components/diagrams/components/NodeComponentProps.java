@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo and others.
+ * Copyright (c) 2019, 2024 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.diagrams.components;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.components.annotations.Immutable;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
@@ -25,6 +26,7 @@ import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.IProps;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
@@ -43,6 +45,8 @@ public final class NodeComponentProps implements IProps {
 
     private INodeDescriptionRequestor nodeDescriptionRequestor;
 
+    private IDiagramElementRequestor diagramElementRequestor;
+
     private NodeContainmentKind containmentKind;
 
     private DiagramRenderingCache cache;
@@ -61,6 +65,10 @@ public final class NodeComponentProps implements IProps {
 
     private Optional<IDiagramEvent> diagramEvent;
 
+    private Optional<Set<Object>> affectedSemanticElements;
+
+    private IdentifierStrategy identifierStrategy;
+
     private NodeComponentProps() {
         // Prevent instantiation
     }
@@ -81,6 +89,10 @@ public final class NodeComponentProps implements IProps {
         return this.nodeDescriptionRequestor;
     }
 
+    public IDiagramElementRequestor getDiagramElementRequestor() {
+        return this.diagramElementRequestor;
+    }
+
     public NodeContainmentKind getContainmentKind() {
         return this.containmentKind;
     }
@@ -117,6 +129,14 @@ public final class NodeComponentProps implements IProps {
         return this.operationValidator;
     }
 
+    public Optional<Set<Object>> getAffectedSemanticElements() {
+        return this.affectedSemanticElements;
+    }
+
+    public IdentifierStrategy getIdentifierStrategy() {
+        return this.identifierStrategy;
+    }
+
     public static Builder newNodeComponentProps() {
         return new Builder();
     }
@@ -136,6 +156,8 @@ public final class NodeComponentProps implements IProps {
 
         private INodeDescriptionRequestor nodeDescriptionRequestor;
 
+        private IDiagramElementRequestor diagramElementRequestor;
+
         private NodeContainmentKind containmentKind;
 
         private DiagramRenderingCache cache;
@@ -154,6 +176,10 @@ public final class NodeComponentProps implements IProps {
 
         private Optional<IDiagramEvent> diagramEvent = Optional.empty();
 
+        private Optional<Set<Object>> affectedSemanticElements = Optional.empty();
+
+        private IdentifierStrategy identifierStrategy = IdentifierStrategy.NAME_BASED;
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -174,6 +200,11 @@ public final class NodeComponentProps implements IProps {
             return this;
         }
 
+        public Builder diagramElementRequestor(IDiagramElementRequestor diagramElementRequestor) {
+            this.diagramElementRequestor = Objects.requireNonNull(diagramElementRequestor);
+            return this;
+        }
+
         public Builder containmentKind(NodeContainmentKind containmentKind) {
             this.containmentKind = Objects.requireNonNull(containmentKind);
             return this;
@@ -219,12 +250,23 @@ public final class NodeComponentProps implements IProps {
             return this;
         }
 
+        public Builder affectedSemanticElements(Optional<Set<Object>> affectedSemanticElements) {
+            this.affectedSemanticElements = Objects.requireNonNull(affectedSemanticElements);
+            return this;
+        }
+
+        public Builder identifierStrategy(IdentifierStrategy identifierStrategy) {
+            this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
+            return this;
+        }
+
         public NodeComponentProps build() {
             NodeComponentProps nodeComponentProps = new NodeComponentProps();
             nodeComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
             nodeComponentProps.nodeDescription = Objects.requireNonNull(this.nodeDescription);
             nodeComponentProps.nodesRequestor = Objects.requireNonNull(this.nodesRequestor);
             nodeComponentProps.nodeDescriptionRequestor = Objects.requireNonNull(this.nodeDescriptionRequestor);
+            nodeComponentProps.diagramElementRequestor = Objects.requireNonNull(this.diagramElementRequestor);
             nodeComponentProps.containmentKind = Objects.requireNonNull(this.containmentKind);
             nodeComponentProps.cache = Objects.requireNonNull(this.cache);
             nodeComponentProps.viewCreationRequests = Objects.requireNonNull(this.viewCreationRequests);
@@ -234,6 +276,8 @@ public final class NodeComponentProps implements IProps {
             nodeComponentProps.diagramEvent = Objects.requireNonNull(this.diagramEvent);
             nodeComponentProps.operationValidator = Objects.requireNonNull(this.operationValidator);
             nodeComponentProps.parentElementState = Objects.requireNonNull(this.parentElementState);
+            nodeComponentProps.affectedSemanticElements = Objects.requireNonNull(this.affectedSemanticElements);
+            nodeComponentProps.identifierStrategy = Objects.requireNonNull(this.identifierStrategy);
             return nodeComponentProps;
         }
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,11 @@
  * Contributors:
  *     Obeo - initial API and implementation
  *******************************************************************************/
-
 package org.eclipse.sirius.components.diagrams.components;
 
-import java.util.UUID;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 
 /**
  * Used to compute the identifier of a node.
@@ -21,8 +22,18 @@ import java.util.UUID;
  * @author sbegaudeau
  */
 public class NodeIdProvider {
+
+    private final IdentifierStrategy identifierStrategy;
+
+    public NodeIdProvider() {
+        this(IdentifierStrategy.NAME_BASED);
+    }
+
+    public NodeIdProvider(IdentifierStrategy identifierStrategy) {
+        this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
+    }
+
     public String getNodeId(String parentElementId, String nodeDescriptionId, NodeContainmentKind containmentKind, String targetObjectId) {
-        String rawIdentifier = parentElementId + containmentKind.toString() + nodeDescriptionId + targetObjectId;
-        return UUID.nameUUIDFromBytes(rawIdentifier.getBytes()).toString();
+        return this.identifierStrategy.computeId(parentElementId, containmentKind.toString(), nodeDescriptionId, targetObjectId);
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import org.eclipse.sirius.components.diagrams.Position;
 import org.eclipse.sirius.components.diagrams.Size;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.IProps;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 
 /**
  * Properties of the diagram element.
@@ -43,6 +44,8 @@ public final class DiagramElementProps implements IProps {
 
     private Size size;
 
+    private IdentifierStrategy identifierStrategy;
+
     private List<Element> children;
 
     private DiagramElementProps() {
@@ -73,6 +76,10 @@ public final class DiagramElementProps implements IProps {
         return this.size;
     }
 
+    public IdentifierStrategy getIdentifierStrategy() {
+        return this.identifierStrategy;
+    }
+
     @Override
     public List<Element> getChildren() {
         return this.children;
@@ -107,6 +114,8 @@ public final class DiagramElementProps implements IProps {
 
         private Size size;
 
+        private IdentifierStrategy identifierStrategy = IdentifierStrategy.NAME_BASED;
+
         private List<Element> children;
 
         private Builder(String id) {
@@ -138,6 +147,11 @@ public final class DiagramElementProps implements IProps {
             return this;
         }
 
+        public Builder identifierStrategy(IdentifierStrategy identifierStrategy) {
+            this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
+            return this;
+        }
+
         public Builder children(List<Element> children) {
             this.children = Objects.requireNonNull(children);
             return this;
@@ -151,6 +165,7 @@ public final class DiagramElementProps implements IProps {
             diagramElementProps.label = Objects.requireNonNull(this.label);
             diagramElementProps.position = Objects.requireNonNull(this.position);
             diagramElementProps.size = Objects.requireNonNull(this.size);
+            diagramElementProps.identifierStrategy = Objects.requireNonNull(this.identifierStrategy);
             diagramElementProps.children = Objects.requireNonNull(this.children);
             return diagramElementProps;
         }
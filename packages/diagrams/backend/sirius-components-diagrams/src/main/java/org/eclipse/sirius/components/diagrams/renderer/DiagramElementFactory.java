@@ -81,6 +81,7 @@ public class DiagramElementFactory implements IElementFactory {
                 .size(props.getSize())
                 .nodes(nodes)
                 .edges(edges)
+                .identifierStrategy(props.getIdentifierStrategy())
                 .build();
     }
 
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.sirius.components.diagrams.ArrowStyle;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.NodeType;
+import org.eclipse.sirius.components.diagrams.Position;
+import org.eclipse.sirius.components.diagrams.Ratio;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.Size;
+import org.eclipse.sirius.components.diagrams.ViewModifier;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.tests.benchmarks.Benchmark;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the retrieval of the elements of the previous diagram.
+ *
+ * <p>
+ * The elements of a diagram of 10k elements are retrieved for 50 node descriptions and 50 edge descriptions, like
+ * during the rendering of the diagram, and compared with the result of a scan of all the elements for each description.
+ * The benchmark measures the time spent to retrieve those elements with both approaches.
+ * </p>
+ *
+ * @author agent
+ */
+public class DiagramElementRequestorTests {
+
+    private static final int DESCRIPTION_COUNT = 50;
+
+    private static final int NODE_COUNT = 5_000;
+
+    private static final int EDGE_COUNT = 5_000;
+
+    private static final int ITERATIONS = 10;
+
+    @Test
+    public void testElementsOfNestedNodes() {
+        NodeDescription firstNodeDescription = this.getNodeDescription("firstNodeDescription");
+        NodeDescription secondNodeDescription = this.getNodeDescription("secondNodeDescription");
+
+        Node firstBorderNode = this.getNode("firstBorderNode", firstNodeDescription);
+        Node secondBorderNode = this.getNode("secondBorderNode", secondNodeDescription);
+        Node firstChildNode = this.getNode("firstChildNode", firstNodeDescription);
+        Node secondChildNode = this.getNode("secondChildNode", firstNodeDescription);
+        Node parentNode = Node.newNode(this.getNode("parentNode", secondNodeDescription))
+                .borderNodes(List.of(firstBorderNode, secondBorderNode))
+                .childNodes(List.of(firstChildNode, secondChildNode))
+                .build();
+        Diagram diagram = this.getDiagram(List.of(parentNode), List.of());
+
+        var diagramElementRequestor = new DiagramElementRequestor();
+        assertThat(diagramElementRequestor.getRootNodes(diagram, firstNodeDescription)).isEmpty();
+        assertThat(diagramElementRequestor.getRootNodes(diagram, secondNodeDescription)).containsExactly(parentNode);
+        assertThat(diagramElementRequestor.getBorderNodes(parentNode, firstNodeDescription)).containsExactly(firstBorderNode);
+        assertThat(diagramElementRequestor.getBorderNodes(parentNode, secondNodeDescription)).containsExactly(secondBorderNode);
+        assertThat(diagramElementRequestor.getChildNodes(parentNode, firstNodeDescription)).containsExactly(firstChildNode, secondChildNode);
+        assertThat(diagramElementRequestor.getChildNodes(parentNode, secondNodeDescription)).isEmpty();
+        assertThat(diagramElementRequestor.getChildNodes(firstChildNode, firstNodeDescription)).isEmpty();
+    }
+
+    @Test
+    public void testElementsOfLargeDiagram() {
+        List<NodeDescription> nodeDescriptions = new ArrayList<>();
+        List<EdgeDescription> edgeDescriptions = new ArrayList<>();
+        for (int i = 0; i < DESCRIPTION_COUNT; i++) {
+            nodeDescriptions.add(this.getNodeDescription("nodeDescription" + i));
+            edgeDescriptions.add(this.getEdgeDescription("edgeDescription" + i));
+        }
+
+        Diagram diagram = this.getLargeDiagram(nodeDescriptions, edgeDescriptions);
+
+        var diagramElementRequestor = new DiagramElementRequestor();
+        for (int i = 0; i < DESCRIPTION_COUNT; i++) {
+            NodeDescription nodeDescription = nodeDescriptions.get(i);
+            EdgeDescription edgeDescription = edgeDescriptions.get(i);
+            assertThat(diagramElementRequestor.getRootNodes(diagram, nodeDescription)).hasSize(NODE_COUNT / DESCRIPTION_COUNT)
+                    .containsExactlyElementsOf(this.scan(diagram.getNodes(), Node::getDescriptionId, nodeDescription.getId()));
+            assertThat(diagramElementRequestor.getEdges(diagram, edgeDescription)).hasSize(EDGE_COUNT / DESCRIPTION_COUNT)
+                    .containsExactlyElementsOf(this.scan(diagram.getEdges(), Edge::getDescriptionId, edgeDescription.getId()));
+        }
+    }
+
+    @Benchmark
+    public void benchmarkElementsOfLargeDiagram() {
+        List<NodeDescription> nodeDescriptions = new ArrayList<>();
+        List<EdgeDescription> edgeDescriptions = new ArrayList<>();
+        for (int i = 0; i < DESCRIPTION_COUNT; i++) {
+            nodeDescriptions.add(this.getNodeDescription("nodeDescription" + i));
+            edgeDescriptions.add(this.getEdgeDescription("edgeDescription" + i));
+        }
+
+        Diagram diagram = this.getLargeDiagram(nodeDescriptions, edgeDescriptions);
+
+        long scanDuration = this.measure(() -> {
+            int count = 0;
+            for (int i = 0; i < DESCRIPTION_COUNT; i++) {
+                count += this.scan(diagram.getNodes(), Node::getDescriptionId, nodeDescriptions.get(i).getId()).size();
+                count += this.scan(diagram.getEdges(), Edge::getDescriptionId, edgeDescriptions.get(i).getId()).size();
+            }
+            return count;
+        });
+        long requestorDuration = this.measure(() -> {
+            // A new requestor is used for each rendering, the duration thus includes the indexing of the elements
+            var diagramElementRequestor = new DiagramElementRequestor();
+            int count = 0;
+            for (int i = 0; i < DESCRIPTION_COUNT; i++) {
+                count += diagramElementRequestor.getRootNodes(diagram, nodeDescriptions.get(i)).size();
+                count += diagramElementRequestor.getEdges(diagram, edgeDescriptions.get(i)).size();
+            }
+            return count;
+        });
+
+        assertThat(requestorDuration).isLessThan(scanDuration);
+    }
+
+    /**
+     * Returns the lowest duration in nanoseconds of several runs of the given operation, after a first one used to warm
+     * it up.
+     */
+    private long measure(Supplier<Integer> operation) {
+        int expectedCount = operation.get();
+        assertThat(expectedCount).isEqualTo(NODE_COUNT + EDGE_COUNT);
+
+        long duration = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            int count = operation.get();
+            duration = Math.min(duration, System.nanoTime() - start);
+            assertThat(count).isEqualTo(expectedCount);
+        }
+        return duration;
+    }
+
+    /**
+     * The previous implementation, which scans all the elements for each description.
+     */
+    private <T> List<T> scan(List<T> elements, Function<T, String> descriptionIdProvider, String descriptionId) {
+        return elements.stream()
+                .filter(element -> Objects.equals(descriptionIdProvider.apply(element), descriptionId))
+                .toList();
+    }
+
+    private Diagram getLargeDiagram(List<NodeDescription> nodeDescriptions, List<EdgeDescription> edgeDescriptions) {
+        List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add(this.getNode("node" + i, nodeDescriptions.get(i % DESCRIPTION_COUNT)));
+        }
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            edges.add(this.getEdge("edge" + i, edgeDescriptions.get(i % DESCRIPTION_COUNT), "node" + i, "node" + ((i + 1) % NODE_COUNT)));
+        }
+        return this.getDiagram(nodes, edges);
+    }
+
+    private Diagram getDiagram(List<Node> nodes, List<Edge> edges) {
+        return Diagram.newDiagram("diagram")
+                .label("diagramLabel")
+                .descriptionId("diagramDescriptionId")
+                .targetObjectId("diagramTargetObjectId")
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+    }
+
+    private Node getNode(String id, NodeDescription nodeDescription) {
+        RectangularNodeStyle style = RectangularNodeStyle.newRectangularNodeStyle()
+                .borderColor("#000000")
+                .borderSize(1)
+                .borderStyle(LineStyle.Solid)
+                .color("#FFFFFF")
+                .build();
+        return Node.newNode(id)
+                .type(NodeType.NODE_RECTANGLE)
+                .targetObjectId(id)
+                .targetObjectKind("")
+                .targetObjectLabel("")
+                .descriptionId(nodeDescription.getId())
+                .style(style)
+                .childrenLayoutStrategy(new FreeFormLayoutStrategy())
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .borderNodes(List.of())
+                .childNodes(List.of())
+                .modifiers(Set.of())
+                .state(ViewModifier.Normal)
+                .collapsingState(CollapsingState.EXPANDED)
+                .build();
+    }
+
+    private Edge getEdge(String id, EdgeDescription edgeDescription, String sourceId, String targetId) {
+        EdgeStyle style = EdgeStyle.newEdgeStyle()
+                .size(1)
+                .lineStyle(LineStyle.Solid)
+                .sourceArrow(ArrowStyle.None)
+                .targetArrow(ArrowStyle.InputArrow)
+                .color("#FFFFFF")
+                .build();
+        return Edge.newEdge(id)
+                .type("edgeType")
+                .targetObjectId(id)
+                .targetObjectKind("")
+                .targetObjectLabel("")
+                .descriptionId(edgeDescription.getId())
+                .sourceId(sourceId)
+                .targetId(targetId)
+                .style(style)
+                .routingPoints(List.of())
+                .modifiers(Set.of())
+                .state(ViewModifier.Normal)
+                .sourceAnchorRelativePosition(Ratio.UNDEFINED)
+                .targetAnchorRelativePosition(Ratio.UNDEFINED)
+                .build();
+    }
+
+    private NodeDescription getNodeDescription(String id) {
+        return NodeDescription.newNodeDescription(id)
+                .typeProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> List.of())
+                .targetObjectIdProvider(variableManager -> "")
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .styleProvider(variableManager -> null)
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .sizeProvider(variableManager -> Size.UNDEFINED)
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(List.of())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+
+    private EdgeDescription getEdgeDescription(String id) {
+        Function<VariableManager, List<Element>> elementsProvider = variableManager -> List.of();
+        return EdgeDescription.newEdgeDescription(id)
+                .targetObjectIdProvider(variableManager -> "")
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> List.of())
+                .sourceNodeDescriptions(List.of())
+                .targetNodeDescriptions(List.of())
+                .sourceNodesProvider(elementsProvider)
+                .targetNodesProvider(elementsProvider)
+                .styleProvider(variableManager -> null)
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
+import org.eclipse.sirius.components.tests.benchmarks.AllocatedBytes;
+import org.eclipse.sirius.components.tests.benchmarks.Benchmark;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the computation of the identifiers of the nodes.
+ *
+ * <p>
+ * The benchmark computes the identifiers of a large number of nodes with both strategies in order to measure the memory
+ * allocated by each of them. The hash based strategy allocates around 4 times less memory than the name based one.
+ * </p>
+ *
+ * @author agent
+ */
+public class NodeIdProviderTests {
+
+    private static final int NODE_COUNT = 100_000;
+
+    private static final int ITERATIONS = 5;
+
+    private static final String PARENT_ELEMENT_ID = "e2c0d4a6-1c7d-4b1e-9d0e-5b3a9f0e6c41";
+
+    private static final String NODE_DESCRIPTION_ID = "7f3b1c2d-8a4e-4f6b-b1c9-0d2e3f4a5b6c";
+
+    @Test
+    public void testNameBasedIdentifiersOfPersistedDiagrams() {
+        String nodeId = new NodeIdProvider().getNodeId(PARENT_ELEMENT_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, "targetObjectId");
+
+        String rawIdentifier = PARENT_ELEMENT_ID + NodeContainmentKind.CHILD_NODE + NODE_DESCRIPTION_ID + "targetObjectId";
+        assertThat(nodeId).isEqualTo(UUID.nameUUIDFromBytes(rawIdentifier.getBytes()).toString());
+    }
+
+    @Test
+    public void testHashBasedIdentifiers() {
+        var nodeIdProvider = new NodeIdProvider(IdentifierStrategy.HASH_BASED);
+
+        String nodeId = nodeIdProvider.getNodeId(PARENT_ELEMENT_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, "targetObjectId");
+        assertThat(nodeId).isEqualTo(nodeIdProvider.getNodeId(PARENT_ELEMENT_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, "targetObjectId"));
+        assertThat(nodeId).isNotEqualTo(nodeIdProvider.getNodeId(PARENT_ELEMENT_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.BORDER_NODE, "targetObjectId"));
+        assertThat(nodeId).isNotEqualTo(new NodeIdProvider().getNodeId(PARENT_ELEMENT_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, "targetObjectId"));
+
+        UUID uuid = UUID.fromString(nodeId);
+        assertThat(uuid.version()).isEqualTo(8);
+        assertThat(uuid.variant()).isEqualTo(2);
+
+        // The identifier only depends on the concatenation of the parts, like the name based one
+        assertThat(IdentifierStrategy.HASH_BASED.computeId("ab", "cdefghijklmnopq")).isEqualTo(IdentifierStrategy.HASH_BASED.computeId("abcdefghijklmnopq"));
+        assertThat(IdentifierStrategy.HASH_BASED.computeId("a")).isEqualTo("96a69850-0b4e-88bd-b278-c9bfc754677d");
+    }
+
+    @Test
+    public void testHashBasedIdentifiersOfLargeDiagram() {
+        var hashBasedNodeIdProvider = new NodeIdProvider(IdentifierStrategy.HASH_BASED);
+
+        Set<String> nodeIds = new HashSet<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodeIds.add(hashBasedNodeIdProvider.getNodeId(PARENT_ELEMENT_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, String.valueOf(i)));
+        }
+        assertThat(nodeIds).hasSize(NODE_COUNT);
+    }
+
+    @Benchmark
+    public void benchmarkAllocationsOfHashBasedIdentifiers() throws Exception {
+        long nameBasedAllocatedBytes = AllocatedBytes.measure(ITERATIONS, () -> this.computeNodeIds(new NodeIdProvider(IdentifierStrategy.NAME_BASED)));
+        long hashBasedAllocatedBytes = AllocatedBytes.measure(ITERATIONS, () -> this.computeNodeIds(new NodeIdProvider(IdentifierStrategy.HASH_BASED)));
+
+        assertThat(hashBasedAllocatedBytes).isLessThan(nameBasedAllocatedBytes);
+    }
+
+    private int computeNodeIds(NodeIdProvider nodeIdProvider) {
+        int hash = 0;
+        for (int i = 0; i < NODE_COUNT; i++) {
+            hash += nodeIdProvider.getNodeId(PARENT_ELEMENT_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, String.valueOf(i)).hashCode();
+        }
+        return hash;
+    }
+}
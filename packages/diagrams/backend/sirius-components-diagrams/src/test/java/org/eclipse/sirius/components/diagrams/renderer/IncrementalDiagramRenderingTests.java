@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.diagrams.ArrowStyle;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.Size;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the incremental rendering of diagrams.
+ *
+ * <p>
+ * The full rendering of the diagram is used as the reference of the result expected from the incremental rendering.
+ * </p>
+ *
+ * @author agent
+ */
+public class IncrementalDiagramRenderingTests {
+
+    private static final String FIRST_OBJECT_ID = "First";
+
+    private static final String SECOND_OBJECT_ID = "Second";
+
+    private static final String THIRD_OBJECT_ID = "Third";
+
+    private static final String PARENT_OBJECT_ID = "Parent";
+
+    private static final String CHILD_OBJECT_ID = "Child";
+
+    private final Map<String, String> names = new HashMap<>();
+
+    private final AtomicInteger nodeLabelEvaluationCount = new AtomicInteger();
+
+    private final AtomicInteger edgeLabelEvaluationCount = new AtomicInteger();
+
+    private DiagramDescription diagramDescription;
+
+    @BeforeEach
+    public void setup() {
+        this.names.put(FIRST_OBJECT_ID, "first");
+        this.names.put(SECOND_OBJECT_ID, "second");
+        this.names.put(THIRD_OBJECT_ID, "third");
+
+        NodeDescription nodeDescription = this.getNodeDescription();
+        EdgeDescription edgeDescription = this.getEdgeDescription(nodeDescription);
+        this.diagramDescription = DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(List.of(edgeDescription))
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Given a diagram, when a semantic element is modified, then the incremental rendering is identical to the full rendering")
+    public void givenDiagramWhenSemanticElementIsModifiedThenIncrementalRenderingIsIdenticalToFullRendering() {
+        Diagram previousDiagram = this.render(Optional.empty(), Optional.empty());
+
+        this.names.put(SECOND_OBJECT_ID, "modified");
+
+        Diagram fullDiagram = this.render(Optional.of(previousDiagram), Optional.empty());
+
+        this.nodeLabelEvaluationCount.set(0);
+        this.edgeLabelEvaluationCount.set(0);
+        Diagram incrementalDiagram = this.render(Optional.of(previousDiagram), Optional.of(Set.of(SECOND_OBJECT_ID)));
+
+        assertThat(incrementalDiagram).usingRecursiveComparison().isEqualTo(fullDiagram);
+        assertThat(incrementalDiagram.getNodes().get(1).getInsideLabel().getText()).isEqualTo("modified");
+        assertThat(incrementalDiagram.getEdges().get(0).getCenterLabel().getText()).isEqualTo("first -> modified");
+        assertThat(this.nodeLabelEvaluationCount.get()).isEqualTo(1);
+        assertThat(this.edgeLabelEvaluationCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a diagram, when semantic elements are added, then the incremental rendering is identical to the full rendering")
+    public void givenDiagramWhenSemanticElementsAreAddedThenIncrementalRenderingIsIdenticalToFullRendering() {
+        this.names.remove(THIRD_OBJECT_ID);
+        Diagram previousDiagram = this.render(Optional.empty(), Optional.empty());
+
+        this.names.put(THIRD_OBJECT_ID, "third");
+
+        Diagram fullDiagram = this.render(Optional.of(previousDiagram), Optional.empty());
+        Diagram incrementalDiagram = this.render(Optional.of(previousDiagram), Optional.of(Set.of(THIRD_OBJECT_ID)));
+
+        assertThat(incrementalDiagram).usingRecursiveComparison().isEqualTo(fullDiagram);
+        assertThat(incrementalDiagram.getNodes()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Given a diagram, when nothing has been impacted, then the values of the previous diagram are reused")
+    public void givenDiagramWhenNothingHasBeenImpactedThenValuesOfPreviousDiagramAreReused() {
+        Diagram previousDiagram = this.render(Optional.empty(), Optional.empty());
+
+        this.nodeLabelEvaluationCount.set(0);
+        this.edgeLabelEvaluationCount.set(0);
+        Diagram incrementalDiagram = this.render(Optional.of(previousDiagram), Optional.of(Set.of()));
+
+        assertThat(incrementalDiagram).usingRecursiveComparison().isEqualTo(previousDiagram);
+        assertThat(this.nodeLabelEvaluationCount.get()).isZero();
+        assertThat(this.edgeLabelEvaluationCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given a diagram with labels computed from the containers, when a container is modified, then the incremental rendering is identical to the full rendering")
+    public void givenDiagramWithLabelsComputedFromTheContainersWhenContainerIsModifiedThenIncrementalRenderingIsIdenticalToFullRendering() {
+        this.names.put(PARENT_OBJECT_ID, "parent");
+        this.names.put(CHILD_OBJECT_ID, "child");
+        this.diagramDescription = DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(this.getContainerNodeDescription()))
+                .edgeDescriptions(List.of())
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .build();
+        Diagram previousDiagram = this.render(Optional.empty(), Optional.empty());
+
+        this.names.put(PARENT_OBJECT_ID, "modified");
+
+        Diagram fullDiagram = this.render(Optional.of(previousDiagram), Optional.empty());
+
+        // The descendants of a modified element are impacted by its modification
+        Diagram incrementalDiagram = this.render(Optional.of(previousDiagram), Optional.of(Set.of(PARENT_OBJECT_ID, CHILD_OBJECT_ID)));
+
+        assertThat(incrementalDiagram).usingRecursiveComparison().isEqualTo(fullDiagram);
+        assertThat(incrementalDiagram.getNodes().get(0).getChildNodes().get(0).getInsideLabel().getText()).isEqualTo("modified/child");
+    }
+
+    private Diagram render(Optional<Diagram> previousDiagram, Optional<Set<Object>> affectedSemanticElements) {
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(this.diagramDescription)
+                .allDiagramDescriptions(List.of(this.diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(previousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvent(Optional.empty())
+                .affectedSemanticElements(affectedSemanticElements)
+                .build();
+        Element element = new Element(DiagramComponent.class, props);
+        return new DiagramRenderer().render(element);
+    }
+
+    private LabelStyleDescription getLabelStyleDescription() {
+        return LabelStyleDescription.newLabelStyleDescription()
+                .colorProvider(variableManager -> "#000000")
+                .fontSizeProvider(variableManager -> 16)
+                .boldProvider(variableManager -> false)
+                .italicProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .iconURLProvider(variableManager -> List.of())
+                .build();
+    }
+
+    private String getName(VariableManager variableManager, String variableName) {
+        return variableManager.get(variableName, String.class).map(this.names::get).orElse("");
+    }
+
+    private NodeDescription getNodeDescription() {
+        InsideLabelDescription insideLabelDescription = InsideLabelDescription.newInsideLabelDescription("insideLabelDescriptionId")
+                .idProvider(variableManager -> variableManager.get(InsideLabelDescription.OWNER_ID, String.class).orElse("") + "_label")
+                .textProvider(variableManager -> {
+                    this.nodeLabelEvaluationCount.incrementAndGet();
+                    return this.getName(variableManager, VariableManager.SELF);
+                })
+                .styleDescriptionProvider(variableManager -> this.getLabelStyleDescription())
+                .isHeaderProvider(variableManager -> false)
+                .displayHeaderSeparatorProvider(variableManager -> false)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .build();
+
+        return NodeDescription.newNodeDescription(UUID.randomUUID().toString())
+                .typeProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> List.of(FIRST_OBJECT_ID, SECOND_OBJECT_ID, THIRD_OBJECT_ID).stream().filter(this.names::containsKey).toList())
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> this.getName(variableManager, VariableManager.SELF))
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .color(this.getName(variableManager, VariableManager.SELF))
+                        .borderColor("")
+                        .borderSize(0)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .sizeProvider(variableManager -> Size.UNDEFINED)
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(List.of())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+
+    private NodeDescription getContainerNodeDescription() {
+        InsideLabelDescription childInsideLabelDescription = InsideLabelDescription.newInsideLabelDescription("childInsideLabelDescriptionId")
+                .idProvider(variableManager -> variableManager.get(InsideLabelDescription.OWNER_ID, String.class).orElse("") + "_label")
+                .textProvider(variableManager -> this.names.get(PARENT_OBJECT_ID) + "/" + this.getName(variableManager, VariableManager.SELF))
+                .styleDescriptionProvider(variableManager -> this.getLabelStyleDescription())
+                .isHeaderProvider(variableManager -> false)
+                .displayHeaderSeparatorProvider(variableManager -> false)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .build();
+        NodeDescription childNodeDescription = this.getNodeDescriptionBuilder(List.of(CHILD_OBJECT_ID), childInsideLabelDescription)
+                .childNodeDescriptions(List.of())
+                .build();
+
+        InsideLabelDescription parentInsideLabelDescription = InsideLabelDescription.newInsideLabelDescription("parentInsideLabelDescriptionId")
+                .idProvider(variableManager -> variableManager.get(InsideLabelDescription.OWNER_ID, String.class).orElse("") + "_label")
+                .textProvider(variableManager -> this.getName(variableManager, VariableManager.SELF))
+                .styleDescriptionProvider(variableManager -> this.getLabelStyleDescription())
+                .isHeaderProvider(variableManager -> false)
+                .displayHeaderSeparatorProvider(variableManager -> false)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .build();
+        return this.getNodeDescriptionBuilder(List.of(PARENT_OBJECT_ID), parentInsideLabelDescription)
+                .childNodeDescriptions(List.of(childNodeDescription))
+                .build();
+    }
+
+    private NodeDescription.Builder getNodeDescriptionBuilder(List<String> semanticElements, InsideLabelDescription insideLabelDescription) {
+        return NodeDescription.newNodeDescription(UUID.randomUUID().toString())
+                .typeProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> semanticElements)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> this.getName(variableManager, VariableManager.SELF))
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .color("")
+                        .borderColor("")
+                        .borderSize(0)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .sizeProvider(variableManager -> Size.UNDEFINED)
+                .borderNodeDescriptions(List.of())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success());
+    }
+
+    private EdgeDescription getEdgeDescription(NodeDescription nodeDescription) {
+        Function<String, Function<VariableManager, List<Element>>> nodesProvider = objectId -> variableManager -> variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class)
+                .map(cache -> cache.getObjectToNodes().getOrDefault(objectId, List.of()))
+                .orElse(List.of());
+
+        LabelDescription centerLabelDescription = LabelDescription.newLabelDescription("centerLabelDescriptionId")
+                .idProvider(variableManager -> variableManager.get(LabelDescription.OWNER_ID, String.class).orElse("") + "_center")
+                .textProvider(variableManager -> {
+                    this.edgeLabelEvaluationCount.incrementAndGet();
+                    return this.getName(variableManager, EdgeDescription.SEMANTIC_EDGE_SOURCE) + " -> " + this.getName(variableManager, EdgeDescription.SEMANTIC_EDGE_TARGET);
+                })
+                .styleDescriptionProvider(variableManager -> this.getLabelStyleDescription())
+                .build();
+
+        return EdgeDescription.newEdgeDescription(UUID.randomUUID().toString())
+                .semanticElementsProvider(variableManager -> List.of(FIRST_OBJECT_ID))
+                .sourceNodesProvider(nodesProvider.apply(FIRST_OBJECT_ID))
+                .targetNodesProvider(nodesProvider.apply(SECOND_OBJECT_ID))
+                .sourceNodeDescriptions(List.of(nodeDescription))
+                .targetNodeDescriptions(List.of(nodeDescription))
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .centerLabelDescription(centerLabelDescription)
+                .styleProvider(variableManager -> EdgeStyle.newEdgeStyle()
+                        .size(2)
+                        .lineStyle(LineStyle.Solid)
+                        .sourceArrow(ArrowStyle.None)
+                        .targetArrow(ArrowStyle.InputArrow)
+                        .color("#000000")
+                        .build())
+                .deleteHandler(variableManager -> new Failure(""))
+                .labelEditHandler((variableManager, edgeLabelKind, newLabel) -> new Failure(""))
+                .build();
+    }
+}
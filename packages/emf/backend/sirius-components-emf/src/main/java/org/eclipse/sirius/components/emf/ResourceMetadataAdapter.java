@@ -17,6 +17,7 @@ import java.util.Objects;
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.NotificationImpl;
 
 /**
  * An EMF adapter used to store some metadata related to EMF Resources.
@@ -28,9 +29,19 @@ import org.eclipse.emf.common.notify.Notifier;
  * <li>name: The user-friendly name of the resource if presented in the UI</li>
  * </ul>
  *
+ * <p>
+ * A change of the name is notified to the adapters of the resource with {@link #NAME} as its feature.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class ResourceMetadataAdapter implements Adapter {
+
+    /**
+     * The feature of the notifications sent when the name of the resource changes.
+     */
+    public static final String NAME = "name";
+
     private String name;
 
     private Notifier notifier;
@@ -44,7 +55,23 @@ public class ResourceMetadataAdapter implements Adapter {
     }
 
     public void setName(String name) {
+        String oldName = this.name;
         this.name = name;
+
+        Notifier target = this.notifier;
+        if (target != null && target.eDeliver() && !Objects.equals(oldName, name)) {
+            target.eNotify(new NotificationImpl(Notification.SET, oldName, name) {
+                @Override
+                public Object getNotifier() {
+                    return target;
+                }
+
+                @Override
+                public Object getFeature() {
+                    return NAME;
+                }
+            });
+        }
     }
 
     @Override
@@ -38,7 +38,11 @@ public class EditingContextCrossReferenceAdapter extends ECrossReferenceAdapter
         Object oldValue = notification.getOldValue();
         int eventType = notification.getEventType();
 
-        if (eventType == Notification.REMOVE) {
+        // The objects removed while their resource is unloaded are not deleted, the references to them must be kept
+        boolean isUnloading = notification.getNotifier() instanceof Resource resource && !resource.isLoaded();
+        if (isUnloading) {
+            super.handleContainment(notification);
+        } else if (eventType == Notification.REMOVE) {
             this.handleRemoveObject(oldValue);
 
         } else if (eventType == Notification.REMOVE_MANY) {
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangeRecorder;
+
+/**
+ * Records the semantic elements modified in the resource set of an EMF based editing context.
+ *
+ * <p>
+ * The semantic elements impacted by a modification are the modified elements themselves, their containers, since
+ * their values are often computed from their content, and their descendants, since their values are often computed
+ * from their containers. The elements referencing any of those modified elements or descendants are impacted too since
+ * their values are often computed from the elements they are referencing.
+ * </p>
+ *
+ * @author agent
+ */
+public class SemanticChangeRecorder implements ISemanticChangeRecorder {
+
+    private final SemanticChangeRecordingAdapter adapter;
+
+    private Set<EObject> modifiedElements = new LinkedHashSet<>();
+
+    public SemanticChangeRecorder(SemanticChangeRecordingAdapter adapter) {
+        this.adapter = Objects.requireNonNull(adapter);
+    }
+
+    public synchronized void record(EObject eObject) {
+        this.modifiedElements.add(eObject);
+    }
+
+    @Override
+    public Optional<Set<Object>> consumeAffectedSemanticElements() {
+        Set<EObject> elements;
+        synchronized (this) {
+            elements = this.modifiedElements;
+            this.modifiedElements = new LinkedHashSet<>();
+        }
+
+        Set<Object> affectedSemanticElements = new HashSet<>();
+        for (EObject element : elements) {
+            EObject container = element.eContainer();
+            while (container != null) {
+                affectedSemanticElements.add(container);
+                container = container.eContainer();
+            }
+
+            var crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(element);
+            this.addElementAndReferencingElements(element, crossReferenceAdapter, affectedSemanticElements);
+
+            TreeIterator<EObject> iterator = element.eAllContents();
+            while (iterator.hasNext()) {
+                this.addElementAndReferencingElements(iterator.next(), crossReferenceAdapter, affectedSemanticElements);
+            }
+        }
+        return Optional.of(affectedSemanticElements);
+    }
+
+    private void addElementAndReferencingElements(EObject element, ECrossReferenceAdapter crossReferenceAdapter, Set<Object> affectedSemanticElements) {
+        affectedSemanticElements.add(element);
+        if (crossReferenceAdapter != null) {
+            crossReferenceAdapter.getInverseReferences(element, false).forEach(setting -> affectedSemanticElements.add(setting.getEObject()));
+        }
+    }
+
+    @Override
+    public void dispose() {
+        this.adapter.removeRecorder(this);
+    }
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangeRecorder;
+import org.eclipse.sirius.components.collaborative.api.ISemanticChangeRecorderProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to record the semantic changes performed in EMF based editing contexts.
+ *
+ * @author agent
+ */
+@Service
+public class SemanticChangeRecorderProvider implements ISemanticChangeRecorderProvider {
+
+    @Override
+    public Optional<ISemanticChangeRecorder> createRecorder(IEditingContext editingContext) {
+        Optional<ISemanticChangeRecorder> optionalRecorder = Optional.empty();
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+
+            SemanticChangeRecordingAdapter adapter;
+            synchronized (resourceSet) {
+                adapter = (SemanticChangeRecordingAdapter) EcoreUtil.getExistingAdapter(resourceSet, SemanticChangeRecordingAdapter.class);
+                if (adapter == null) {
+                    adapter = new SemanticChangeRecordingAdapter();
+                    resourceSet.eAdapters().add(adapter);
+                }
+            }
+
+            SemanticChangeRecorder recorder = new SemanticChangeRecorder(adapter);
+            adapter.addRecorder(recorder);
+            optionalRecorder = Optional.of(recorder);
+        }
+        return optionalRecorder;
+    }
+}
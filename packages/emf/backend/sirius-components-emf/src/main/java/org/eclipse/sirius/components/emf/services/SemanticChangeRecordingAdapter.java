@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Forwards the semantic elements modified in a resource set to all the recorders of this resource set.
+ *
+ * <p>
+ * A single adapter is installed on the resource set whatever the number of representations refreshed incrementally in
+ * order to avoid adding one adapter per representation on each semantic element.
+ * </p>
+ *
+ * @author agent
+ */
+public class SemanticChangeRecordingAdapter extends EContentAdapter {
+
+    private final List<SemanticChangeRecorder> recorders = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch() && !this.recorders.isEmpty()) {
+            if (notification.getNotifier() instanceof EObject eObject) {
+                this.recorders.forEach(recorder -> recorder.record(eObject));
+            } else if (notification.getNotifier() instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                // The roots of a resource have no container which could be notified instead
+                this.recordValue(notification.getNewValue());
+                this.recordValue(notification.getOldValue());
+            }
+        }
+    }
+
+    private void recordValue(Object value) {
+        if (value instanceof EObject eObject) {
+            this.recorders.forEach(recorder -> recorder.record(eObject));
+        } else if (value instanceof Collection<?> values) {
+            values.forEach(this::recordValue);
+        }
+    }
+
+    public void addRecorder(SemanticChangeRecorder recorder) {
+        this.recorders.add(recorder);
+    }
+
+    public void removeRecorder(SemanticChangeRecorder recorder) {
+        this.recorders.remove(recorder);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == SemanticChangeRecordingAdapter.class;
+    }
+}
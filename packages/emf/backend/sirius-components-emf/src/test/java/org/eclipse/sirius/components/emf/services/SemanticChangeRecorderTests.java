@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the recording of the semantic elements impacted by some changes.
+ *
+ * @author agent
+ */
+public class SemanticChangeRecorderTests {
+
+    @Test
+    @DisplayName("Given a resource set, when an element is modified, then the element, its containers and the elements referencing it are impacted")
+    public void givenResourceSetWhenElementIsModifiedThenElementContainersAndReferencingElementsAreImpacted() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass superType = this.createEClass(ePackage, "SuperType");
+        EClass subType = this.createEClass(ePackage, "SubType");
+        subType.getESuperTypes().add(superType);
+        EClass unrelated = this.createEClass(ePackage, "Unrelated");
+
+        Resource resource = new ResourceImpl(URI.createURI("sirius:///test"));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+
+        var adapter = new SemanticChangeRecordingAdapter();
+        resourceSet.eAdapters().add(adapter);
+        var recorder = new SemanticChangeRecorder(adapter);
+        adapter.addRecorder(recorder);
+
+        assertThat(recorder.consumeAffectedSemanticElements()).hasValueSatisfying(affectedSemanticElements -> assertThat(affectedSemanticElements).isEmpty());
+
+        superType.setName("Renamed");
+        assertThat(recorder.consumeAffectedSemanticElements()).hasValueSatisfying(affectedSemanticElements -> assertThat(affectedSemanticElements)
+                .contains(superType, ePackage, subType)
+                .doesNotContain(unrelated));
+        assertThat(recorder.consumeAffectedSemanticElements()).hasValueSatisfying(affectedSemanticElements -> assertThat(affectedSemanticElements).isEmpty());
+
+        recorder.dispose();
+        unrelated.setName("Renamed");
+        assertThat(recorder.consumeAffectedSemanticElements()).hasValueSatisfying(affectedSemanticElements -> assertThat(affectedSemanticElements).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Given a resource set, when an element is modified, then its descendants and the elements referencing them are impacted")
+    public void givenResourceSetWhenElementIsModifiedThenDescendantsAndElementsReferencingThemAreImpacted() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EPackage subPackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.getESubpackages().add(subPackage);
+        EClass nested = this.createEClass(subPackage, "Nested");
+        EClass referencing = this.createEClass(ePackage, "Referencing");
+        referencing.getESuperTypes().add(nested);
+        EClass unrelated = this.createEClass(ePackage, "Unrelated");
+
+        Resource resource = new ResourceImpl(URI.createURI("sirius:///test"));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+
+        var adapter = new SemanticChangeRecordingAdapter();
+        resourceSet.eAdapters().add(adapter);
+        var recorder = new SemanticChangeRecorder(adapter);
+        adapter.addRecorder(recorder);
+
+        subPackage.setName("Renamed");
+        assertThat(recorder.consumeAffectedSemanticElements()).hasValueSatisfying(affectedSemanticElements -> assertThat(affectedSemanticElements)
+                .contains(subPackage, ePackage, nested, referencing)
+                .doesNotContain(unrelated));
+
+        recorder.dispose();
+    }
+
+    private EClass createEClass(EPackage ePackage, String name) {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName(name);
+        ePackage.getEClassifiers().add(eClass);
+        return eClass;
+    }
+}
@@ -19,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -68,6 +69,11 @@ public class AQLInterpreter {
      */
     private IQueryEnvironment queryEnvironment;
 
+    /**
+     * The interpreter to which the evaluations are delegated when this interpreter is shared between several threads.
+     */
+    private ThreadConfinedAQLInterpreter threadConfinedAQLInterpreter;
+
     /**
      * The constructor.
      *
@@ -111,6 +117,16 @@ public class AQLInterpreter {
         this.initExpressionsCache();
     }
 
+    /**
+     * The constructor of an interpreter which can be shared between several threads.
+     *
+     * @param threadConfinedAQLInterpreter
+     *            The interpreter to which the evaluations are delegated, it gives its own interpreter to each thread
+     */
+    public AQLInterpreter(ThreadConfinedAQLInterpreter threadConfinedAQLInterpreter) {
+        this.threadConfinedAQLInterpreter = Objects.requireNonNull(threadConfinedAQLInterpreter);
+    }
+
     private boolean isValidEPackage(EPackage ePackage) {
         return ePackage != null && ePackage.getName() != null && ePackage.getNsURI() != null;
     }
@@ -125,6 +141,10 @@ public class AQLInterpreter {
     }
 
     public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
+        if (this.threadConfinedAQLInterpreter != null) {
+            return this.threadConfinedAQLInterpreter.evaluateExpression(variables, expressionBody);
+        }
+
         String expression = new ExpressionConverter().convertExpression(expressionBody);
         if (expression.startsWith(AQL_PREFIX)) {
             expression = expression.substring(AQL_PREFIX.length());
@@ -167,6 +187,10 @@ public class AQLInterpreter {
     }
 
     public ICompletionResult getProposals(String expression, int offset) {
+        if (this.threadConfinedAQLInterpreter != null) {
+            return this.threadConfinedAQLInterpreter.getProposals(expression, offset);
+        }
+
         IQueryCompletionEngine engine = QueryCompletion.newEngine(this.queryEnvironment);
         Map<String, Set<IType>> variableTypes = new LinkedHashMap<>();
         final Set<IType> potentialTypes = new LinkedHashSet<>(1);
@@ -175,4 +199,13 @@ public class AQLInterpreter {
 
         return engine.getCompletion(expression, offset, variableTypes);
     }
+
+    /**
+     * Releases the interpreters created for the threads when this interpreter is shared between several threads.
+     */
+    public void dispose() {
+        if (this.threadConfinedAQLInterpreter != null) {
+            this.threadConfinedAQLInterpreter.dispose();
+        }
+    }
 }
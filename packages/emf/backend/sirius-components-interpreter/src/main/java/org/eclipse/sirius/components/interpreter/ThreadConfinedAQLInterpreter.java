@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.acceleo.query.runtime.ICompletionResult;
+
+/**
+ * Used to evaluate expressions with an interpreter confined to the current thread.
+ *
+ * <p>
+ * The query environment of an interpreter and the Java services it relies on are not meant to be used concurrently.
+ * Each thread thus evaluates the expressions with its own interpreter, created on its first evaluation. An
+ * {@link AQLInterpreter} created with an instance of this class can be shared between several threads.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ThreadConfinedAQLInterpreter {
+
+    private final Supplier<AQLInterpreter> interpreterSupplier;
+
+    private volatile ThreadLocal<AQLInterpreter> interpreters;
+
+    /**
+     * The constructor.
+     *
+     * @param interpreterSupplier
+     *            Used to create the interpreter of each thread
+     */
+    public ThreadConfinedAQLInterpreter(Supplier<AQLInterpreter> interpreterSupplier) {
+        this.interpreterSupplier = Objects.requireNonNull(interpreterSupplier);
+        this.interpreters = ThreadLocal.withInitial(this.interpreterSupplier);
+    }
+
+    public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
+        return this.interpreters.get().evaluateExpression(variables, expressionBody);
+    }
+
+    public ICompletionResult getProposals(String expression, int offset) {
+        return this.interpreters.get().getProposals(expression, offset);
+    }
+
+    /**
+     * Clears the interpreters created for the threads.
+     *
+     * <p>
+     * The interpreter of the calling thread is removed right away. The interpreters of the other threads are only
+     * referenced by the previous thread local, they are released by their thread once it has been garbage collected.
+     * The following evaluations create new interpreters.
+     * </p>
+     */
+    public void dispose() {
+        var previousInterpreters = this.interpreters;
+        this.interpreters = ThreadLocal.withInitial(this.interpreterSupplier);
+        previousInterpreters.remove();
+    }
+}
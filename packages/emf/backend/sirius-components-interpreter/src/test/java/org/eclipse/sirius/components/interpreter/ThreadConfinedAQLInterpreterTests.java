@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that the thread confined AQL interpreter gives its own interpreter to each thread.
+ *
+ * @author agent
+ */
+public class ThreadConfinedAQLInterpreterTests {
+
+    private static final String SELF = "self";
+
+    @Test
+    public void testSameInterpreterInTheSameThread() {
+        AtomicInteger creationCount = new AtomicInteger();
+        AQLInterpreter interpreter = this.createInterpreter(creationCount);
+
+        assertThat(interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.getCreationMessage()").asString()).contains("interpreter-1");
+        assertThat(interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.getCreationMessage()").asString()).contains("interpreter-1");
+        assertThat(creationCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOneInterpreterPerThread() throws InterruptedException {
+        AtomicInteger creationCount = new AtomicInteger();
+        AQLInterpreter interpreter = this.createInterpreter(creationCount);
+
+        List<String> messages = new CopyOnWriteArrayList<>();
+        Runnable evaluation = () -> interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.getCreationMessage()").asString().ifPresent(messages::add);
+        var firstThread = new Thread(evaluation);
+        var secondThread = new Thread(evaluation);
+        firstThread.start();
+        secondThread.start();
+        firstThread.join();
+        secondThread.join();
+
+        assertThat(messages).containsExactlyInAnyOrder("interpreter-1", "interpreter-2");
+        assertThat(creationCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testNewInterpreterAfterDispose() {
+        AtomicInteger creationCount = new AtomicInteger();
+        AQLInterpreter interpreter = this.createInterpreter(creationCount);
+
+        assertThat(interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.getCreationMessage()").asString()).contains("interpreter-1");
+        interpreter.dispose();
+        assertThat(interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.getCreationMessage()").asString()).contains("interpreter-2");
+        assertThat(creationCount.get()).isEqualTo(2);
+    }
+
+    private AQLInterpreter createInterpreter(AtomicInteger creationCount) {
+        return new AQLInterpreter(new ThreadConfinedAQLInterpreter(() -> {
+            var services = new TestServices("interpreter-" + creationCount.incrementAndGet());
+            return new AQLInterpreter(List.of(), List.of(services), List.of(EcorePackage.eINSTANCE));
+        }));
+    }
+}
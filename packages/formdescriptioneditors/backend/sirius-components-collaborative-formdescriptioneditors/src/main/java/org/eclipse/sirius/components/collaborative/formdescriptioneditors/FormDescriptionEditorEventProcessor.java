@@ -132,7 +132,8 @@ public class FormDescriptionEditorEventProcessor implements IFormDescriptionEdit
         }
     }
 
-    private boolean shouldRefresh(ChangeDescription changeDescription) {
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
         FormDescriptionEditor formDescriptionEditor = this.formDescriptionEditorContext.getFormDescriptionEditor();
         // @formatter:off
         var optionalFormDescriptionEditorDescription = this.representationDescriptionSearchService.findById(this.editingContext, formDescriptionEditor.getDescriptionId())
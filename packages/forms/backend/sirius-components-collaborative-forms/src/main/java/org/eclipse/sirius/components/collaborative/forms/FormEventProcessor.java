@@ -184,7 +184,8 @@ public class FormEventProcessor implements IFormEventProcessor {
         }
     }
 
-    private boolean shouldRefresh(ChangeDescription changeDescription) {
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
         return this.representationRefreshPolicyRegistry.getRepresentationRefreshPolicy(this.formCreationParameters.getFormDescription())
                 .orElseGet(this::getDefaultRefreshPolicy)
                 .shouldRefresh(changeDescription);
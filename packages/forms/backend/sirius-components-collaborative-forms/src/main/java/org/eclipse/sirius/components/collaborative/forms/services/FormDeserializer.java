@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -57,4 +57,12 @@ public class FormDeserializer implements IRepresentationDeserializer {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Class<? extends IRepresentation>> getRepresentationType(String kind) {
+        if (Form.KIND.equals(kind)) {
+            return Optional.of(Form.class);
+        }
+        return Optional.empty();
+    }
+
 }
@@ -12,19 +12,35 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.forms;
 
-import java.util.UUID;
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.eclipse.sirius.components.forms.components.FormComponent;
+import org.eclipse.sirius.components.representations.IdentifierStrategy;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
  * The provider of the id of the widget created.
  *
+ * <p>
+ * Since forms are not persisted, the identifiers of their widgets are computed by default with the fast hash based
+ * strategy.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class WidgetIdProvider implements Function<VariableManager, String> {
 
+    private final IdentifierStrategy identifierStrategy;
+
+    public WidgetIdProvider() {
+        this(IdentifierStrategy.HASH_BASED);
+    }
+
+    public WidgetIdProvider(IdentifierStrategy identifierStrategy) {
+        this.identifierStrategy = Objects.requireNonNull(identifierStrategy);
+    }
+
     @Override
     public String apply(VariableManager variableManager) {
         var optionalParentElementId = variableManager.get(FormComponent.PARENT_ELEMENT_ID, String.class);
@@ -38,8 +54,7 @@ public class WidgetIdProvider implements Function<VariableManager, String> {
     }
 
     private String computeWidgetId(String parentElementId, String controlDescriptionId, String targetObjectId, String label) {
-        String rawIdentifier = parentElementId + controlDescriptionId + targetObjectId + label;
-        return UUID.nameUUIDFromBytes(rawIdentifier.getBytes()).toString();
+        return this.identifierStrategy.computeId(parentElementId, controlDescriptionId, targetObjectId, label);
     }
 
 }
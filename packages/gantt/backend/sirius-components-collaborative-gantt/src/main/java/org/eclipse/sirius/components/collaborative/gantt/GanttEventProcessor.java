@@ -124,7 +124,8 @@ public class GanttEventProcessor implements IGanttEventProcessor {
     /**
      * A gantt representation is refreshed if there is a semantic change.
      */
-    private boolean shouldRefresh(ChangeDescription changeDescription) {
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
         return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -55,4 +55,12 @@ public class GanttDeserializer implements IRepresentationDeserializer {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Class<? extends IRepresentation>> getRepresentationType(String kind) {
+        if (Gantt.KIND.equals(kind)) {
+            return Optional.of(Gantt.class);
+        }
+        return Optional.empty();
+    }
+
 }
@@ -57,4 +57,12 @@ public class PortalDeserializer implements IRepresentationDeserializer {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Class<? extends IRepresentation>> getRepresentationType(String kind) {
+        if (Portal.KIND.equals(kind)) {
+            return Optional.of(Portal.class);
+        }
+        return Optional.empty();
+    }
+
 }
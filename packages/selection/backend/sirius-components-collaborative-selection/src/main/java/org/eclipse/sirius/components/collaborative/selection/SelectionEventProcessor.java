@@ -118,7 +118,8 @@ public class SelectionEventProcessor implements ISelectionEventProcessor {
         }
     }
 
-    private boolean shouldRefresh(ChangeDescription changeDescription) {
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
         // @formatter:off
         return this.representationRefreshPolicyRegistry.getRepresentationRefreshPolicy(this.selectionDescription)
                 .orElseGet(this::getDefaultRefreshPolicy)
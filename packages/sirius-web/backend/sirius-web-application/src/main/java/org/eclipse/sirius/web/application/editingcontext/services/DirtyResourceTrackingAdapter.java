@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+
+/**
+ * Used to track the resources which have been modified since they have been serialized for the last time.
+ *
+ * <p>
+ * This adapter is installed on the resource set of an editing context once its documents have been loaded. It keeps
+ * the last document data computed for each resource in order to let the persistence reuse them for the resources
+ * which have not been modified. Objects moved to another resource are also considered as a modification of the
+ * resources which are referencing them since the URI of those references has changed. The renaming of a resource is
+ * also a modification. The changes performed while a resource is loaded or unloaded on demand are not considered as
+ * modifications.
+ * </p>
+ *
+ * @author agent
+ */
+public class DirtyResourceTrackingAdapter extends EContentAdapter {
+
+    private final Map<Resource, DocumentData> documentData = new HashMap<>();
+
+    private final Set<Resource> dirtyResources = new HashSet<>();
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof Resource resource) {
+                if (notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS && this.isTracked(resource)) {
+                    this.dirtyResources.add(resource);
+                    this.markReferencingResourcesAsDirty(notification);
+                } else if (ResourceMetadataAdapter.NAME.equals(notification.getFeature()) && this.isTracked(resource)) {
+                    this.dirtyResources.add(resource);
+                }
+            } else if (notifier instanceof EObject eObject && eObject.eResource() != null && this.isTracked(eObject.eResource())) {
+                this.dirtyResources.add(eObject.eResource());
+                if (notification.getFeature() instanceof EReference eReference && eReference.isContainment()) {
+                    this.markReferencingResourcesAsDirty(notification);
+                }
+            }
+        }
+    }
+
+    private boolean isTracked(Resource resource) {
+        boolean isLoading = resource instanceof Resource.Internal internalResource && internalResource.isLoading();
+        return resource.isLoaded() && !isLoading;
+    }
+
+    private void markReferencingResourcesAsDirty(Notification notification) {
+        int eventType = notification.getEventType();
+        if (eventType == Notification.ADD || eventType == Notification.SET) {
+            this.markReferencingResourcesAsDirty(notification.getNewValue());
+        } else if (eventType == Notification.ADD_MANY && notification.getNewValue() instanceof Collection<?> newValues) {
+            newValues.forEach(this::markReferencingResourcesAsDirty);
+        }
+    }
+
+    private void markReferencingResourcesAsDirty(Object object) {
+        if (object instanceof EObject eObject) {
+            var crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(eObject);
+            if (crossReferenceAdapter != null) {
+                this.markReferencingResourcesAsDirty(crossReferenceAdapter, eObject);
+
+                TreeIterator<EObject> iterator = eObject.eAllContents();
+                while (iterator.hasNext()) {
+                    this.markReferencingResourcesAsDirty(crossReferenceAdapter, iterator.next());
+                }
+            }
+        }
+    }
+
+    private void markReferencingResourcesAsDirty(ECrossReferenceAdapter crossReferenceAdapter, EObject eObject) {
+        crossReferenceAdapter.getInverseReferences(eObject, false).stream()
+                .map(setting -> setting.getEObject().eResource())
+                .filter(resource -> resource != null && resource != eObject.eResource())
+                .forEach(this.dirtyResources::add);
+    }
+
+    @Override
+    protected void handleContainment(Notification notification) {
+        super.handleContainment(notification);
+
+        // Forget the resources removed from the resource set
+        if (notification.getEventType() == Notification.REMOVE && notification.getOldValue() instanceof Resource resource) {
+            this.dirtyResources.remove(resource);
+        } else if (notification.getEventType() == Notification.REMOVE_MANY && notification.getOldValue() instanceof Collection<?> oldValues) {
+            oldValues.forEach(this.dirtyResources::remove);
+        }
+    }
+
+    /**
+     * Returns the document data computed for the given resource if it has not been modified since.
+     *
+     * @param resource
+     *         The resource
+     * @return The document data or an empty optional if the resource must be serialized again
+     */
+    public Optional<DocumentData> getDocumentData(Resource resource) {
+        if (this.dirtyResources.contains(resource)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.documentData.get(resource));
+    }
+
+    /**
+     * Indicates if the given resources are different from the ones which have been persisted for the last time.
+     *
+     * @param resources
+     *         The resources to persist
+     * @return <code>true</code> if some resources have been modified, added or removed
+     */
+    public boolean hasChanges(List<Resource> resources) {
+        boolean hasChanges = resources.size() != this.documentData.size();
+        hasChanges = hasChanges || resources.stream().anyMatch(resource -> this.dirtyResources.contains(resource) || !this.documentData.containsKey(resource));
+        return hasChanges;
+    }
+
+    /**
+     * Remembers the document data of the resources which have been persisted.
+     *
+     * @param persistedDocumentData
+     *         The document data of each resource persisted
+     */
+    public void setDocumentData(Map<Resource, DocumentData> persistedDocumentData) {
+        this.documentData.clear();
+        this.documentData.putAll(persistedDocumentData);
+        this.dirtyResources.removeAll(persistedDocumentData.keySet());
+    }
+
+    /**
+     * Forgets all the document data in order to serialize again all the resources during the next persistence.
+     */
+    public void clear() {
+        this.documentData.clear();
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == DirtyResourceTrackingAdapter.class;
+    }
+}
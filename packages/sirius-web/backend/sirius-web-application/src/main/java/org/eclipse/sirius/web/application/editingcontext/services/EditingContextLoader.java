@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.BasicExtendedMetaData;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IDocumentToResourceService;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextLoader;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingDomainFactory;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Used to create the editing context of a project from its documents.
+ *
+ * <p>
+ * When the parallel loading is enabled, the documents are parsed concurrently into isolated resources which are then
+ * attached to the resource set of the editing context before resolving the references between them in a final pass.
+ * The duration of each phase of the loading is recorded by the timer siriusweb_editingcontext_load.
+ * </p>
+ *
+ * <p>
+ * When the lazy loading is enabled, the documents are only registered as unloaded resources which will be parsed the
+ * first time they are needed. The lazy loading takes precedence over the parallel loading.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextLoader implements IEditingContextLoader {
+
+    private static final String PHASE_PRE_PROCESS = "preProcess";
+
+    private static final String PHASE_PARSE = "parse";
+
+    private static final String PHASE_RESOLVE = "resolve";
+
+    private static final String PHASE_REPRESENTATION_DESCRIPTIONS = "representationDescriptions";
+
+    private static final String PHASE_POST_PROCESS = "postProcess";
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextLoader.class);
+
+    private final IDocumentToResourceService documentToResourceService;
+
+    private final IEditingDomainFactory editingDomainFactory;
+
+    private final List<IEditingContextRepresentationDescriptionProvider> representationDescriptionProviders;
+
+    private final List<IEditingContextProcessor> editingContextProcessors;
+
+    private final boolean lazyLoadingEnabled;
+
+    private final ExecutorService executorService;
+
+    private final Timer preProcessTimer;
+
+    private final Timer parseTimer;
+
+    private final Timer resolveTimer;
+
+    private final Timer representationDescriptionsTimer;
+
+    private final Timer postProcessTimer;
+
+    public EditingContextLoader(IDocumentToResourceService documentToResourceService, IEditingDomainFactory editingDomainFactory, List<IEditingContextRepresentationDescriptionProvider> representationDescriptionProviders,
+            List<IEditingContextProcessor> editingContextProcessors, MeterRegistry meterRegistry,
+            @Value("${sirius.web.editingContext.parallelLoading.enabled:false}") boolean parallelLoadingEnabled,
+            @Value("${sirius.web.editingContext.parallelLoading.poolSize:4}") int poolSize,
+            @Value("${sirius.web.editingContext.lazyLoading.enabled:false}") boolean lazyLoadingEnabled) {
+        this.documentToResourceService = Objects.requireNonNull(documentToResourceService);
+        this.editingDomainFactory = Objects.requireNonNull(editingDomainFactory);
+        this.representationDescriptionProviders = Objects.requireNonNull(representationDescriptionProviders);
+        this.editingContextProcessors = Objects.requireNonNull(editingContextProcessors);
+        this.lazyLoadingEnabled = lazyLoadingEnabled;
+        if (parallelLoadingEnabled && !lazyLoadingEnabled) {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.executorService = Executors.newFixedThreadPool(poolSize, (Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Editing context loader " + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executorService = null;
+        }
+
+        this.preProcessTimer = this.createTimer(meterRegistry, PHASE_PRE_PROCESS);
+        this.parseTimer = this.createTimer(meterRegistry, PHASE_PARSE);
+        this.resolveTimer = this.createTimer(meterRegistry, PHASE_RESOLVE);
+        this.representationDescriptionsTimer = this.createTimer(meterRegistry, PHASE_REPRESENTATION_DESCRIPTIONS);
+        this.postProcessTimer = this.createTimer(meterRegistry, PHASE_POST_PROCESS);
+    }
+
+    private Timer createTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder(Monitoring.EDITING_CONTEXT_LOAD)
+                .tag(Monitoring.PHASE, phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public IEditingContext load(Project project, List<Document> documents) {
+        this.logger.debug("Loading the editing context {}", project.getId());
+
+        AdapterFactoryEditingDomain editingDomain = this.editingDomainFactory.createEditingDomain(project);
+        EditingContext editingContext = new EditingContext(project.getId().toString(), editingDomain, new HashMap<>(), new ArrayList<>());
+        this.preProcessTimer.record(() -> this.editingContextProcessors.forEach(processor -> processor.preProcess(editingContext)));
+
+        this.loadDocuments(editingContext, documents);
+
+        this.representationDescriptionsTimer.record(() -> this.representationDescriptionProviders.forEach(representationDescriptionProvider -> {
+            var representationDescriptions = representationDescriptionProvider.getRepresentationDescriptions(editingContext);
+            representationDescriptions.forEach(representationDescription -> editingContext.getRepresentationDescriptions().put(representationDescription.getId(), representationDescription));
+        }));
+
+        this.postProcessTimer.record(() -> this.editingContextProcessors.forEach(processor -> processor.postProcess(editingContext)));
+
+        return editingContext;
+    }
+
+    private void loadDocuments(EditingContext editingContext, List<Document> documents) {
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+        resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
+
+        boolean isParallelLoading = this.executorService != null && documents.size() > 1;
+        Map<Resource, DocumentData> unloadedDocumentData = new LinkedHashMap<>();
+        this.parseTimer.record(() -> {
+            if (this.lazyLoadingEnabled) {
+                var nsHeaderReader = new JsonResourceNsHeaderReader();
+                documents.forEach(document -> unloadedDocumentData.put(this.registerDocument(resourceSet, document), new DocumentData(document, nsHeaderReader.read(document.getContent()))));
+            } else if (isParallelLoading) {
+                resourceSet.getResources().addAll(this.parseDocuments(resourceSet, documents));
+            } else {
+                documents.forEach(document -> this.documentToResourceService.toResource(resourceSet, document));
+            }
+        });
+
+        this.resolveTimer.record(() -> {
+            if (isParallelLoading) {
+                // The references between documents parsed separately can only be resolved once they share the same resource set
+                EcoreUtil.resolveAll(resourceSet);
+            }
+
+            // The ECrossReferenceAdapter must be set after the resource loading because it needs to resolve proxies in case
+            // of inter-resources references
+            if (this.lazyLoadingEnabled) {
+                resourceSet.eAdapters().add(new LazyJsonResourceCrossReferenceAdapter(resourceSet));
+            } else {
+                resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+            }
+
+            // Used to serialize again only the resources modified since the last persistence of the editing context
+            var dirtyResourceTrackingAdapter = new DirtyResourceTrackingAdapter();
+            resourceSet.eAdapters().add(dirtyResourceTrackingAdapter);
+            if (!unloadedDocumentData.isEmpty()) {
+                // The documents which have not been loaded yet can be persisted again as is
+                dirtyResourceTrackingAdapter.setDocumentData(unloadedDocumentData);
+            }
+        });
+
+        this.logger.debug("{} documents loaded for the editing context {}", resourceSet.getResources().size(), editingContext.getId());
+    }
+
+    private Resource registerDocument(ResourceSet resourceSet, Document document) {
+        var uri = new JSONResourceFactory().createResourceURI(document.getId().toString());
+        var resource = new LazyJsonResource(uri, document.getContent());
+        resource.eAdapters().add(new ResourceMetadataAdapter(document.getName()));
+        resourceSet.getResources().add(resource);
+        return resource;
+    }
+
+    private List<Resource> parseDocuments(ResourceSet resourceSet, List<Document> documents) {
+        var packageRegistry = this.createResolvedPackageRegistry(resourceSet.getPackageRegistry(), documents);
+
+        var futures = documents.stream()
+                .map(document -> CompletableFuture.supplyAsync(() -> this.parseDocument(resourceSet, packageRegistry, document), this.executorService))
+                .toList();
+
+        // The resources are attached in the order of the documents to keep the same order as the sequential loading
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Creates the package registry shared by the parsing threads.
+     *
+     * <p>
+     * The packages of the registry of the editing context and the packages used by the documents are resolved on the
+     * current thread into a copy of this registry without any delegate. The descriptors of the registry of the editing
+     * context or of its delegate registries, such as the global one, are thus never resolved concurrently by the
+     * parsing threads.
+     * </p>
+     */
+    private EPackage.Registry createResolvedPackageRegistry(EPackage.Registry packageRegistry, List<Document> documents) {
+        Set<String> nsURIs = new LinkedHashSet<>(packageRegistry.keySet());
+        var nsHeaderReader = new JsonResourceNsHeaderReader();
+        documents.forEach(document -> nsHeaderReader.read(document.getContent()).forEach(ePackageEntry -> nsURIs.add(ePackageEntry.nsURI())));
+
+        EPackage.Registry resolvedPackageRegistry = new EPackageRegistryImpl();
+        for (String nsURI : nsURIs) {
+            var ePackage = packageRegistry.getEPackage(nsURI);
+            if (ePackage != null) {
+                resolvedPackageRegistry.put(nsURI, ePackage);
+            }
+        }
+        return resolvedPackageRegistry;
+    }
+
+    private Optional<Resource> parseDocument(ResourceSet resourceSet, EPackage.Registry packageRegistry, Document document) {
+        ResourceSet isolatedResourceSet = new ResourceSetImpl();
+        isolatedResourceSet.setPackageRegistry(packageRegistry);
+        isolatedResourceSet.getLoadOptions().putAll(resourceSet.getLoadOptions());
+        if (isolatedResourceSet.getLoadOptions().containsKey(JsonResource.OPTION_EXTENDED_META_DATA)) {
+            // The extended metadata keep some caches which must not be shared between the parsing threads
+            isolatedResourceSet.getLoadOptions().put(JsonResource.OPTION_EXTENDED_META_DATA, new BasicExtendedMetaData(packageRegistry));
+        }
+
+        var optionalResource = this.documentToResourceService.toResource(isolatedResourceSet, document);
+        optionalResource.ifPresent(resource -> isolatedResourceSet.getResources().remove(resource));
+        return optionalResource;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (this.executorService != null) {
+            this.executorService.shutdown();
+        }
+    }
+}
@@ -12,23 +12,26 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextPersistenceFilter;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextWriteBehindService;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
@@ -38,6 +41,12 @@ import io.micrometer.core.instrument.Timer;
 /**
  * Used to save the editing context.
  *
+ * <p>
+ * When an eviction delay is configured, the documents loaded on demand which have been persisted without any
+ * modification and which have not been accessed during this delay are unloaded once the editing context has been
+ * persisted.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -51,13 +60,21 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private final List<IEditingContextPersistenceFilter> persistenceFilters;
 
+    private final IEditingContextWriteBehindService editingContextWriteBehindService;
+
+    private final long evictionDelay;
+
     private final Timer timer;
 
-    public EditingContextPersistenceService(ISemanticDataUpdateService semanticDataUpdateService, IResourceToDocumentService resourceToDocumentService, List<IEditingContextPersistenceFilter> persistenceFilters, MeterRegistry meterRegistry) {
+    public EditingContextPersistenceService(ISemanticDataUpdateService semanticDataUpdateService, IResourceToDocumentService resourceToDocumentService, List<IEditingContextPersistenceFilter> persistenceFilters,
+            IEditingContextWriteBehindService editingContextWriteBehindService, MeterRegistry meterRegistry,
+            @Value("${sirius.web.editingContext.lazyLoading.evictionDelay:0}") long evictionDelay) {
         this.semanticDataUpdateService = Objects.requireNonNull(semanticDataUpdateService);
         this.resourceToDocumentService = Objects.requireNonNull(resourceToDocumentService);
         this.persistenceFilters = Objects.requireNonNull(persistenceFilters);
-        this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
+        this.editingContextWriteBehindService = Objects.requireNonNull(editingContextWriteBehindService);
+        this.evictionDelay = evictionDelay;
+        this.timer = Timer.builder(TIMER_NAME).publishPercentileHistogram().register(meterRegistry);
     }
 
     @Override
@@ -67,28 +84,63 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
         if (editingContext instanceof IEMFEditingContext emfEditingContext) {
             new UUIDParser().parse(editingContext.getId())
                     .map(AggregateReference::<Project, UUID>to)
-                    .ifPresent(project -> {
-
-                        var documentData = emfEditingContext.getDomain().getResourceSet().getResources().stream()
-                                .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
-                                .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
-                                .map(this.resourceToDocumentService::toDocument)
-                                .flatMap(Optional::stream)
-                                .collect(Collectors.toSet());
+                    .ifPresent(project -> this.persist(emfEditingContext, project));
+        }
 
-                        var documents = new LinkedHashSet<Document>();
-                        var domainUris = new LinkedHashSet<String>();
+        long end = System.currentTimeMillis();
+        this.timer.record(end - start, TimeUnit.MILLISECONDS);
+    }
 
-                        documentData.forEach(data -> {
-                            documents.add(data.document());
-                            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
-                        });
+    private void persist(IEMFEditingContext editingContext, AggregateReference<Project, UUID> project) {
+        var resourceSet = editingContext.getDomain().getResourceSet();
+        var resources = resourceSet.getResources().stream()
+                .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
+                .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
+                .toList();
+
+        var optionalDirtyResourceTrackingAdapter = resourceSet.eAdapters().stream()
+                .filter(DirtyResourceTrackingAdapter.class::isInstance)
+                .map(DirtyResourceTrackingAdapter.class::cast)
+                .findFirst();
+
+        boolean hasChanges = optionalDirtyResourceTrackingAdapter.map(adapter -> adapter.hasChanges(resources)).orElse(true);
+        if (hasChanges) {
+            // Only the resources modified since the last persistence are serialized again
+            Map<Resource, DocumentData> documentDataByResource = new LinkedHashMap<>();
+            resources.forEach(resource -> optionalDirtyResourceTrackingAdapter.flatMap(adapter -> adapter.getDocumentData(resource))
+                    .or(() -> this.resourceToDocumentService.toDocument(resource))
+                    .ifPresent(documentData -> documentDataByResource.put(resource, documentData)));
+
+            var documents = new LinkedHashSet<Document>();
+            var domainUris = new LinkedHashSet<String>();
+
+            documentDataByResource.values().forEach(data -> {
+                documents.add(data.document());
+                domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
+            });
+
+            // The documents are computed here since the resource set can only be read by the thread of the editing context
+            this.editingContextWriteBehindService.submit(editingContext.getId(), () -> this.semanticDataUpdateService.updateDocuments(project, documents, domainUris));
+
+            optionalDirtyResourceTrackingAdapter.ifPresent(adapter -> adapter.setDocumentData(documentDataByResource));
+        }
 
-                        this.semanticDataUpdateService.updateDocuments(project, documents, domainUris);
-                    });
+        if (this.evictionDelay > 0) {
+            optionalDirtyResourceTrackingAdapter.ifPresent(adapter -> this.evictUntouchedResources(resources, adapter));
         }
+    }
 
-        long end = System.currentTimeMillis();
-        this.timer.record(end - start, TimeUnit.MILLISECONDS);
+    private void evictUntouchedResources(List<Resource> resources, DirtyResourceTrackingAdapter adapter) {
+        long now = System.currentTimeMillis();
+        resources.stream()
+                .filter(LazyJsonResource.class::isInstance)
+                .map(LazyJsonResource.class::cast)
+                .filter(resource -> resource.isLoaded() && now - resource.getLastAccessedOn() > this.evictionDelay)
+                .forEach(resource -> adapter.getDocumentData(resource).ifPresent(documentData -> resource.evict(documentData.document().getContent())));
+    }
+
+    @Override
+    public void flush(IEditingContext editingContext) {
+        this.editingContextWriteBehindService.flush(editingContext.getId());
     }
 }
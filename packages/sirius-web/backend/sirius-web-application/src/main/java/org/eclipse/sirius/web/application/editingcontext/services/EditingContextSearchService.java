@@ -12,32 +12,22 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.core.api.IEditingContext;
-import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
-import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
-import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
-import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.application.UUIDParser;
-import org.eclipse.sirius.web.application.editingcontext.EditingContext;
-import org.eclipse.sirius.web.application.editingcontext.services.api.IDocumentToResourceService;
-import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingDomainFactory;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextLoader;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
@@ -52,33 +42,32 @@ import io.micrometer.core.instrument.Timer;
 @Service
 public class EditingContextSearchService implements IEditingContextSearchService {
 
-    private static final String TIMER_NAME = "siriusweb_editingcontext_load";
+    private static final String PHASE_QUERY = "query";
 
-    private final Logger logger = LoggerFactory.getLogger(EditingContextSearchService.class);
+    private static final String PHASE_TOTAL = "total";
 
     private final IProjectSearchService projectSearchService;
 
     private final ISemanticDataSearchService semanticDataSearchService;
 
-    private final IDocumentToResourceService documentToResourceService;
+    private final IEditingContextLoader editingContextLoader;
 
-    private final IEditingDomainFactory editingDomainFactory;
-
-    private final List<IEditingContextRepresentationDescriptionProvider> representationDescriptionProviders;
-
-    private final List<IEditingContextProcessor> editingContextProcessors;
+    private final Timer queryTimer;
 
     private final Timer timer;
 
-    public EditingContextSearchService(IProjectSearchService projectSearchService, ISemanticDataSearchService semanticDataSearchService, IDocumentToResourceService documentToResourceService, IEditingDomainFactory editingDomainFactory,
-                                       List<IEditingContextRepresentationDescriptionProvider> representationDescriptionProviders, List<IEditingContextProcessor> editingContextProcessors, MeterRegistry meterRegistry) {
+    public EditingContextSearchService(IProjectSearchService projectSearchService, ISemanticDataSearchService semanticDataSearchService, IEditingContextLoader editingContextLoader, MeterRegistry meterRegistry) {
         this.projectSearchService = Objects.requireNonNull(projectSearchService);
         this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
-        this.documentToResourceService = Objects.requireNonNull(documentToResourceService);
-        this.editingDomainFactory = Objects.requireNonNull(editingDomainFactory);
-        this.representationDescriptionProviders = Objects.requireNonNull(representationDescriptionProviders);
-        this.editingContextProcessors = Objects.requireNonNull(editingContextProcessors);
-        this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
+        this.editingContextLoader = Objects.requireNonNull(editingContextLoader);
+        this.queryTimer = Timer.builder(Monitoring.EDITING_CONTEXT_LOAD)
+                .tag(Monitoring.PHASE, PHASE_QUERY)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.timer = Timer.builder(Monitoring.EDITING_CONTEXT_LOAD)
+                .tag(Monitoring.PHASE, PHASE_TOTAL)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
@@ -99,38 +88,15 @@ public class EditingContextSearchService implements IEditingContextSearchService
     private IEditingContext toEditingContext(Project project) {
         long start = System.currentTimeMillis();
 
-        this.logger.debug("Loading the editing context {}", project.getId());
-
-        AdapterFactoryEditingDomain editingDomain = this.editingDomainFactory.createEditingDomain(project);
-        EditingContext editingContext = new EditingContext(project.getId().toString(), editingDomain, new HashMap<>(), new ArrayList<>());
-        this.editingContextProcessors.forEach(processor -> processor.preProcess(editingContext));
-
-        this.semanticDataSearchService.findByProject(AggregateReference.to(project.getId()))
-                .ifPresent(semanticData -> this.loadSemanticData(editingContext, semanticData));
-
-        this.representationDescriptionProviders.forEach(representationDescriptionProvider -> {
-            var representationDescriptions = representationDescriptionProvider.getRepresentationDescriptions(editingContext);
-            representationDescriptions.forEach(representationDescription -> editingContext.getRepresentationDescriptions().put(representationDescription.getId(), representationDescription));
-        });
-
-        this.editingContextProcessors.forEach(processor -> processor.postProcess(editingContext));
+        List<Document> documents = this.queryTimer.record(() -> this.semanticDataSearchService.findByProject(AggregateReference.to(project.getId()))
+                .map(SemanticData::getDocuments)
+                .map(List::<Document>copyOf)
+                .orElse(List.of()));
+        IEditingContext editingContext = this.editingContextLoader.load(project, documents);
 
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
 
         return editingContext;
     }
-
-    private void loadSemanticData(EditingContext editingContext, SemanticData semanticData) {
-        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
-        resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
-
-        semanticData.getDocuments().forEach(document -> this.documentToResourceService.toResource(resourceSet, document));
-
-        // The ECrossReferenceAdapter must be set after the resource loading because it needs to resolve proxies in case
-        // of inter-resources references
-        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
-
-        this.logger.debug("{} documents loaded for the editing context {}", resourceSet.getResources().size(), editingContext.getId());
-    }
 }
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.EditingContextSnapshot;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextSnapshotService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextLoader;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextPersistenceFilter;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextWriteBehindService;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to keep the editing contexts in a compressed form once they have been disposed.
+ *
+ * <p>
+ * The snapshot contains the documents of the editing context along with the last modification date of its semantic
+ * data. An editing context is only restored from its snapshot if its semantic data have not been modified since then,
+ * the regular loading being used otherwise.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextSnapshotService implements IEditingContextSnapshotService {
+
+    /**
+     * Rough estimation of the heap used by a model element along with its adapters.
+     */
+    private static final long ESTIMATED_ELEMENT_SIZE = 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextSnapshotService.class);
+
+    private final IProjectSearchService projectSearchService;
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    private final IEditingContextLoader editingContextLoader;
+
+    private final IResourceToDocumentService resourceToDocumentService;
+
+    private final List<IEditingContextPersistenceFilter> persistenceFilters;
+
+    private final IEditingContextWriteBehindService editingContextWriteBehindService;
+
+    public EditingContextSnapshotService(IProjectSearchService projectSearchService, ISemanticDataSearchService semanticDataSearchService, IEditingContextLoader editingContextLoader,
+            IResourceToDocumentService resourceToDocumentService, List<IEditingContextPersistenceFilter> persistenceFilters, IEditingContextWriteBehindService editingContextWriteBehindService) {
+        this.projectSearchService = Objects.requireNonNull(projectSearchService);
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+        this.editingContextLoader = Objects.requireNonNull(editingContextLoader);
+        this.resourceToDocumentService = Objects.requireNonNull(resourceToDocumentService);
+        this.persistenceFilters = Objects.requireNonNull(persistenceFilters);
+        this.editingContextWriteBehindService = Objects.requireNonNull(editingContextWriteBehindService);
+    }
+
+    @Override
+    public long getEstimatedSize(IEditingContext editingContext) {
+        long elementCount = 0;
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            TreeIterator<Notifier> iterator = emfEditingContext.getDomain().getResourceSet().getAllContents();
+            while (iterator.hasNext()) {
+                iterator.next();
+                elementCount++;
+            }
+        }
+        return elementCount * ESTIMATED_ELEMENT_SIZE;
+    }
+
+    @Override
+    public Optional<EditingContextSnapshot> createSnapshot(IEditingContext editingContext) {
+        Optional<EditingContextSnapshot> optionalSnapshot = Optional.empty();
+
+        var optionalProject = new UUIDParser().parse(editingContext.getId()).map(AggregateReference::<Project, UUID>to);
+        if (editingContext instanceof IEMFEditingContext emfEditingContext && optionalProject.isPresent()) {
+            var documents = this.getDocuments(emfEditingContext);
+
+            // The last modification date is only retrieved once the pending changes have been written
+            this.editingContextWriteBehindService.flush(editingContext.getId());
+            var optionalLastModifiedOn = this.semanticDataSearchService.findLastModifiedOnByProject(optionalProject.get());
+            if (optionalLastModifiedOn.isPresent()) {
+                try {
+                    var content = this.encode(optionalLastModifiedOn.get(), documents);
+                    optionalSnapshot = Optional.of(new EditingContextSnapshot(editingContext.getId(), content));
+                } catch (IOException exception) {
+                    this.logger.warn(exception.getMessage(), exception);
+                }
+            }
+        }
+
+        return optionalSnapshot;
+    }
+
+    private List<Document> getDocuments(IEMFEditingContext editingContext) {
+        var resourceSet = editingContext.getDomain().getResourceSet();
+        var optionalDirtyResourceTrackingAdapter = resourceSet.eAdapters().stream()
+                .filter(DirtyResourceTrackingAdapter.class::isInstance)
+                .map(DirtyResourceTrackingAdapter.class::cast)
+                .findFirst();
+
+        return resourceSet.getResources().stream()
+                .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
+                .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
+                .map(resource -> optionalDirtyResourceTrackingAdapter.flatMap(adapter -> adapter.getDocumentData(resource))
+                        .or(() -> this.resourceToDocumentService.toDocument(resource)))
+                .flatMap(Optional::stream)
+                .map(DocumentData::document)
+                .toList();
+    }
+
+    @Override
+    public Optional<IEditingContext> restoreSnapshot(EditingContextSnapshot snapshot) {
+        Optional<IEditingContext> optionalEditingContext = Optional.empty();
+
+        var optionalProject = new UUIDParser().parse(snapshot.editingContextId()).flatMap(this.projectSearchService::findById);
+        if (optionalProject.isPresent()) {
+            var project = optionalProject.get();
+            var optionalLastModifiedOn = this.semanticDataSearchService.findLastModifiedOnByProject(AggregateReference.to(project.getId()));
+
+            try (var inputStream = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(snapshot.content())))) {
+                var lastModifiedOn = Instant.ofEpochSecond(inputStream.readLong(), inputStream.readInt());
+                if (optionalLastModifiedOn.filter(lastModifiedOn::equals).isPresent()) {
+                    var documents = this.decodeDocuments(inputStream);
+                    optionalEditingContext = Optional.of(this.editingContextLoader.load(project, documents));
+                } else {
+                    this.logger.debug("The snapshot of the editing context {} is out of date", snapshot.editingContextId());
+                }
+            } catch (IOException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+
+        return optionalEditingContext;
+    }
+
+    private byte[] encode(Instant lastModifiedOn, List<Document> documents) throws IOException {
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        try (var outputStream = new DataOutputStream(new GZIPOutputStream(byteArrayOutputStream))) {
+            outputStream.writeLong(lastModifiedOn.getEpochSecond());
+            outputStream.writeInt(lastModifiedOn.getNano());
+            outputStream.writeInt(documents.size());
+            for (var document : documents) {
+                outputStream.writeLong(document.getId().getMostSignificantBits());
+                outputStream.writeLong(document.getId().getLeastSignificantBits());
+                this.writeString(outputStream, document.getName());
+                this.writeString(outputStream, document.getContent());
+            }
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Writes the given string prefixed by the length of its UTF-8 encoding.
+     *
+     * <p>
+     * Contrary to {@link DataOutputStream#writeUTF(String)}, the length of the strings written is not limited to 64KB.
+     * </p>
+     */
+    private void writeString(DataOutputStream outputStream, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    private List<Document> decodeDocuments(DataInputStream inputStream) throws IOException {
+        int documentCount = inputStream.readInt();
+        List<Document> documents = new ArrayList<>(documentCount);
+        for (int i = 0; i < documentCount; i++) {
+            var id = new UUID(inputStream.readLong(), inputStream.readLong());
+            var name = this.readString(inputStream);
+            var content = this.readString(inputStream);
+
+            var document = Document.newDocument(id)
+                    .name(name)
+                    .content(content)
+                    .build();
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    private String readString(DataInputStream inputStream) throws IOException {
+        byte[] bytes = inputStream.readNBytes(inputStream.readInt());
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextWriteBehindService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Used to defer the writes of the semantic data of the editing contexts.
+ *
+ * <p>
+ * When the write-behind is enabled, the writes of an editing context are performed once no change has been submitted
+ * during the debounce interval, once the oldest pending change has waited for the maximum lag or once the number of
+ * pending changes reaches a threshold. Only the latest write submitted is performed since it contains the whole state
+ * of the editing context. When the write-behind is disabled, writes are performed synchronously.
+ * </p>
+ *
+ * <p>
+ * A background write which has failed is retried after a delay starting with the debounce interval and doubled after
+ * each consecutive failure, up to a maximum delay.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextWriteBehindService implements IEditingContextWriteBehindService {
+
+    private static final String FLUSH_TIMER_NAME = "siriusweb_editingcontext_flush";
+
+    private static final String FLUSH_LAG_TIMER_NAME = "siriusweb_editingcontext_flush_lag";
+
+    private static final String FLUSH_FAILURES_COUNTER_NAME = "siriusweb_editingcontext_flush_failures";
+
+    private static final Duration MIN_RETRY_DELAY = Duration.ofMillis(100);
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextWriteBehindService.class);
+
+    private final boolean enabled;
+
+    private final Duration debounceInterval;
+
+    private final Duration maxLag;
+
+    private final int maxPendingChanges;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+
+    private final Timer flushLagTimer;
+
+    private final Counter flushFailuresCounter;
+
+    public EditingContextWriteBehindService(@Value("${sirius.web.editingContext.writeBehind.enabled:false}") boolean enabled,
+            @Value("${sirius.web.editingContext.writeBehind.debounceInterval:500ms}") Duration debounceInterval,
+            @Value("${sirius.web.editingContext.writeBehind.maxLag:5s}") Duration maxLag,
+            @Value("${sirius.web.editingContext.writeBehind.maxPendingChanges:50}") int maxPendingChanges,
+            @Value("${sirius.web.editingContext.writeBehind.poolSize:2}") int poolSize,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.debounceInterval = Objects.requireNonNull(debounceInterval);
+        this.maxLag = Objects.requireNonNull(maxLag);
+        this.maxPendingChanges = maxPendingChanges;
+        if (enabled) {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.scheduledExecutorService = Executors.newScheduledThreadPool(poolSize, (Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Editing context writer " + threadCount.incrementAndGet());
+                return thread;
+            });
+        } else {
+            this.scheduledExecutorService = null;
+        }
+
+        this.flushTimer = Timer.builder(FLUSH_TIMER_NAME).publishPercentileHistogram().register(meterRegistry);
+        this.flushLagTimer = Timer.builder(FLUSH_LAG_TIMER_NAME).publishPercentileHistogram().register(meterRegistry);
+        this.flushFailuresCounter = Counter.builder(FLUSH_FAILURES_COUNTER_NAME).register(meterRegistry);
+    }
+
+    @Override
+    public void submit(String editingContextId, Runnable write) {
+        Objects.requireNonNull(write);
+        if (!this.enabled) {
+            write.run();
+            return;
+        }
+
+        this.pendingWrites.compute(editingContextId, (key, existingPendingWrite) -> {
+            var pendingWrite = existingPendingWrite;
+            if (pendingWrite == null) {
+                pendingWrite = new PendingWrite(key);
+            }
+
+            synchronized (pendingWrite) {
+                if (pendingWrite.write == null) {
+                    pendingWrite.firstChangeNanos = System.nanoTime();
+                }
+                pendingWrite.write = write;
+                pendingWrite.pendingChanges++;
+
+                long delay = 0;
+                if (pendingWrite.pendingChanges < this.maxPendingChanges) {
+                    long remainingLag = this.maxLag.toNanos() - (System.nanoTime() - pendingWrite.firstChangeNanos);
+                    delay = Math.max(0, Math.min(this.debounceInterval.toNanos(), remainingLag));
+                }
+                this.schedule(pendingWrite, delay);
+            }
+            return pendingWrite;
+        });
+    }
+
+    private void schedule(PendingWrite pendingWrite, long delay) {
+        if (pendingWrite.scheduledFlush != null) {
+            pendingWrite.scheduledFlush.cancel(false);
+        }
+        pendingWrite.scheduledFlush = this.scheduledExecutorService.schedule(() -> this.flushInBackground(pendingWrite), delay, TimeUnit.NANOSECONDS);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void flushInBackground(PendingWrite pendingWrite) {
+        try {
+            this.flush(pendingWrite);
+        } catch (RuntimeException exception) {
+            // The failure has already been logged, the write will be retried unless the service is being disposed
+            synchronized (pendingWrite) {
+                pendingWrite.failedFlushes++;
+                if (!this.scheduledExecutorService.isShutdown()) {
+                    this.schedule(pendingWrite, this.getRetryDelay(pendingWrite.failedFlushes));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the delay before the next attempt to perform a write, doubled after each consecutive failure.
+     */
+    private long getRetryDelay(int failedFlushes) {
+        long retryDelay = Math.max(this.debounceInterval.toNanos(), MIN_RETRY_DELAY.toNanos());
+        for (int i = 1; i < failedFlushes && retryDelay < MAX_RETRY_DELAY.toNanos(); i++) {
+            retryDelay = retryDelay * 2;
+        }
+        return Math.min(retryDelay, MAX_RETRY_DELAY.toNanos());
+    }
+
+    @Override
+    public void flush(String editingContextId) {
+        var pendingWrite = this.pendingWrites.get(editingContextId);
+        if (pendingWrite != null) {
+            synchronized (pendingWrite) {
+                if (pendingWrite.scheduledFlush != null) {
+                    pendingWrite.scheduledFlush.cancel(false);
+                    pendingWrite.scheduledFlush = null;
+                }
+            }
+            this.flush(pendingWrite);
+        }
+    }
+
+    /**
+     * Performs the pending write, if any.
+     *
+     * <p>
+     * The write lock guarantees that the writes of an editing context are performed one at a time and since the write
+     * is retrieved while holding this lock, an older write can never be performed after a newer one. The pending write
+     * is forgotten once it has been performed successfully and nothing else has been submitted in the meantime, a new
+     * one will then be created by the next submission.
+     * </p>
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void flush(PendingWrite pendingWrite) {
+        synchronized (pendingWrite.writeLock) {
+            Runnable write;
+            int pendingChanges;
+            long firstChangeNanos;
+            synchronized (pendingWrite) {
+                write = pendingWrite.write;
+                pendingChanges = pendingWrite.pendingChanges;
+                firstChangeNanos = pendingWrite.firstChangeNanos;
+                pendingWrite.write = null;
+                pendingWrite.pendingChanges = 0;
+            }
+
+            if (write != null) {
+                long start = System.nanoTime();
+                try {
+                    write.run();
+                } catch (RuntimeException exception) {
+                    this.flushFailuresCounter.increment();
+                    this.logger.error("An error has occurred while writing the {} pending changes of the editing context {}", pendingChanges, pendingWrite.editingContextId, exception);
+
+                    synchronized (pendingWrite) {
+                        if (pendingWrite.write == null) {
+                            pendingWrite.write = write;
+                            pendingWrite.pendingChanges = pendingChanges;
+                            pendingWrite.firstChangeNanos = firstChangeNanos;
+                        }
+                    }
+                    throw exception;
+                }
+
+                long end = System.nanoTime();
+                this.flushTimer.record(end - start, TimeUnit.NANOSECONDS);
+                this.flushLagTimer.record(end - firstChangeNanos, TimeUnit.NANOSECONDS);
+
+                synchronized (pendingWrite) {
+                    pendingWrite.failedFlushes = 0;
+                }
+            }
+
+            this.pendingWrites.computeIfPresent(pendingWrite.editingContextId, (key, existingPendingWrite) -> {
+                synchronized (existingPendingWrite) {
+                    if (existingPendingWrite == pendingWrite && existingPendingWrite.write == null) {
+                        return null;
+                    }
+                    return existingPendingWrite;
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void dispose() {
+        if (this.scheduledExecutorService != null) {
+            List.copyOf(this.pendingWrites.keySet()).forEach(editingContextId -> {
+                try {
+                    this.flush(editingContextId);
+                } catch (RuntimeException exception) {
+                    // The failure has already been logged
+                }
+            });
+            this.scheduledExecutorService.shutdown();
+        }
+    }
+
+    /**
+     * The latest write submitted for an editing context and not performed yet.
+     *
+     * @author agent
+     */
+    public static final class PendingWrite {
+
+        private final String editingContextId;
+
+        private final Object writeLock = new Object();
+
+        private Runnable write;
+
+        private int pendingChanges;
+
+        private long firstChangeNanos;
+
+        private int failedFlushes;
+
+        private ScheduledFuture<?> scheduledFlush;
+
+        public PendingWrite(String editingContextId) {
+            this.editingContextId = editingContextId;
+        }
+    }
+}
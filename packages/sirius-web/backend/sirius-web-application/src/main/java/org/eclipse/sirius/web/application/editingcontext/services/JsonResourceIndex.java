@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Used to store the identifiers of the objects contained and referenced by a document which has not been loaded.
+ *
+ * @author agent
+ */
+public record JsonResourceIndex(Set<String> objectIds, Set<String> referencedObjectIds) {
+    public JsonResourceIndex {
+        Objects.requireNonNull(objectIds);
+        Objects.requireNonNull(referencedObjectIds);
+    }
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Used to read the identifiers of the objects contained and referenced by the content of a JsonResource without
+ * creating those objects.
+ *
+ * <p>
+ * The objects are identified by a UUID. The references are either the identifier of the referenced object or the URI
+ * of the referenced object, its fragment being the identifier. Any other string value which ends with an identifier is
+ * thus considered as a reference, which may only lead to load a document which does not reference an object.
+ * </p>
+ *
+ * @author agent
+ */
+public class JsonResourceIndexReader {
+
+    private static final String CONTENT = "content";
+
+    private static final String ID = "id";
+
+    private static final int ID_LENGTH = 36;
+
+    private final Logger logger = LoggerFactory.getLogger(JsonResourceIndexReader.class);
+
+    public JsonResourceIndex read(String content) {
+        Set<String> objectIds = new HashSet<>();
+        Set<String> referencedObjectIds = new HashSet<>();
+
+        try (var jsonReader = new JsonReader(new StringReader(content))) {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+                if (CONTENT.equals(name)) {
+                    this.readValue(jsonReader, name, objectIds, referencedObjectIds);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+        } catch (IOException | IllegalStateException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+
+        return new JsonResourceIndex(objectIds, referencedObjectIds);
+    }
+
+    private void readValue(JsonReader jsonReader, String name, Set<String> objectIds, Set<String> referencedObjectIds) throws IOException {
+        switch (jsonReader.peek()) {
+            case BEGIN_OBJECT -> {
+                jsonReader.beginObject();
+                while (jsonReader.hasNext()) {
+                    this.readValue(jsonReader, jsonReader.nextName(), objectIds, referencedObjectIds);
+                }
+                jsonReader.endObject();
+            }
+            case BEGIN_ARRAY -> {
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    this.readValue(jsonReader, name, objectIds, referencedObjectIds);
+                }
+                jsonReader.endArray();
+            }
+            case STRING -> {
+                String value = jsonReader.nextString();
+                if (ID.equals(name)) {
+                    objectIds.add(value);
+                } else {
+                    String fragment = value.substring(value.lastIndexOf('#') + 1);
+                    if (fragment.length() == ID_LENGTH) {
+                        referencedObjectIds.add(fragment);
+                    }
+                }
+            }
+            default -> jsonReader.skipValue();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Used to read the EPackage used in the content of a JsonResource without parsing the whole document.
+ *
+ * <p>
+ * The ns header is written before the content of the document, the reading thus stops as soon as it has been read.
+ * </p>
+ *
+ * @author agent
+ */
+public class JsonResourceNsHeaderReader {
+
+    private static final String NS_HEADER = "ns";
+
+    private final Logger logger = LoggerFactory.getLogger(JsonResourceNsHeaderReader.class);
+
+    public List<EPackageEntry> read(String content) {
+        List<EPackageEntry> ePackageEntries = new ArrayList<>();
+
+        try (var jsonReader = new JsonReader(new StringReader(content))) {
+            jsonReader.beginObject();
+
+            boolean isNsHeaderRead = false;
+            while (!isNsHeaderRead && jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+                if (NS_HEADER.equals(name) && jsonReader.peek() == JsonToken.BEGIN_OBJECT) {
+                    jsonReader.beginObject();
+                    while (jsonReader.hasNext()) {
+                        String nsPrefix = jsonReader.nextName();
+                        String nsURI = jsonReader.nextString();
+                        ePackageEntries.add(new EPackageEntry(nsPrefix, nsURI));
+                    }
+                    isNsHeaderRead = true;
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+        } catch (IOException | IllegalStateException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+
+        return ePackageEntries;
+    }
+}
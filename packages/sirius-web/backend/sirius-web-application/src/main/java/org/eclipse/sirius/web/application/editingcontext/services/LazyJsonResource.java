@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.emf.services.EObjectIDManager;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A JSON resource registered in the resource set of an editing context without being parsed.
+ *
+ * <p>
+ * The content of the document is only parsed the first time the resource is needed, either by the resolution of a
+ * proxy, which relies on the regular demand loading of the resource set, by the lookup of the identifier of an object
+ * contained in the document or by an explicit call to {@link #loadOnDemand()}. The identifiers of the objects contained
+ * and referenced by the document are read once without parsing the whole document in order to answer those lookups
+ * and to let the {@link LazyJsonResourceCrossReferenceAdapter} find the documents which are referencing an object.
+ * </p>
+ *
+ * <p>
+ * Once the resource has been persisted without any modification, it can be evicted in order to go back to its
+ * unloaded state. Any access to the resource or to its content postpones its eviction.
+ * </p>
+ *
+ * @author agent
+ */
+public class LazyJsonResource extends JsonResourceImpl {
+
+    private final Logger logger = LoggerFactory.getLogger(LazyJsonResource.class);
+
+    private String content;
+
+    private JsonResourceIndex index;
+
+    private long lastAccessedOn;
+
+    public LazyJsonResource(URI uri, String content) {
+        // Uses the same options as the resources created by the JSONResourceFactory
+        super(uri, new HashMap<>(Map.of(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager(), JsonResource.OPTION_DISPLAY_DYNAMIC_INSTANCES, true)));
+        this.content = Objects.requireNonNull(content);
+        this.lastAccessedOn = System.currentTimeMillis();
+    }
+
+    /**
+     * Loads the resource with the load options of its resource set if it has not been loaded yet.
+     */
+    public void loadOnDemand() {
+        this.lastAccessedOn = System.currentTimeMillis();
+        if (!this.isLoaded() && !this.isLoading() && this.getResourceSet() != null) {
+            try {
+                // Relies on the demand loading of the resource set in order to use its load options
+                this.getResourceSet().getResource(this.getURI(), true);
+            } catch (WrappedException exception) {
+                this.logger.warn("An error occured while loading document {}: {}.", this.getURI(), exception.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void load(Map<?, ?> options) throws IOException {
+        if (!this.isLoaded() && this.content != null) {
+            try (var inputStream = new ByteArrayInputStream(this.content.getBytes(StandardCharsets.UTF_8))) {
+                this.load(inputStream, options);
+            }
+            // The content will be provided again if the resource is evicted
+            this.content = null;
+            this.index = null;
+        }
+    }
+
+    @Override
+    public EList<EObject> getContents() {
+        this.lastAccessedOn = System.currentTimeMillis();
+        return super.getContents();
+    }
+
+    @Override
+    public EObject getEObject(String uriFragment) {
+        this.lastAccessedOn = System.currentTimeMillis();
+        // The objects of the documents are always identified by their identifier, a fragment based on the path of an
+        // object can thus only target an object of a loaded resource
+        if (this.isUnloaded() && this.getIndex().objectIds().contains(uriFragment)) {
+            this.loadOnDemand();
+        }
+        return super.getEObject(uriFragment);
+    }
+
+    /**
+     * Returns the identifiers of the objects contained in the document if it has not been loaded yet.
+     *
+     * @return The identifiers of the objects or an empty set if the resource is loaded
+     */
+    public Set<String> getUnloadedObjectIds() {
+        Set<String> objectIds = Set.of();
+        if (this.isUnloaded()) {
+            objectIds = this.getIndex().objectIds();
+        }
+        return objectIds;
+    }
+
+    /**
+     * Indicates if the document has not been loaded yet and may reference some of the given objects.
+     *
+     * @param objectIds
+     *         The identifiers of the objects
+     * @return <code>true</code> if the document should be loaded to find the references to those objects
+     */
+    public boolean mayReference(Set<String> objectIds) {
+        return this.isUnloaded() && objectIds.stream().anyMatch(this.getIndex().referencedObjectIds()::contains);
+    }
+
+    private boolean isUnloaded() {
+        return !this.isLoaded() && !this.isLoading() && this.content != null;
+    }
+
+    private JsonResourceIndex getIndex() {
+        if (this.index == null) {
+            this.index = new JsonResourceIndexReader().read(this.content);
+        }
+        return this.index;
+    }
+
+    /**
+     * Unloads the resource and keeps the given content to load it again if necessary.
+     *
+     * @param persistedContent
+     *         The content of the resource as it has been persisted for the last time
+     */
+    public void evict(String persistedContent) {
+        this.unload();
+        this.content = Objects.requireNonNull(persistedContent);
+        this.index = null;
+    }
+
+    public long getLastAccessedOn() {
+        return this.lastAccessedOn;
+    }
+}
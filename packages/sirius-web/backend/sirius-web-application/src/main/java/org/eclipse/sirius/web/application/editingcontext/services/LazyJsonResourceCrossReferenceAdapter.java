@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.emf.services.EObjectIDManager;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+
+/**
+ * The cross reference adapter of an editing context whose documents are loaded on demand.
+ *
+ * <p>
+ * The references from the documents which have not been loaded yet are not known by a regular cross reference
+ * adapter. The documents which may reference an object are thus loaded before the inverse references of this object
+ * are computed. When an object is deleted or moved to another document, the documents which have not been loaded yet
+ * and which may reference it are also loaded in order to remove or update those references.
+ * </p>
+ *
+ * @author agent
+ */
+public class LazyJsonResourceCrossReferenceAdapter extends EditingContextCrossReferenceAdapter {
+
+    private final ResourceSet resourceSet;
+
+    private final EObjectIDManager idManager = new EObjectIDManager();
+
+    public LazyJsonResourceCrossReferenceAdapter(ResourceSet resourceSet) {
+        this.resourceSet = Objects.requireNonNull(resourceSet);
+    }
+
+    @Override
+    public Collection<Setting> getInverseReferences(EObject eObject, boolean resolve) {
+        this.idManager.findId(eObject).ifPresent(id -> this.loadReferencingResources(Set.of(id)));
+        return super.getInverseReferences(eObject, resolve);
+    }
+
+    @Override
+    public Collection<Setting> getNonNavigableInverseReferences(EObject eObject, boolean resolve) {
+        this.idManager.findId(eObject).ifPresent(id -> this.loadReferencingResources(Set.of(id)));
+        return super.getNonNavigableInverseReferences(eObject, resolve);
+    }
+
+    @Override
+    protected void handleContainment(Notification notification) {
+        // The referencing documents are loaded before the regular handling of the removal which would otherwise load
+        // them while looking for the inverse references of objects which cannot be found anymore. The objects removed
+        // while their resource is unloaded, for example during an eviction, are not deleted.
+        boolean isUnloading = notification.getNotifier() instanceof Resource resource && !resource.isLoaded();
+        if (!isUnloading && notification.getEventType() == Notification.REMOVE) {
+            this.handleRemovedObjects(notification.getNotifier(), Collections.singletonList(notification.getOldValue()));
+        } else if (!isUnloading && notification.getEventType() == Notification.REMOVE_MANY && notification.getOldValue() instanceof Collection<?> oldValues) {
+            this.handleRemovedObjects(notification.getNotifier(), oldValues);
+        }
+
+        super.handleContainment(notification);
+    }
+
+    private void handleRemovedObjects(Object notifier, Collection<?> removedObjects) {
+        Set<String> deletedObjectIds = new HashSet<>();
+        Map<String, EObject> movedObjects = new HashMap<>();
+
+        for (Object removedObject : removedObjects) {
+            if (removedObject instanceof LazyJsonResource lazyJsonResource && !lazyJsonResource.isLoaded()) {
+                deletedObjectIds.addAll(lazyJsonResource.getUnloadedObjectIds());
+            } else if (removedObject instanceof Resource resource) {
+                this.getAllObjects(resource.getContents()).forEach(eObject -> this.idManager.findId(eObject).ifPresent(deletedObjectIds::add));
+            } else if (removedObject instanceof EObject eObject) {
+                Resource oldResource = null;
+                if (notifier instanceof Resource resource) {
+                    oldResource = resource;
+                } else if (notifier instanceof EObject container) {
+                    oldResource = container.eResource();
+                }
+
+                Resource newResource = eObject.eResource();
+                boolean isDeleted = newResource == null || newResource.getResourceSet() == null;
+                if (isDeleted) {
+                    this.getAllObjects(List.of(eObject)).forEach(object -> this.idManager.findId(object).ifPresent(deletedObjectIds::add));
+                } else if (newResource != oldResource) {
+                    this.getAllObjects(List.of(eObject)).forEach(object -> this.idManager.findId(object).ifPresent(id -> movedObjects.put(id, object)));
+                }
+            }
+        }
+
+        Set<String> objectIds = new HashSet<>(deletedObjectIds);
+        objectIds.addAll(movedObjects.keySet());
+        if (!objectIds.isEmpty()) {
+            var referencingResources = this.loadReferencingResources(objectIds);
+            referencingResources.forEach(resource -> this.updateProxies(resource, deletedObjectIds, movedObjects));
+        }
+    }
+
+    private List<EObject> getAllObjects(List<EObject> roots) {
+        List<EObject> eObjects = new ArrayList<>();
+        TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(roots, false);
+        while (iterator.hasNext()) {
+            eObjects.add(iterator.next());
+        }
+        return eObjects;
+    }
+
+    private List<LazyJsonResource> loadReferencingResources(Set<String> objectIds) {
+        var referencingResources = this.resourceSet.getResources().stream()
+                .filter(LazyJsonResource.class::isInstance)
+                .map(LazyJsonResource.class::cast)
+                .filter(resource -> resource.mayReference(objectIds))
+                .toList();
+        referencingResources.forEach(LazyJsonResource::loadOnDemand);
+        return referencingResources;
+    }
+
+    /**
+     * Removes the references to the deleted objects and replaces the references to the moved objects, which have been
+     * loaded as proxies since they cannot be found anymore at the location they had when the document has been
+     * persisted.
+     */
+    private void updateProxies(Resource resource, Set<String> deletedObjectIds, Map<String, EObject> movedObjects) {
+        EcoreUtil.ProxyCrossReferencer.find(resource).forEach((proxy, settings) -> {
+            String id = ((InternalEObject) proxy).eProxyURI().fragment();
+            var changeableSettings = settings.stream()
+                    .filter(setting -> setting.getEStructuralFeature().isChangeable() && !setting.getEStructuralFeature().isDerived())
+                    .toList();
+            if (movedObjects.containsKey(id)) {
+                changeableSettings.forEach(setting -> this.replace(setting, proxy, movedObjects.get(id)));
+            } else if (deletedObjectIds.contains(id)) {
+                changeableSettings.forEach(setting -> this.replace(setting, proxy, null));
+            }
+        });
+    }
+
+    /**
+     * Replaces the proxy if the setting still contains it, since a setting may have been updated by an opposite or
+     * synchronized feature while the previous settings were updated.
+     */
+    @SuppressWarnings("unchecked")
+    private void replace(Setting setting, EObject proxy, EObject eObject) {
+        Object value = setting.get(false);
+        if (value instanceof List<?> values) {
+            int index = values.indexOf(proxy);
+            if (index >= 0 && eObject != null) {
+                ((List<Object>) values).set(index, eObject);
+            } else if (index >= 0) {
+                values.remove(index);
+            }
+        } else if (value == proxy) {
+            if (eObject != null) {
+                setting.set(eObject);
+            } else {
+                setting.unset();
+            }
+        }
+    }
+}
@@ -41,6 +41,11 @@ public class ResourceToDocumentService implements IResourceToDocumentService {
 
     @Override
     public Optional<DocumentData> toDocument(Resource resource) {
+        if (resource instanceof LazyJsonResource lazyJsonResource) {
+            // A document which has not been loaded yet must not be serialized as an empty document
+            lazyJsonResource.loadOnDemand();
+        }
+
         var serializationListener = new JsonResourceSerializationListener();
 
         HashMap<Object, Object> options = new HashMap<>();
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services.api;
+
+/**
+ * Used to defer the writes of the semantic data of the editing contexts.
+ *
+ * @author agent
+ */
+public interface IEditingContextWriteBehindService {
+
+    /**
+     * Submits the write of the latest state of an editing context.
+     *
+     * <p>
+     * The write may be performed later and it may be superseded by a write submitted afterward for the same editing
+     * context. The writes of an editing context are never performed concurrently nor out of order.
+     * </p>
+     *
+     * @param editingContextId
+     *         The identifier of the editing context
+     * @param write
+     *         The write of the latest state of the editing context
+     */
+    void submit(String editingContextId, Runnable write);
+
+    /**
+     * Performs right away the pending write of the given editing context, if any, and waits for its completion.
+     *
+     * <p>
+     * The failure of the write is propagated to the caller and the write will be retried during the next flush.
+     * </p>
+     *
+     * @param editingContextId
+     *         The identifier of the editing context
+     */
+    void flush(String editingContextId);
+}
@@ -12,15 +12,23 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.representation.controllers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
 import org.eclipse.sirius.components.core.RepresentationMetadata;
 import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.dto.PageInfoWithCount;
 import org.eclipse.sirius.web.application.representation.services.api.IRepresentationApplicationService;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import graphql.relay.Connection;
 import graphql.relay.ConnectionCursor;
@@ -39,6 +47,24 @@ import graphql.schema.DataFetchingEnvironment;
 @QueryDataFetcher(type = "EditingContext", field = "representations")
 public class EditingContextRepresentationsDataFetcher implements IDataFetcherWithFieldCoordinates<Connection<RepresentationMetadata>> {
 
+    private static final String FIRST_ARGUMENT = "first";
+
+    private static final String AFTER_ARGUMENT = "after";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String REPRESENTATION_METADATA_TYPE = "RepresentationMetadata";
+
+    private static final String SEPARATOR = ":";
+
+    private static final String LABEL_KEY = "label";
+
+    private static final String ID_KEY = "id";
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextRepresentationsDataFetcher.class);
+
     private final IRepresentationApplicationService representationApplicationService;
 
     public EditingContextRepresentationsDataFetcher(IRepresentationApplicationService representationApplicationService) {
@@ -48,16 +74,27 @@ public class EditingContextRepresentationsDataFetcher implements IDataFetcherWit
     @Override
     public Connection<RepresentationMetadata> get(DataFetchingEnvironment environment) throws Exception {
         String editingContextId = environment.getSource();
-        var representationMetadataPage = this.representationApplicationService.findAllByEditingContextId(editingContextId, PageRequest.of(0, 20));
-        return this.toConnection(representationMetadataPage);
+        int first = Optional.ofNullable(environment.<Integer>getArgument(FIRST_ARGUMENT))
+                .filter(value -> value > 0)
+                .map(value -> Math.min(value, MAX_PAGE_SIZE))
+                .orElse(DEFAULT_PAGE_SIZE);
+        Optional<String> optionalCursor = Optional.ofNullable(environment.<String>getArgument(AFTER_ARGUMENT));
+
+        // An invalid cursor does not match any representation
+        var optionalPosition = optionalCursor.map(this::toPosition).orElse(Optional.of(ScrollPosition.keyset()));
+        return optionalPosition.map(position -> {
+            var representationMetadataWindow = this.representationApplicationService.findAllByEditingContextIdAfter(editingContextId, position, first);
+            var count = this.representationApplicationService.countByEditingContextId(editingContextId);
+            return this.toConnection(representationMetadataWindow, optionalCursor.isPresent(), count);
+        }).orElseGet(() -> new DefaultConnection<>(List.of(), new PageInfoWithCount(null, null, true, false, 0)));
     }
 
-    private Connection<RepresentationMetadata> toConnection(Page<RepresentationMetadata> representationMetadataPage) {
-        var edges = representationMetadataPage.stream().map(representationMetadata -> {
-            var globalId = new Relay().toGlobalId("RepresentationMetadata", representationMetadata.getId());
-            var cursor = new DefaultConnectionCursor(globalId);
-            return (Edge<RepresentationMetadata>) new DefaultEdge<>(representationMetadata, cursor);
-        }).toList();
+    private Connection<RepresentationMetadata> toConnection(Window<RepresentationMetadata> representationMetadataWindow, boolean hasPreviousPage, long count) {
+        List<Edge<RepresentationMetadata>> edges = new ArrayList<>();
+        for (int index = 0; index < representationMetadataWindow.size(); index++) {
+            var cursor = new DefaultConnectionCursor(this.toCursor(representationMetadataWindow.positionAt(index)));
+            edges.add(new DefaultEdge<>(representationMetadataWindow.getContent().get(index), cursor));
+        }
 
         ConnectionCursor startCursor = edges.stream().findFirst()
                 .map(Edge::getCursor)
@@ -66,7 +103,42 @@ public class EditingContextRepresentationsDataFetcher implements IDataFetcherWit
         if (!edges.isEmpty()) {
             endCursor = edges.get(edges.size() - 1).getCursor();
         }
-        var pageInfo = new PageInfoWithCount(startCursor, endCursor, representationMetadataPage.hasPrevious(), representationMetadataPage.hasNext(), representationMetadataPage.getTotalElements());
+        var pageInfo = new PageInfoWithCount(startCursor, endCursor, hasPreviousPage, representationMetadataWindow.hasNext(), count);
         return new DefaultConnection<>(edges, pageInfo);
     }
+
+    /**
+     * Encodes the label and the identifier of the representation in an opaque cursor.
+     *
+     * <p>
+     * The identifier comes first since it cannot contain the separator while the label can.
+     * </p>
+     */
+    private String toCursor(ScrollPosition position) {
+        String value = "";
+        if (position instanceof KeysetScrollPosition keysetScrollPosition) {
+            var keys = keysetScrollPosition.getKeys();
+            value = keys.get(ID_KEY) + SEPARATOR + keys.get(LABEL_KEY);
+        }
+        return new Relay().toGlobalId(REPRESENTATION_METADATA_TYPE, value);
+    }
+
+    private Optional<KeysetScrollPosition> toPosition(String cursor) {
+        Optional<KeysetScrollPosition> optionalPosition = Optional.empty();
+        try {
+            var resolvedGlobalId = new Relay().fromGlobalId(cursor);
+            String[] values = resolvedGlobalId.getId().split(SEPARATOR, 2);
+            if (REPRESENTATION_METADATA_TYPE.equals(resolvedGlobalId.getType()) && values.length == 2) {
+                String label = values[1];
+                optionalPosition = new UUIDParser().parse(values[0])
+                        .map(id -> ScrollPosition.forward(Map.of(LABEL_KEY, label, ID_KEY, id)));
+            }
+        } catch (IllegalArgumentException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        if (optionalPosition.isEmpty()) {
+            this.logger.warn("Invalid cursor {}", cursor);
+        }
+        return optionalPosition;
+    }
 }
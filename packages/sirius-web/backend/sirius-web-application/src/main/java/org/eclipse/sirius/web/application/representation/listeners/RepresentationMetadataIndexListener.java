@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.listeners;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataLabelUpdatedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Used to listen to representation data events in order to keep the index of the representation metadata up to date.
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationMetadataIndexListener {
+
+    private final IRepresentationMetadataIndexService representationMetadataIndexService;
+
+    public RepresentationMetadataIndexListener(IRepresentationMetadataIndexService representationMetadataIndexService) {
+        this.representationMetadataIndexService = Objects.requireNonNull(representationMetadataIndexService);
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationDataCreatedEvent(RepresentationDataCreatedEvent event) {
+        var representationData = event.representationData();
+        this.representationMetadataIndexService.put(representationData.getProject().getId().toString(), this.toRepresentationDataMetadata(representationData));
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationDataLabelUpdatedEvent(RepresentationDataLabelUpdatedEvent event) {
+        this.representationMetadataIndexService.put(event.projectId().toString(), event.representationDataMetadata());
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationDataDeletedEvent(RepresentationDataDeletedEvent event) {
+        var representationData = event.representationData();
+        this.representationMetadataIndexService.remove(representationData.getProject().getId().toString(), this.toRepresentationDataMetadata(representationData));
+    }
+
+    private RepresentationDataMetadata toRepresentationDataMetadata(RepresentationData representationData) {
+        return new RepresentationDataMetadata(representationData.getId(), representationData.getLabel(), representationData.getKind(), representationData.getDescriptionId(), representationData.getTargetObjectId());
+    }
+}
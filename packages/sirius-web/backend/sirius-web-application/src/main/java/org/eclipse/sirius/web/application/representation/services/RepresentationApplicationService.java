@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.representation.services;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,11 +23,13 @@ import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.representation.services.api.IRepresentationApplicationService;
 import org.eclipse.sirius.web.application.views.explorer.services.ExplorerDescriptionProvider;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -51,31 +52,42 @@ public class RepresentationApplicationService implements IRepresentationApplicat
     @Transactional(readOnly = true)
     public Optional<RepresentationMetadata> findRepresentationMetadataById(String representationId) {
         return new UUIDParser().parse(representationId)
-                .flatMap(this.representationDataSearchService::findById)
+                .flatMap(this.representationDataSearchService::findMetadataById)
                 .map(this::toRepresentationMetadata)
                 .or(() -> this.findTransientRepresentationById(representationId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<RepresentationMetadata> findAllByEditingContextId(String editingContextId, Pageable pageable) {
-        var representationData =  new UUIDParser().parse(editingContextId)
+        return new UUIDParser().parse(editingContextId)
                 .map(AggregateReference::<Project, UUID>to)
-                .map(this.representationDataSearchService::findAllByProject)
-                .orElse(List.of())
-                .stream()
-                .sorted(Comparator.comparing(RepresentationData::getLabel))
-                .toList();
+                .map(project -> this.representationDataSearchService.findAllMetadataByProject(project, pageable))
+                .map(page -> page.map(this::toRepresentationMetadata))
+                .orElse(Page.empty(pageable));
+    }
 
-        int startIndex = (int) pageable.getOffset() * pageable.getPageSize();
-        int endIndex = Math.min(((int) pageable.getOffset() + 1) * pageable.getPageSize(), representationData.size());
-        var representationMetadata = representationData.subList(startIndex, endIndex).stream()
-                .map(this::toRepresentationMetadata)
-                .toList();
-        return new PageImpl<>(representationMetadata, pageable, representationData.size());
+    @Override
+    @Transactional(readOnly = true)
+    public Window<RepresentationMetadata> findAllByEditingContextIdAfter(String editingContextId, KeysetScrollPosition position, int limit) {
+        return new UUIDParser().parse(editingContextId)
+                .map(AggregateReference::<Project, UUID>to)
+                .map(project -> this.representationDataSearchService.findAllMetadataByProjectAfter(project, position, limit))
+                .map(window -> window.map(this::toRepresentationMetadata))
+                .orElse(Window.from(List.of(), index -> ScrollPosition.keyset()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByEditingContextId(String editingContextId) {
+        return new UUIDParser().parse(editingContextId)
+                .map(AggregateReference::<Project, UUID>to)
+                .map(this.representationDataSearchService::countByProject)
+                .orElse(0L);
     }
 
-    private RepresentationMetadata toRepresentationMetadata(RepresentationData representationData) {
-        return new RepresentationMetadata(representationData.getId().toString(), representationData.getKind(), representationData.getLabel(), representationData.getDescriptionId());
+    private RepresentationMetadata toRepresentationMetadata(RepresentationDataMetadata representationDataMetadata) {
+        return new RepresentationMetadata(representationDataMetadata.id().toString(), representationDataMetadata.kind(), representationDataMetadata.label(), representationDataMetadata.descriptionId());
     }
 
     @Override
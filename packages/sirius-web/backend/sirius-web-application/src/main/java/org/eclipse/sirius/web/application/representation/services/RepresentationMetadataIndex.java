@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+
+/**
+ * The metadata of the representations of an editing context indexed by their target object.
+ *
+ * <p>
+ * The index is loaded once and then kept up to date with the representations created, renamed or deleted. Changes
+ * received before the loading of the index are ignored since they will be retrieved by the loading itself.
+ * </p>
+ *
+ * @author agent
+ */
+public class RepresentationMetadataIndex {
+
+    private final Map<String, Map<UUID, RepresentationDataMetadata>> targetObjectId2RepresentationDataMetadata = new HashMap<>();
+
+    private boolean isLoaded;
+
+    public synchronized void load(Supplier<List<RepresentationDataMetadata>> representationDataMetadataSupplier) {
+        if (!this.isLoaded) {
+            representationDataMetadataSupplier.get().forEach(this::doPut);
+            this.isLoaded = true;
+        }
+    }
+
+    public synchronized boolean isLoaded() {
+        return this.isLoaded;
+    }
+
+    public synchronized void put(RepresentationDataMetadata representationDataMetadata) {
+        if (this.isLoaded) {
+            this.doPut(representationDataMetadata);
+        }
+    }
+
+    private void doPut(RepresentationDataMetadata representationDataMetadata) {
+        this.targetObjectId2RepresentationDataMetadata.computeIfAbsent(representationDataMetadata.targetObjectId(), key -> new LinkedHashMap<>())
+                .put(representationDataMetadata.id(), representationDataMetadata);
+    }
+
+    public synchronized void remove(RepresentationDataMetadata representationDataMetadata) {
+        var representationDataMetadataById = this.targetObjectId2RepresentationDataMetadata.get(representationDataMetadata.targetObjectId());
+        if (representationDataMetadataById != null) {
+            representationDataMetadataById.remove(representationDataMetadata.id());
+            if (representationDataMetadataById.isEmpty()) {
+                this.targetObjectId2RepresentationDataMetadata.remove(representationDataMetadata.targetObjectId());
+            }
+        }
+    }
+
+    public synchronized boolean existAnyRepresentationForTargetObjectId(String targetObjectId) {
+        return this.targetObjectId2RepresentationDataMetadata.containsKey(targetObjectId);
+    }
+
+    public synchronized List<RepresentationDataMetadata> findAllByTargetObjectId(String targetObjectId) {
+        var representationDataMetadataById = this.targetObjectId2RepresentationDataMetadata.getOrDefault(targetObjectId, Map.of());
+        return List.copyOf(representationDataMetadataById.values());
+    }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+import org.eclipse.sirius.components.core.RepresentationMetadata;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to find the metadata of the representations of an editing context in memory.
+ *
+ * <p>
+ * The index of an editing context is loaded with a single query the first time it is needed and it is released with
+ * the editing context itself.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationMetadataIndexService implements IRepresentationMetadataIndexService {
+
+    private final IRepresentationDataSearchService representationDataSearchService;
+
+    private final Map<IEditingContext, RepresentationMetadataIndex> indexes = new WeakHashMap<>();
+
+    public RepresentationMetadataIndexService(IRepresentationDataSearchService representationDataSearchService) {
+        this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
+    }
+
+    @Override
+    public boolean existAnyRepresentationForTargetObjectId(IEditingContext editingContext, String targetObjectId) {
+        return this.getIndex(editingContext).existAnyRepresentationForTargetObjectId(targetObjectId);
+    }
+
+    @Override
+    public List<RepresentationMetadata> findAllByTargetObjectId(IEditingContext editingContext, String targetObjectId) {
+        return this.getIndex(editingContext).findAllByTargetObjectId(targetObjectId).stream()
+                .map(representationDataMetadata -> new RepresentationMetadata(representationDataMetadata.id().toString(), representationDataMetadata.kind(), representationDataMetadata.label(), representationDataMetadata.descriptionId()))
+                .toList();
+    }
+
+    @Override
+    public void put(String editingContextId, RepresentationDataMetadata representationDataMetadata) {
+        this.getIndexes(editingContextId).forEach(index -> index.put(representationDataMetadata));
+    }
+
+    @Override
+    public void remove(String editingContextId, RepresentationDataMetadata representationDataMetadata) {
+        this.getIndexes(editingContextId).forEach(index -> index.remove(representationDataMetadata));
+    }
+
+    private RepresentationMetadataIndex getIndex(IEditingContext editingContext) {
+        RepresentationMetadataIndex index = null;
+        synchronized (this.indexes) {
+            index = this.indexes.computeIfAbsent(editingContext, key -> new RepresentationMetadataIndex());
+        }
+
+        // The query is performed outside of the lock of the indexes to let other editing contexts be used meanwhile
+        index.load(() -> new UUIDParser().parse(editingContext.getId())
+                .map(AggregateReference::<Project, UUID>to)
+                .map(this.representationDataSearchService::findAllMetadataByProject)
+                .orElse(List.of()));
+        return index;
+    }
+
+    private List<RepresentationMetadataIndex> getIndexes(String editingContextId) {
+        synchronized (this.indexes) {
+            return this.indexes.entrySet().stream()
+                    .filter(entry -> entry.getKey().getId().equals(editingContextId))
+                    .map(Map.Entry::getValue)
+                    .toList();
+        }
+    }
+}
@@ -22,7 +22,9 @@ import org.eclipse.sirius.components.core.api.IRepresentationMetadataSearchServi
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.components.trees.Tree;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
 import org.eclipse.sirius.web.application.views.explorer.services.ExplorerDescriptionProvider;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.springframework.stereotype.Service;
 
@@ -36,15 +38,18 @@ public class RepresentationMetadataSearchService implements IRepresentationMetad
 
     private final IRepresentationDataSearchService representationDataSearchService;
 
-    public RepresentationMetadataSearchService(IRepresentationDataSearchService representationDataSearchService) {
+    private final IRepresentationMetadataIndexService representationMetadataIndexService;
+
+    public RepresentationMetadataSearchService(IRepresentationDataSearchService representationDataSearchService, IRepresentationMetadataIndexService representationMetadataIndexService) {
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
+        this.representationMetadataIndexService = Objects.requireNonNull(representationMetadataIndexService);
     }
 
     @Override
     public Optional<RepresentationMetadata> findByRepresentationId(String representationId) {
         return new UUIDParser().parse(representationId)
-                .flatMap(this.representationDataSearchService::findById)
-                .map(representation -> new RepresentationMetadata(representation.getId().toString(), representation.getKind(), representation.getLabel(), representation.getDescriptionId()))
+                .flatMap(this.representationDataSearchService::findMetadataById)
+                .map(this::toRepresentationMetadata)
                 .or(() -> this.findTransientRepresentationById(representationId));
     }
 
@@ -63,9 +68,10 @@ public class RepresentationMetadataSearchService implements IRepresentationMetad
 
     @Override
     public List<RepresentationMetadata> findAllByTargetObjectId(IEditingContext editingContext, String targetObjectId) {
-        return this.representationDataSearchService.findAllByTargetObjectId(targetObjectId)
-                .stream()
-                .map(representation -> new RepresentationMetadata(representation.getId().toString(), representation.getKind(), representation.getLabel(), representation.getDescriptionId()))
-                .toList();
+        return this.representationMetadataIndexService.findAllByTargetObjectId(editingContext, targetObjectId);
+    }
+
+    private RepresentationMetadata toRepresentationMetadata(RepresentationDataMetadata representationDataMetadata) {
+        return new RepresentationMetadata(representationDataMetadata.id().toString(), representationDataMetadata.kind(), representationDataMetadata.label(), representationDataMetadata.descriptionId());
     }
 }
@@ -69,8 +69,12 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
 
             String content = this.toString(representation);
 
-            var exists = this.representationDataSearchService.existsById(representationId);
-            if (exists) {
+            var optionalRepresentationDataMetadata = this.representationDataSearchService.findMetadataById(representationId);
+            if (optionalRepresentationDataMetadata.isPresent()) {
+                var representationDataMetadata = optionalRepresentationDataMetadata.get();
+                if (!Objects.equals(representationDataMetadata.label(), representation.getLabel())) {
+                    this.representationDataUpdateService.updateLabel(representationId, representation.getLabel());
+                }
                 this.representationDataUpdateService.updateContent(representationId, content);
             } else {
                 var representationData = RepresentationData.newRepresentationData(representationId)
@@ -15,8 +15,10 @@ package org.eclipse.sirius.web.application.representation.services.api;
 import java.util.Optional;
 
 import org.eclipse.sirius.components.core.RepresentationMetadata;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 /**
  * Used to interact with representations.
@@ -29,5 +31,9 @@ public interface IRepresentationApplicationService {
 
     Page<RepresentationMetadata> findAllByEditingContextId(String editingContextId, Pageable pageable);
 
+    Window<RepresentationMetadata> findAllByEditingContextIdAfter(String editingContextId, KeysetScrollPosition position, int limit);
+
+    long countByEditingContextId(String editingContextId);
+
     Optional<String> findEditingContextIdFromRepresentationId(String representationId);
 }
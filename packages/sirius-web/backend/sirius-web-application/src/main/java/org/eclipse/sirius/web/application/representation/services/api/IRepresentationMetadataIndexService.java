@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import java.util.List;
+
+import org.eclipse.sirius.components.core.RepresentationMetadata;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+
+/**
+ * Used to find the metadata of the representations of an editing context in memory.
+ *
+ * @author agent
+ */
+public interface IRepresentationMetadataIndexService {
+
+    boolean existAnyRepresentationForTargetObjectId(IEditingContext editingContext, String targetObjectId);
+
+    List<RepresentationMetadata> findAllByTargetObjectId(IEditingContext editingContext, String targetObjectId);
+
+    void put(String editingContextId, RepresentationDataMetadata representationDataMetadata);
+
+    void remove(String editingContextId, RepresentationDataMetadata representationDataMetadata);
+}
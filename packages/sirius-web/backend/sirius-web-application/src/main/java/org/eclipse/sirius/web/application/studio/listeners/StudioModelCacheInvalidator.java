@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.listeners;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.application.studio.services.api.IStudioModelCache;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.events.ProjectDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.ISemanticDataEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Used to invalidate the cache of the studio models when some semantic data are created, updated or deleted.
+ *
+ * @author agent
+ */
+@Service
+public class StudioModelCacheInvalidator {
+
+    private final IStudioModelCache studioModelCache;
+
+    public StudioModelCacheInvalidator(IStudioModelCache studioModelCache) {
+        this.studioModelCache = Objects.requireNonNull(studioModelCache);
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataEvent(ISemanticDataEvent event) {
+        this.studioModelCache.invalidate();
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeletedEvent(ProjectDeletedEvent event) {
+        this.studioModelCache.invalidate();
+    }
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Used to reject the modifications of the models shared between the editing contexts.
+ *
+ * <p>
+ * EMF notifies the adapters once the modification has been performed. The modification is thus reverted before
+ * throwing the exception used to detect the code modifying a shared model, so that the other editing contexts never
+ * see it. The notifications of the opposite or container side of a modification are received too, a modification is
+ * only reverted if it has not already been reverted along with the other side.
+ * </p>
+ *
+ * @author agent
+ */
+public class ReadOnlyContentAdapter extends EContentAdapter {
+
+    private final ThreadLocal<Boolean> isReverting = ThreadLocal.withInitial(() -> false);
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (notification.getNotifier() instanceof EObject eObject && notification.getFeature() instanceof EStructuralFeature feature && !notification.isTouch() && !this.isReverting.get()) {
+            this.isReverting.set(true);
+            try {
+                this.revert(eObject, feature, notification);
+            } finally {
+                this.isReverting.remove();
+            }
+
+            throw new UnsupportedOperationException("The shared object " + EcoreUtil.getURI(eObject) + " cannot be modified");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void revert(EObject eObject, EStructuralFeature feature, Notification notification) {
+        int position = notification.getPosition();
+        if (feature.isMany()) {
+            var values = (EList<Object>) eObject.eGet(feature);
+            switch (notification.getEventType()) {
+                case Notification.SET -> {
+                    if (position >= 0 && position < values.size() && values.get(position) == notification.getNewValue()) {
+                        values.set(position, notification.getOldValue());
+                    }
+                }
+                case Notification.ADD -> {
+                    if (position >= 0 && position < values.size() && values.get(position) == notification.getNewValue()) {
+                        values.remove(position);
+                    }
+                }
+                case Notification.ADD_MANY -> {
+                    var newValues = (Collection<?>) notification.getNewValue();
+                    if (position >= 0 && position + newValues.size() <= values.size() && values.subList(position, position + newValues.size()).equals(new ArrayList<>(newValues))) {
+                        values.subList(position, position + newValues.size()).clear();
+                    }
+                }
+                case Notification.REMOVE -> {
+                    if (!values.contains(notification.getOldValue())) {
+                        values.add(Math.min(Math.max(position, 0), values.size()), notification.getOldValue());
+                    }
+                }
+                case Notification.REMOVE_MANY -> this.revertRemoveMany(values, notification);
+                case Notification.MOVE -> {
+                    int oldPosition = (Integer) notification.getOldValue();
+                    if (position >= 0 && position < values.size() && values.get(position) == notification.getNewValue()) {
+                        values.move(oldPosition, position);
+                    }
+                }
+                default -> {
+                    // The other modifications of a multi-valued feature are notified as additions or removals
+                }
+            }
+        } else if (notification.getEventType() == Notification.SET || notification.getEventType() == Notification.UNSET) {
+            if (Objects.equals(eObject.eGet(feature, false), notification.getNewValue())) {
+                if (feature.isUnsettable() && !notification.wasSet()) {
+                    eObject.eUnset(feature);
+                } else {
+                    eObject.eSet(feature, notification.getOldValue());
+                }
+            }
+        }
+    }
+
+    private void revertRemoveMany(EList<Object> values, Notification notification) {
+        List<?> oldValues = new ArrayList<>((Collection<?>) notification.getOldValue());
+        if (oldValues.stream().noneMatch(values::contains)) {
+            if (notification.getNewValue() instanceof int[] positions) {
+                for (int i = 0; i < oldValues.size(); i++) {
+                    values.add(Math.min(positions[i], values.size()), oldValues.get(i));
+                }
+            } else {
+                values.addAll(0, oldValues);
+            }
+        }
+    }
+}
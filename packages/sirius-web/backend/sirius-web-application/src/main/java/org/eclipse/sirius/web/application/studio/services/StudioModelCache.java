@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.impl.EPackageImpl;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.domain.emf.DomainConverter;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.components.view.deck.DeckPackage;
+import org.eclipse.sirius.components.view.diagram.DiagramPackage;
+import org.eclipse.sirius.components.view.form.FormPackage;
+import org.eclipse.sirius.components.view.gantt.GanttPackage;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IDocumentToResourceService;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioModelCache;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the domain and view models parsed from the semantic data of each studio.
+ *
+ * <p>
+ * The cached models are returned without any query as long as the cache has not been invalidated by a modification of
+ * some semantic data. After an invalidation, the date of the last modification of each semantic data is used as its
+ * version. Only the semantic data created or updated since they have been parsed for the last time are retrieved and
+ * parsed again while the ones which do not contain any domain or view anymore are forgotten. The EPackages are only
+ * generated again from the domains if one of the studios has changed.
+ * </p>
+ *
+ * <p>
+ * The models are shared by all the editing contexts, they are thus made read-only once parsed.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class StudioModelCache implements IStudioModelCache {
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    private final IDocumentToResourceService documentToResourceService;
+
+    private final Map<UUID, StudioModelCacheEntry> entries = new HashMap<>();
+
+    private final AtomicBoolean invalidated = new AtomicBoolean(true);
+
+    private volatile StudioModels studioModels;
+
+    public StudioModelCache(ISemanticDataSearchService semanticDataSearchService, IDocumentToResourceService documentToResourceService) {
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+        this.documentToResourceService = Objects.requireNonNull(documentToResourceService);
+    }
+
+    @Override
+    public StudioModels getStudioModels() {
+        var currentStudioModels = this.studioModels;
+        if (currentStudioModels == null || this.invalidated.get()) {
+            currentStudioModels = this.refresh();
+        }
+        return currentStudioModels;
+    }
+
+    @Override
+    public void invalidate() {
+        this.invalidated.set(true);
+    }
+
+    private synchronized StudioModels refresh() {
+        // Cleared before the versions are retrieved so that an invalidation performed meanwhile triggers another refresh
+        if (this.invalidated.getAndSet(false) || this.studioModels == null) {
+            Map<UUID, Instant> versions = this.semanticDataSearchService.findAllVersionsByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI)).stream()
+                    .collect(Collectors.toMap(SemanticDataVersion::id, SemanticDataVersion::lastModifiedOn));
+
+            boolean hasChanged = this.entries.keySet().retainAll(versions.keySet());
+
+            var outdatedSemanticDataIds = versions.entrySet().stream()
+                    .filter(entry -> !this.entries.containsKey(entry.getKey()) || !Objects.equals(this.entries.get(entry.getKey()).lastModifiedOn(), entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (!outdatedSemanticDataIds.isEmpty()) {
+                this.semanticDataSearchService.findAllByIds(outdatedSemanticDataIds).forEach(semanticData -> this.entries.put(semanticData.getId(), this.parse(semanticData)));
+                hasChanged = true;
+            }
+
+            if (hasChanged || this.studioModels == null) {
+                this.studioModels = this.createStudioModels();
+            }
+        }
+        return this.studioModels;
+    }
+
+    private StudioModelCacheEntry parse(SemanticData semanticData) {
+        List<Domain> domains = new ArrayList<>();
+        List<View> views = new ArrayList<>();
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+
+        resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
+
+        semanticData.getDocuments().forEach(document -> this.documentToResourceService.toResource(resourceSet, document));
+
+        // The models are shared between threads, they must not resolve proxies lazily while being read
+        EcoreUtil.resolveAll(resourceSet);
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+        resourceSet.eAdapters().add(new ReadOnlyContentAdapter());
+
+        var treeIterator = resourceSet.getAllContents();
+        while (treeIterator.hasNext()) {
+            var next = treeIterator.next();
+            if (next instanceof View view) {
+                views.add(view);
+                treeIterator.prune();
+            } else if (next instanceof Domain domain) {
+                domains.add(domain);
+                treeIterator.prune();
+            }
+        }
+
+        return new StudioModelCacheEntry(semanticData.getLastModifiedOn(), domains, views);
+    }
+
+    private StudioModels createStudioModels() {
+        var domains = this.entries.values().stream()
+                .flatMap(entry -> entry.domains().stream())
+                .toList();
+        var views = this.entries.values().stream()
+                .flatMap(entry -> entry.views().stream())
+                .toList();
+
+        var ePackages = new DomainConverter().convert(domains).toList();
+        // Computes once and for all the derived data of the EPackages which are shared between all the editing contexts
+        ePackages.stream()
+                .filter(EPackageImpl.class::isInstance)
+                .map(EPackageImpl.class::cast)
+                .forEach(EPackageImpl::freeze);
+        ePackages.forEach(ePackage -> ePackage.eAdapters().add(new ReadOnlyContentAdapter()));
+
+        return new StudioModels(domains, views, ePackages);
+    }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * The domain and view models parsed from the semantic data of a studio with the version of this semantic data.
+ *
+ * @author agent
+ */
+public record StudioModelCacheEntry(Instant lastModifiedOn, List<Domain> domains, List<View> views) {
+    public StudioModelCacheEntry {
+        Objects.requireNonNull(domains);
+        Objects.requireNonNull(views);
+    }
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * The domain and view models of all the studios along with the EPackages generated from the domains.
+ *
+ * <p>
+ * Those models are shared by all the editing contexts and must thus never be modified.
+ * </p>
+ *
+ * @author agent
+ */
+public record StudioModels(List<Domain> domains, List<View> views, List<EPackage> ePackages) {
+    public StudioModels {
+        Objects.requireNonNull(domains);
+        Objects.requireNonNull(views);
+        Objects.requireNonNull(ePackages);
+    }
+}
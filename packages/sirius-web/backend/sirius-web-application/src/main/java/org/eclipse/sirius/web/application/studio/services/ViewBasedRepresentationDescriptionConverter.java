@@ -12,13 +12,25 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.studio.services;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.emf.IViewConverter;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.springframework.stereotype.Service;
@@ -26,23 +38,115 @@ import org.springframework.stereotype.Service;
 /**
  * Used to convert view descriptions to programmatic representation descriptions.
  *
+ * <p>
+ * Since the views are shared between the editing contexts until their studio is modified, the representation
+ * descriptions converted from a view are shared too by all the editing contexts in which the domains referenced by the
+ * view are the same EPackages. A view references the domains of its domain types and the domains used to qualify the
+ * types in its expressions, such as {@code domain::Type} in {@code self.oclIsKindOf(domain::Type)}. The view is
+ * converted with those EPackages only and the Java services of its interpreter are instantiated for each thread
+ * evaluating its expressions.
+ * </p>
+ *
  * @author mcharfadi
  */
 @Service
 public class ViewBasedRepresentationDescriptionConverter implements IEditingContextProcessor {
 
+    private static final String DOMAIN_TYPE = "domainType";
+
+    /**
+     * The pattern used to match the separator between the name of the domain and the name of the type.
+     */
+    private static final Pattern SEPARATOR = Pattern.compile("(::?|\\.)");
+
+    /**
+     * The pattern used to match the name of the domain qualifying a type in an expression.
+     */
+    private static final Pattern QUALIFIED_TYPE = Pattern.compile("([A-Za-z_][A-Za-z0-9_]*)::");
+
     private final IViewConverter viewConverter;
 
+    private final Map<ViewConversionKey, List<IRepresentationDescription>> representationDescriptionsCache = new HashMap<>();
+
     public ViewBasedRepresentationDescriptionConverter(IViewConverter viewConverter) {
-        this.viewConverter = viewConverter;
+        this.viewConverter = Objects.requireNonNull(viewConverter);
     }
+
     @Override
     public void postProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
             List<EPackage> accessibleEPackages = this.getAccessibleEPackages(siriusWebEditingContext.getDomain());
-            this.viewConverter.convert(siriusWebEditingContext.getViews(), accessibleEPackages).stream()
+
+            List<View> views = List.copyOf(siriusWebEditingContext.getViews());
+            views.stream()
+                    .flatMap(view -> this.getRepresentationDescriptions(new ViewConversionKey(view, this.getReferencedEPackages(view, accessibleEPackages))).stream())
                     .filter(Objects::nonNull)
                     .forEach(representationDescription -> siriusWebEditingContext.getRepresentationDescriptions().put(representationDescription.getId(), representationDescription));
+
+            this.forgetOutdatedViews(views);
+        }
+    }
+
+    private Set<EPackage> getReferencedEPackages(View view, List<EPackage> accessibleEPackages) {
+        Set<String> domainNames = new HashSet<>();
+        var iterator = view.eAllContents();
+        while (iterator.hasNext()) {
+            var eObject = iterator.next();
+            for (EAttribute eAttribute : eObject.eClass().getEAllAttributes()) {
+                if (eObject.eGet(eAttribute) instanceof String value) {
+                    this.addReferencedDomainNames(domainNames, eAttribute, value);
+                } else if (eObject.eGet(eAttribute) instanceof List<?> values) {
+                    values.stream()
+                            .filter(String.class::isInstance)
+                            .map(String.class::cast)
+                            .forEach(value -> this.addReferencedDomainNames(domainNames, eAttribute, value));
+                }
+            }
+        }
+
+        return accessibleEPackages.stream()
+                .filter(ePackage -> domainNames.contains(ePackage.getName()))
+                .collect(Collectors.toSet());
+    }
+
+    private void addReferencedDomainNames(Set<String> domainNames, EAttribute eAttribute, String value) {
+        if (DOMAIN_TYPE.equals(eAttribute.getName())) {
+            Matcher matcher = SEPARATOR.matcher(value);
+            if (matcher.find()) {
+                domainNames.add(value.substring(0, matcher.start()));
+            }
+        } else {
+            Matcher matcher = QUALIFIED_TYPE.matcher(value);
+            while (matcher.find()) {
+                domainNames.add(matcher.group(1));
+            }
+        }
+    }
+
+    private List<IRepresentationDescription> getRepresentationDescriptions(ViewConversionKey key) {
+        List<IRepresentationDescription> representationDescriptions;
+        synchronized (this.representationDescriptionsCache) {
+            representationDescriptions = this.representationDescriptionsCache.get(key);
+        }
+
+        if (representationDescriptions == null) {
+            // The conversion is performed outside of the lock, a view may thus be converted twice by concurrent loadings
+            representationDescriptions = this.viewConverter.convert(List.of(key.view()), List.copyOf(key.referencedEPackages()));
+            synchronized (this.representationDescriptionsCache) {
+                var cachedRepresentationDescriptions = this.representationDescriptionsCache.putIfAbsent(key, representationDescriptions);
+                if (cachedRepresentationDescriptions != null) {
+                    representationDescriptions = cachedRepresentationDescriptions;
+                }
+            }
+        }
+        return representationDescriptions;
+    }
+
+    private void forgetOutdatedViews(List<View> views) {
+        Set<View> currentViews = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentViews.addAll(views);
+        synchronized (this.representationDescriptionsCache) {
+            this.representationDescriptionsCache.keySet().removeIf(key -> !currentViews.contains(key.view()));
         }
     }
 
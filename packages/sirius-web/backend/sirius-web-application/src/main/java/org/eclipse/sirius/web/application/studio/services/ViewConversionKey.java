@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * Identifies the conversion of a view with the EPackages of the domains it references.
+ *
+ * <p>
+ * Views are compared by identity, a new view is thus created each time the semantic data of its studio is modified.
+ * </p>
+ *
+ * @author agent
+ */
+public record ViewConversionKey(View view, Set<EPackage> referencedEPackages) {
+    public ViewConversionKey {
+        Objects.requireNonNull(view);
+        Objects.requireNonNull(referencedEPackages);
+    }
+}
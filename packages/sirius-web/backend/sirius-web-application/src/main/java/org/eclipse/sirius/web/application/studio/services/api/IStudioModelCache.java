@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+import org.eclipse.sirius.web.application.studio.services.StudioModels;
+
+/**
+ * Used to share the domain and view models of the studios between all the editing contexts.
+ *
+ * @author agent
+ */
+public interface IStudioModelCache {
+    StudioModels getStudioModels();
+
+    /**
+     * Indicates that the semantic data of some studios may have changed.
+     *
+     * <p>
+     * The versions of the semantic data will be checked again during the next retrieval of the studio models.
+     * </p>
+     */
+    void invalidate();
+}
@@ -42,10 +42,11 @@ import org.eclipse.sirius.components.trees.TreeItem;
 import org.eclipse.sirius.components.trees.description.TreeDescription;
 import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
 import org.eclipse.sirius.components.view.util.services.ColorPaletteService;
+import org.eclipse.sirius.web.application.editingcontext.services.LazyJsonResource;
 import org.eclipse.sirius.web.application.images.ImageConstants;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
 import org.eclipse.sirius.web.application.views.explorer.services.api.IDeleteTreeItemHandler;
 import org.eclipse.sirius.web.application.views.explorer.services.api.IRenameTreeItemHandler;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.springframework.stereotype.Service;
 
 /**
@@ -72,18 +73,18 @@ public class ExplorerDescriptionProvider implements IEditingContextRepresentatio
 
     private final IRepresentationMetadataSearchService representationMetadataSearchService;
 
-    private final IRepresentationDataSearchService representationDataSearchService;
+    private final IRepresentationMetadataIndexService representationMetadataIndexService;
 
     private final List<IRenameTreeItemHandler> renameTreeItemHandlers;
 
     private final List<IDeleteTreeItemHandler> deleteTreeItemHandlers;
 
-    public ExplorerDescriptionProvider(IObjectService objectService, IURLParser urlParser, List<IRepresentationImageProvider> representationImageProviders, IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationDataSearchService representationDataSearchService, List<IRenameTreeItemHandler> renameTreeItemHandlers, List<IDeleteTreeItemHandler> deleteTreeItemHandlers) {
+    public ExplorerDescriptionProvider(IObjectService objectService, IURLParser urlParser, List<IRepresentationImageProvider> representationImageProviders, IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationMetadataIndexService representationMetadataIndexService, List<IRenameTreeItemHandler> renameTreeItemHandlers, List<IDeleteTreeItemHandler> deleteTreeItemHandlers) {
         this.objectService = Objects.requireNonNull(objectService);
         this.urlParser = Objects.requireNonNull(urlParser);
         this.representationImageProviders = Objects.requireNonNull(representationImageProviders);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
-        this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
+        this.representationMetadataIndexService = Objects.requireNonNull(representationMetadataIndexService);
         this.renameTreeItemHandlers = Objects.requireNonNull(renameTreeItemHandlers);
         this.deleteTreeItemHandlers = Objects.requireNonNull(deleteTreeItemHandlers);
     }
@@ -230,14 +231,18 @@ public class ExplorerDescriptionProvider implements IEditingContextRepresentatio
         Object self = variableManager.getVariables().get(VariableManager.SELF);
 
         boolean hasChildren = false;
-        if (self instanceof Resource resource) {
+        if (self instanceof LazyJsonResource lazyJsonResource && !lazyJsonResource.isLoaded()) {
+            // The document will only be loaded if the tree item is expanded
+            hasChildren = true;
+        } else if (self instanceof Resource resource) {
             hasChildren = !resource.getContents().isEmpty();
         } else if (self instanceof EObject eObject) {
             hasChildren = !eObject.eContents().isEmpty();
 
-            if (!hasChildren) {
+            var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class);
+            if (!hasChildren && optionalEditingContext.isPresent()) {
                 String id = this.objectService.getId(eObject);
-                hasChildren = this.representationDataSearchService.existAnyRepresentationForTargetObjectId(id);
+                hasChildren = this.representationMetadataIndexService.existAnyRepresentationForTargetObjectId(optionalEditingContext.get(), id);
             }
         }
         return hasChildren;
@@ -265,6 +270,9 @@ public class ExplorerDescriptionProvider implements IEditingContextRepresentatio
                 Object self = variableManager.getVariables().get(VariableManager.SELF);
 
                 if (self instanceof Resource resource) {
+                    if (resource instanceof LazyJsonResource lazyJsonResource) {
+                        lazyJsonResource.loadOnDemand();
+                    }
                     result.addAll(resource.getContents());
                 } else if (self instanceof EObject) {
                     var representationMetadata = new ArrayList<>(this.representationMetadataSearchService.findAllByTargetObjectId(editingContext, id));
@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts;
+
+import java.util.Objects;
+
+/**
+ * The textual content of a document or a representation, persisted thanks to the content codec.
+ *
+ * @author agent
+ */
+public record Content(String value) {
+    public Content {
+        Objects.requireNonNull(value);
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.AbstractValidatingAggregateRoot;
+import org.eclipse.sirius.web.domain.boundedcontexts.Content;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataContentUpdatedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataCreatedEvent;
@@ -52,7 +53,7 @@ public class RepresentationData extends AbstractValidatingAggregateRoot<Represen
 
     private String kind;
 
-    private String content;
+    private Content content;
 
     private Instant createdOn;
 
@@ -84,7 +85,7 @@ public class RepresentationData extends AbstractValidatingAggregateRoot<Represen
     }
 
     public String getContent() {
-        return this.content;
+        return this.content.value();
     }
 
     public Instant getCreatedOn() {
@@ -96,7 +97,7 @@ public class RepresentationData extends AbstractValidatingAggregateRoot<Represen
     }
 
     public void updateContent(String newContent) {
-        this.content = newContent;
+        this.content = new Content(newContent);
 
         var now = Instant.now();
         this.lastModifiedOn = now;
@@ -182,7 +183,7 @@ public class RepresentationData extends AbstractValidatingAggregateRoot<Represen
             representationData.descriptionId = Objects.requireNonNull(this.descriptionId);
             representationData.label = Objects.requireNonNull(this.label);
             representationData.kind = Objects.requireNonNull(this.kind);
-            representationData.content = Objects.requireNonNull(this.content);
+            representationData.content = new Content(this.content);
 
             var now = Instant.now();
             representationData.createdOn = now;
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Event fired when the label of the representation data is updated.
+ *
+ * <p>
+ * The label is updated without loading the representation data aggregate, the event thus only contains the project
+ * of the representation data and its updated metadata.
+ * </p>
+ *
+ * @author agent
+ */
+public record RepresentationDataLabelUpdatedEvent(
+        @NotNull UUID id,
+        @NotNull Instant createdOn,
+        @NotNull UUID projectId,
+        @NotNull RepresentationDataMetadata representationDataMetadata) implements IRepresentationDataEvent {
+}
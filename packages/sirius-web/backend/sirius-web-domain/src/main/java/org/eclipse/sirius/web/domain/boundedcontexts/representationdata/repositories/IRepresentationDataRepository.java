@@ -12,11 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -30,11 +33,45 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface IRepresentationDataRepository extends ListPagingAndSortingRepository<RepresentationData, UUID>, ListCrudRepository<RepresentationData, UUID> {
     @Query("""
-        SELECT *
+        SELECT representationData.id, representationData.label, representationData.kind, representationData.description_id, representationData.target_object_id
+        FROM representation_data representationData
+        WHERE representationData.id = :id
+        """)
+    Optional<RepresentationDataMetadata> findMetadataById(UUID id);
+
+    @Query("""
+        SELECT representationData.id, representationData.label, representationData.kind, representationData.description_id, representationData.target_object_id
+        FROM representation_data representationData
+        WHERE representationData.project_id = :projectId
+        """)
+    List<RepresentationDataMetadata> findAllMetadataByProjectId(UUID projectId);
+
+    @Query("""
+        SELECT representationData.id, representationData.label, representationData.kind, representationData.description_id, representationData.target_object_id
+        FROM representation_data representationData
+        WHERE representationData.project_id = :projectId
+        ORDER BY representationData.label, representationData.id
+        LIMIT :limit
+        OFFSET :offset
+        """)
+    List<RepresentationDataMetadata> findAllMetadataByProjectId(UUID projectId, long limit, long offset);
+
+    @Query("""
+        SELECT representationData.id, representationData.label, representationData.kind, representationData.description_id, representationData.target_object_id
         FROM representation_data representationData
         WHERE representationData.project_id = :projectId
+        AND (representationData.label, representationData.id) > (:cursorLabel, :cursorId)
+        ORDER BY representationData.label, representationData.id
+        LIMIT :limit
         """)
-    List<RepresentationData> findAllByProjectId(UUID projectId);
+    List<RepresentationDataMetadata> findAllMetadataByProjectIdAfter(UUID projectId, String cursorLabel, UUID cursorId, long limit);
+
+    @Query("""
+        SELECT COUNT(*)
+        FROM representation_data representationData
+        WHERE representationData.project_id = :projectId
+        """)
+    long countByProjectId(UUID projectId);
 
     @Query("""
         SELECT representationData.project_id
@@ -51,9 +88,17 @@ public interface IRepresentationDataRepository extends ListPagingAndSortingRepos
     boolean existAnyRepresentationForTargetObjectId(String targetObjectId);
 
     @Query("""
-        SELECT *
+        SELECT representationData.id, representationData.label, representationData.kind, representationData.description_id, representationData.target_object_id
         FROM representation_data representationData
         WHERE representationData.target_object_id = :targetObjectId
         """)
-    List<RepresentationData> findAllByTargetObjectId(String targetObjectId);
+    List<RepresentationDataMetadata> findAllMetadataByTargetObjectId(String targetObjectId);
+
+    @Modifying
+    @Query("""
+        UPDATE representation_data
+        SET label = :label, last_modified_on = :lastModifiedOn
+        WHERE representation_data.id = :id
+        """)
+    void updateLabel(UUID id, String label, Instant lastModifiedOn);
 }
@@ -13,15 +13,23 @@
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
 /**
@@ -32,6 +40,10 @@ import org.springframework.stereotype.Service;
 @Service
 public class RepresentationDataSearchService implements IRepresentationDataSearchService {
 
+    private static final String LABEL_KEY = "label";
+
+    private static final String ID_KEY = "id";
+
     private final IRepresentationDataRepository representationDataRepository;
 
     public RepresentationDataSearchService(IRepresentationDataRepository representationDataRepository) {
@@ -49,8 +61,40 @@ public class RepresentationDataSearchService implements IRepresentationDataSearc
     }
 
     @Override
-    public List<RepresentationData> findAllByProject(AggregateReference<Project, UUID> project) {
-        return this.representationDataRepository.findAllByProjectId(project.getId());
+    public Optional<RepresentationDataMetadata> findMetadataById(UUID id) {
+        return this.representationDataRepository.findMetadataById(id);
+    }
+
+    @Override
+    public List<RepresentationDataMetadata> findAllMetadataByProject(AggregateReference<Project, UUID> project) {
+        return this.representationDataRepository.findAllMetadataByProjectId(project.getId());
+    }
+
+    @Override
+    public Page<RepresentationDataMetadata> findAllMetadataByProject(AggregateReference<Project, UUID> project, Pageable pageable) {
+        var representationDataMetadata = this.representationDataRepository.findAllMetadataByProjectId(project.getId(), pageable.getPageSize(), pageable.getOffset());
+        return PageableExecutionUtils.getPage(representationDataMetadata, pageable, () -> this.countByProject(project));
+    }
+
+    @Override
+    public Window<RepresentationDataMetadata> findAllMetadataByProjectAfter(AggregateReference<Project, UUID> project, KeysetScrollPosition position, int limit) {
+        // One more element is retrieved to know if there is a next page
+        List<RepresentationDataMetadata> representationDataMetadata = List.of();
+        if (position.isInitial()) {
+            representationDataMetadata = this.representationDataRepository.findAllMetadataByProjectId(project.getId(), limit + 1L, 0L);
+        } else if (position.getKeys().get(LABEL_KEY) instanceof String cursorLabel && position.getKeys().get(ID_KEY) instanceof UUID cursorId) {
+            // The position carries the label and the identifier since the representation data may have been renamed or deleted since
+            representationDataMetadata = this.representationDataRepository.findAllMetadataByProjectIdAfter(project.getId(), cursorLabel, cursorId, limit + 1L);
+        }
+
+        boolean hasNext = representationDataMetadata.size() > limit;
+        var content = representationDataMetadata.subList(0, Math.min(limit, representationDataMetadata.size()));
+        return Window.from(content, index -> ScrollPosition.forward(Map.of(LABEL_KEY, content.get(index).label(), ID_KEY, content.get(index).id())), hasNext);
+    }
+
+    @Override
+    public long countByProject(AggregateReference<Project, UUID> project) {
+        return this.representationDataRepository.countByProjectId(project.getId());
     }
 
     @Override
@@ -59,8 +103,8 @@ public class RepresentationDataSearchService implements IRepresentationDataSearc
     }
 
     @Override
-    public List<RepresentationData> findAllByTargetObjectId(String targetObjectId) {
-        return this.representationDataRepository.findAllByTargetObjectId(targetObjectId);
+    public List<RepresentationDataMetadata> findAllMetadataByTargetObjectId(String targetObjectId) {
+        return this.representationDataRepository.findAllMetadataByTargetObjectId(targetObjectId);
     }
 
     @Override
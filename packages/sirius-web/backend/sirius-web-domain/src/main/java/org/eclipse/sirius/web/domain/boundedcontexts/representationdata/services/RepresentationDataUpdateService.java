@@ -12,16 +12,21 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataLabelUpdatedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
 import org.eclipse.sirius.web.domain.services.Failure;
 import org.eclipse.sirius.web.domain.services.IResult;
 import org.eclipse.sirius.web.domain.services.Success;
 import org.eclipse.sirius.web.domain.services.api.IMessageService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Used to update representation data.
@@ -35,11 +40,21 @@ public class RepresentationDataUpdateService implements IRepresentationDataUpdat
 
     private final IMessageService messageService;
 
-    public RepresentationDataUpdateService(IRepresentationDataRepository representationDataRepository, IMessageService messageService) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public RepresentationDataUpdateService(IRepresentationDataRepository representationDataRepository, IMessageService messageService, ApplicationEventPublisher applicationEventPublisher) {
         this.representationDataRepository = Objects.requireNonNull(representationDataRepository);
         this.messageService = Objects.requireNonNull(messageService);
+        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
     }
 
+    /**
+     * Updates the content of the representation data.
+     *
+     * <p>
+     * The representation data is left untouched if its content has not changed.
+     * </p>
+     */
     @Override
     public IResult<Void> updateContent(UUID id, String content) {
         IResult<Void> result = null;
@@ -47,8 +62,41 @@ public class RepresentationDataUpdateService implements IRepresentationDataUpdat
         var optionalRepresentationData = this.representationDataRepository.findById(id);
         if (optionalRepresentationData.isPresent()) {
             var representationData = optionalRepresentationData.get();
-            representationData.updateContent(content);
-            this.representationDataRepository.save(representationData);
+            if (!Objects.equals(representationData.getContent(), content)) {
+                representationData.updateContent(content);
+                this.representationDataRepository.save(representationData);
+            }
+
+            result = new Success<>(null);
+        } else {
+            result = new Failure<>(this.messageService.notFound());
+        }
+
+        return result;
+    }
+
+    /**
+     * Updates the label of the representation data.
+     *
+     * <p>
+     * Only the label and the last modification date are written, the content of the representation data is neither
+     * read nor written. Since the aggregate is not saved, the event signaling the update is published directly.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public IResult<Void> updateLabel(UUID id, String label) {
+        IResult<Void> result = null;
+
+        var optionalRepresentationDataMetadata = this.representationDataRepository.findMetadataById(id);
+        var optionalProjectId = this.representationDataRepository.findProjectIdFromRepresentationId(id);
+        if (optionalRepresentationDataMetadata.isPresent() && optionalProjectId.isPresent()) {
+            var representationDataMetadata = optionalRepresentationDataMetadata.get();
+            var now = Instant.now();
+            this.representationDataRepository.updateLabel(id, Objects.requireNonNull(label), now);
+
+            var updatedRepresentationDataMetadata = new RepresentationDataMetadata(id, label, representationDataMetadata.kind(), representationDataMetadata.descriptionId(), representationDataMetadata.targetObjectId());
+            this.applicationEventPublisher.publishEvent(new RepresentationDataLabelUpdatedEvent(UUID.randomUUID(), now, optionalProjectId.get(), updatedRepresentationDataMetadata));
 
             result = new Success<>(null);
         } else {
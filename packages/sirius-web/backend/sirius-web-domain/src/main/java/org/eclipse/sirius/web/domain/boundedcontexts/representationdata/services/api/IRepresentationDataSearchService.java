@@ -18,6 +18,11 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -31,11 +36,31 @@ public interface IRepresentationDataSearchService {
 
     Optional<RepresentationData> findById(UUID id);
 
-    List<RepresentationData> findAllByProject(AggregateReference<Project, UUID> project);
+    Optional<RepresentationDataMetadata> findMetadataById(UUID id);
+
+    List<RepresentationDataMetadata> findAllMetadataByProject(AggregateReference<Project, UUID> project);
+
+    Page<RepresentationDataMetadata> findAllMetadataByProject(AggregateReference<Project, UUID> project, Pageable pageable);
+
+    /**
+     * Finds the metadata of the representation data of the given project sorted by label and identifier.
+     *
+     * @param project
+     *         The project
+     * @param position
+     *         The position after which the metadata should be found, its keys "label" and "id" are the label and the identifier of
+     *         the last metadata of the previous window
+     * @param limit
+     *         The maximum number of metadata to find
+     * @return The window of metadata
+     */
+    Window<RepresentationDataMetadata> findAllMetadataByProjectAfter(AggregateReference<Project, UUID> project, KeysetScrollPosition position, int limit);
+
+    long countByProject(AggregateReference<Project, UUID> project);
 
     boolean existAnyRepresentationForTargetObjectId(String targetObjectId);
 
-    List<RepresentationData> findAllByTargetObjectId(String targetObjectId);
+    List<RepresentationDataMetadata> findAllMetadataByTargetObjectId(String targetObjectId);
 
     Optional<AggregateReference<Project, UUID>> findProjectByRepresentationId(UUID representationId);
 }
@@ -23,4 +23,6 @@ import org.eclipse.sirius.web.domain.services.IResult;
  */
 public interface IRepresentationDataUpdateService {
     IResult<Void> updateContent(UUID id, String content);
+
+    IResult<Void> updateLabel(UUID id, String label);
 }
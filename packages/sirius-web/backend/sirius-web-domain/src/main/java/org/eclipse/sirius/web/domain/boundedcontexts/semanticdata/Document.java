@@ -16,6 +16,7 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.eclipse.sirius.web.domain.boundedcontexts.Content;
 import org.springframework.data.relational.core.mapping.Table;
 
 /**
@@ -30,7 +31,7 @@ public class Document {
 
     private String name;
 
-    private String content;
+    private Content content;
 
     private Instant createdOn;
 
@@ -45,7 +46,7 @@ public class Document {
     }
 
     public String getContent() {
-        return this.content;
+        return this.content.value();
     }
 
     public Instant getCreatedOn() {
@@ -92,7 +93,7 @@ public class Document {
             var document = new Document();
             document.id = Objects.requireNonNull(this.id);
             document.name = Objects.requireNonNull(this.name);
-            document.content = Objects.requireNonNull(this.content);
+            document.content = new Content(this.content);
 
             var now = Instant.now();
             document.createdOn = now;
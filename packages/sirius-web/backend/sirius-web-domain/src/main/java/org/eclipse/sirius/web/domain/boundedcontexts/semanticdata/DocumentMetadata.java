@@ -0,0 +1,24 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The metadata of a document used to detect if it has been modified without retrieving its content.
+ *
+ * @author agent
+ */
+public record DocumentMetadata(UUID id, String name, String contentHash, Instant lastModifiedOn) {
+}
@@ -24,7 +24,6 @@ import java.util.stream.Collectors;
 import org.eclipse.sirius.web.domain.boundedcontexts.AbstractValidatingAggregateRoot;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataCreatedEvent;
-import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.domain.Persistable;
@@ -86,16 +85,6 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
         return this.isNew;
     }
 
-    public void updateDocuments(Set<Document> newDocuments, Set<String> domainUris) {
-        this.documents = newDocuments;
-        this.domains = domainUris.stream()
-                .map(SemanticDataDomain::new)
-                .collect(Collectors.toSet());
-
-        this.lastModifiedOn = Instant.now();
-        this.registerEvent(new SemanticDataUpdatedEvent(UUID.randomUUID(), this.lastModifiedOn, this));
-    }
-
     public static Builder newSemanticData() {
         return new Builder();
     }
@@ -15,17 +15,15 @@ package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events;
 import java.time.Instant;
 import java.util.UUID;
 
-import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
-
 import jakarta.validation.constraints.NotNull;
 
 /**
- * Event fired when the semantic data are updated.
+ * Event fired when the documents or the domains of the semantic data are updated.
  *
  * @author sbegaudeau
  */
 public record SemanticDataUpdatedEvent(
         @NotNull UUID id,
         @NotNull Instant createdOn,
-        @NotNull SemanticData semanticData) implements ISemanticDataEvent {
+        @NotNull UUID semanticDataId) implements ISemanticDataEvent {
 }
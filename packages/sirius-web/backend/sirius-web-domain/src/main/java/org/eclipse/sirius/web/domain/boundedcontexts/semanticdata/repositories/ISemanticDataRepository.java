@@ -12,11 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.DocumentMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -53,4 +57,89 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         GROUP BY semanticData.id
         """)
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    @Query("""
+        SELECT semanticData.id, semanticData.last_modified_on
+        FROM semantic_data semanticData
+        JOIN semantic_data_domain semanticDataDomain
+        ON semanticData.id = semanticDataDomain.semantic_data_id
+        WHERE semanticDataDomain.uri IN (:domainUris)
+        GROUP BY semanticData.id
+        """)
+    List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris);
+
+    @Query("""
+        SELECT semanticData.id
+        FROM semantic_data semanticData
+        WHERE semanticData.project_id = :projectId
+        """)
+    Optional<UUID> findIdByProjectId(UUID projectId);
+
+    @Query("""
+        SELECT semanticData.last_modified_on
+        FROM semantic_data semanticData
+        WHERE semanticData.project_id = :projectId
+        """)
+    Optional<Instant> findLastModifiedOnByProjectId(UUID projectId);
+
+    @Query("""
+        SELECT document.id, document.name, md5(document.content) AS content_hash, document.last_modified_on
+        FROM document document
+        WHERE document.semantic_data_id = :semanticDataId
+        """)
+    List<DocumentMetadata> findAllDocumentMetadataBySemanticDataId(UUID semanticDataId);
+
+    @Modifying
+    @Query("""
+        INSERT INTO document (id, semantic_data_id, name, content, created_on, last_modified_on)
+        VALUES (:id, :semanticDataId, :name, :content, :createdOn, :lastModifiedOn)
+        """)
+    void insertDocument(UUID semanticDataId, UUID id, String name, byte[] content, Instant createdOn, Instant lastModifiedOn);
+
+    @Modifying
+    @Query("""
+        UPDATE document
+        SET name = :name, content = :content, last_modified_on = :lastModifiedOn
+        WHERE document.semantic_data_id = :semanticDataId
+        AND document.id = :id
+        """)
+    void updateDocument(UUID semanticDataId, UUID id, String name, byte[] content, Instant lastModifiedOn);
+
+    @Modifying
+    @Query("""
+        DELETE FROM document
+        WHERE document.semantic_data_id = :semanticDataId
+        AND document.id IN (:ids)
+        """)
+    void deleteDocuments(UUID semanticDataId, List<UUID> ids);
+
+    @Query("""
+        SELECT semanticDataDomain.uri
+        FROM semantic_data_domain semanticDataDomain
+        WHERE semanticDataDomain.semantic_data_id = :semanticDataId
+        """)
+    List<String> findAllDomainUrisBySemanticDataId(UUID semanticDataId);
+
+    @Modifying
+    @Query("""
+        INSERT INTO semantic_data_domain (semantic_data_id, uri)
+        VALUES (:semanticDataId, :uri)
+        """)
+    void insertDomain(UUID semanticDataId, String uri);
+
+    @Modifying
+    @Query("""
+        DELETE FROM semantic_data_domain
+        WHERE semantic_data_domain.semantic_data_id = :semanticDataId
+        AND semantic_data_domain.uri IN (:uris)
+        """)
+    void deleteDomains(UUID semanticDataId, List<String> uris);
+
+    @Modifying
+    @Query("""
+        UPDATE semantic_data
+        SET last_modified_on = :lastModifiedOn
+        WHERE semantic_data.id = :id
+        """)
+    void updateLastModifiedOn(UUID id, Instant lastModifiedOn);
 }
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -19,6 +20,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -48,8 +50,23 @@ public class SemanticDataSearchService implements ISemanticDataSearchService {
         return this.semanticDataRepository.findByProjectId(project.getId());
     }
 
+    @Override
+    public Optional<Instant> findLastModifiedOnByProject(AggregateReference<Project, UUID> project) {
+        return this.semanticDataRepository.findLastModifiedOnByProjectId(project.getId());
+    }
+
     @Override
     public List<SemanticData> findAllByDomains(List<String> domainUris) {
         return this.semanticDataRepository.findAllByDomains(domainUris);
     }
+
+    @Override
+    public List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris) {
+        return this.semanticDataRepository.findAllVersionsByDomains(domainUris);
+    }
+
+    @Override
+    public List<SemanticData> findAllByIds(List<UUID> semanticDataIds) {
+        return this.semanticDataRepository.findAllById(semanticDataIds);
+    }
 }
@@ -12,16 +12,32 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.DocumentMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.eclipse.sirius.web.domain.services.api.IContentCodec;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Used to update the semantic data.
@@ -31,17 +47,111 @@ import org.springframework.stereotype.Service;
 @Service
 public class SemanticDataUpdateService implements ISemanticDataUpdateService {
 
+    private static final long MAX_DATE_PRECISION_LOSS_IN_NANOS = 1_000;
+
     private final ISemanticDataRepository semanticDataRepository;
 
-    public SemanticDataUpdateService(ISemanticDataRepository semanticDataRepository) {
+    private final IContentCodec contentCodec;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SemanticDataUpdateService(ISemanticDataRepository semanticDataRepository, IContentCodec contentCodec, ApplicationEventPublisher applicationEventPublisher) {
         this.semanticDataRepository = Objects.requireNonNull(semanticDataRepository);
+        this.contentCodec = Objects.requireNonNull(contentCodec);
+        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
     }
 
+    /**
+     * Updates the documents and the domains of the semantic data row by row.
+     *
+     * <p>
+     * Instead of loading and saving the semantic data aggregate as a whole, only the documents which have been added,
+     * modified or removed are written. A document is considered as unchanged if it has the same name and either the
+     * same last modification date or the same content as the one persisted. Since the hash of the persisted documents
+     * is computed on their encoded content, the content is compared both encoded and as plain UTF-8 text in order to
+     * leave untouched the documents persisted before the introduction of the content codec.
+     * </p>
+     *
+     * <p>
+     * Since the aggregate is not saved, the event signaling the update is published directly.
+     * </p>
+     */
     @Override
+    @Transactional
     public void updateDocuments(AggregateReference<Project, UUID> project, Set<Document> documents, Set<String> domainUris) {
-        this.semanticDataRepository.findByProjectId(project.getId()).ifPresent(semanticData -> {
-            semanticData.updateDocuments(documents, domainUris);
-            this.semanticDataRepository.save(semanticData);
+        this.semanticDataRepository.findIdByProjectId(project.getId()).ifPresent(semanticDataId -> {
+            Map<UUID, DocumentMetadata> persistedDocuments = this.semanticDataRepository.findAllDocumentMetadataBySemanticDataId(semanticDataId).stream()
+                    .collect(Collectors.toMap(DocumentMetadata::id, Function.identity()));
+
+            boolean hasChanges = false;
+            for (Document document : documents) {
+                var documentMetadata = persistedDocuments.remove(document.getId());
+                if (documentMetadata == null) {
+                    byte[] content = this.contentCodec.encode(document.getContent());
+                    this.semanticDataRepository.insertDocument(semanticDataId, document.getId(), document.getName(), content, document.getCreatedOn(), document.getLastModifiedOn());
+                    hasChanges = true;
+                } else if (!this.hasSameNameAndLastModifiedOn(documentMetadata, document)) {
+                    byte[] content = this.contentCodec.encode(document.getContent());
+                    if (!this.hasSameNameAndContent(documentMetadata, document, content)) {
+                        this.semanticDataRepository.updateDocument(semanticDataId, document.getId(), document.getName(), content, document.getLastModifiedOn());
+                        hasChanges = true;
+                    }
+                }
+            }
+
+            if (!persistedDocuments.isEmpty()) {
+                this.semanticDataRepository.deleteDocuments(semanticDataId, new ArrayList<>(persistedDocuments.keySet()));
+                hasChanges = true;
+            }
+
+            hasChanges = this.updateDomains(semanticDataId, domainUris) || hasChanges;
+
+            if (hasChanges) {
+                var now = Instant.now();
+                this.semanticDataRepository.updateLastModifiedOn(semanticDataId, now);
+                this.applicationEventPublisher.publishEvent(new SemanticDataUpdatedEvent(UUID.randomUUID(), now, semanticDataId));
+            }
         });
     }
+
+    private boolean hasSameNameAndLastModifiedOn(DocumentMetadata documentMetadata, Document document) {
+        // The database may store the dates with a lower precision
+        return Objects.equals(documentMetadata.name(), document.getName())
+                && documentMetadata.lastModifiedOn() != null
+                && Duration.between(documentMetadata.lastModifiedOn(), document.getLastModifiedOn()).abs().toNanos() < MAX_DATE_PRECISION_LOSS_IN_NANOS;
+    }
+
+    private boolean hasSameNameAndContent(DocumentMetadata documentMetadata, Document document, byte[] encodedContent) {
+        return Objects.equals(documentMetadata.name(), document.getName())
+                && (Objects.equals(documentMetadata.contentHash(), this.getContentHash(encodedContent))
+                || Objects.equals(documentMetadata.contentHash(), this.getContentHash(document.getContent().getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private String getContentHash(byte[] content) {
+        try {
+            // Must match the md5 function of the database used to compute the hash of the persisted documents
+            var messageDigest = MessageDigest.getInstance("MD5");
+            return HexFormat.of().formatHex(messageDigest.digest(content));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private boolean updateDomains(UUID semanticDataId, Set<String> domainUris) {
+        Set<String> persistedDomainUris = new HashSet<>(this.semanticDataRepository.findAllDomainUrisBySemanticDataId(semanticDataId));
+
+        var domainUrisToDelete = persistedDomainUris.stream()
+                .filter(domainUri -> !domainUris.contains(domainUri))
+                .toList();
+        var domainUrisToInsert = domainUris.stream()
+                .filter(domainUri -> !persistedDomainUris.contains(domainUri))
+                .toList();
+
+        if (!domainUrisToDelete.isEmpty()) {
+            this.semanticDataRepository.deleteDomains(semanticDataId, domainUrisToDelete);
+        }
+        domainUrisToInsert.forEach(domainUri -> this.semanticDataRepository.insertDomain(semanticDataId, domainUri));
+
+        return !domainUrisToDelete.isEmpty() || !domainUrisToInsert.isEmpty();
+    }
 }
@@ -12,12 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -31,5 +33,11 @@ public interface ISemanticDataSearchService {
 
     Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project);
 
+    Optional<Instant> findLastModifiedOnByProject(AggregateReference<Project, UUID> project);
+
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris);
+
+    List<SemanticData> findAllByIds(List<UUID> semanticDataIds);
 }
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.services.api;
+
+/**
+ * Used to convert the content of the documents and representations to the bytes persisted and back.
+ *
+ * <p>
+ * Implementations must be able to decode the content persisted by any previous version of the codec, including the
+ * plain UTF-8 content of the rows written before the introduction of the compression.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IContentCodec {
+    byte[] encode(String content);
+
+    String decode(byte[] bytes);
+}
@@ -15,18 +15,23 @@ package org.eclipse.sirius.web.infrastructure.monitoring;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
 
 /**
  * Configuration of the monitoring support for Sirius Web.
  *
+ * <p>
+ * The metrics are kept in an in-process Prometheus registry which can be scraped thanks to the
+ * {@link PrometheusScrapeController}.
+ * </p>
+ *
  * @author hmarchadour
  */
 @Configuration
 public class MonitoringConfiguration {
     @Bean
-    public MeterRegistry meterRegistry() {
-        return new SimpleMeterRegistry();
+    public PrometheusMeterRegistry meterRegistry() {
+        return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
     }
 }
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.infrastructure.monitoring;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.infrastructure.mvc.SpringWebMvcConfigurerConstants;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+
+/**
+ * Exposes the metrics of the server in the Prometheus text format.
+ *
+ * <p>
+ * This endpoint is only available if the property <code>sirius.web.monitoring.prometheus.enabled</code> is set to
+ * <code>true</code>. In a development environment, the metrics can be scraped from the following URL:
+ * </p>
+ *
+ * <pre>
+ * http://localhost:8080/api/metrics
+ * </pre>
+ *
+ * @author agent
+ */
+@RestController
+@RequestMapping(SpringWebMvcConfigurerConstants.API_BASE_PATH + "/metrics")
+@ConditionalOnProperty(name = "sirius.web.monitoring.prometheus.enabled", havingValue = "true")
+public class PrometheusScrapeController {
+
+    private final PrometheusMeterRegistry prometheusMeterRegistry;
+
+    public PrometheusScrapeController(PrometheusMeterRegistry prometheusMeterRegistry) {
+        this.prometheusMeterRegistry = Objects.requireNonNull(prometheusMeterRegistry);
+    }
+
+    @GetMapping
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, TextFormat.CONTENT_TYPE_004)
+                .body(this.prometheusMeterRegistry.scrape());
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.infrastructure.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.sirius.web.domain.services.api.IContentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Used to compress the content of the documents and representations with gzip.
+ *
+ * <p>
+ * The gzip header of the compressed content is used as a format marker. Content without this header is considered as
+ * plain UTF-8 text which lets us read the rows written before the introduction of the compression or while it was
+ * disabled. Since the JSON content persisted always starts with a printable character, it cannot be mistaken for
+ * compressed content.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class ContentCodec implements IContentCodec {
+
+    private static final String ENCODE_TIMER_NAME = "siriusweb_content_encode";
+
+    private static final String DECODE_TIMER_NAME = "siriusweb_content_decode";
+
+    private static final String COMPRESSION_RATIO_NAME = "siriusweb_content_compression_ratio";
+
+    private static final byte GZIP_MAGIC_FIRST_BYTE = (byte) GZIPInputStream.GZIP_MAGIC;
+
+    private static final byte GZIP_MAGIC_SECOND_BYTE = (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+
+    private final boolean compressionEnabled;
+
+    private final Timer encodeTimer;
+
+    private final Timer decodeTimer;
+
+    private final DistributionSummary compressionRatio;
+
+    public ContentCodec(@Value("${sirius.web.content.compression.enabled:true}") boolean compressionEnabled, MeterRegistry meterRegistry) {
+        this.compressionEnabled = compressionEnabled;
+        this.encodeTimer = Timer.builder(ENCODE_TIMER_NAME).register(meterRegistry);
+        this.decodeTimer = Timer.builder(DECODE_TIMER_NAME).register(meterRegistry);
+        this.compressionRatio = DistributionSummary.builder(COMPRESSION_RATIO_NAME).register(meterRegistry);
+    }
+
+    @Override
+    public byte[] encode(String content) {
+        long start = System.nanoTime();
+
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (this.compressionEnabled) {
+            var outputStream = new ByteArrayOutputStream(bytes.length / 4 + 32);
+            try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                gzipOutputStream.write(bytes);
+            } catch (IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+            byte[] compressedBytes = outputStream.toByteArray();
+            this.compressionRatio.record((double) bytes.length / compressedBytes.length);
+            bytes = compressedBytes;
+        }
+
+        this.encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return bytes;
+    }
+
+    @Override
+    public String decode(byte[] bytes) {
+        long start = System.nanoTime();
+
+        String content;
+        if (this.isCompressed(bytes)) {
+            try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+        } else {
+            content = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        this.decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return content;
+    }
+
+    private boolean isCompressed(byte[] bytes) {
+        return bytes.length >= 2 && bytes[0] == GZIP_MAGIC_FIRST_BYTE && bytes[1] == GZIP_MAGIC_SECOND_BYTE;
+    }
+}
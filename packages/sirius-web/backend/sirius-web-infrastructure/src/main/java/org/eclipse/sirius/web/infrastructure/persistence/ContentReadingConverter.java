@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.infrastructure.persistence;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.Content;
+import org.eclipse.sirius.web.domain.services.api.IContentCodec;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+/**
+ * Used to decode the content of the documents and representations read.
+ *
+ * @author agent
+ */
+@ReadingConverter
+public class ContentReadingConverter implements Converter<byte[], Content> {
+
+    private final IContentCodec contentCodec;
+
+    public ContentReadingConverter(IContentCodec contentCodec) {
+        this.contentCodec = Objects.requireNonNull(contentCodec);
+    }
+
+    @Override
+    public Content convert(byte[] bytes) {
+        return new Content(this.contentCodec.decode(bytes));
+    }
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.infrastructure.persistence;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.Content;
+import org.eclipse.sirius.web.domain.services.api.IContentCodec;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+/**
+ * Used to encode the content of the documents and representations before writing them.
+ *
+ * @author agent
+ */
+@WritingConverter
+public class ContentWritingConverter implements Converter<Content, byte[]> {
+
+    private final IContentCodec contentCodec;
+
+    public ContentWritingConverter(IContentCodec contentCodec) {
+        this.contentCodec = Objects.requireNonNull(contentCodec);
+    }
+
+    @Override
+    public byte[] convert(Content content) {
+        return this.contentCodec.encode(content.value());
+    }
+}
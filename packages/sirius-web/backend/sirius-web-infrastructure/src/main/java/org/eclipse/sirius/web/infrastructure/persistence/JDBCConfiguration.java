@@ -12,15 +12,46 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.infrastructure.persistence;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.sirius.web.domain.services.api.IContentCodec;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.mapping.JdbcSimpleTypes;
 import org.springframework.data.jdbc.repository.config.EnableJdbcRepositories;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.relational.core.dialect.Dialect;
 
 /**
  * Spring Data JDBC configuration.
  *
+ * <p>
+ * The content of the documents and representations is encoded and decoded by the content codec thanks to custom
+ * converters. They are contributed with a dedicated bean in order to keep the rest of the configuration provided by
+ * Spring Boot.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Configuration
 @EnableJdbcRepositories(basePackages = { "org.eclipse.sirius.web.domain" })
 public class JDBCConfiguration {
+
+    @Bean
+    public JdbcCustomConversions jdbcCustomConversions(Dialect dialect, IContentCodec contentCodec) {
+        SimpleTypeHolder simpleTypeHolder = JdbcSimpleTypes.HOLDER;
+        if (!dialect.simpleTypes().isEmpty()) {
+            simpleTypeHolder = new SimpleTypeHolder(dialect.simpleTypes(), JdbcSimpleTypes.HOLDER);
+        }
+
+        // Same store conversions as the default ones computed by Spring Data JDBC
+        List<Object> storeConverters = new ArrayList<>(dialect.getConverters());
+        storeConverters.addAll(JdbcCustomConversions.storeConverters());
+
+        var userConverters = List.of(new ContentWritingConverter(contentCodec), new ContentReadingConverter(contentCodec));
+        return new JdbcCustomConversions(CustomConversions.StoreConversions.of(simpleTypeHolder, storeConverters), userConverters);
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProce
 import org.eclipse.sirius.components.collaborative.api.IRepresentationConfiguration;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
+import org.eclipse.sirius.components.collaborative.editingcontext.PooledEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.collaborative.forms.WidgetSubscriptionManager;
 import org.eclipse.sirius.components.collaborative.forms.api.IWidgetSubscriptionManagerFactory;
@@ -30,8 +31,10 @@ import org.eclipse.sirius.components.graphql.api.IExceptionWrapper;
 import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerListener;
 import org.eclipse.sirius.components.web.concurrent.DelegatingRequestContextExecutorService;
 import org.eclipse.sirius.web.domain.services.api.IMessageService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.web.socket.CloseStatus;
@@ -63,6 +66,14 @@ import reactor.core.publisher.Flux;
 })
 public class SiriusWebStarterConfiguration {
 
+    @Bean
+    @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
+    @ConditionalOnProperty(name = "sirius.components.editingContext.executor.pooled", havingValue = "true")
+    public IEditingContextEventProcessorExecutorServiceProvider pooledEditingContextEventProcessorExecutorServiceProvider(
+            @Value("${sirius.components.editingContext.executor.poolSize:16}") int poolSize) {
+        return new PooledEditingContextEventProcessorExecutorServiceProvider(poolSize, DelegatingRequestContextExecutorService::new);
+    }
+
     @Bean
     @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
     public IEditingContextEventProcessorExecutorServiceProvider editingContextEventProcessorExecutorServiceProvider() {
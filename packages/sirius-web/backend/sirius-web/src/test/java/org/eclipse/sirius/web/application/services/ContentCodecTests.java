@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.sirius.web.infrastructure.persistence.ContentCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the codec of the content of the documents and representations.
+ *
+ * @author agent
+ */
+public class ContentCodecTests {
+
+    private static final String CONTENT = """
+            {"json":{"version":"1.0","encoding":"utf-8"},"ns":{"ecore":"http://www.eclipse.org/emf/2002/Ecore"},"content":[{"id":"e3b0c442-98fc-1c14-9afb-f4c8996fb924","eClass":"ecore:EPackage","data":{"name":"données ∑ 😀"}}]}
+            """;
+
+    @Test
+    @DisplayName("Given a content, when it is encoded with the compression enabled, then it is compressed with gzip and decoded back to the same content")
+    public void givenAContentWhenItIsEncodedWithTheCompressionEnabledThenItIsCompressedWithGzipAndDecodedBackToTheSameContent() {
+        var contentCodec = new ContentCodec(true, new SimpleMeterRegistry());
+
+        byte[] bytes = contentCodec.encode(CONTENT.repeat(10));
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x1f);
+        assertThat(bytes[1]).isEqualTo((byte) 0x8b);
+        assertThat(bytes.length).isLessThan(CONTENT.repeat(10).getBytes(StandardCharsets.UTF_8).length);
+        assertThat(contentCodec.decode(bytes)).isEqualTo(CONTENT.repeat(10));
+    }
+
+    @Test
+    @DisplayName("Given a content persisted as plain UTF-8 text, when it is decoded, then the same content is returned")
+    public void givenAContentPersistedAsPlainUTF8TextWhenItIsDecodedThenTheSameContentIsReturned() {
+        var contentCodec = new ContentCodec(true, new SimpleMeterRegistry());
+
+        assertThat(contentCodec.decode(CONTENT.getBytes(StandardCharsets.UTF_8))).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("Given the compression disabled, when a content is encoded, then it is written as plain UTF-8 text which can be decoded with the compression enabled")
+    public void givenTheCompressionDisabledWhenAContentIsEncodedThenItIsWrittenAsPlainUTF8TextWhichCanBeDecodedWithTheCompressionEnabled() {
+        byte[] bytes = new ContentCodec(false, new SimpleMeterRegistry()).encode(CONTENT);
+
+        assertThat(bytes).isEqualTo(CONTENT.getBytes(StandardCharsets.UTF_8));
+        assertThat(new ContentCodec(true, new SimpleMeterRegistry()).decode(bytes)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("Given an empty content, when it is encoded and decoded, then an empty content is returned")
+    public void givenAnEmptyContentWhenItIsEncodedAndDecodedThenAnEmptyContentIsReturned() {
+        var contentCodec = new ContentCodec(true, new SimpleMeterRegistry());
+
+        assertThat(contentCodec.decode(contentCodec.encode(""))).isEmpty();
+        assertThat(contentCodec.decode(new byte[0])).isEmpty();
+    }
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.web.application.editingcontext.services.DirtyResourceTrackingAdapter;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the tracking of the modified resources.
+ *
+ * @author agent
+ */
+public class DirtyResourceTrackingAdapterTests {
+
+    @Test
+    @DisplayName("Given persisted resources, when one of them is modified, then only this one has to be serialized again")
+    public void givenPersistedResourcesWhenOneOfThemIsModifiedThenOnlyThisOneHasToBeSerializedAgain() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        EClass firstEClass = this.createEClass(resourceSet, "first");
+        this.createEClass(resourceSet, "second");
+        List<Resource> resources = List.copyOf(resourceSet.getResources());
+
+        var adapter = new DirtyResourceTrackingAdapter();
+        resourceSet.eAdapters().add(adapter);
+        assertThat(adapter.hasChanges(resources)).isTrue();
+
+        adapter.setDocumentData(this.toDocumentData(resources));
+        assertThat(adapter.hasChanges(resources)).isFalse();
+
+        firstEClass.setName("modified");
+        assertThat(adapter.hasChanges(resources)).isTrue();
+        assertThat(adapter.getDocumentData(resources.get(0))).isEmpty();
+        assertThat(adapter.getDocumentData(resources.get(1))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Given persisted resources, when one of them is renamed, then only this one has to be serialized again")
+    public void givenPersistedResourcesWhenOneOfThemIsRenamedThenOnlyThisOneHasToBeSerializedAgain() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        this.createEClass(resourceSet, "first");
+        this.createEClass(resourceSet, "second");
+        List<Resource> resources = List.copyOf(resourceSet.getResources());
+        var resourceMetadataAdapter = new ResourceMetadataAdapter("first");
+        resources.get(0).eAdapters().add(resourceMetadataAdapter);
+
+        var adapter = new DirtyResourceTrackingAdapter();
+        resourceSet.eAdapters().add(adapter);
+        adapter.setDocumentData(this.toDocumentData(resources));
+
+        resourceMetadataAdapter.setName("renamed");
+        assertThat(adapter.hasChanges(resources)).isTrue();
+        assertThat(adapter.getDocumentData(resources.get(0))).isEmpty();
+        assertThat(adapter.getDocumentData(resources.get(1))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Given persisted resources, when a resource is removed, then the resources have changed")
+    public void givenPersistedResourcesWhenAResourceIsRemovedThenTheResourcesHaveChanged() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        this.createEClass(resourceSet, "first");
+        this.createEClass(resourceSet, "second");
+
+        var adapter = new DirtyResourceTrackingAdapter();
+        resourceSet.eAdapters().add(adapter);
+        adapter.setDocumentData(this.toDocumentData(List.copyOf(resourceSet.getResources())));
+
+        resourceSet.getResources().remove(1);
+        assertThat(adapter.hasChanges(List.copyOf(resourceSet.getResources()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given persisted resources, when a referenced object is moved to another resource, then the referencing resource has to be serialized again")
+    public void givenPersistedResourcesWhenAReferencedObjectIsMovedThenTheReferencingResourceHasToBeSerializedAgain() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        EClass firstEClass = this.createEClass(resourceSet, "first");
+        EClass secondEClass = this.createEClass(resourceSet, "second");
+        EClass thirdEClass = this.createEClass(resourceSet, "third");
+        thirdEClass.getESuperTypes().add(secondEClass);
+        List<Resource> resources = List.copyOf(resourceSet.getResources());
+
+        resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+        var adapter = new DirtyResourceTrackingAdapter();
+        resourceSet.eAdapters().add(adapter);
+        adapter.setDocumentData(this.toDocumentData(resources));
+
+        firstEClass.getEPackage().getEClassifiers().add(secondEClass);
+        assertThat(adapter.getDocumentData(resources.get(0))).isEmpty();
+        assertThat(adapter.getDocumentData(resources.get(1))).isEmpty();
+        assertThat(adapter.getDocumentData(resources.get(2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a resource registered without being loaded, when it is loaded on demand, then it does not have to be serialized again")
+    public void givenAResourceRegisteredWithoutBeingLoadedWhenItIsLoadedOnDemandThenItDoesNotHaveToBeSerializedAgain() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl(URI.createURI("sirius:///" + UUID.randomUUID())) {
+            @Override
+            public void load(Map<?, ?> options) throws IOException {
+                this.load(new ByteArrayInputStream(new byte[0]), options);
+            }
+
+            @Override
+            protected void doLoad(InputStream inputStream, Map<?, ?> options) {
+                EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+                ePackage.setName("lazy");
+                this.getContents().add(ePackage);
+            }
+        };
+        resourceSet.getResources().add(resource);
+        List<Resource> resources = List.copyOf(resourceSet.getResources());
+
+        resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+        var adapter = new DirtyResourceTrackingAdapter();
+        resourceSet.eAdapters().add(adapter);
+        adapter.setDocumentData(this.toDocumentData(resources));
+
+        resourceSet.getResource(resource.getURI(), true);
+        assertThat(resource.isLoaded()).isTrue();
+        assertThat(adapter.hasChanges(resources)).isFalse();
+
+        resource.unload();
+        assertThat(adapter.hasChanges(resources)).isFalse();
+
+        resourceSet.getResource(resource.getURI(), true);
+        ((EPackage) resource.getContents().get(0)).setName("modified");
+        assertThat(adapter.hasChanges(resources)).isTrue();
+    }
+
+    private EClass createEClass(ResourceSet resourceSet, String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName(name);
+        ePackage.getEClassifiers().add(eClass);
+
+        Resource resource = new ResourceImpl(URI.createURI("sirius:///" + UUID.randomUUID()));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+        return eClass;
+    }
+
+    private Map<Resource, DocumentData> toDocumentData(List<Resource> resources) {
+        Map<Resource, DocumentData> documentData = new LinkedHashMap<>();
+        resources.forEach(resource -> {
+            var document = Document.newDocument(UUID.randomUUID())
+                    .name("")
+                    .content("")
+                    .build();
+            documentData.put(resource, new DocumentData(document, List.of()));
+        });
+        return documentData;
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EFactory;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentData;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentToResourceService;
+import org.eclipse.sirius.web.application.editingcontext.services.EditingContextLoader;
+import org.eclipse.sirius.web.application.editingcontext.services.EditingDomainFactory;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceToDocumentService;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingDomainFactory;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the loading of the editing contexts.
+ *
+ * @author agent
+ */
+public class EditingContextLoaderTests {
+
+    private static final int DOCUMENT_COUNT = 8;
+
+    private final Project project = Project.newProject().name("project").build();
+
+    @Test
+    @DisplayName("Given documents referencing each other, when they are loaded in parallel, then the resources are the same as with a sequential loading")
+    public void givenDocumentsReferencingEachOtherWhenTheyAreLoadedInParallelThenTheResourcesAreTheSameAsWithASequentialLoading() {
+        var documents = this.createDocuments();
+        var editingDomainFactory = new EditingDomainFactory(new ComposedAdapterFactory(), this.createGlobalEPackageRegistry());
+
+        var sequentialResourceSet = this.load(editingDomainFactory, false, documents);
+        var parallelResourceSet = this.load(editingDomainFactory, true, documents);
+
+        assertThat(parallelResourceSet.getResources()).hasSize(DOCUMENT_COUNT);
+        assertThat(parallelResourceSet.getResources()).extracting(Resource::getURI)
+                .containsExactlyElementsOf(sequentialResourceSet.getResources().stream().map(Resource::getURI).toList());
+        for (int index = 0; index < DOCUMENT_COUNT; index++) {
+            var parallelContents = parallelResourceSet.getResources().get(index).getContents();
+            var sequentialContents = sequentialResourceSet.getResources().get(index).getContents();
+            assertThat(EcoreUtil.equals(parallelContents, sequentialContents)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Given documents referencing each other, when they are loaded in parallel, then the references between them are resolved")
+    public void givenDocumentsReferencingEachOtherWhenTheyAreLoadedInParallelThenTheReferencesBetweenThemAreResolved() {
+        var documents = this.createDocuments();
+        var editingDomainFactory = new EditingDomainFactory(new ComposedAdapterFactory(), this.createGlobalEPackageRegistry());
+
+        var resourceSet = this.load(editingDomainFactory, true, documents);
+
+        assertThat(EcoreUtil.ProxyCrossReferencer.find(resourceSet)).isEmpty();
+        for (int index = 1; index < DOCUMENT_COUNT; index++) {
+            var eClass = (EClass) ((EPackage) resourceSet.getResources().get(index).getContents().get(0)).getEClassifiers().get(0);
+            var superType = ((InternalEList<EClass>) eClass.getESuperTypes()).basicGet(0);
+            assertThat(superType.eIsProxy()).isFalse();
+            assertThat(superType.eResource()).isSameAs(resourceSet.getResources().get(index - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Given a package only known by a delegate registry, when documents are loaded in parallel, then it is resolved before the parsing")
+    public void givenAPackageOnlyKnownByADelegateRegistryWhenDocumentsAreLoadedInParallelThenItIsResolvedBeforeTheParsing() {
+        var documents = this.createDocuments();
+
+        Set<String> resolvingThreadNames = ConcurrentHashMap.newKeySet();
+        EPackage.Registry delegateRegistry = new EPackageRegistryImpl();
+        delegateRegistry.put(EcorePackage.eNS_URI, new EPackage.Descriptor() {
+            @Override
+            public EPackage getEPackage() {
+                resolvingThreadNames.add(Thread.currentThread().getName());
+                return EcorePackage.eINSTANCE;
+            }
+
+            @Override
+            public EFactory getEFactory() {
+                return EcoreFactory.eINSTANCE;
+            }
+        });
+        IEditingDomainFactory editingDomainFactory = project -> {
+            var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+            editingDomain.getResourceSet().setPackageRegistry(new EPackageRegistryImpl(delegateRegistry));
+            return editingDomain;
+        };
+
+        var resourceSet = this.load(editingDomainFactory, true, documents);
+
+        assertThat(resourceSet.getResources()).hasSize(DOCUMENT_COUNT);
+        assertThat(resolvingThreadNames).containsExactly(Thread.currentThread().getName());
+    }
+
+    private ResourceSet load(IEditingDomainFactory editingDomainFactory, boolean parallelLoadingEnabled, List<Document> documents) {
+        var editingContextLoader = new EditingContextLoader(new DocumentToResourceService(), editingDomainFactory, List.of(), List.of(), new SimpleMeterRegistry(), parallelLoadingEnabled, 4, false);
+        try {
+            var editingContext = (EditingContext) editingContextLoader.load(this.project, documents);
+            return editingContext.getDomain().getResourceSet();
+        } finally {
+            editingContextLoader.dispose();
+        }
+    }
+
+    private EPackage.Registry createGlobalEPackageRegistry() {
+        EPackage.Registry globalEPackageRegistry = new EPackageRegistryImpl();
+        globalEPackageRegistry.put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        return globalEPackageRegistry;
+    }
+
+    /**
+     * Creates documents containing each an EClass which inherits from the EClass of the previous document.
+     */
+    private List<Document> createDocuments() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        EClass previousEClass = null;
+        for (int index = 0; index < DOCUMENT_COUNT; index++) {
+            EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+            ePackage.setName("package" + index);
+            ePackage.setNsURI("domain://package" + index);
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName("Class" + index);
+            if (previousEClass != null) {
+                eClass.getESuperTypes().add(previousEClass);
+            }
+            ePackage.getEClassifiers().add(eClass);
+            previousEClass = eClass;
+
+            Resource resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+            resource.getContents().add(ePackage);
+            resourceSet.getResources().add(resource);
+        }
+
+        List<Document> documents = new ArrayList<>();
+        var resourceToDocumentService = new ResourceToDocumentService();
+        resourceSet.getResources().forEach(resource -> resourceToDocumentService.toDocument(resource)
+                .map(DocumentData::document)
+                .ifPresent(documents::add));
+        return documents;
+    }
+}
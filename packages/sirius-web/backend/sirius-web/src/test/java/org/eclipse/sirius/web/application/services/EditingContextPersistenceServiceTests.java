@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.DirtyResourceTrackingAdapter;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentData;
+import org.eclipse.sirius.web.application.editingcontext.services.EditingContextPersistenceService;
+import org.eclipse.sirius.web.application.editingcontext.services.LazyJsonResource;
+import org.eclipse.sirius.web.application.editingcontext.services.LazyJsonResourceCrossReferenceAdapter;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceToDocumentService;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextWriteBehindService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the eviction of the documents loaded on demand during the persistence of the editing contexts.
+ *
+ * @author agent
+ */
+public class EditingContextPersistenceServiceTests {
+
+    private static final long SHORT_EVICTION_DELAY = 1;
+
+    private static final long LONG_EVICTION_DELAY = 60_000;
+
+    private final List<Document> persistedDocuments = new ArrayList<>();
+
+    @Test
+    @DisplayName("Given a document loaded on demand, when it has not been accessed during the eviction delay, then it is evicted after the persistence")
+    public void givenADocumentLoadedOnDemandWhenItHasNotBeenAccessedDuringTheEvictionDelayThenItIsEvictedAfterThePersistence() throws InterruptedException {
+        var editingContext = this.createEditingContext();
+        var resource = (LazyJsonResource) editingContext.getDomain().getResourceSet().getResources().get(0);
+        resource.loadOnDemand();
+        assertThat(resource.isLoaded()).isTrue();
+
+        Thread.sleep(10);
+        this.createPersistenceService(SHORT_EVICTION_DELAY).persist(editingContext);
+
+        assertThat(resource.isLoaded()).isFalse();
+        assertThat(this.persistedDocuments).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a document loaded on demand, when it has been accessed during the eviction delay, then it is not evicted")
+    public void givenADocumentLoadedOnDemandWhenItHasBeenAccessedDuringTheEvictionDelayThenItIsNotEvicted() {
+        var editingContext = this.createEditingContext();
+        var resource = (LazyJsonResource) editingContext.getDomain().getResourceSet().getResources().get(0);
+        resource.loadOnDemand();
+
+        this.createPersistenceService(LONG_EVICTION_DELAY).persist(editingContext);
+
+        assertThat(resource.isLoaded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given a modified document loaded on demand, when it is evicted, then its new content is used when it is loaded again")
+    public void givenAModifiedDocumentLoadedOnDemandWhenItIsEvictedThenItsNewContentIsUsedWhenItIsLoadedAgain() throws InterruptedException {
+        var editingContext = this.createEditingContext();
+        var resource = (LazyJsonResource) editingContext.getDomain().getResourceSet().getResources().get(0);
+        resource.loadOnDemand();
+        ((EPackage) resource.getContents().get(0)).setName("modified");
+
+        // The serialization of the modified document counts as an access, it can only be evicted by the next persistence
+        var persistenceService = this.createPersistenceService(SHORT_EVICTION_DELAY);
+        persistenceService.persist(editingContext);
+        assertThat(this.persistedDocuments).hasSize(1);
+
+        Thread.sleep(10);
+        persistenceService.persist(editingContext);
+        assertThat(this.persistedDocuments).hasSize(1);
+        assertThat(resource.isLoaded()).isFalse();
+
+        resource.loadOnDemand();
+        assertThat(((EPackage) resource.getContents().get(0)).getName()).isEqualTo("modified");
+    }
+
+    private EditingContextPersistenceService createPersistenceService(long evictionDelay) {
+        IEditingContextWriteBehindService writeBehindService = new IEditingContextWriteBehindService() {
+            @Override
+            public void submit(String editingContextId, Runnable write) {
+                write.run();
+            }
+
+            @Override
+            public void flush(String editingContextId) {
+                // Nothing to flush since the writes are performed right away
+            }
+        };
+        return new EditingContextPersistenceService((project, documents, domainUris) -> this.persistedDocuments.addAll(documents), new ResourceToDocumentService(), List.of(), writeBehindService,
+                new SimpleMeterRegistry(), evictionDelay);
+    }
+
+    private EditingContext createEditingContext() {
+        var document = this.createDocument();
+
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        ResourceSet resourceSet = editingDomain.getResourceSet();
+        resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
+        var resource = new LazyJsonResource(new JSONResourceFactory().createResourceURI(document.getId().toString()), document.getContent());
+        resourceSet.getResources().add(resource);
+
+        resourceSet.eAdapters().add(new LazyJsonResourceCrossReferenceAdapter(resourceSet));
+        var dirtyResourceTrackingAdapter = new DirtyResourceTrackingAdapter();
+        resourceSet.eAdapters().add(dirtyResourceTrackingAdapter);
+        Map<Resource, DocumentData> documentData = new LinkedHashMap<>();
+        documentData.put(resource, new DocumentData(document, List.of()));
+        dirtyResourceTrackingAdapter.setDocumentData(documentData);
+
+        return new EditingContext(UUID.randomUUID().toString(), editingDomain, new HashMap<>(), new ArrayList<>());
+    }
+
+    private Document createDocument() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample");
+        ePackage.setNsURI("domain://sample");
+
+        Resource resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        new ResourceSetImpl().getResources().add(resource);
+        resource.getContents().add(ePackage);
+
+        return new ResourceToDocumentService().toDocument(resource)
+                .map(DocumentData::document)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.web.application.editingcontext.services.EditingContextWriteBehindService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the write-behind of the editing contexts.
+ *
+ * @author agent
+ */
+public class EditingContextWriteBehindServiceTests {
+
+    private static final Duration DEBOUNCE_INTERVAL = Duration.ofSeconds(10);
+
+    @Test
+    @DisplayName("Given the write-behind, when several writes are submitted, then only the latest one is performed during the flush")
+    public void givenWriteBehindWhenSeveralWritesAreSubmittedThenOnlyTheLatestOneIsPerformedDuringTheFlush() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var writeBehindService = new EditingContextWriteBehindService(true, DEBOUNCE_INTERVAL, DEBOUNCE_INTERVAL, 50, 1, meterRegistry);
+        String editingContextId = UUID.randomUUID().toString();
+
+        List<Integer> writes = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int index = i;
+            writeBehindService.submit(editingContextId, () -> writes.add(index));
+        }
+        assertThat(writes).isEmpty();
+
+        writeBehindService.flush(editingContextId);
+        assertThat(writes).containsExactly(2);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_flush").timer().count()).isEqualTo(1);
+
+        writeBehindService.flush(editingContextId);
+        assertThat(writes).containsExactly(2);
+
+        writeBehindService.dispose();
+    }
+
+    @Test
+    @DisplayName("Given the write-behind, when a write fails, then the failure is surfaced and the write is retried during the next flush")
+    public void givenWriteBehindWhenAWriteFailsThenTheFailureIsSurfacedAndTheWriteIsRetriedDuringTheNextFlush() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var writeBehindService = new EditingContextWriteBehindService(true, DEBOUNCE_INTERVAL, DEBOUNCE_INTERVAL, 50, 1, meterRegistry);
+        String editingContextId = UUID.randomUUID().toString();
+
+        AtomicBoolean shouldFail = new AtomicBoolean(true);
+        List<String> writes = new CopyOnWriteArrayList<>();
+        writeBehindService.submit(editingContextId, () -> {
+            if (shouldFail.get()) {
+                throw new IllegalStateException();
+            }
+            writes.add(editingContextId);
+        });
+
+        assertThatThrownBy(() -> writeBehindService.flush(editingContextId)).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_flush_failures").counter().count()).isEqualTo(1.0);
+
+        shouldFail.set(false);
+        writeBehindService.flush(editingContextId);
+        assertThat(writes).containsExactly(editingContextId);
+
+        writeBehindService.dispose();
+    }
+
+    @Test
+    @DisplayName("Given the write-behind, when a background write fails, then it is retried in the background")
+    public void givenWriteBehindWhenABackgroundWriteFailsThenItIsRetriedInTheBackground() throws InterruptedException {
+        var meterRegistry = new SimpleMeterRegistry();
+        var writeBehindService = new EditingContextWriteBehindService(true, Duration.ofMillis(50), DEBOUNCE_INTERVAL, 50, 1, meterRegistry);
+        String editingContextId = UUID.randomUUID().toString();
+
+        AtomicBoolean shouldFail = new AtomicBoolean(true);
+        List<String> writes = new CopyOnWriteArrayList<>();
+        writeBehindService.submit(editingContextId, () -> {
+            if (shouldFail.getAndSet(false)) {
+                throw new IllegalStateException();
+            }
+            writes.add(editingContextId);
+        });
+
+        long deadline = System.currentTimeMillis() + DEBOUNCE_INTERVAL.toMillis() / 2;
+        while (writes.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(writes).containsExactly(editingContextId);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_flush_failures").counter().count()).isEqualTo(1.0);
+
+        writeBehindService.dispose();
+    }
+
+    @Test
+    @DisplayName("Given the write-behind, when the number of pending changes reaches the threshold, then the write is performed")
+    public void givenWriteBehindWhenTheNumberOfPendingChangesReachesTheThresholdThenTheWriteIsPerformed() throws InterruptedException {
+        var writeBehindService = new EditingContextWriteBehindService(true, DEBOUNCE_INTERVAL, DEBOUNCE_INTERVAL, 2, 1, new SimpleMeterRegistry());
+        String editingContextId = UUID.randomUUID().toString();
+
+        List<Integer> writes = new CopyOnWriteArrayList<>();
+        writeBehindService.submit(editingContextId, () -> writes.add(0));
+        writeBehindService.submit(editingContextId, () -> writes.add(1));
+
+        long deadline = System.currentTimeMillis() + DEBOUNCE_INTERVAL.toMillis() / 2;
+        while (writes.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(writes).containsExactly(1);
+
+        writeBehindService.dispose();
+    }
+
+    @Test
+    @DisplayName("Given the write-behind disabled, when a write is submitted, then it is performed synchronously")
+    public void givenWriteBehindDisabledWhenAWriteIsSubmittedThenItIsPerformedSynchronously() {
+        var writeBehindService = new EditingContextWriteBehindService(false, DEBOUNCE_INTERVAL, DEBOUNCE_INTERVAL, 50, 1, new SimpleMeterRegistry());
+
+        List<Integer> writes = new CopyOnWriteArrayList<>();
+        writeBehindService.submit(UUID.randomUUID().toString(), () -> writes.add(0));
+        assertThat(writes).containsExactly(0);
+
+        writeBehindService.dispose();
+    }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.sirius.web.application.editingcontext.services.EPackageEntry;
+import org.eclipse.sirius.web.application.editingcontext.services.JsonResourceIndexReader;
+import org.eclipse.sirius.web.application.editingcontext.services.JsonResourceNsHeaderReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the readers of the content of a JsonResource which do not parse the whole document.
+ *
+ * @author agent
+ */
+public class JsonResourceNsHeaderReaderTests {
+
+    private static final String SUPER_CLASS_ID = "6e1a6f52-51b5-4d8b-8d5f-1c2f4c1c5a01";
+
+    private static final String SUB_CLASS_ID = "1f7c1b0e-3b53-4d7e-9b8a-6d2c9e2a0b02";
+
+    private static final String PACKAGE_ID = "b8e0c8a4-7a2d-4f55-9d3e-0f4a6b1c7d03";
+
+    private static final String DOCUMENT = """
+            {
+              "json": {"version": "1.0", "encoding": "utf-8"},
+              "ns": {"ecore": "http://www.eclipse.org/emf/2002/Ecore"},
+              "content": [
+                {
+                  "id": "%s",
+                  "eClass": "ecore:EPackage",
+                  "data": {
+                    "name": "sample",
+                    "eClassifiers": [
+                      {
+                        "id": "%s",
+                        "eClass": "ecore:EClass",
+                        "data": {
+                          "name": "Sub",
+                          "eSuperTypes": ["sirius:///5d6f0b1e-0a5c-4c41-9a1b-2c3d4e5f6a04#%s"]
+                        }
+                      }
+                    ]
+                  }
+                }
+              ]
+            }
+            """.formatted(PACKAGE_ID, SUB_CLASS_ID, SUPER_CLASS_ID);
+
+    @Test
+    @DisplayName("Given a document, when its ns header is read, then the EPackages used by the document are returned")
+    public void givenADocumentWhenItsNsHeaderIsReadThenTheEPackagesUsedByTheDocumentAreReturned() {
+        var ePackageEntries = new JsonResourceNsHeaderReader().read(DOCUMENT);
+
+        assertThat(ePackageEntries).containsExactly(new EPackageEntry("ecore", "http://www.eclipse.org/emf/2002/Ecore"));
+    }
+
+    @Test
+    @DisplayName("Given an invalid document, when its ns header is read, then no EPackage is returned")
+    public void givenAnInvalidDocumentWhenItsNsHeaderIsReadThenNoEPackageIsReturned() {
+        assertThat(new JsonResourceNsHeaderReader().read("{\"ns\": ")).isEmpty();
+        assertThat(new JsonResourceNsHeaderReader().read("{\"content\": []}")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a document, when its index is read, then the contained and referenced objects are returned")
+    public void givenADocumentWhenItsIndexIsReadThenTheContainedAndReferencedObjectsAreReturned() {
+        var index = new JsonResourceIndexReader().read(DOCUMENT);
+
+        assertThat(index.objectIds()).containsExactlyInAnyOrder(PACKAGE_ID, SUB_CLASS_ID);
+        assertThat(index.referencedObjectIds()).containsExactly(SUPER_CLASS_ID);
+    }
+
+    @Test
+    @DisplayName("Given an invalid document, when its index is read, then the objects read before the error are returned")
+    public void givenAnInvalidDocumentWhenItsIndexIsReadThenTheObjectsReadBeforeTheErrorAreReturned() {
+        var index = new JsonResourceIndexReader().read("{\"content\": [{\"id\": \"%s\", \"data\": ".formatted(PACKAGE_ID));
+
+        assertThat(index.objectIds()).containsExactly(PACKAGE_ID);
+        assertThat(index.referencedObjectIds()).isEmpty();
+    }
+}
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.sirius.components.emf.services.EObjectIDManager;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentData;
+import org.eclipse.sirius.web.application.editingcontext.services.LazyJsonResource;
+import org.eclipse.sirius.web.application.editingcontext.services.LazyJsonResourceCrossReferenceAdapter;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceToDocumentService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the resources loaded on demand.
+ *
+ * @author agent
+ */
+public class LazyJsonResourceTests {
+
+    private final String superClassId = UUID.randomUUID().toString();
+
+    private final String subClassId = UUID.randomUUID().toString();
+
+    private final Document superClassDocument = this.createDocument("super", this.superClassId, null);
+
+    private final Document subClassDocument = this.createDocument("sub", this.subClassId, this.superClassDocument);
+
+    private final Document emptyDocument = this.createDocument("empty", null, null);
+
+    @Test
+    @DisplayName("Given an unloaded resource, when an object is looked up, then the resource is only loaded if it contains this object")
+    public void givenAnUnloadedResourceWhenAnObjectIsLookedUpThenTheResourceIsOnlyLoadedIfItContainsThisObject() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var superClassResource = (LazyJsonResource) resourceSet.getResources().get(0);
+
+        assertThat(superClassResource.getEObject(UUID.randomUUID().toString())).isNull();
+        assertThat(superClassResource.getEObject("//@eClassifiers.0")).isNull();
+        assertThat(superClassResource.isLoaded()).isFalse();
+
+        assertThat(superClassResource.getEObject(this.superClassId)).isInstanceOf(EClass.class);
+        assertThat(superClassResource.isLoaded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given unloaded resources, when a proxy to an object of another document is resolved, then this document is loaded")
+    public void givenUnloadedResourcesWhenAProxyToAnObjectOfAnotherDocumentIsResolvedThenThisDocumentIsLoaded() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var superClassResource = (LazyJsonResource) resourceSet.getResources().get(0);
+        var subClassResource = (LazyJsonResource) resourceSet.getResources().get(1);
+
+        var subClass = (EClass) subClassResource.getEObject(this.subClassId);
+        assertThat(superClassResource.isLoaded()).isFalse();
+
+        var superClass = subClass.getESuperTypes().get(0);
+        assertThat(superClass.eIsProxy()).isFalse();
+        assertThat(superClass.eResource()).isSameAs(superClassResource);
+        assertThat(superClass.getName()).isEqualTo("super");
+    }
+
+    @Test
+    @DisplayName("Given an object referenced by an unloaded document, when its inverse references are computed, then they include the references of this document")
+    public void givenAnObjectReferencedByAnUnloadedDocumentWhenItsInverseReferencesAreComputedThenTheyIncludeTheReferencesOfThisDocument() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var subClassResource = (LazyJsonResource) resourceSet.getResources().get(1);
+        var superClass = (EClass) resourceSet.getResources().get(0).getEObject(this.superClassId);
+        assertThat(subClassResource.isLoaded()).isFalse();
+
+        var crossReferenceAdapter = (LazyJsonResourceCrossReferenceAdapter) resourceSet.eAdapters().get(0);
+        var inverseReferences = crossReferenceAdapter.getInverseReferences(superClass, true);
+
+        assertThat(subClassResource.isLoaded()).isTrue();
+        assertThat(inverseReferences).anyMatch(setting -> setting.getEObject() == subClassResource.getEObject(this.subClassId));
+    }
+
+    @Test
+    @DisplayName("Given an object referenced by an unloaded document, when it is deleted, then the reference is removed from this document")
+    public void givenAnObjectReferencedByAnUnloadedDocumentWhenItIsDeletedThenTheReferenceIsRemovedFromThisDocument() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var subClassResource = (LazyJsonResource) resourceSet.getResources().get(1);
+        var superClass = (EClass) resourceSet.getResources().get(0).getEObject(this.superClassId);
+
+        EcoreUtil.delete(superClass, true);
+
+        assertThat(subClassResource.isLoaded()).isTrue();
+        var subClass = (EClass) subClassResource.getEObject(this.subClassId);
+        assertThat(subClass.getESuperTypes()).isEmpty();
+        assertThat(EcoreUtil.ProxyCrossReferencer.find(subClassResource)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given an object referenced by an unloaded document, when it is removed from its container, then the reference is removed from this document")
+    public void givenAnObjectReferencedByAnUnloadedDocumentWhenItIsRemovedFromItsContainerThenTheReferenceIsRemovedFromThisDocument() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var subClassResource = (LazyJsonResource) resourceSet.getResources().get(1);
+        var superClass = (EClass) resourceSet.getResources().get(0).getEObject(this.superClassId);
+
+        superClass.getEPackage().getEClassifiers().remove(superClass);
+
+        assertThat(subClassResource.isLoaded()).isTrue();
+        var subClass = (EClass) subClassResource.getEObject(this.subClassId);
+        assertThat(subClass.getESuperTypes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given an object referenced by an unloaded document, when it is moved to another document, then the reference targets its new location")
+    public void givenAnObjectReferencedByAnUnloadedDocumentWhenItIsMovedToAnotherDocumentThenTheReferenceTargetsItsNewLocation() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var subClassResource = (LazyJsonResource) resourceSet.getResources().get(1);
+        var emptyResource = (LazyJsonResource) resourceSet.getResources().get(2);
+        var superClass = (EClass) resourceSet.getResources().get(0).getEObject(this.superClassId);
+        emptyResource.loadOnDemand();
+
+        ((EPackage) emptyResource.getContents().get(0)).getEClassifiers().add(superClass);
+
+        assertThat(subClassResource.isLoaded()).isTrue();
+        var subClass = (EClass) subClassResource.getEObject(this.subClassId);
+        var superType = ((InternalEList<EClass>) subClass.getESuperTypes()).basicGet(0);
+        assertThat(superType).isSameAs(superClass);
+        assertThat(superType.eResource()).isSameAs(emptyResource);
+    }
+
+    @Test
+    @DisplayName("Given a referenced object, when its resource is evicted, then the references to it are kept and resolved again")
+    public void givenAReferencedObjectWhenItsResourceIsEvictedThenTheReferencesToItAreKeptAndResolvedAgain() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var superClassResource = (LazyJsonResource) resourceSet.getResources().get(0);
+        var subClass = (EClass) resourceSet.getResources().get(1).getEObject(this.subClassId);
+        assertThat(subClass.getESuperTypes()).hasSize(1);
+
+        superClassResource.evict(this.superClassDocument.getContent());
+
+        assertThat(superClassResource.isLoaded()).isFalse();
+        var superType = ((InternalEList<EClass>) subClass.getESuperTypes()).basicGet(0);
+        assertThat(superType.eIsProxy()).isTrue();
+
+        assertThat(subClass.getESuperTypes().get(0).getName()).isEqualTo("super");
+        assertThat(superClassResource.isLoaded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given a loaded resource, when its content is accessed, then its last access is updated")
+    public void givenALoadedResourceWhenItsContentIsAccessedThenItsLastAccessIsUpdated() throws InterruptedException {
+        ResourceSet resourceSet = this.createResourceSet();
+        var superClassResource = (LazyJsonResource) resourceSet.getResources().get(0);
+        superClassResource.loadOnDemand();
+        long lastAccessedOn = superClassResource.getLastAccessedOn();
+
+        Thread.sleep(5);
+        superClassResource.getContents();
+
+        assertThat(superClassResource.getLastAccessedOn()).isGreaterThan(lastAccessedOn);
+    }
+
+    private ResourceSet createResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
+        for (Document document : new Document[] { this.superClassDocument, this.subClassDocument, this.emptyDocument }) {
+            var uri = new JSONResourceFactory().createResourceURI(document.getId().toString());
+            resourceSet.getResources().add(new LazyJsonResource(uri, document.getContent()));
+        }
+        resourceSet.eAdapters().add(new LazyJsonResourceCrossReferenceAdapter(resourceSet));
+        return resourceSet;
+    }
+
+    /**
+     * Creates a document containing an EPackage and optionally an EClass inheriting from the EClass of another document.
+     */
+    private Document createDocument(String name, String eClassId, Document superClassDocument) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        var idManager = new EObjectIDManager();
+
+        EClass superClass = null;
+        if (superClassDocument != null) {
+            Resource superClassResource = new JSONResourceFactory().createResourceFromPath(superClassDocument.getId().toString());
+            resourceSet.getResources().add(superClassResource);
+            superClassResource.getContents().add(this.createEPackage(idManager, "super", this.superClassId));
+            superClass = (EClass) ((EPackage) superClassResource.getContents().get(0)).getEClassifiers().get(0);
+        }
+
+        EPackage ePackage = this.createEPackage(idManager, name, eClassId);
+        if (superClass != null) {
+            ((EClass) ePackage.getEClassifiers().get(0)).getESuperTypes().add(superClass);
+        }
+        Resource resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        resourceSet.getResources().add(resource);
+        resource.getContents().add(ePackage);
+
+        return new ResourceToDocumentService().toDocument(resource)
+                .map(DocumentData::document)
+                .orElseThrow();
+    }
+
+    private EPackage createEPackage(EObjectIDManager idManager, String name, String eClassId) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        idManager.setId(ePackage, UUID.randomUUID().toString());
+        ePackage.setName(name);
+        ePackage.setNsURI("domain://" + name);
+        if (eClassId != null) {
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            idManager.setId(eClass, eClassId);
+            eClass.setName(name);
+            ePackage.getEClassifiers().add(eClass);
+        }
+        return ePackage;
+    }
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.tests.benchmarks.AllocatedBytes;
+import org.eclipse.sirius.components.tests.benchmarks.Benchmark;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataCreationService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataDeletionService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the search of the metadata of the representation data.
+ *
+ * <p>
+ * The benchmark retrieves 1,000 large diagrams of a project with their metadata only and with their whole content in
+ * order to compare the memory allocated by both queries.
+ * </p>
+ *
+ * @author agent
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RepresentationDataSearchServiceTests extends AbstractIntegrationTests {
+
+    private static final String ECORE_SAMPLE_EPACKAGE = "3237b215-ae23-48d7-861e-f542a4b9a4b8";
+
+    private static final int LARGE_DIAGRAM_COUNT = 1000;
+
+    private static final int LARGE_DIAGRAM_NODE_COUNT = 500;
+
+    private static final int ITERATIONS = 3;
+
+    @Autowired
+    private IRepresentationDataSearchService representationDataSearchService;
+
+    @Autowired
+    private IRepresentationDataCreationService representationDataCreationService;
+
+    @Autowired
+    private IRepresentationDataDeletionService representationDataDeletionService;
+
+    @Autowired
+    private IRepresentationDataRepository representationDataRepository;
+
+    @Test
+    @DisplayName("Given some representation data, when their metadata are requested, then they match the representation data")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenRepresentationDataWhenTheirMetadataAreRequestedThenTheyMatchTheRepresentationData() {
+        var representationData = this.representationDataSearchService.findById(TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION).orElseThrow();
+        var expectedMetadata = new RepresentationDataMetadata(representationData.getId(), representationData.getLabel(), representationData.getKind(), representationData.getDescriptionId(), representationData.getTargetObjectId());
+
+        assertThat(this.representationDataSearchService.findMetadataById(TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION)).contains(expectedMetadata);
+
+        AggregateReference<Project, UUID> project = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+        assertThat(this.representationDataSearchService.findAllMetadataByProject(project)).containsExactly(expectedMetadata);
+        assertThat(this.representationDataSearchService.findAllMetadataByTargetObjectId(ECORE_SAMPLE_EPACKAGE)).containsExactly(expectedMetadata);
+        assertThat(this.representationDataSearchService.findMetadataById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given some representation data, when their metadata are requested page by page, then they are sorted by label and identifier")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenRepresentationDataWhenTheirMetadataAreRequestedPageByPageThenTheyAreSortedByLabelAndIdentifier() {
+        AggregateReference<Project, UUID> project = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+        var firstId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        var secondId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        var thirdId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        this.createRepresentationData(project, thirdId, "A");
+        this.createRepresentationData(project, secondId, "B");
+        this.createRepresentationData(project, firstId, "A");
+
+        var firstWindow = this.representationDataSearchService.findAllMetadataByProjectAfter(project, ScrollPosition.keyset(), 2);
+        assertThat(firstWindow.stream().map(RepresentationDataMetadata::id)).containsExactly(firstId, thirdId);
+        assertThat(firstWindow.hasNext()).isTrue();
+
+        var secondWindow = this.representationDataSearchService.findAllMetadataByProjectAfter(project, (KeysetScrollPosition) firstWindow.positionAt(1), 2);
+        assertThat(secondWindow.stream().map(RepresentationDataMetadata::id)).containsExactly(secondId, TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION);
+        assertThat(secondWindow.hasNext()).isFalse();
+
+        var secondPage = this.representationDataSearchService.findAllMetadataByProject(project, PageRequest.of(1, 2));
+        assertThat(secondPage.stream().map(RepresentationDataMetadata::id)).containsExactly(secondId, TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION);
+        assertThat(secondPage.getTotalElements()).isEqualTo(4);
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Given the last representation data of a window, when it is deleted, then the next window can still be requested")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenTheLastRepresentationDataOfAWindowWhenItIsDeletedThenTheNextWindowCanStillBeRequested() {
+        AggregateReference<Project, UUID> project = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+        var firstId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        var secondId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        this.createRepresentationData(project, firstId, "A");
+        this.createRepresentationData(project, secondId, "B");
+
+        var firstWindow = this.representationDataSearchService.findAllMetadataByProjectAfter(project, ScrollPosition.keyset(), 1);
+        assertThat(firstWindow.stream().map(RepresentationDataMetadata::id)).containsExactly(firstId);
+
+        this.representationDataDeletionService.delete(firstId);
+
+        var secondWindow = this.representationDataSearchService.findAllMetadataByProjectAfter(project, (KeysetScrollPosition) firstWindow.positionAt(0), 1);
+        assertThat(secondWindow.stream().map(RepresentationDataMetadata::id)).containsExactly(secondId);
+        assertThat(secondWindow.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given an invalid position, when the metadata are requested, then nothing is found")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenAnInvalidPositionWhenTheMetadataAreRequestedThenNothingIsFound() {
+        AggregateReference<Project, UUID> project = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+
+        var window = this.representationDataSearchService.findAllMetadataByProjectAfter(project, ScrollPosition.forward(Map.of("id", "not a uuid")), 2);
+        assertThat(window.isEmpty()).isTrue();
+        assertThat(window.hasNext()).isFalse();
+    }
+
+    @Benchmark
+    @DisplayName("Given many large diagrams, when their metadata are requested, then less memory is allocated than with their content")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenManyLargeDiagramsWhenTheirMetadataAreRequestedThenLessMemoryIsAllocatedThanWithTheirContent() throws Exception {
+        AggregateReference<Project, UUID> project = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+        String content = this.getLargeDiagramContent();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < LARGE_DIAGRAM_COUNT; i++) {
+            var id = UUID.randomUUID();
+            this.createRepresentationData(project, id, "diagram " + i, content);
+            ids.add(id);
+        }
+
+        long metadataAllocatedBytes = AllocatedBytes.measure(ITERATIONS, () -> this.representationDataRepository.findAllMetadataByProjectId(project.getId()));
+        long contentAllocatedBytes = AllocatedBytes.measure(ITERATIONS, () -> this.representationDataRepository.findAllById(ids));
+
+        assertThat(metadataAllocatedBytes).isLessThan(contentAllocatedBytes / 10);
+    }
+
+    private String getLargeDiagramContent() {
+        var content = new StringBuilder("{\"id\":\"").append(UUID.randomUUID()).append("\",\"nodes\":[");
+        for (int i = 0; i < LARGE_DIAGRAM_NODE_COUNT; i++) {
+            if (i > 0) {
+                content.append(',');
+            }
+            content.append("{\"id\":\"").append(UUID.randomUUID()).append("\",\"targetObjectId\":\"").append(UUID.randomUUID()).append("\",\"label\":\"node ").append(i).append("\"}");
+        }
+        return content.append("]}").toString();
+    }
+
+    private void createRepresentationData(AggregateReference<Project, UUID> project, UUID id, String label) {
+        this.createRepresentationData(project, id, label, "{}");
+    }
+
+    private void createRepresentationData(AggregateReference<Project, UUID> project, UUID id, String label, String content) {
+        var representationData = RepresentationData.newRepresentationData(id)
+                .project(project)
+                .label(label)
+                .kind("siriusComponents://representation?type=Portal")
+                .descriptionId(TestIdentifiers.PORTAL_REPRESENTATION_DESCRIPTION.toString())
+                .targetObjectId(ECORE_SAMPLE_EPACKAGE)
+                .content(content)
+                .build();
+        this.representationDataCreationService.create(representationData);
+    }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.application.representation.services.RepresentationMetadataIndex;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the index of the representation metadata.
+ *
+ * @author agent
+ */
+public class RepresentationMetadataIndexTests {
+
+    private static final String TARGET_OBJECT_ID = "targetObjectId";
+
+    @Test
+    @DisplayName("Given an index, when it is used several times, then the representation metadata are only loaded once")
+    public void givenAnIndexWhenItIsUsedSeveralTimesThenTheRepresentationMetadataAreOnlyLoadedOnce() {
+        var representationDataMetadata = this.createRepresentationDataMetadata("Diagram");
+        var loadCount = new AtomicInteger();
+
+        var index = new RepresentationMetadataIndex();
+        index.load(() -> {
+            loadCount.incrementAndGet();
+            return List.of(representationDataMetadata);
+        });
+        index.load(() -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(index.existAnyRepresentationForTargetObjectId(TARGET_OBJECT_ID)).isTrue();
+        assertThat(index.existAnyRepresentationForTargetObjectId("anotherTargetObjectId")).isFalse();
+        assertThat(index.findAllByTargetObjectId(TARGET_OBJECT_ID)).containsExactly(representationDataMetadata);
+    }
+
+    @Test
+    @DisplayName("Given a loaded index, when representations are created, renamed and deleted, then the index is kept up to date")
+    public void givenALoadedIndexWhenRepresentationsAreCreatedRenamedAndDeletedThenTheIndexIsKeptUpToDate() {
+        var index = new RepresentationMetadataIndex();
+        index.load(List::of);
+        assertThat(index.existAnyRepresentationForTargetObjectId(TARGET_OBJECT_ID)).isFalse();
+
+        var representationDataMetadata = this.createRepresentationDataMetadata("Diagram");
+        index.put(representationDataMetadata);
+        assertThat(index.findAllByTargetObjectId(TARGET_OBJECT_ID)).containsExactly(representationDataMetadata);
+
+        var renamedRepresentationDataMetadata = new RepresentationDataMetadata(representationDataMetadata.id(), "Renamed", representationDataMetadata.kind(), representationDataMetadata.descriptionId(), TARGET_OBJECT_ID);
+        index.put(renamedRepresentationDataMetadata);
+        assertThat(index.findAllByTargetObjectId(TARGET_OBJECT_ID)).containsExactly(renamedRepresentationDataMetadata);
+
+        index.remove(renamedRepresentationDataMetadata);
+        assertThat(index.existAnyRepresentationForTargetObjectId(TARGET_OBJECT_ID)).isFalse();
+        assertThat(index.findAllByTargetObjectId(TARGET_OBJECT_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given an index not loaded yet, when a representation is created, then the change is left to the loading")
+    public void givenAnIndexNotLoadedYetWhenARepresentationIsCreatedThenTheChangeIsLeftToTheLoading() {
+        var representationDataMetadata = this.createRepresentationDataMetadata("Diagram");
+
+        var index = new RepresentationMetadataIndex();
+        index.put(representationDataMetadata);
+        assertThat(index.isLoaded()).isFalse();
+
+        index.load(List::of);
+        assertThat(index.existAnyRepresentationForTargetObjectId(TARGET_OBJECT_ID)).isFalse();
+    }
+
+    private RepresentationDataMetadata createRepresentationDataMetadata(String label) {
+        return new RepresentationDataMetadata(UUID.randomUUID(), label, "siriusComponents://representation?type=Diagram", UUID.randomUUID().toString(), TARGET_OBJECT_ID);
+    }
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the update of the semantic data.
+ *
+ * @author agent
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class SemanticDataUpdateServiceTests extends AbstractIntegrationTests {
+
+    private static final String ECORE_SAMPLE_DOCUMENT_CONTENT = """
+            {"json":{"version":"1.0","encoding":"utf-8"},"ns": {"ecore":"http://www.eclipse.org/emf/2002/Ecore"},"content":[{"id":"3237b215-ae23-48d7-861e-f542a4b9a4b8","eClass":"ecore:EPackage","data":{"name":"Sample"}}]}""";
+
+    private static final String ECORE_DOMAIN_URI = "http://www.eclipse.org/emf/2002/Ecore";
+
+    @Autowired
+    private ISemanticDataUpdateService semanticDataUpdateService;
+
+    @Autowired
+    private ISemanticDataSearchService semanticDataSearchService;
+
+    @Test
+    @DisplayName("Given some semantic data, when unchanged documents are updated, then nothing is written")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenSemanticDataWhenUnchangedDocumentsAreUpdatedThenNothingIsWritten() {
+        AggregateReference<Project, UUID> project = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+        var initialSemanticData = this.semanticDataSearchService.findByProject(project).orElseThrow();
+        var initialDocument = initialSemanticData.getDocuments().iterator().next();
+
+        var document = Document.newDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT)
+                .name("Ecore")
+                .content(ECORE_SAMPLE_DOCUMENT_CONTENT)
+                .build();
+        this.semanticDataUpdateService.updateDocuments(project, Set.of(document), Set.of(ECORE_DOMAIN_URI));
+
+        var semanticData = this.semanticDataSearchService.findByProject(project).orElseThrow();
+        assertThat(semanticData.getLastModifiedOn()).isEqualTo(initialSemanticData.getLastModifiedOn());
+        assertThat(semanticData.getDocuments()).hasSize(1);
+        assertThat(semanticData.getDocuments().iterator().next().getLastModifiedOn()).isEqualTo(initialDocument.getLastModifiedOn());
+    }
+
+    @Test
+    @DisplayName("Given some semantic data, when documents are modified, added and removed, then only those documents are written")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenSemanticDataWhenDocumentsAreModifiedAddedAndRemovedThenOnlyThoseDocumentsAreWritten() {
+        AggregateReference<Project, UUID> project = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+        var initialSemanticData = this.semanticDataSearchService.findByProject(project).orElseThrow();
+        var initialDocument = initialSemanticData.getDocuments().iterator().next();
+
+        var modifiedDocument = Document.newDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT)
+                .name("Ecore")
+                .content(ECORE_SAMPLE_DOCUMENT_CONTENT.replace("Sample", "Sample Updated"))
+                .build();
+        var newDocument = Document.newDocument(UUID.randomUUID())
+                .name("New")
+                .content(ECORE_SAMPLE_DOCUMENT_CONTENT)
+                .build();
+        this.semanticDataUpdateService.updateDocuments(project, Set.of(modifiedDocument, newDocument), Set.of(ECORE_DOMAIN_URI));
+
+        var semanticData = this.semanticDataSearchService.findByProject(project).orElseThrow();
+        assertThat(semanticData.getLastModifiedOn()).isAfter(initialSemanticData.getLastModifiedOn());
+        assertThat(semanticData.getDocuments()).hasSize(2);
+
+        var document = this.findDocument(semanticData, TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+        assertThat(document.getContent()).contains("Sample Updated");
+        assertThat(document.getCreatedOn()).isEqualTo(initialDocument.getCreatedOn());
+        assertThat(this.findDocument(semanticData, newDocument.getId()).getName()).isEqualTo("New");
+
+        this.semanticDataUpdateService.updateDocuments(project, Set.of(newDocument), Set.of());
+
+        semanticData = this.semanticDataSearchService.findByProject(project).orElseThrow();
+        assertThat(semanticData.getDocuments()).extracting(Document::getId).containsExactly(newDocument.getId());
+    }
+
+    @Test
+    @DisplayName("Given documents written with the content codec, when they are updated without changes, then nothing is written")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenDocumentsWrittenWithTheContentCodecWhenTheyAreUpdatedWithoutChangesThenNothingIsWritten() {
+        AggregateReference<Project, UUID> project = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+        String content = ECORE_SAMPLE_DOCUMENT_CONTENT.replace("Sample", "Sample Updated");
+
+        var modifiedDocument = Document.newDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT)
+                .name("Ecore")
+                .content(content)
+                .build();
+        this.semanticDataUpdateService.updateDocuments(project, Set.of(modifiedDocument), Set.of(ECORE_DOMAIN_URI));
+        var initialSemanticData = this.semanticDataSearchService.findByProject(project).orElseThrow();
+        assertThat(initialSemanticData.getDocuments().iterator().next().getContent()).isEqualTo(content);
+
+        var unchangedDocument = Document.newDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT)
+                .name("Ecore")
+                .content(content)
+                .build();
+        this.semanticDataUpdateService.updateDocuments(project, Set.of(unchangedDocument), Set.of(ECORE_DOMAIN_URI));
+
+        var semanticData = this.semanticDataSearchService.findByProject(project).orElseThrow();
+        assertThat(semanticData.getLastModifiedOn()).isEqualTo(initialSemanticData.getLastModifiedOn());
+        assertThat(semanticData.getDocuments().iterator().next().getLastModifiedOn()).isEqualTo(initialSemanticData.getDocuments().iterator().next().getLastModifiedOn());
+    }
+
+    private Document findDocument(SemanticData semanticData, UUID documentId) {
+        return semanticData.getDocuments().stream()
+                .filter(document -> document.getId().equals(documentId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
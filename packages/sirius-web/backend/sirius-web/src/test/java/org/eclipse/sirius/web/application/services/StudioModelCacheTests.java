@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainFactory;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.domain.Entity;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentData;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentToResourceService;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceToDocumentService;
+import org.eclipse.sirius.web.application.studio.services.StudioModelCache;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Unit tests of the cache of the models of the studios.
+ *
+ * @author agent
+ */
+public class StudioModelCacheTests {
+
+    @Test
+    @DisplayName("Given studio models already parsed, when they are requested again without invalidation, then they are returned without any query")
+    public void givenStudioModelsAlreadyParsedWhenTheyAreRequestedAgainWithoutInvalidationThenTheyAreReturnedWithoutAnyQuery() {
+        var searchService = new FakeSemanticDataSearchService();
+        searchService.add(this.createStudio("first"));
+        var studioModelCache = new StudioModelCache(searchService, new DocumentToResourceService());
+
+        var studioModels = studioModelCache.getStudioModels();
+        assertThat(studioModels.domains()).extracting(Domain::getName).containsExactly("first");
+        assertThat(studioModels.views()).hasSize(1);
+        assertThat(studioModels.ePackages()).hasSize(1);
+
+        assertThat(studioModelCache.getStudioModels()).isSameAs(studioModels);
+        assertThat(searchService.versionQueryCount).isEqualTo(1);
+        assertThat(searchService.fetchedSemanticDataIds).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Given an invalidated cache, when no studio has changed, then the studio models are kept without being parsed again")
+    public void givenAnInvalidatedCacheWhenNoStudioHasChangedThenTheStudioModelsAreKeptWithoutBeingParsedAgain() {
+        var searchService = new FakeSemanticDataSearchService();
+        searchService.add(this.createStudio("first"));
+        var studioModelCache = new StudioModelCache(searchService, new DocumentToResourceService());
+        var studioModels = studioModelCache.getStudioModels();
+
+        studioModelCache.invalidate();
+
+        assertThat(studioModelCache.getStudioModels()).isSameAs(studioModels);
+        assertThat(searchService.versionQueryCount).isEqualTo(2);
+        assertThat(searchService.fetchedSemanticDataIds).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Given an invalidated cache, when a studio has been added, then only this studio is parsed")
+    public void givenAnInvalidatedCacheWhenAStudioHasBeenAddedThenOnlyThisStudioIsParsed() {
+        var searchService = new FakeSemanticDataSearchService();
+        var firstStudio = this.createStudio("first");
+        searchService.add(firstStudio);
+        var studioModelCache = new StudioModelCache(searchService, new DocumentToResourceService());
+        var firstDomain = studioModelCache.getStudioModels().domains().get(0);
+
+        var secondStudio = this.createStudio("second");
+        searchService.add(secondStudio);
+        studioModelCache.invalidate();
+        var studioModels = studioModelCache.getStudioModels();
+
+        assertThat(studioModels.domains()).extracting(Domain::getName).containsExactlyInAnyOrder("first", "second");
+        assertThat(studioModels.domains()).anyMatch(domain -> domain == firstDomain);
+        assertThat(studioModels.ePackages()).hasSize(2);
+        assertThat(searchService.fetchedSemanticDataIds).containsExactly(firstStudio.getId(), secondStudio.getId());
+    }
+
+    @Test
+    @DisplayName("Given an invalidated cache, when a studio has been removed, then its models are forgotten")
+    public void givenAnInvalidatedCacheWhenAStudioHasBeenRemovedThenItsModelsAreForgotten() {
+        var searchService = new FakeSemanticDataSearchService();
+        var firstStudio = this.createStudio("first");
+        searchService.add(firstStudio);
+        searchService.add(this.createStudio("second"));
+        var studioModelCache = new StudioModelCache(searchService, new DocumentToResourceService());
+        assertThat(studioModelCache.getStudioModels().domains()).hasSize(2);
+
+        searchService.remove(firstStudio);
+        studioModelCache.invalidate();
+        var studioModels = studioModelCache.getStudioModels();
+
+        assertThat(studioModels.domains()).extracting(Domain::getName).containsExactly("second");
+        assertThat(studioModels.views()).hasSize(1);
+        assertThat(studioModels.ePackages()).hasSize(1);
+        assertThat(searchService.fetchedSemanticDataIds).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Given studio models shared between the editing contexts, when they are modified, then the modification is rejected and reverted")
+    public void givenStudioModelsSharedBetweenTheEditingContextsWhenTheyAreModifiedThenTheModificationIsRejectedAndReverted() {
+        var searchService = new FakeSemanticDataSearchService();
+        searchService.add(this.createStudio("first"));
+        var studioModels = new StudioModelCache(searchService, new DocumentToResourceService()).getStudioModels();
+
+        var domain = studioModels.domains().get(0);
+        assertThatThrownBy(() -> domain.setName("modified")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(domain.getName()).isEqualTo("first");
+
+        var entity = domain.getTypes().get(0);
+        assertThatThrownBy(() -> domain.getTypes().remove(entity)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(domain.getTypes()).containsExactly(entity);
+        assertThat(entity.eContainer()).isSameAs(domain);
+
+        var ePackage = studioModels.ePackages().get(0);
+        assertThatThrownBy(() -> ePackage.setName("modified")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(ePackage.getName()).isEqualTo("first");
+
+        var view = studioModels.views().get(0);
+        var colorPalettes = List.copyOf(view.getColorPalettes());
+        assertThatThrownBy(() -> view.getColorPalettes().add(ViewFactory.eINSTANCE.createColorPalette())).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(view.getColorPalettes()).containsExactlyElementsOf(colorPalettes);
+    }
+
+    private SemanticData createStudio(String name) {
+        Domain domain = DomainFactory.eINSTANCE.createDomain();
+        domain.setName(name);
+        Entity entity = DomainFactory.eINSTANCE.createEntity();
+        entity.setName("Root");
+        domain.getTypes().add(entity);
+
+        Resource resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        new ResourceSetImpl().getResources().add(resource);
+        resource.getContents().add(domain);
+        resource.getContents().add(ViewFactory.eINSTANCE.createView());
+
+        var document = new ResourceToDocumentService().toDocument(resource)
+                .map(DocumentData::document)
+                .orElseThrow();
+        return SemanticData.newSemanticData()
+                .project(AggregateReference.to(UUID.randomUUID()))
+                .documents(Set.of(document))
+                .domains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI))
+                .build();
+    }
+
+    /**
+     * Semantic data search service keeping track of the queries performed.
+     *
+     * @author agent
+     */
+    private static final class FakeSemanticDataSearchService implements ISemanticDataSearchService {
+
+        private final Map<UUID, SemanticData> semanticData = new LinkedHashMap<>();
+
+        private final List<UUID> fetchedSemanticDataIds = new ArrayList<>();
+
+        private int versionQueryCount;
+
+        void add(SemanticData studio) {
+            this.semanticData.put(studio.getId(), studio);
+        }
+
+        void remove(SemanticData studio) {
+            this.semanticData.remove(studio.getId());
+        }
+
+        @Override
+        public boolean existsByProject(AggregateReference<Project, UUID> project) {
+            return false;
+        }
+
+        @Override
+        public Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Instant> findLastModifiedOnByProject(AggregateReference<Project, UUID> project) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<SemanticData> findAllByDomains(List<String> domainUris) {
+            return List.copyOf(this.semanticData.values());
+        }
+
+        @Override
+        public List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris) {
+            this.versionQueryCount++;
+            return this.semanticData.values().stream()
+                    .map(studio -> new SemanticDataVersion(studio.getId(), studio.getLastModifiedOn()))
+                    .toList();
+        }
+
+        @Override
+        public List<SemanticData> findAllByIds(List<UUID> semanticDataIds) {
+            this.fetchedSemanticDataIds.addAll(semanticDataIds);
+            return semanticDataIds.stream()
+                    .map(this.semanticData::get)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.diagram.DiagramFactory;
+import org.eclipse.sirius.components.view.emf.IViewConverter;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.studio.services.ViewBasedRepresentationDescriptionConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the cache of the representation descriptions converted from the views.
+ *
+ * @author agent
+ */
+public class ViewBasedRepresentationDescriptionConverterTests {
+
+    private static final int THREAD_COUNT = 8;
+
+    private final EPackage flowEPackage = this.createEPackage("flow");
+
+    private final EPackage otherEPackage = this.createEPackage("other");
+
+    private final EPackage taskEPackage = this.createEPackage("task");
+
+    @Test
+    @DisplayName("Given a view converted for an editing context, when another editing context with the same declared domains is processed, then the cached representation descriptions are used")
+    public void givenAViewConvertedForAnEditingContextWhenAnotherEditingContextWithTheSameDeclaredDomainsIsProcessedThenTheCachedRepresentationDescriptionsAreUsed() {
+        var viewConverter = new CountingViewConverter();
+        var converter = new ViewBasedRepresentationDescriptionConverter(viewConverter);
+        var view = this.createView("flow::System");
+
+        var firstEditingContext = this.createEditingContext(view, this.flowEPackage);
+        converter.postProcess(firstEditingContext);
+        var secondEditingContext = this.createEditingContext(view, this.flowEPackage, this.otherEPackage);
+        converter.postProcess(secondEditingContext);
+
+        assertThat(viewConverter.visibleEPackages).containsExactly(List.of(this.flowEPackage));
+        assertThat(firstEditingContext.getRepresentationDescriptions()).hasSize(1);
+        assertThat(secondEditingContext.getRepresentationDescriptions().values()).containsExactlyElementsOf(firstEditingContext.getRepresentationDescriptions().values());
+    }
+
+    @Test
+    @DisplayName("Given a view converted for an editing context, when its studio or its declared domains change, then it is converted again")
+    public void givenAViewConvertedForAnEditingContextWhenItsStudioOrItsDeclaredDomainsChangeThenItIsConvertedAgain() {
+        var viewConverter = new CountingViewConverter();
+        var converter = new ViewBasedRepresentationDescriptionConverter(viewConverter);
+        var view = this.createView("flow::System");
+        converter.postProcess(this.createEditingContext(view, this.flowEPackage));
+
+        var regeneratedFlowEPackage = this.createEPackage("flow");
+        converter.postProcess(this.createEditingContext(view, regeneratedFlowEPackage));
+        assertThat(viewConverter.visibleEPackages).containsExactly(List.of(this.flowEPackage), List.of(regeneratedFlowEPackage));
+
+        var modifiedView = this.createView("flow::System");
+        converter.postProcess(this.createEditingContext(modifiedView, regeneratedFlowEPackage));
+        assertThat(viewConverter.views).containsExactly(view, view, modifiedView);
+
+        // The previous version of the view has been forgotten
+        converter.postProcess(this.createEditingContext(view, this.flowEPackage));
+        assertThat(viewConverter.views).containsExactly(view, view, modifiedView, view);
+    }
+
+    @Test
+    @DisplayName("Given a view with expressions using types of other domains, when it is converted, then the EPackages of those domains are visible too")
+    public void givenAViewWithExpressionsUsingTypesOfOtherDomainsWhenItIsConvertedThenTheEPackagesOfThoseDomainsAreVisibleToo() {
+        var viewConverter = new CountingViewConverter();
+        var converter = new ViewBasedRepresentationDescriptionConverter(viewConverter);
+        var view = this.createView("flow::System");
+        view.getDescriptions().get(0).setPreconditionExpression("aql:self.eContents()->exists(task | task.oclIsKindOf(task::Task))");
+
+        converter.postProcess(this.createEditingContext(view, this.flowEPackage, this.otherEPackage, this.taskEPackage));
+        assertThat(viewConverter.visibleEPackages).hasSize(1);
+        assertThat(viewConverter.visibleEPackages.get(0)).containsExactlyInAnyOrder(this.flowEPackage, this.taskEPackage);
+
+        var regeneratedTaskEPackage = this.createEPackage("task");
+        converter.postProcess(this.createEditingContext(view, this.flowEPackage, regeneratedTaskEPackage));
+        assertThat(viewConverter.visibleEPackages).hasSize(2);
+        assertThat(viewConverter.visibleEPackages.get(1)).containsExactlyInAnyOrder(this.flowEPackage, regeneratedTaskEPackage);
+    }
+
+    @Test
+    @DisplayName("Given editing contexts loaded concurrently, when they share a view, then they all use the same representation descriptions")
+    public void givenEditingContextsLoadedConcurrentlyWhenTheyShareAViewThenTheyAllUseTheSameRepresentationDescriptions() throws InterruptedException, ExecutionException {
+        var viewConverter = new CountingViewConverter();
+        var converter = new ViewBasedRepresentationDescriptionConverter(viewConverter);
+        var view = this.createView("flow::System");
+
+        var executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            var startLatch = new CountDownLatch(1);
+            List<Future<EditingContext>> futures = new ArrayList<>();
+            for (int index = 0; index < THREAD_COUNT; index++) {
+                futures.add(executorService.submit(() -> {
+                    var editingContext = this.createEditingContext(view, this.flowEPackage);
+                    startLatch.await();
+                    converter.postProcess(editingContext);
+                    return editingContext;
+                }));
+            }
+            startLatch.countDown();
+
+            var representationDescription = futures.get(0).get().getRepresentationDescriptions().values().iterator().next();
+            for (Future<EditingContext> future : futures) {
+                assertThat(future.get().getRepresentationDescriptions().values()).containsExactly(representationDescription);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private EditingContext createEditingContext(View view, EPackage... ePackages) {
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        for (EPackage ePackage : ePackages) {
+            editingDomain.getResourceSet().getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+        }
+        var editingContext = new EditingContext(UUID.randomUUID().toString(), editingDomain, new HashMap<>(), new ArrayList<>());
+        editingContext.getViews().add(view);
+        return editingContext;
+    }
+
+    private View createView(String domainType) {
+        var diagramDescription = DiagramFactory.eINSTANCE.createDiagramDescription();
+        diagramDescription.setName("Diagram");
+        diagramDescription.setDomainType(domainType);
+
+        var view = ViewFactory.eINSTANCE.createView();
+        view.getDescriptions().add(diagramDescription);
+        return view;
+    }
+
+    private EPackage createEPackage(String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        ePackage.setNsURI("domain://" + name);
+        return ePackage;
+    }
+
+    /**
+     * View converter keeping track of its conversions.
+     *
+     * @author agent
+     */
+    private static final class CountingViewConverter implements IViewConverter {
+
+        private final List<View> views = new CopyOnWriteArrayList<>();
+
+        private final List<List<EPackage>> visibleEPackages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public List<IRepresentationDescription> convert(List<View> viewsToConvert, List<EPackage> visibleEPackagesOfTheViews) {
+            this.views.addAll(viewsToConvert);
+            this.visibleEPackages.add(visibleEPackagesOfTheViews);
+
+            String id = UUID.randomUUID().toString();
+            IRepresentationDescription representationDescription = new IRepresentationDescription() {
+                @Override
+                public String getId() {
+                    return id;
+                }
+
+                @Override
+                public String getLabel() {
+                    return "Diagram";
+                }
+
+                @Override
+                public Predicate<VariableManager> getCanCreatePredicate() {
+                    return variableManager -> true;
+                }
+            };
+            return List.of(representationDescription);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProce
 import org.eclipse.sirius.components.collaborative.api.IRepresentationConfiguration;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
+import org.eclipse.sirius.components.collaborative.editingcontext.PooledEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.collaborative.forms.WidgetSubscriptionManager;
 import org.eclipse.sirius.components.collaborative.forms.api.IWidgetSubscriptionManagerFactory;
@@ -32,7 +33,9 @@ import org.eclipse.sirius.components.starter.services.EditingContextDispatcher;
 import org.eclipse.sirius.components.starter.services.ExceptionWrapper;
 import org.eclipse.sirius.components.web.concurrent.DelegatingRequestContextExecutorService;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -88,6 +91,14 @@ public class SiriusWebStarterConfiguration {
         return WidgetSubscriptionManager::new;
     }
 
+    @Bean
+    @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
+    @ConditionalOnProperty(name = "sirius.components.editingContext.executor.pooled", havingValue = "true")
+    public IEditingContextEventProcessorExecutorServiceProvider pooledEditingContextEventProcessorExecutorServiceProvider(
+            @Value("${sirius.components.editingContext.executor.poolSize:16}") int poolSize) {
+        return new PooledEditingContextEventProcessorExecutorServiceProvider(poolSize, DelegatingRequestContextExecutorService::new);
+    }
+
     @Bean
     @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
     public IEditingContextEventProcessorExecutorServiceProvider editingContextEventProcessorExecutorServiceProvider() {
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.tests.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+
+/**
+ * Used to measure the memory allocated by some code on the current thread.
+ *
+ * @author agent
+ */
+public final class AllocatedBytes {
+
+    private AllocatedBytes() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the memory allocated by the given operation, measured on several runs after a first one used to warm it up.
+     *
+     * @param iterations
+     *         The number of runs measured
+     * @param operation
+     *         The operation to measure
+     * @return The lowest number of bytes allocated by a run of the operation
+     * @throws Exception
+     *         The exception thrown by the operation
+     */
+    public static long measure(int iterations, Callable<?> operation) throws Exception {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        operation.call();
+
+        long allocatedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < iterations; i++) {
+            long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            operation.call();
+            allocatedBytes = Math.min(allocatedBytes, threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore);
+        }
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.tests.benchmarks;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Used to declare a test measuring the resources consumed by some code.
+ *
+ * <p>
+ * Those tests are not run by default since they are slow and their results depend on the machine running them. They
+ * are run with the system property <code>sirius.components.tests.benchmarks.enabled</code> set to <code>true</code>.
+ * </p>
+ *
+ * @author agent
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Test
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "sirius.components.tests.benchmarks.enabled", matches = "true")
+public @interface Benchmark {
+}
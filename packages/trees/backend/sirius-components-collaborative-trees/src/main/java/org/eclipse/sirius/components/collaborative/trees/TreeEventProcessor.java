@@ -143,7 +143,8 @@ public class TreeEventProcessor implements ITreeEventProcessor {
         }
     }
 
-    private boolean shouldRefresh(ChangeDescription changeDescription) {
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
         // @formatter:off
         return this.representationRefreshPolicyRegistry.getRepresentationRefreshPolicy(this.treeCreationParameters.getTreeDescription())
                 .orElseGet(this::getDefaultRefreshPolicy)
@@ -142,7 +142,8 @@ public class ValidationEventProcessor implements IValidationEventProcessor {
         }
     }
 
-    private boolean shouldRefresh(ChangeDescription changeDescription) {
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
         // @formatter:off
         return this.representationRefreshPolicyRegistry.getRepresentationRefreshPolicy(this.validationDescription)
                 .orElseGet(this::getDefaultRefreshPolicy)
@@ -26,6 +26,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.interpreter.Result;
+import org.eclipse.sirius.components.interpreter.ThreadConfinedAQLInterpreter;
 import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -142,9 +143,14 @@ public class ViewConverter implements IViewConverter {
     }
 
     private AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
+        // The representation descriptions may be shared between editing contexts, each thread thus gets its own services
+        return new AQLInterpreter(new ThreadConfinedAQLInterpreter(() -> new AQLInterpreter(List.of(), this.createServiceInstances(view), visibleEPackages)));
+    }
+
+    private List<Object> createServiceInstances(View view) {
         AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
         // @formatter:off
-        List<Object> serviceInstances = this.javaServiceProviders.stream()
+        return this.javaServiceProviders.stream()
                 .flatMap(provider -> provider.getServiceClasses(view).stream())
                 .map(serviceClass -> {
                     try {
@@ -158,6 +164,5 @@ public class ViewConverter implements IViewConverter {
                 .map(Object.class::cast)
                 .toList();
         // @formatter:on
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
     }
 }
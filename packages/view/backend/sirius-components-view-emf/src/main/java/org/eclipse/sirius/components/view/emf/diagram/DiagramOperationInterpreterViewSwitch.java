@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -161,7 +161,7 @@ public class DiagramOperationInterpreterViewSwitch extends DiagramSwitch<Optiona
         // future, we can create a fake node which will have the proper id in order to let the specifier
         // use nested create view model operations. The specifier should not try to do anything else
         // than that with this returned node.
-        var nodeId = new NodeIdProvider().getNodeId(parentElementId, nodeDescription.getId(), nodeContainmentKind, targetObjectId);
+        var nodeId = new NodeIdProvider(this.diagramContext.getDiagram().getIdentifierStrategy()).getNodeId(parentElementId, nodeDescription.getId(), nodeContainmentKind, targetObjectId);
 
         var labelStyle = LabelStyle.newLabelStyle()
                 .color("")